@@ -8,9 +8,11 @@ import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.space.TarantoolSpace;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.TarantoolSpaceOperationsCache;
 import io.tarantool.driver.core.TarantoolConnectionFactory;
 import io.tarantool.driver.core.TarantoolConnectionListeners;
 import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolRequestCoalescer;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.MessagePackMapper;
@@ -19,10 +21,12 @@ import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.mappers.TarantoolCallResultMapper;
 import io.tarantool.driver.mappers.TarantoolCallResultMapperFactory;
 import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.LazyTarantoolMetadata;
 import io.tarantool.driver.metadata.TarantoolMetadata;
 import io.tarantool.driver.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
 import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
 import org.msgpack.value.ArrayValue;
@@ -50,6 +54,10 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
     private final AtomicReference<TarantoolConnectionManager> connectionManagerHolder = new AtomicReference<>();
     private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
     private final TarantoolCallResultMapperFactory mapperFactory;
+    private final TarantoolSchemaVersionHolder schemaVersionHolder = new TarantoolSchemaVersionHolder();
+    private final TarantoolRequestCoalescer requestCoalescer;
+    private final TarantoolSpaceOperationsCache<TarantoolSpace> spaceCache =
+            new TarantoolSpaceOperationsCache<>(this::createSpace);
 
     /**
      * Create a client.
@@ -69,6 +77,8 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
     protected AbstractTarantoolClient(TarantoolClientConfig config, TarantoolConnectionListeners listeners) {
         this.config = config;
         this.mapperFactory = new TarantoolCallResultMapperFactory(config.getMessagePackMapper());
+        this.requestCoalescer = config.getReadCoalescing() == null ? null :
+                new TarantoolRequestCoalescer(config.getMessagePackMapper(), config.getReadCoalescing());
         this.eventLoopGroup = new NioEventLoopGroup();
         this.bootstrap = new Bootstrap()
                 .group(eventLoopGroup)
@@ -77,7 +87,7 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
                 .option(ChannelOption.SO_KEEPALIVE, true)
                 .option(ChannelOption.TCP_NODELAY, true)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout());
-        this.connectionFactory = new TarantoolConnectionFactory(config, getBootstrap());
+        this.connectionFactory = new TarantoolConnectionFactory(config, getBootstrap(), schemaVersionHolder);
         listeners.add(connection -> {
             try {
                 return metadata().refresh().thenApply(v -> connection);
@@ -99,7 +109,11 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
                                                                     TarantoolConnectionFactory connectionFactory,
                                                                     TarantoolConnectionListeners listeners);
 
-    private TarantoolConnectionManager connectionManager() {
+    /**
+     * Get the connection manager, creating it on the first call
+     * @return connection manager
+     */
+    protected TarantoolConnectionManager connectionManager() {
         if (this.connectionManagerHolder.get() == null) {
             this.connectionManagerHolder.compareAndSet(null, connectionManager(config, connectionFactory, listeners));
         }
@@ -121,7 +135,7 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
 
-        return new TarantoolSpace(config, connectionManager(), meta.get(), metadata);
+        return spaceCache.get(meta.get());
     }
 
     @Override
@@ -131,16 +145,23 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
         TarantoolMetadataOperations metadata = this.metadata();
         Optional<TarantoolSpaceMetadata> meta = metadata.getSpaceById(spaceId);
         if (!meta.isPresent()) {
+            spaceCache.invalidate(spaceId);
             throw new TarantoolSpaceNotFoundException(spaceId);
         }
 
-        return new TarantoolSpace(config, connectionManager(), meta.get(), metadata());
+        return spaceCache.get(meta.get());
+    }
+
+    private TarantoolSpace createSpace(TarantoolSpaceMetadata spaceMetadata) {
+        return new TarantoolSpace(config, connectionManager(), spaceMetadata, metadata(), requestCoalescer);
     }
 
     @Override
     public TarantoolMetadataOperations metadata() throws TarantoolClientException {
         if (metadataHolder.get() == null) {
-            this.metadataHolder.compareAndSet(null, new TarantoolMetadata(config, connectionManager()));
+            this.metadataHolder.compareAndSet(null, config.isLazyMetadataLoading() ?
+                    new LazyTarantoolMetadata(config, connectionManager(), schemaVersionHolder) :
+                    new TarantoolMetadata(config, connectionManager(), schemaVersionHolder));
         }
         return metadataHolder.get();
     }
@@ -170,7 +191,7 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
             }
 
             TarantoolCallRequest request = builder.build(mapper);
-            return connectionManager().getConnection().sendRequest(request, mapper);
+            return sendCallRequest(functionName, request, mapper);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -237,6 +258,22 @@ public abstract class AbstractTarantoolClient implements TarantoolClient {
             }
 
             TarantoolCallRequest request = builder.build(argumentsMapper);
+            return sendCallRequest(functionName, request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    /*
+     * The calls of the read-only functions specified in the config are coalesced if enabled
+     */
+    private <T> CompletableFuture<T> sendCallRequest(String functionName,
+                                                     TarantoolRequest request,
+                                                     MessagePackValueMapper resultMapper) {
+        if (requestCoalescer != null && config.getCoalescedFunctions().contains(functionName)) {
+            return requestCoalescer.sendRequest(connectionManager(), request, resultMapper);
+        }
+        try {
             return connectionManager().getConnection().sendRequest(request, resultMapper);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
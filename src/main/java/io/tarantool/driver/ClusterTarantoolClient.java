@@ -1,15 +1,51 @@
 package io.tarantool.driver;
 
+import io.netty.util.concurrent.ScheduledFuture;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolMapCallOptions;
+import io.tarantool.driver.api.TarantoolMapCallResult;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolResultImpl;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.core.TarantoolClusterConnectionManager;
+import io.tarantool.driver.core.TarantoolConnection;
 import io.tarantool.driver.core.TarantoolConnectionFactory;
 import io.tarantool.driver.core.TarantoolConnectionListeners;
 import io.tarantool.driver.core.TarantoolConnectionManager;
 import io.tarantool.driver.core.TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultTarantoolTupleValueConverter;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.TarantoolSimpleResultMapper;
+import io.tarantool.driver.mappers.TarantoolSimpleResultMapperFactory;
+import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.metadata.TarantoolIndexType;
+import io.tarantool.driver.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 
 /**
  * Main class for connecting to a cluster of Tarantool servers. Provides basic API for interacting with the database
@@ -20,6 +56,8 @@ import java.util.Collections;
  */
 public class ClusterTarantoolClient extends AbstractTarantoolClient {
 
+    private static final long MAX_LIMIT = 0xff_ff_ff_ffL;
+
     private final ConnectionSelectionStrategyFactory selectStrategyFactory;
     private TarantoolClusterAddressProvider addressProvider;
 
@@ -92,4 +130,178 @@ public class ClusterTarantoolClient extends AbstractTarantoolClient {
         return new TarantoolClusterConnectionManager(
                 config, connectionFactory, selectStrategyFactory, listeners, addressProvider);
     }
+
+    /**
+     * Call a function on each of the connected cluster nodes concurrently and reduce the results. One connection
+     * per node is used. The node results are passed to the reducer as soon as they arrive, the reducer is not
+     * invoked concurrently. The call fails if any node fails.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments function arguments
+     * @param identity initial value of the reduction
+     * @param reducer combines the reduced value with the result of the next node
+     * @param <A> reduced value type
+     * @return a future with the reduced value
+     * @throws TarantoolClientException if the client is not connected
+     */
+    public <A> CompletableFuture<TarantoolMapCallResult<A>> mapCall(String functionName,
+                                                                    List<Object> arguments,
+                                                                    A identity,
+                                                                    BiFunction<A, List<Object>, A> reducer)
+            throws TarantoolClientException {
+        return mapCall(functionName, arguments, identity, reducer, new TarantoolMapCallOptions());
+    }
+
+    /**
+     * Call a function on each of the connected cluster nodes concurrently and reduce the results. One connection
+     * per node is used. The node results are passed to the reducer as soon as they arrive, the reducer is not
+     * invoked concurrently.
+     *
+     * @param functionName function name, must not be null or empty
+     * @param arguments function arguments
+     * @param identity initial value of the reduction
+     * @param reducer combines the reduced value with the result of the next node
+     * @param options the node timeout and the policy for the failed nodes
+     * @param <A> reduced value type
+     * @return a future with the reduced value and the errors of the failed nodes
+     * @throws TarantoolClientException if the client is not connected
+     */
+    public <A> CompletableFuture<TarantoolMapCallResult<A>> mapCall(String functionName,
+                                                                    List<Object> arguments,
+                                                                    A identity,
+                                                                    BiFunction<A, List<Object>, A> reducer,
+                                                                    TarantoolMapCallOptions options)
+            throws TarantoolClientException {
+        Map<TarantoolServerAddress, TarantoolConnection> connections = connectionManager().getServerConnections();
+        MapCallAggregator<List<Object>, A> aggregator = new MapCallAggregator<>(
+                identity, reducer, options.getPartialResultPolicy(), connections.size());
+        MessagePackMapper mapper = getConfig().getMessagePackMapper();
+
+        for (Map.Entry<TarantoolServerAddress, TarantoolConnection> node : connections.entrySet()) {
+            CompletableFuture<List<Object>> nodeResult;
+            try {
+                TarantoolCallRequest.Builder builder = new TarantoolCallRequest.Builder()
+                        .withFunctionName(functionName);
+                if (arguments.size() > 0) {
+                    builder.withArguments(arguments);
+                }
+                nodeResult = node.getValue().sendRequest(builder.build(mapper), mapper);
+            } catch (TarantoolProtocolException | TarantoolClientException e) {
+                nodeResult = new CompletableFuture<>();
+                nodeResult.completeExceptionally(e);
+            }
+            if (options.getNodeTimeout() > 0 && !nodeResult.isDone()) {
+                scheduleTimeout(nodeResult, node.getKey(), options.getNodeTimeout());
+            }
+            nodeResult.whenComplete((result, ex) -> aggregator.onResult(node.getKey(), result, ex));
+        }
+        return aggregator.getResult();
+    }
+
+    /**
+     * Select the tuples from the space on each of the connected cluster nodes and merge the results in the order
+     * of the index. One connection per node is used.
+     *
+     * @param spaceName space name
+     * @param conditions query on a TREE index with optional limit and offset
+     * @return a future with the merged tuples
+     * @throws TarantoolClientException if the client is not connected or the index is not a TREE index
+     * @see #mergeSelect(String, Conditions, ValueConverter)
+     */
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> mergeSelect(String spaceName, Conditions conditions)
+            throws TarantoolClientException {
+        TarantoolSpaceMetadata spaceMetadata = metadata().getSpaceByName(spaceName)
+                .orElseThrow(() -> new TarantoolSpaceNotFoundException(spaceName));
+        return mergeSelect(spaceName, conditions,
+                new DefaultTarantoolTupleValueConverter(getConfig().getMessagePackMapper(), spaceMetadata));
+    }
+
+    /**
+     * Select the tuples from the space on each of the connected cluster nodes and merge the results in the order
+     * of the index. One connection per node is used.
+     *
+     * Each node returns its tuples sorted by the index, so the sorted results are merged with a k-way merge
+     * instead of sorting all tuples. The limit is pushed down to the nodes: each node returns not more than
+     * <code>offset + limit</code> tuples, and the merge stops once the limit is reached. The tuples are compared
+     * according to the index part types, the strings are compared with the binary collation, so the index parts
+     * with other collations are not supported.
+     *
+     * @param spaceName space name
+     * @param conditions query on a TREE index with optional limit and offset
+     * @param tupleMapper converter of the merged tuples to the target type
+     * @param <T> target tuple type
+     * @return a future with the merged tuples
+     * @throws TarantoolClientException if the client is not connected, the index is not a TREE index or it has
+     * string parts with a non-binary collation
+     */
+    public <T> CompletableFuture<TarantoolResult<T>> mergeSelect(String spaceName,
+                                                                 Conditions conditions,
+                                                                 ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        TarantoolMetadataOperations metadata = metadata();
+        TarantoolSpaceMetadata spaceMetadata = metadata.getSpaceByName(spaceName)
+                .orElseThrow(() -> new TarantoolSpaceNotFoundException(spaceName));
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadata, spaceMetadata);
+        TarantoolIndexMetadata indexMetadata = metadata.getIndexById(spaceName, indexQuery.getIndexId())
+                .orElseThrow(() -> new TarantoolIndexNotFoundException(spaceName, indexQuery.getIndexId()));
+        if (indexMetadata.getIndexType() != TarantoolIndexType.TREE) {
+            throw new TarantoolSpaceOperationException("Index must be a TREE index for ordered merge");
+        }
+        TarantoolIteratorType iteratorType = indexQuery.getIteratorType();
+        boolean descending = iteratorType == TarantoolIteratorType.ITER_REQ ||
+                iteratorType == TarantoolIteratorType.ITER_LT || iteratorType == TarantoolIteratorType.ITER_LE;
+        long offset = conditions.getOffset();
+        long limit = conditions.getLimit();
+        IndexKeyComparator comparator = new IndexKeyComparator(indexMetadata.getIndexParts(), descending);
+
+        MessagePackMapper mapper = getConfig().getMessagePackMapper();
+        TarantoolSimpleResultMapper<ArrayValue> resultMapper =
+                new TarantoolSimpleResultMapperFactory(mapper).withConverter(ArrayValue.class, v -> v);
+        List<CompletableFuture<TarantoolResult<ArrayValue>>> nodeResults = new ArrayList<>();
+        for (TarantoolConnection connection : connectionManager().getServerConnections().values()) {
+            try {
+                TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+                        .withSpaceId(spaceMetadata.getSpaceId())
+                        .withIndexId(indexQuery.getIndexId())
+                        .withIteratorType(iteratorType)
+                        .withKeyValues(indexQuery.getKeyValues())
+                        .withLimit(Math.min(offset + limit, MAX_LIMIT))
+                        .withOffset(0)
+                        .build(mapper);
+                nodeResults.add(connection.sendRequest(request, resultMapper));
+            } catch (TarantoolProtocolException e) {
+                throw new TarantoolClientException(e);
+            }
+        }
+
+        return CompletableFuture.allOf(nodeResults.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<Iterator<ArrayValue>> sources = new ArrayList<>(nodeResults.size());
+            for (CompletableFuture<TarantoolResult<ArrayValue>> nodeResult : nodeResults) {
+                sources.add(nodeResult.join().iterator());
+            }
+            Iterator<ArrayValue> merged = new OrderedMergeIterator<>(sources, comparator);
+            List<ArrayValue> tuples = new ArrayList<>();
+            for (long skipped = 0; skipped < offset && merged.hasNext(); skipped++) {
+                merged.next();
+            }
+            while (tuples.size() < limit && merged.hasNext()) {
+                tuples.add(merged.next());
+            }
+            return new TarantoolResultImpl<>(ValueFactory.newArray(tuples), tupleMapper);
+        });
+    }
+
+    /*
+     * The timeouts are scheduled on the client event loop, a late response is ignored. The timeout task is
+     * cancelled once the node responds, so that the pending tasks do not accumulate in the event loop
+     */
+    private void scheduleTimeout(CompletableFuture<?> nodeResult, TarantoolServerAddress address, int timeout) {
+        ScheduledFuture<?> timeoutFuture = getBootstrap().config().group().schedule(() -> {
+            if (!nodeResult.isDone()) {
+                nodeResult.completeExceptionally(new TimeoutException(String.format(
+                        "Failed to get response from node %s within %d ms", address, timeout)));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        nodeResult.whenComplete((result, ex) -> timeoutFuture.cancel(false));
+    }
 }
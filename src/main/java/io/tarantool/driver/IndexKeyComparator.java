@@ -0,0 +1,222 @@
+package io.tarantool.driver;
+
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultBigDecimalConverter;
+import io.tarantool.driver.metadata.TarantoolIndexPartMetadata;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ExtensionValue;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares tuples in the order of a TREE index, like the Tarantool server does. The values of each index part are
+ * compared according to the part type. The strings are compared by their bytes, so the index parts with strings
+ * must have no collation or the binary one.
+ *
+ * For the <code>scalar</code> and <code>any</code> parts the values of different types are ordered as in Tarantool:
+ * <code>nil</code>, booleans, numbers, strings, binary values, extension values. The decimal extension values are
+ * numbers, so they are compared with the integer and floating-point values by their numeric value.
+ *
+ * @author Alexey Kuzin
+ */
+final class IndexKeyComparator implements Comparator<ArrayValue> {
+
+    private static final DefaultBigDecimalConverter DECIMAL_CONVERTER = new DefaultBigDecimalConverter();
+    private static final Comparator<Value> SCALAR_COMPARATOR = IndexKeyComparator::compareScalars;
+    private static final Comparator<Value> NUMBER_COMPARATOR = nullsFirst(IndexKeyComparator::compareNumbers);
+    private static final Comparator<Value> STRING_COMPARATOR = nullsFirst(
+            (a, b) -> compareBytes(a.asStringValue().asByteArray(), b.asStringValue().asByteArray()));
+    private static final Comparator<Value> BOOLEAN_COMPARATOR = nullsFirst(
+            (a, b) -> Boolean.compare(a.asBooleanValue().getBoolean(), b.asBooleanValue().getBoolean()));
+    private static final Comparator<Value> BINARY_COMPARATOR = nullsFirst(
+            (a, b) -> compareBytes(a.asBinaryValue().asByteArray(), b.asBinaryValue().asByteArray()));
+
+    private final int[] fieldPositions;
+    private final Comparator<Value>[] partComparators;
+    private final boolean descending;
+
+    /**
+     * Basic constructor.
+     *
+     * @param indexParts index parts metadata
+     * @param descending whether the tuples are in the descending order
+     */
+    @SuppressWarnings("unchecked")
+    IndexKeyComparator(List<TarantoolIndexPartMetadata> indexParts, boolean descending) {
+        this.fieldPositions = new int[indexParts.size()];
+        this.partComparators = new Comparator[indexParts.size()];
+        for (int i = 0; i < indexParts.size(); i++) {
+            fieldPositions[i] = indexParts.get(i).getFieldIndex();
+            partComparators[i] = forIndexPart(indexParts.get(i));
+        }
+        this.descending = descending;
+    }
+
+    @Override
+    public int compare(ArrayValue left, ArrayValue right) {
+        for (int i = 0; i < fieldPositions.length; i++) {
+            int result = partComparators[i].compare(getField(left, fieldPositions[i]),
+                    getField(right, fieldPositions[i]));
+            if (result != 0) {
+                return descending ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    private static Value getField(ArrayValue tuple, int position) {
+        return position < tuple.size() ? tuple.get(position) : ValueFactory.newNil();
+    }
+
+    private static Comparator<Value> forIndexPart(TarantoolIndexPartMetadata indexPart) {
+        String collation = indexPart.getCollation();
+        if (collation != null && !"binary".equals(collation) && !"none".equals(collation)) {
+            throw new TarantoolSpaceOperationException(
+                    "Index part with collation %s cannot be compared on the client, only the binary collation " +
+                            "is supported", collation);
+        }
+        switch (indexPart.getFieldType().toLowerCase()) {
+            case "unsigned":
+            case "integer":
+            case "number":
+            case "double":
+                return NUMBER_COMPARATOR;
+            case "string":
+            case "str":
+                return STRING_COMPARATOR;
+            case "boolean":
+                return BOOLEAN_COMPARATOR;
+            case "varbinary":
+                return BINARY_COMPARATOR;
+            default:
+                return SCALAR_COMPARATOR;
+        }
+    }
+
+    private static Comparator<Value> nullsFirst(Comparator<Value> comparator) {
+        return (a, b) -> {
+            if (a.isNilValue() || b.isNilValue()) {
+                return Boolean.compare(!a.isNilValue(), !b.isNilValue());
+            }
+            return comparator.compare(a, b);
+        };
+    }
+
+    private static int compareScalars(Value a, Value b) {
+        int result = Integer.compare(typeRank(a), typeRank(b));
+        if (result != 0) {
+            return result;
+        }
+        switch (typeRank(a)) {
+            case 1:
+                return BOOLEAN_COMPARATOR.compare(a, b);
+            case 2:
+                return compareNumbers(a, b);
+            case 3:
+                return STRING_COMPARATOR.compare(a, b);
+            case 4:
+                return BINARY_COMPARATOR.compare(a, b);
+            case 5:
+                ExtensionValue left = a.asExtensionValue();
+                ExtensionValue right = b.asExtensionValue();
+                result = Byte.compare(left.getType(), right.getType());
+                return result != 0 ? result : compareBytes(left.getData(), right.getData());
+            default:
+                return 0;
+        }
+    }
+
+    private static int typeRank(Value value) {
+        switch (value.getValueType()) {
+            case NIL:
+                return 0;
+            case BOOLEAN:
+                return 1;
+            case INTEGER:
+            case FLOAT:
+                return 2;
+            case STRING:
+                return 3;
+            case BINARY:
+                return 4;
+            case EXTENSION:
+                return isDecimal(value) ? 2 : 5;
+            default:
+                return 6;
+        }
+    }
+
+    private static boolean isDecimal(Value value) {
+        return value.isExtensionValue() && DECIMAL_CONVERTER.canConvertValue(value.asExtensionValue());
+    }
+
+    private static int compareNumbers(Value a, Value b) {
+        if (isDecimal(a) || isDecimal(b)) {
+            return compareDecimals(a, b);
+        }
+        if (a.isIntegerValue() && b.isIntegerValue()) {
+            IntegerValue left = a.asIntegerValue();
+            IntegerValue right = b.asIntegerValue();
+            if (left.isInLongRange() && right.isInLongRange()) {
+                return Long.compare(left.asLong(), right.asLong());
+            }
+            return left.asBigInteger().compareTo(right.asBigInteger());
+        }
+        if (a.isFloatValue() && b.isFloatValue()) {
+            return Double.compare(a.asFloatValue().toDouble(), b.asFloatValue().toDouble());
+        }
+        // an integer and a floating-point number are compared exactly
+        Value floatValue = a.isFloatValue() ? a : b;
+        double number = floatValue.asFloatValue().toDouble();
+        int result;
+        if (Double.isNaN(number)) {
+            result = -1;
+        } else if (Double.isInfinite(number)) {
+            result = number > 0 ? 1 : -1;
+        } else {
+            Value integerValue = a.isFloatValue() ? b : a;
+            // the exact binary value, BigDecimal.valueOf() rounds it to the shortest decimal representation
+            result = new BigDecimal(number).compareTo(new BigDecimal(integerValue.asIntegerValue().asBigInteger()));
+        }
+        return a.isFloatValue() ? result : -result;
+    }
+
+    private static int compareDecimals(Value a, Value b) {
+        Value floatValue = a.isFloatValue() ? a : b.isFloatValue() ? b : null;
+        if (floatValue != null) {
+            double number = floatValue.asFloatValue().toDouble();
+            // NaN and the infinite values have no decimal representation
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                int result = Double.isNaN(number) || number < 0 ? -1 : 1;
+                return floatValue == a ? result : -result;
+            }
+        }
+        return toBigDecimal(a).compareTo(toBigDecimal(b));
+    }
+
+    private static BigDecimal toBigDecimal(Value value) {
+        if (value.isIntegerValue()) {
+            return new BigDecimal(value.asIntegerValue().asBigInteger());
+        }
+        if (value.isFloatValue()) {
+            return new BigDecimal(value.asFloatValue().toDouble());
+        }
+        return DECIMAL_CONVERTER.fromValue(value.asExtensionValue());
+    }
+
+    private static int compareBytes(byte[] left, byte[] right) {
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+}
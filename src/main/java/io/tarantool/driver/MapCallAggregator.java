@@ -0,0 +1,92 @@
+package io.tarantool.driver;
+
+import io.tarantool.driver.api.TarantoolMapCallOptions.PartialResultPolicy;
+import io.tarantool.driver.api.TarantoolMapCallResult;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+/**
+ * Reduces the results of a function call on several nodes as soon as they arrive, so the node results are not
+ * buffered until all nodes respond. The reducer is never invoked concurrently.
+ *
+ * @param <R> node result type
+ * @param <A> reduced value type
+ * @author Alexey Kuzin
+ */
+final class MapCallAggregator<R, A> {
+
+    private final BiFunction<A, R, A> reducer;
+    private final PartialResultPolicy policy;
+    private final CompletableFuture<TarantoolMapCallResult<A>> result = new CompletableFuture<>();
+    private final Map<TarantoolServerAddress, Throwable> failures = new HashMap<>();
+    private A value;
+    private int pending;
+    private boolean done;
+
+    MapCallAggregator(A identity, BiFunction<A, R, A> reducer, PartialResultPolicy policy, int nodeCount) {
+        this.value = identity;
+        this.reducer = reducer;
+        this.policy = policy;
+        this.pending = nodeCount;
+        if (nodeCount == 0) {
+            done = true;
+            result.complete(new TarantoolMapCallResult<>(identity, failures));
+        }
+    }
+
+    /**
+     * Accept the result of a node
+     *
+     * @param address node address
+     * @param nodeResult the result, null if the call has failed
+     * @param error the call error or null
+     */
+    void onResult(TarantoolServerAddress address, R nodeResult, Throwable error) {
+        Throwable failure = null;
+        TarantoolMapCallResult<A> completed = null;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                        error.getCause() : error;
+                if (policy == PartialResultPolicy.FAIL) {
+                    failure = new TarantoolClientException(
+                            String.format("Function call failed on node %s", address), cause);
+                } else {
+                    failures.put(address, cause);
+                }
+            } else {
+                try {
+                    value = reducer.apply(value, nodeResult);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+            if (failure == null && --pending == 0) {
+                completed = new TarantoolMapCallResult<>(value, new HashMap<>(failures));
+            }
+            done = failure != null || completed != null;
+        }
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else if (completed != null) {
+            result.complete(completed);
+        }
+    }
+
+    /**
+     * Get the future completed when all nodes have responded or the call has failed
+     *
+     * @return the result future
+     */
+    CompletableFuture<TarantoolMapCallResult<A>> getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+package io.tarantool.driver;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several sorted sequences into one sorted sequence. Only the current element of each sequence is kept in
+ * a heap, so taking the first n elements costs O(n log k) for k sequences and the remaining elements are not
+ * compared at all. The elements which are equal are returned in the order of the sequences.
+ *
+ * @param <T> element type
+ * @author Alexey Kuzin
+ */
+final class OrderedMergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    /**
+     * Basic constructor.
+     *
+     * @param sources sequences sorted according to the comparator
+     * @param comparator element comparator
+     */
+    OrderedMergeIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        Comparator<Head<T>> headComparator = (a, b) -> {
+            int result = comparator.compare(a.value, b.value);
+            return result != 0 ? result : Integer.compare(a.sourceIndex, b.sourceIndex);
+        };
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()), headComparator);
+        for (int i = 0; i < sources.size(); i++) {
+            Iterator<? extends T> source = sources.get(i);
+            if (source.hasNext()) {
+                heads.add(new Head<>(source.next(), source, i));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        T value = head.value;
+        if (head.source.hasNext()) {
+            head.value = head.source.next();
+            heads.add(head);
+        }
+        return value;
+    }
+
+    private static final class Head<T> {
+        private final Iterator<? extends T> source;
+        private final int sourceIndex;
+        private T value;
+
+        private Head(T value, Iterator<? extends T> source, int sourceIndex) {
+            this.value = value;
+            this.source = source;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.space.ProxyTarantoolSpace;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.space.TarantoolSpaceOperationsCache;
 import io.tarantool.driver.core.TarantoolConnectionListeners;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
@@ -16,6 +17,7 @@ import io.tarantool.driver.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.proxy.ProxyOperationsMapping;
 import io.tarantool.driver.metadata.ProxyTarantoolMetadata;
+import io.tarantool.driver.sharding.VshardRouter;
 import org.msgpack.value.ArrayValue;
 import org.springframework.util.Assert;
 
@@ -39,16 +41,54 @@ import java.util.concurrent.atomic.AtomicReference;
  * See <a href="https://github.com/tarantool/examples/blob/master/profile-storage/README.md">
  *     https://github.com/tarantool/examples/blob/master/profile-storage/README.md</a>
  *
+ * The operations on single tuples may be routed directly to the storages, bypassing the router instances (see
+ * {@link VshardRouter}). In that case the routing table API function must be available on the router instances.
+ *
  * @author Alexey Kuzin
  * @author Sergey Volgin
  */
 public class ProxyTarantoolClient implements TarantoolClient, ProxyOperationsMapping {
 
     private final TarantoolClient client;
+    private final VshardRouter router;
     private final AtomicReference<ProxyTarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final TarantoolSpaceOperationsCache<ProxyTarantoolSpace> spaceCache =
+            new TarantoolSpaceOperationsCache<>(meta -> new ProxyTarantoolSpace(this, meta));
 
     public ProxyTarantoolClient(TarantoolClient decoratedClient) {
+        this(decoratedClient, false);
+    }
+
+    /**
+     * Create a client decorating the specified client.
+     *
+     * @param decoratedClient client connected to the router instances
+     * @param directRouting route the operations on single tuples directly to the storages
+     */
+    public ProxyTarantoolClient(TarantoolClient decoratedClient, boolean directRouting) {
+        this.client = decoratedClient;
+        this.router = directRouting ?
+                new VshardRouter(decoratedClient, getRoutingTableFunctionName(), getStorageCallFunctionName()) :
+                null;
+        addMetadataListener();
+    }
+
+    /**
+     * Create a client decorating the specified client, which routes the operations on single tuples directly to
+     * the storages with the specified router.
+     *
+     * @param decoratedClient client connected to the router instances
+     * @param router router for the direct routing, loading the routing table with the decorated client
+     */
+    public ProxyTarantoolClient(TarantoolClient decoratedClient, VshardRouter router) {
+        Assert.notNull(router, "Router must not be null");
+
         this.client = decoratedClient;
+        this.router = router;
+        addMetadataListener();
+    }
+
+    private void addMetadataListener() {
         this.client.getListeners().clear();
         this.client.getListeners().add(connection -> {
             try {
@@ -59,6 +99,15 @@ public class ProxyTarantoolClient implements TarantoolClient, ProxyOperationsMap
         });
     }
 
+    /**
+     * Get the router used for routing the operations directly to the storages
+     *
+     * @return the router or null if the direct routing is disabled
+     */
+    public VshardRouter getRouter() {
+        return router;
+    }
+
     @Override
     public TarantoolSpaceOperations space(int spaceId) throws TarantoolClientException {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
@@ -66,10 +115,11 @@ public class ProxyTarantoolClient implements TarantoolClient, ProxyOperationsMap
         TarantoolMetadataOperations metadata = this.metadata();
         Optional<TarantoolSpaceMetadata> meta = metadata.getSpaceById(spaceId);
         if (!meta.isPresent()) {
+            spaceCache.invalidate(spaceId);
             throw new TarantoolSpaceNotFoundException(spaceId);
         }
 
-        return new ProxyTarantoolSpace(this, meta.get());
+        return spaceCache.get(meta.get());
     }
 
     @Override
@@ -92,7 +142,7 @@ public class ProxyTarantoolClient implements TarantoolClient, ProxyOperationsMap
             throw new TarantoolSpaceNotFoundException(spaceName);
         }
 
-        return new ProxyTarantoolSpace(this, meta.get());
+        return spaceCache.get(meta.get());
     }
 
     @Override
@@ -214,6 +264,9 @@ public class ProxyTarantoolClient implements TarantoolClient, ProxyOperationsMap
 
     @Override
     public void close() throws Exception {
+        if (this.router != null) {
+            this.router.close();
+        }
         this.client.close();
     }
 }
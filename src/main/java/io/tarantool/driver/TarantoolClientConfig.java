@@ -3,10 +3,19 @@ package io.tarantool.driver;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.core.TarantoolRequestCoalescer;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Class-container for {@link TarantoolClient} configuration.
  *
@@ -20,12 +29,27 @@ public class TarantoolClientConfig {
     private static final int DEFAULT_READ_TIMEOUT = 1000; // milliseconds
     private static final int DEFAULT_REQUEST_TIMEOUT = 2000; // milliseconds
     private static final int DEFAULT_CONNECTIONS = 1;
+    private static final int DEFAULT_PING_INTERVAL = 5000; // milliseconds
+    private static final int DEFAULT_MAX_MISSED_PINGS = 3;
+    private static final String DEFAULT_CLUSTER_NAME = "default";
+    private static final int DEFAULT_BATCH_WINDOW_SIZE = 64;
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 100;
 
     private TarantoolCredentials credentials;
     private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     private int readTimeout = DEFAULT_READ_TIMEOUT;
     private int requestTimeout = DEFAULT_REQUEST_TIMEOUT;
     private int connections = DEFAULT_CONNECTIONS;
+    private int pingInterval = DEFAULT_PING_INTERVAL;
+    private int maxMissedPings = DEFAULT_MAX_MISSED_PINGS;
+    private boolean lazyMetadataLoading;
+    private List<String> metadataPrefetchSpaces = Collections.emptyList();
+    private Path metadataSnapshotDirectory;
+    private String clusterName = DEFAULT_CLUSTER_NAME;
+    private int batchWindowSize = DEFAULT_BATCH_WINDOW_SIZE;
+    private int batchChunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+    private TarantoolRequestCoalescer.ResultSharing readCoalescing; // null is disabled
+    private Set<String> coalescedFunctions = Collections.emptySet();
     private MessagePackMapper messagePackMapper =
             DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
 
@@ -117,6 +141,175 @@ public class TarantoolClientConfig {
         this.connections = connections;
     }
 
+    /**
+     * Get the time without any data received from the server after which a ping request is sent to the server,
+     * in milliseconds. The value of 0 means that the heartbeat is disabled
+     * @return a number
+     */
+    public int getPingInterval() {
+        return pingInterval;
+    }
+
+    /**
+     * Set the time without any data received from the server after which a ping request is sent to the server,
+     * in milliseconds. The ping response is also awaited for this time. Set to 0 for disabling the heartbeat
+     * @param pingInterval idle time before sending a ping, in milliseconds
+     */
+    public void setPingInterval(int pingInterval) {
+        this.pingInterval = pingInterval;
+    }
+
+    /**
+     * Get the number of consecutive ping requests left without response after which the connection is closed
+     * @return a number
+     */
+    public int getMaxMissedPings() {
+        return maxMissedPings;
+    }
+
+    /**
+     * Set the number of consecutive ping requests left without response after which the connection is closed
+     * @param maxMissedPings number of missed pings
+     */
+    public void setMaxMissedPings(int maxMissedPings) {
+        this.maxMissedPings = maxMissedPings;
+    }
+
+    /**
+     * Check if the spaces and indexes metadata is loaded on demand instead of fetching all spaces at once
+     * @return true, if the metadata is loaded on demand
+     */
+    public boolean isLazyMetadataLoading() {
+        return lazyMetadataLoading;
+    }
+
+    /**
+     * Set whether the spaces and indexes metadata is loaded on demand, only for the spaces accessed by the client.
+     * Works only with standalone Tarantool servers, the proxy metadata is always loaded at once
+     * @param lazyMetadataLoading true for loading the metadata on demand
+     */
+    public void setLazyMetadataLoading(boolean lazyMetadataLoading) {
+        this.lazyMetadataLoading = lazyMetadataLoading;
+    }
+
+    /**
+     * Get names of spaces which metadata is loaded in advance when the metadata is loaded on demand
+     * @return list of space names
+     */
+    public List<String> getMetadataPrefetchSpaces() {
+        return metadataPrefetchSpaces;
+    }
+
+    /**
+     * Set names of spaces which metadata is loaded in advance when the metadata is loaded on demand
+     * @param metadataPrefetchSpaces list of space names
+     */
+    public void setMetadataPrefetchSpaces(List<String> metadataPrefetchSpaces) {
+        this.metadataPrefetchSpaces = metadataPrefetchSpaces;
+    }
+
+    /**
+     * Get the directory for storing the metadata snapshots
+     * @return directory path or null if the metadata snapshots are disabled
+     */
+    @Nullable
+    public Path getMetadataSnapshotDirectory() {
+        return metadataSnapshotDirectory;
+    }
+
+    /**
+     * Set the directory for storing the metadata snapshots. The snapshot allows the client to use the metadata
+     * right after the start, before it is fetched from the server. Set to null for disabling the snapshots
+     * @param metadataSnapshotDirectory directory path
+     */
+    public void setMetadataSnapshotDirectory(@Nullable Path metadataSnapshotDirectory) {
+        this.metadataSnapshotDirectory = metadataSnapshotDirectory;
+    }
+
+    /**
+     * Get the name of the Tarantool cluster the client connects to. Distinguishes the metadata snapshots
+     * @return cluster name
+     */
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    /**
+     * Set the name of the Tarantool cluster the client connects to. Distinguishes the metadata snapshots
+     * @param clusterName cluster name
+     */
+    public void setClusterName(String clusterName) {
+        this.clusterName = clusterName;
+    }
+
+    /**
+     * Get the maximum number of requests of a batch operation sent without waiting for the responses.
+     * Default value is 64
+     * @return a number
+     */
+    public int getBatchWindowSize() {
+        return batchWindowSize;
+    }
+
+    /**
+     * Set the maximum number of requests of a batch operation sent without waiting for the responses. The next
+     * request is sent when a response for one of the previous requests is received
+     * @param batchWindowSize number of requests awaiting the responses
+     */
+    public void setBatchWindowSize(int batchWindowSize) {
+        this.batchWindowSize = batchWindowSize;
+    }
+
+    /**
+     * Get the maximum number of tuples passed in one API function call in the proxy batch operations.
+     * Default value is 100
+     * @return a number
+     */
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+
+    /**
+     * Set the maximum number of tuples passed in one API function call in the proxy batch operations
+     * @param batchChunkSize number of tuples in one call
+     */
+    public void setBatchChunkSize(int batchChunkSize) {
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    /**
+     * Get the way the results are shared between the coalesced identical read requests
+     * @return the result sharing mode, null if the requests are not coalesced
+     */
+    public TarantoolRequestCoalescer.ResultSharing getReadCoalescing() {
+        return readCoalescing;
+    }
+
+    /**
+     * Enable sending a single request for the identical concurrent select requests and calls of the read-only
+     * functions, see {@link TarantoolRequestCoalescer}
+     * @param readCoalescing the result sharing mode, null disables the coalescing
+     */
+    public void setReadCoalescing(@Nullable TarantoolRequestCoalescer.ResultSharing readCoalescing) {
+        this.readCoalescing = readCoalescing;
+    }
+
+    /**
+     * Get the names of the functions without side effects which calls may be coalesced
+     * @return function names
+     */
+    public Set<String> getCoalescedFunctions() {
+        return coalescedFunctions;
+    }
+
+    /**
+     * Set the names of the functions without side effects which calls may be coalesced
+     * @param coalescedFunctions function names
+     */
+    public void setCoalescedFunctions(Set<String> coalescedFunctions) {
+        this.coalescedFunctions = coalescedFunctions;
+    }
+
     /**
      * Get mapper between Java objects and MessagePack entities
      * @return a {@link MessagePackMapper} instance
@@ -228,6 +421,107 @@ public class TarantoolClientConfig {
             return this;
         }
 
+        /**
+         * Specify the time without any data received from the server after which a ping request is sent to the
+         * server. Default is 5000 milliseconds. Set to 0 for disabling the heartbeat
+         * @param pingInterval idle time before sending a ping, in milliseconds
+         * @return builder
+         * @see TarantoolClientConfig#setPingInterval(int)
+         */
+        public Builder withPingInterval(int pingInterval) {
+            Assert.state(pingInterval >= 0, "Ping interval should not be negative");
+            config.setPingInterval(pingInterval);
+            return this;
+        }
+
+        /**
+         * Specify the number of consecutive ping requests left without response after which the connection is
+         * considered dead and closed. Default is 3
+         * @param maxMissedPings number of missed pings
+         * @return builder
+         * @see TarantoolClientConfig#setMaxMissedPings(int)
+         */
+        public Builder withMaxMissedPings(int maxMissedPings) {
+            Assert.state(maxMissedPings > 0, "The number of missed pings should be greater than 0");
+            config.setMaxMissedPings(maxMissedPings);
+            return this;
+        }
+
+        /**
+         * Load the spaces and indexes metadata on demand, only for the spaces accessed by the client, instead of
+         * fetching the metadata for all spaces on each connect. The metadata for the specified spaces is loaded
+         * in advance. Works only with standalone Tarantool servers
+         * @param prefetchSpaces names of spaces which metadata is loaded in advance
+         * @return builder
+         * @see TarantoolClientConfig#setLazyMetadataLoading(boolean)
+         * @see TarantoolClientConfig#setMetadataPrefetchSpaces(List)
+         */
+        public Builder withLazyMetadataLoading(String... prefetchSpaces) {
+            Assert.noNullElements(prefetchSpaces, "Space names should not be null");
+            config.setLazyMetadataLoading(true);
+            config.setMetadataPrefetchSpaces(Arrays.asList(prefetchSpaces));
+            return this;
+        }
+
+        /**
+         * Keep a snapshot of the spaces and indexes metadata in the specified directory. The snapshot is loaded
+         * when the client is created, so the requests can be prepared without waiting for the metadata fetch,
+         * and validated against the server schema version after connecting. Works only with standalone Tarantool
+         * servers and when the metadata is not loaded on demand
+         * @param directory directory for the snapshot files
+         * @param clusterName name of the Tarantool cluster, distinguishes the snapshot files in the directory
+         * @return builder
+         * @see TarantoolClientConfig#setMetadataSnapshotDirectory(Path)
+         * @see TarantoolClientConfig#setClusterName(String)
+         */
+        public Builder withMetadataSnapshot(Path directory, String clusterName) {
+            Assert.notNull(directory, "Metadata snapshot directory should not be null");
+            Assert.hasText(clusterName, "Cluster name should not be empty");
+            Assert.state(clusterName.matches("[\\w.-]+"),
+                    "Cluster name should contain only letters, digits, '.', '-' or '_'");
+            config.setMetadataSnapshotDirectory(directory);
+            config.setClusterName(clusterName);
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of requests of a batch operation sent without waiting for the responses,
+         * and the maximum number of tuples passed in one API function call in the proxy batch operations.
+         * Default values are 64 and 100
+         * @param windowSize number of requests awaiting the responses
+         * @param chunkSize number of tuples in one API function call
+         * @return builder
+         * @see TarantoolClientConfig#setBatchWindowSize(int)
+         * @see TarantoolClientConfig#setBatchChunkSize(int)
+         */
+        public Builder withBatchSize(int windowSize, int chunkSize) {
+            Assert.state(windowSize > 0, "Batch window size should be greater than 0");
+            Assert.state(chunkSize > 0, "Batch chunk size should be greater than 0");
+            config.setBatchWindowSize(windowSize);
+            config.setBatchChunkSize(chunkSize);
+            return this;
+        }
+
+        /**
+         * Send a single request for the identical concurrent select requests and calls of the specified functions.
+         * A request identical to one awaiting the response receives the result of that request instead of being
+         * sent to the server. The specified functions must not have side effects
+         * @param resultSharing defines whether the coalesced requests share the same result instance or receive
+         *                      their own copies
+         * @param readOnlyFunctions names of the functions which calls may be coalesced
+         * @return builder
+         * @see TarantoolClientConfig#setReadCoalescing(TarantoolRequestCoalescer.ResultSharing)
+         * @see TarantoolClientConfig#setCoalescedFunctions(Set)
+         */
+        public Builder withReadCoalescing(TarantoolRequestCoalescer.ResultSharing resultSharing,
+                                          String... readOnlyFunctions) {
+            Assert.notNull(resultSharing, "Result sharing should not be null");
+            Assert.noNullElements(readOnlyFunctions, "Function names should not be null");
+            config.setReadCoalescing(resultSharing);
+            config.setCoalescedFunctions(new HashSet<>(Arrays.asList(readOnlyFunctions)));
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClientConfig} instance
          * @return configured instance
@@ -0,0 +1,104 @@
+package io.tarantool.driver;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the latest database schema version received from Tarantool server in the response headers. Notifies the
+ * registered listeners when the schema version grows.
+ *
+ * The schema version counters of different servers are independent, so each server has its own holder. The holder
+ * of a server may pass the received versions to the holder shared by all servers of a client, which notifies
+ * the metadata about the possible schema changes.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolSchemaVersionHolder {
+
+    private final AtomicLong schemaVersion = new AtomicLong(0);
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+    private final TarantoolSchemaVersionHolder parent;
+    private volatile RequestSchemaVersion requestSchemaVersion = new RequestSchemaVersion(0, 0);
+
+    /**
+     * Basic constructor.
+     */
+    public TarantoolSchemaVersionHolder() {
+        this(null);
+    }
+
+    /**
+     * Create a holder for a single server, passing the received versions to the shared holder
+     * @param parent holder shared by all servers, may be null
+     */
+    public TarantoolSchemaVersionHolder(@Nullable TarantoolSchemaVersionHolder parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Get the latest known schema version
+     * @return a number, 0 if no schema version has been received yet
+     */
+    public long getSchemaVersion() {
+        return schemaVersion.get();
+    }
+
+    /**
+     * Register the schema version received from the server. The listeners are invoked only if the passed version
+     * is greater than the known one
+     * @param version schema version
+     */
+    public void updateSchemaVersion(long version) {
+        long previous = schemaVersion.getAndAccumulate(version, Math::max);
+        if (version > previous) {
+            for (Consumer<Long> listener : listeners) {
+                listener.accept(version);
+            }
+        }
+        if (parent != null) {
+            parent.updateSchemaVersion(version);
+        }
+    }
+
+    /**
+     * Get the schema version of this server for the requests prepared against the metadata with the specified
+     * schema version. The metadata may be loaded from another server, so the version of this server is taken when
+     * the metadata is used with it for the first time. The schema changes made after that are detected by the server.
+     * @param metadataSchemaVersion schema version of the metadata
+     * @return a number, 0 if the schema version of this server is unknown
+     */
+    public long getRequestSchemaVersion(long metadataSchemaVersion) {
+        RequestSchemaVersion current = requestSchemaVersion;
+        if (current.metadataSchemaVersion != metadataSchemaVersion) {
+            long version = getSchemaVersion();
+            if (metadataSchemaVersion == 0 || version == 0) {
+                return 0;
+            }
+            current = new RequestSchemaVersion(metadataSchemaVersion, version);
+            requestSchemaVersion = current;
+        }
+        return current.schemaVersion;
+    }
+
+    /**
+     * Add a listener which is invoked with the new schema version value when the schema version grows
+     * @param listener schema version change listener
+     */
+    public void addSchemaVersionChangeListener(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    private static final class RequestSchemaVersion {
+        private final long metadataSchemaVersion;
+        private final long schemaVersion;
+
+        private RequestSchemaVersion(long metadataSchemaVersion, long schemaVersion) {
+            this.metadataSchemaVersion = metadataSchemaVersion;
+            this.schemaVersion = schemaVersion;
+        }
+    }
+}
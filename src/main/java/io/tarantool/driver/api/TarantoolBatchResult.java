@@ -0,0 +1,61 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.mappers.ValueConverter;
+import org.msgpack.value.ArrayValue;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a batch operation: the tuples returned for the successfully processed items and the errors for
+ * the failed ones. A failed item does not stop processing of the other items
+ *
+ * @param <T> target result tuple type
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchResult<T> extends TarantoolResultImpl<T> {
+
+    private final List<Throwable> errors;
+
+    /**
+     * Basic constructor.
+     *
+     * @param tuples tuples returned for the processed items
+     * @param errors errors for the failed items
+     */
+    public TarantoolBatchResult(List<T> tuples, List<Throwable> errors) {
+        super(tuples);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Create a result from the tuples returned by the server
+     *
+     * @param value MessagePack array of tuples
+     * @param tupleConverter entity-to-object tuple converter
+     * @param errors errors for the failed items
+     */
+    public TarantoolBatchResult(ArrayValue value, ValueConverter<ArrayValue, T> tupleConverter,
+                                List<Throwable> errors) {
+        super(value, tupleConverter);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Get the errors for the failed items in the order of the items
+     *
+     * @return list of errors, empty if all items have been processed successfully
+     */
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Check if some of the items have failed
+     *
+     * @return true if the errors are present
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package io.tarantool.driver.api;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for calling a function on all cluster nodes, see
+ * {@link io.tarantool.driver.ClusterTarantoolClient#mapCall}
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolMapCallOptions {
+
+    /**
+     * Defines how the failed nodes affect the call result
+     */
+    public enum PartialResultPolicy {
+        /**
+         * The call fails on the first node failure or timeout
+         */
+        FAIL,
+        /**
+         * The results of the failed nodes are skipped, the errors are returned with the reduced value
+         */
+        IGNORE_FAILED
+    }
+
+    private int nodeTimeout; // 0 is the client request timeout
+    private PartialResultPolicy partialResultPolicy = PartialResultPolicy.FAIL;
+
+    public TarantoolMapCallOptions() {
+    }
+
+    /**
+     * Get the timeout for the call on each node, in milliseconds
+     * @return a number, 0 if the client request timeout is used
+     */
+    public int getNodeTimeout() {
+        return nodeTimeout;
+    }
+
+    private void setNodeTimeout(int nodeTimeout) {
+        this.nodeTimeout = nodeTimeout;
+    }
+
+    /**
+     * Get the policy for the failed nodes
+     * @return the policy
+     */
+    public PartialResultPolicy getPartialResultPolicy() {
+        return partialResultPolicy;
+    }
+
+    private void setPartialResultPolicy(PartialResultPolicy partialResultPolicy) {
+        this.partialResultPolicy = partialResultPolicy;
+    }
+
+    /**
+     * Create a new builder instance
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the map call options
+     */
+    public static class Builder {
+
+        private TarantoolMapCallOptions options;
+
+        /**
+         * Basic constructor
+         */
+        public Builder() {
+            this.options = new TarantoolMapCallOptions();
+        }
+
+        /**
+         * Set the timeout for the call on each node. The timeout does not extend the client request timeout
+         * @param nodeTimeout the timeout, in milliseconds
+         * @return Builder
+         */
+        public Builder withNodeTimeout(int nodeTimeout) {
+            Assert.state(nodeTimeout > 0, "Node timeout must be greater than 0");
+
+            options.setNodeTimeout(nodeTimeout);
+            return this;
+        }
+
+        /**
+         * Set the policy for the failed nodes. The default policy is {@link PartialResultPolicy#FAIL}
+         * @param partialResultPolicy the policy
+         * @return Builder
+         */
+        public Builder withPartialResultPolicy(PartialResultPolicy partialResultPolicy) {
+            Assert.notNull(partialResultPolicy, "Partial result policy must not be null");
+
+            options.setPartialResultPolicy(partialResultPolicy);
+            return this;
+        }
+
+        public TarantoolMapCallOptions build() {
+            return options;
+        }
+    }
+}
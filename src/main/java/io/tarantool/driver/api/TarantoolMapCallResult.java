@@ -0,0 +1,57 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.TarantoolServerAddress;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a function call on all cluster nodes: the value reduced from the node results and the errors of
+ * the failed nodes, if the failures are allowed by the call options
+ *
+ * @param <A> reduced value type
+ * @author Alexey Kuzin
+ */
+public class TarantoolMapCallResult<A> {
+
+    private final A value;
+    private final Map<TarantoolServerAddress, Throwable> failures;
+
+    /**
+     * Basic constructor.
+     *
+     * @param value reduced value
+     * @param failures errors by the failed node addresses
+     */
+    public TarantoolMapCallResult(A value, Map<TarantoolServerAddress, Throwable> failures) {
+        this.value = value;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Get the value reduced from the results of the successful nodes
+     *
+     * @return the reduced value
+     */
+    public A getValue() {
+        return value;
+    }
+
+    /**
+     * Get the errors of the failed nodes
+     *
+     * @return errors by the node addresses, empty if all nodes returned the results
+     */
+    public Map<TarantoolServerAddress, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Check if all nodes returned the results
+     *
+     * @return true if there are no failed nodes
+     */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
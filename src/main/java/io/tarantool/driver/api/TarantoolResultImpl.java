@@ -25,6 +25,15 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Create a result with the tuples converted already
+     *
+     * @param tuples result tuples
+     */
+    public TarantoolResultImpl(List<T> tuples) {
+        this.tuples = tuples;
+    }
+
     @Override
     public int size() {
         return this.tuples.size();
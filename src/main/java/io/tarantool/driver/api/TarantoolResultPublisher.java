@@ -0,0 +1,203 @@
+package io.tarantool.driver.api;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reactive Streams publisher of the tuples received page by page. The pages are requested only when the subscriber
+ * demand exceeds the number of buffered tuples, and not more than one page is awaited at a time, so the memory
+ * consumption depends on the demand and page size but not on the total number of tuples. Each subscriber receives
+ * the tuples from its own sequence of requests.
+ *
+ * @param <R> raw tuple type returned by the requests
+ * @param <T> target tuple type
+ * @author Alexey Kuzin
+ */
+public final class TarantoolResultPublisher<R, T> implements Publisher<T> {
+
+    private final BiFunction<R, Long, CompletableFuture<? extends List<R>>> pageLoader;
+    private final Function<R, T> tupleMapper;
+    private final long pageSize;
+    private final long limit;
+
+    /**
+     * Basic constructor.
+     *
+     * @param pageLoader requests a page of the specified size starting after the specified tuple,
+     *                   the tuple is null for the first page. A page shorter than requested is considered the last
+     * @param tupleMapper converts the received tuples to the target type
+     * @param pageSize maximum number of tuples in one page
+     * @param limit maximum number of tuples in all pages
+     */
+    public TarantoolResultPublisher(BiFunction<R, Long, CompletableFuture<? extends List<R>>> pageLoader,
+                                    Function<R, T> tupleMapper,
+                                    long pageSize,
+                                    long limit) {
+        this.pageLoader = pageLoader;
+        this.tupleMapper = tupleMapper;
+        this.pageSize = pageSize;
+        this.limit = limit;
+    }
+
+    /**
+     * Create a publisher of the tuples returned by a single request, e.g. a function call. The request is sent
+     * for each subscriber once the subscriber demand is signalled.
+     *
+     * @param request sends the request
+     * @param <T> tuple type
+     * @return a new publisher instance
+     */
+    public static <T> TarantoolResultPublisher<T, T> fromResult(
+            Supplier<CompletableFuture<? extends List<T>>> request) {
+        return new TarantoolResultPublisher<>((after, size) -> request.get(), Function.identity(),
+                Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber should not be null");
+        }
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private final class PageSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Queue<R> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean loading;
+        private volatile boolean lastPage;
+        private volatile Throwable error;
+        private volatile Throwable requestError;
+        private R after;
+        private long remaining;
+        private long emitted;
+
+        private PageSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.remaining = limit;
+            this.lastPage = remaining <= 0;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError =
+                        new IllegalArgumentException("The number of requested tuples must be positive, got " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /*
+         * Only one thread emits the tuples at a time. The pages and demand received while emitting are picked up by
+         * the same thread on the next loop
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (requestError != null && !cancelled) {
+                    terminate();
+                    subscriber.onError(requestError);
+                    return;
+                }
+                long demand = requested.get();
+                while (emitted != demand && !cancelled) {
+                    R tuple = buffer.poll();
+                    if (tuple == null) {
+                        break;
+                    }
+                    T value;
+                    try {
+                        value = tupleMapper.apply(tuple);
+                    } catch (RuntimeException e) {
+                        terminate();
+                        subscriber.onError(e);
+                        return;
+                    }
+                    subscriber.onNext(value);
+                    emitted++;
+                }
+                if (cancelled) {
+                    buffer.clear();
+                    return;
+                }
+                if (buffer.isEmpty() && !loading) {
+                    if (error != null) {
+                        terminate();
+                        subscriber.onError(error);
+                        return;
+                    }
+                    if (lastPage) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                }
+                if (!loading && !lastPage && requested.get() - emitted > buffer.size()) {
+                    requestPage();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void requestPage() {
+            long size = Math.min(pageSize, remaining);
+            loading = true;
+            CompletableFuture<? extends List<R>> page;
+            try {
+                page = pageLoader.apply(after, size);
+            } catch (RuntimeException e) {
+                onPage(null, size, e);
+                return;
+            }
+            page.whenComplete((tuples, ex) -> onPage(tuples, size, ex));
+        }
+
+        private void onPage(List<R> tuples, long size, Throwable ex) {
+            if (ex != null) {
+                error = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                lastPage = true;
+            } else {
+                buffer.addAll(tuples);
+                remaining -= tuples.size();
+                lastPage = tuples.size() < size || remaining <= 0;
+                if (!tuples.isEmpty()) {
+                    after = tuples.get(tuples.size() - 1);
+                }
+            }
+            loading = false;
+            drain();
+        }
+
+        private void terminate() {
+            cancelled = true;
+            buffer.clear();
+        }
+    }
+}
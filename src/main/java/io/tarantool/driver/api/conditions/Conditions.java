@@ -13,6 +13,7 @@ import org.springframework.util.Assert;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -42,6 +43,7 @@ public final class Conditions {
     private long limit = MAX_LIMIT; // 0 is unlimited
     private long offset; // 0 is no offset
     private List<Object> startIndexValues = Collections.emptyList();
+    private List<FieldIdentifier<TarantoolFieldMetadata, ?>> fields = Collections.emptyList();
 
     private Conditions(boolean descending) {
         this.descending = descending;
@@ -60,6 +62,11 @@ public final class Conditions {
         this.startIndexValues = startIndexValues;
     }
 
+    private Conditions(List<FieldIdentifier<TarantoolFieldMetadata, ?>> fields, boolean descending) {
+        this.fields = fields;
+        this.descending = descending;
+    }
+
     /**
      * Get the descending option value
      *
@@ -219,6 +226,98 @@ public final class Conditions {
         return startIndexValues;
     }
 
+    /**
+     * Create new Conditions instance, returning only the specified fields of the tuples in the specified order.
+     * The field positions in the returned tuples are remapped accordingly.
+     *
+     * For the spaces of a standalone Tarantool server the projection is performed by evaluating a Lua chunk on the
+     * server instead of a plain select request, so the user must have the <code>execute</code> privilege on
+     * <code>universe</code>, otherwise the select fails with "access denied" error. For the proxy spaces the fields
+     * are passed to the API functions, so no additional privileges are needed.
+     *
+     * @param fieldNames names of the fields
+     * @return new {@link Conditions} instance
+     */
+    public static Conditions fields(String... fieldNames) {
+        return new Conditions(namedFields(fieldNames), false);
+    }
+
+    /**
+     * Return only the specified fields of the tuples in the specified order. The field positions in the returned
+     * tuples are remapped accordingly. See {@link #fields(String...)} for the privileges required for the
+     * standalone spaces.
+     *
+     * @param fieldNames names of the fields
+     * @return this {@link Conditions} instance
+     */
+    public Conditions withFields(String... fieldNames) {
+        this.fields = namedFields(fieldNames);
+        return this;
+    }
+
+    /**
+     * Create new Conditions instance, returning only the specified fields of the tuples in the specified order.
+     * The field positions in the returned tuples are remapped accordingly. See {@link #fields(String...)} for the
+     * privileges required for the standalone spaces.
+     *
+     * @param fieldPositions positions of the fields, starting from 0
+     * @return new {@link Conditions} instance
+     */
+    public static Conditions fields(int... fieldPositions) {
+        return new Conditions(positionFields(fieldPositions), false);
+    }
+
+    /**
+     * Return only the specified fields of the tuples in the specified order. The field positions in the returned
+     * tuples are remapped accordingly. See {@link #fields(String...)} for the privileges required for the
+     * standalone spaces.
+     *
+     * @param fieldPositions positions of the fields, starting from 0
+     * @return this {@link Conditions} instance
+     */
+    public Conditions withFields(int... fieldPositions) {
+        this.fields = positionFields(fieldPositions);
+        return this;
+    }
+
+    /**
+     * Check whether only some of the tuple fields are requested
+     *
+     * @return false by default
+     */
+    public boolean hasFields() {
+        return !fields.isEmpty();
+    }
+
+    /**
+     * Check whether the tuples are filtered by the field values
+     *
+     * @return true if any of the field value conditions are specified
+     */
+    public boolean hasFieldConditions() {
+        return conditions.stream().anyMatch(condition -> condition instanceof FieldValueCondition);
+    }
+
+    private static List<FieldIdentifier<TarantoolFieldMetadata, ?>> namedFields(String... fieldNames) {
+        Assert.notEmpty(fieldNames, "Field names should not be empty");
+
+        List<FieldIdentifier<TarantoolFieldMetadata, ?>> fields = new ArrayList<>(fieldNames.length);
+        for (String fieldName : fieldNames) {
+            fields.add(new NamedField(fieldName));
+        }
+        return fields;
+    }
+
+    private static List<FieldIdentifier<TarantoolFieldMetadata, ?>> positionFields(int... fieldPositions) {
+        Assert.state(fieldPositions != null && fieldPositions.length > 0, "Field positions should not be empty");
+
+        List<FieldIdentifier<TarantoolFieldMetadata, ?>> fields = new ArrayList<>(fieldPositions.length);
+        for (int fieldPosition : fieldPositions) {
+            fields.add(new PositionField(fieldPosition));
+        }
+        return fields;
+    }
+
     /**
      * Create new Conditions instance with filter by the specified index
      *
@@ -683,6 +782,29 @@ public final class Conditions {
         return this;
     }
 
+    /**
+     * Get the metadata of the requested fields in the requested order
+     *
+     * @param operations metadata operations
+     * @param spaceMetadata metadata of the space the fields belong to
+     * @return list of the fields metadata, empty if all fields are requested
+     */
+    public List<TarantoolFieldMetadata> toProjection(TarantoolMetadataOperations operations,
+                                                     TarantoolSpaceMetadata spaceMetadata) {
+        List<TarantoolFieldMetadata> projection = new ArrayList<>(fields.size());
+        BitSet selectedPositions = new BitSet();
+        for (FieldIdentifier<TarantoolFieldMetadata, ?> field : fields) {
+            TarantoolFieldMetadata fieldMetadata = field.metadata(operations, spaceMetadata);
+            if (selectedPositions.get(fieldMetadata.getFieldPosition())) {
+                throw new TarantoolClientException(
+                        "Field %s is requested more than once", fieldMetadata.getFieldName());
+            }
+            selectedPositions.set(fieldMetadata.getFieldPosition());
+            projection.add(fieldMetadata);
+        }
+        return projection;
+    }
+
     public List<?> toProxyQuery(TarantoolMetadataOperations operations,
                                 TarantoolSpaceMetadata spaceMetadata) {
 
@@ -854,10 +976,11 @@ public final class Conditions {
                 }
             }
             TarantoolFieldMetadata field = selectedFields.get(conditions.getKey());
-            int partPosition = suitableIndex
-                    .getIndexPartPositionByFieldPosition(field.getFieldPosition())
-                    .orElseThrow(() -> new TarantoolClientException(
-                            "Field %s not found in index %s", field.getFieldName(), suitableIndex.getIndexName()));
+            int partPosition = suitableIndex.getIndexPartPosition(field.getFieldPosition());
+            if (partPosition < 0) {
+                throw new TarantoolClientException(
+                        "Field %s not found in index %s", field.getFieldName(), suitableIndex.getIndexName());
+            }
             fieldValues.set(partPosition, condition.value());
         }
         TarantoolIteratorType iteratorType = selectedOperator != null ?
@@ -904,32 +1027,12 @@ public final class Conditions {
     private static TarantoolIndexMetadata findSuitableIndex(TarantoolMetadataOperations operations,
                                                             TarantoolSpaceMetadata spaceMetadata,
                                                             Collection<TarantoolFieldMetadata> selectedFields) {
-        Map<String, TarantoolIndexMetadata> allIndexes = operations.getSpaceIndexes(spaceMetadata.getSpaceName())
-                .orElseThrow(() -> new TarantoolClientException(
-                        "Metadata for space %s not found", spaceMetadata.getSpaceName()));
-
-        TarantoolIndexMetadata suitableIndex = allIndexes.values().stream()
-                .filter(metadata -> isSuitableIndex(metadata, selectedFields))
-                .min(Comparator.comparingInt(m -> m.getIndexParts().size()))
-                .orElseThrow(() -> new TarantoolClientException("No indexes that fit the passed fields are found"));
-
-        return suitableIndex;
-    }
-
-    private static boolean isSuitableIndex(TarantoolIndexMetadata indexMetadata,
-                                           Collection<TarantoolFieldMetadata> selectedFields) {
-        Map<Integer, TarantoolIndexPartMetadata> indexParts = indexMetadata.getIndexPartsByPosition();
-
-        if (indexParts.size() < selectedFields.size()) {
-            return false;
-        }
-
+        BitSet fieldPositions = new BitSet();
         for (TarantoolFieldMetadata fieldMetadata : selectedFields) {
-            if (!indexParts.containsKey(fieldMetadata.getFieldPosition())) {
-                return false;
-            }
+            fieldPositions.set(fieldMetadata.getFieldPosition());
         }
 
-        return true;
+        return operations.findIndexByFields(spaceMetadata.getSpaceId(), fieldPositions)
+                .orElseThrow(() -> new TarantoolClientException("No indexes that fit the passed fields are found"));
     }
 }
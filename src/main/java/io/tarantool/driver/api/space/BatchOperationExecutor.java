@@ -0,0 +1,219 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.TarantoolBatchResult;
+import io.tarantool.driver.exceptions.TarantoolBatchItemException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends the requests for the batch items keeping not more than the specified number of requests awaiting
+ * the responses. The items are taken from the iterator only when a request can be sent, so the iterator may
+ * produce the items lazily. The results and errors are collected in the order of the items.
+ *
+ * @param <I> batch item type
+ * @param <T> result tuple type
+ * @author Alexey Kuzin
+ */
+final class BatchOperationExecutor<I, T> {
+
+    private final Iterator<? extends I> items;
+    private final int windowSize;
+    private final ToIntFunction<I> itemSize;
+    private final Function<I, CompletableFuture<? extends List<T>>> operation;
+    private final CompletableFuture<TarantoolBatchResult<T>> resultFuture = new CompletableFuture<>();
+    private final Map<Integer, List<T>> results = new HashMap<>();
+    private final Map<Integer, List<Throwable>> errors = new HashMap<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private int position;
+    // position of the next tuple in the batch
+    private int tuplePosition;
+    private int inFlight;
+
+    /**
+     * Basic constructor.
+     *
+     * @param items batch items
+     * @param windowSize maximum number of requests awaiting the responses
+     * @param itemSize number of tuples in one item, used for the positions of the failed tuples
+     * @param operation sends a request for the item
+     */
+    BatchOperationExecutor(Iterator<? extends I> items, int windowSize, int itemSize,
+                           Function<I, CompletableFuture<? extends List<T>>> operation) {
+        this(items, windowSize, item -> itemSize, operation);
+    }
+
+    /**
+     * Create an executor for the items containing different numbers of tuples, e.g. the chunks of tuples.
+     * If the request for an item fails, an error is reported for each tuple in the item. The errors returned
+     * in {@link TarantoolBatchResult} for an item are reported with the positions of the failed tuples in the batch,
+     * if the positions in the item are known.
+     *
+     * @param items batch items
+     * @param windowSize maximum number of requests awaiting the responses
+     * @param itemSize returns the number of tuples in the item
+     * @param operation sends a request for the item
+     */
+    BatchOperationExecutor(Iterator<? extends I> items, int windowSize, ToIntFunction<I> itemSize,
+                           Function<I, CompletableFuture<? extends List<T>>> operation) {
+        this.items = items;
+        this.windowSize = windowSize;
+        this.itemSize = itemSize;
+        this.operation = operation;
+    }
+
+    /**
+     * Start sending the requests
+     *
+     * @return a future that will contain the results for all items once completed
+     */
+    CompletableFuture<TarantoolBatchResult<T>> execute() {
+        drain();
+        return resultFuture;
+    }
+
+    /*
+     * Only one thread sends the requests at a time. The responses received while sending are picked up by the
+     * same thread on the next loop, so the synchronously completed requests do not cause a deep recursion
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (true) {
+                I item;
+                int itemPosition;
+                int itemStart;
+                int itemTuples;
+                synchronized (this) {
+                    if (resultFuture.isDone()) {
+                        break;
+                    }
+                    try {
+                        if (inFlight >= windowSize || !items.hasNext()) {
+                            if (inFlight == 0 && !items.hasNext()) {
+                                complete();
+                            }
+                            break;
+                        }
+                        item = items.next();
+                        itemTuples = itemSize.applyAsInt(item);
+                    } catch (RuntimeException e) {
+                        resultFuture.completeExceptionally(e);
+                        break;
+                    }
+                    itemPosition = position++;
+                    itemStart = tuplePosition;
+                    tuplePosition += itemTuples;
+                    inFlight++;
+                }
+                send(item, itemPosition, itemStart, itemTuples);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void send(I item, int itemPosition, int itemStart, int itemTuples) {
+        CompletableFuture<? extends List<T>> future;
+        try {
+            future = operation.apply(item);
+        } catch (RuntimeException e) {
+            onResponse(itemPosition, itemStart, itemTuples, null, e);
+            return;
+        }
+        future.whenComplete((result, ex) -> onResponse(itemPosition, itemStart, itemTuples, result, ex));
+    }
+
+    private void onResponse(int itemPosition, int itemStart, int itemTuples, List<T> result, Throwable ex) {
+        synchronized (this) {
+            inFlight--;
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                List<Throwable> failures = new ArrayList<>(itemTuples);
+                for (int i = 0; i < itemTuples; i++) {
+                    failures.add(new TarantoolBatchItemException(itemStart + i, cause));
+                }
+                errors.put(itemPosition, failures);
+            } else {
+                results.put(itemPosition, result != null ? result : Collections.emptyList());
+                if (result instanceof TarantoolBatchResult && ((TarantoolBatchResult<T>) result).hasErrors()) {
+                    List<Throwable> itemErrors = ((TarantoolBatchResult<T>) result).getErrors();
+                    errors.put(itemPosition, toBatchPositions(itemErrors, itemStart));
+                }
+            }
+        }
+        drain();
+    }
+
+    /*
+     * The positions of the failed tuples are reported by the server relative to the item start
+     */
+    private static List<Throwable> toBatchPositions(List<Throwable> itemErrors, int itemStart) {
+        List<Throwable> failures = new ArrayList<>(itemErrors.size());
+        for (Throwable error : itemErrors) {
+            if (error instanceof TarantoolBatchItemException) {
+                TarantoolBatchItemException itemError = (TarantoolBatchItemException) error;
+                error = new TarantoolBatchItemException(itemStart + itemError.getPosition(), itemError.getCause());
+            }
+            failures.add(error);
+        }
+        return failures;
+    }
+
+    private void complete() {
+        List<T> tuples = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < position; i++) {
+            List<T> result = results.get(i);
+            if (result != null) {
+                tuples.addAll(result);
+            }
+            List<Throwable> itemErrors = errors.get(i);
+            if (itemErrors != null) {
+                failures.addAll(itemErrors);
+            }
+        }
+        resultFuture.complete(new TarantoolBatchResult<>(tuples, failures));
+    }
+
+    /**
+     * Split the items into the lists of the specified size, the last list may be shorter
+     *
+     * @param items source items
+     * @param chunkSize maximum number of items in one list
+     * @param <I> item type
+     * @return iterator over the lists of items
+     */
+    static <I> Iterator<List<I>> chunks(Iterator<? extends I> items, int chunkSize) {
+        return new Iterator<List<I>>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public List<I> next() {
+                if (!items.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<I> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && items.hasNext()) {
+                    chunk.add(items.next());
+                }
+                return chunk;
+            }
+        };
+    }
+}
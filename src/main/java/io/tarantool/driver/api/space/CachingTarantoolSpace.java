@@ -0,0 +1,388 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.TarantoolBatchResult;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolResultImpl;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
+import io.tarantool.driver.mappers.DefaultTarantoolTupleValueConverter;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.metadata.TarantoolMetadataOperations;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import io.tarantool.driver.protocol.operations.TupleOperations;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Space operations with the primary key lookups served from a {@link TarantoolNearCache}.
+ *
+ * Only the selects by the full primary key with the EQ or REQ iterator and without offset are cached, all other
+ * operations are passed to the wrapped space operations. The writes made through this instance invalidate the
+ * written keys once the write is completed, or the whole space if the key cannot be determined, e.g. for the
+ * deletes by a secondary index and the batch operations. The writes made by other clients are not tracked: use
+ * the expiration time or the invalidation methods for the spaces changed elsewhere.
+ *
+ * @author Alexey Kuzin
+ */
+public class CachingTarantoolSpace implements TarantoolSpaceOperations {
+
+    private static final ValueConverter<ArrayValue, ArrayValue> ROW_CONVERTER = v -> v;
+
+    private final TarantoolSpaceOperations space;
+    private final TarantoolSpaceMetadata spaceMetadata;
+    private final TarantoolIndexMetadata primaryIndex;
+    private final TarantoolMetadataOperations metadataOperations;
+    private final MessagePackMapper mapper;
+    private final TarantoolNearCache cache;
+    private final ValueConverter<ArrayValue, TarantoolTuple> defaultTupleConverter;
+
+    /**
+     * Create the cached operations for a space of the specified client
+     *
+     * @param client Tarantool client
+     * @param spaceName space name
+     * @param cache the cache for the lookup results, may be shared between spaces
+     * @throws TarantoolClientException if the space is not found
+     */
+    public CachingTarantoolSpace(TarantoolClient client, String spaceName, TarantoolNearCache cache)
+            throws TarantoolClientException {
+        this(client.space(spaceName),
+                client.metadata().getSpaceByName(spaceName)
+                        .orElseThrow(() -> new TarantoolSpaceNotFoundException(spaceName)),
+                client.metadata(), client.getConfig().getMessagePackMapper(), cache);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param space the wrapped space operations
+     * @param spaceMetadata metadata for the space
+     * @param metadataOperations metadata operations implementation
+     * @param mapper mapper for the key values
+     * @param cache the cache for the lookup results, may be shared between spaces
+     */
+    public CachingTarantoolSpace(TarantoolSpaceOperations space,
+                                 TarantoolSpaceMetadata spaceMetadata,
+                                 TarantoolMetadataOperations metadataOperations,
+                                 MessagePackMapper mapper,
+                                 TarantoolNearCache cache) {
+        Assert.notNull(space, "Space operations must not be null");
+        Assert.notNull(cache, "Near cache must not be null");
+
+        this.space = space;
+        this.spaceMetadata = spaceMetadata;
+        this.primaryIndex = metadataOperations.getIndexById(spaceMetadata.getSpaceId(), TarantoolIndexQuery.PRIMARY)
+                .orElseThrow(() -> new TarantoolIndexNotFoundException(
+                        spaceMetadata.getSpaceName(), TarantoolIndexQuery.PRIMARY));
+        this.metadataOperations = metadataOperations;
+        this.mapper = mapper;
+        this.cache = cache;
+        this.defaultTupleConverter = new DefaultTarantoolTupleValueConverter(mapper, spaceMetadata);
+    }
+
+    /**
+     * Remove the cached tuple with the specified primary key, e.g. when it is changed by another client
+     *
+     * @param primaryKey primary key values
+     */
+    public void invalidate(List<?> primaryKey) {
+        cache.invalidate(spaceMetadata.getSpaceId(), toKey(primaryKey));
+    }
+
+    /**
+     * Remove all cached tuples of this space
+     */
+    public void invalidateAll() {
+        cache.invalidateSpace(spaceMetadata.getSpaceId());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> select(Conditions conditions)
+            throws TarantoolClientException {
+        return select(conditions, defaultTupleConverter);
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> select(Conditions conditions, Class<T> tupleClass)
+            throws TarantoolClientException {
+        Optional<ValueConverter<ArrayValue, T>> converter = mapper.getValueConverter(ArrayValue.class, tupleClass);
+        if (!converter.isPresent()) {
+            throw new TarantoolClientException("No ArrayValue converter for type " + tupleClass + " is present");
+        }
+        return select(conditions, converter.get());
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> select(Conditions conditions,
+                                                            ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        ArrayValue key = getLookupKey(conditions);
+        if (key == null) {
+            return space.select(conditions, tupleMapper);
+        }
+        int spaceId = spaceMetadata.getSpaceId();
+        ArrayValue cached = cache.get(spaceId, key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(new TarantoolResultImpl<>(cached, tupleMapper));
+        }
+        long version = cache.getVersion(spaceId, key);
+        return space.select(conditions, ROW_CONVERTER).thenApply(rows -> {
+            ArrayValue tuples = ValueFactory.newArray(rows);
+            cache.put(spaceId, key, tuples, version);
+            return new TarantoolResultImpl<>(tuples, tupleMapper);
+        });
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> delete(Conditions conditions)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(conditions), space.delete(conditions));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> delete(Conditions conditions,
+                                                            ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(conditions), space.delete(conditions, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> insert(TarantoolTuple tuple)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(tuple), space.insert(tuple));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> insert(TarantoolTuple tuple,
+                                                            ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(tuple), space.insert(tuple, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> replace(TarantoolTuple tuple)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(tuple), space.replace(tuple));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> replace(TarantoolTuple tuple,
+                                                             ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(getWriteKey(tuple), space.replace(tuple, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> insertMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return invalidateOnComplete(null, space.insertMany(tuples));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(null, space.insertMany(tuples, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> replaceMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return invalidateOnComplete(null, space.replaceMany(tuples));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                      ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(null, space.replaceMany(tuples, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> deleteMany(Iterable<Conditions> conditions)
+            throws TarantoolClientException {
+        return invalidateOnComplete(null, space.deleteMany(conditions));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return invalidateOnComplete(null, space.deleteMany(conditions, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> update(Conditions conditions,
+                                                                     TupleOperations operations) {
+        return invalidateOnComplete(getWriteKey(conditions), space.update(conditions, operations));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> update(Conditions conditions,
+                                                            TupleOperations operations,
+                                                            ValueConverter<ArrayValue, T> tupleMapper) {
+        return invalidateOnComplete(getWriteKey(conditions), space.update(conditions, operations, tupleMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolResult<TarantoolTuple>> upsert(Conditions conditions,
+                                                                     TarantoolTuple tuple,
+                                                                     TupleOperations operations) {
+        return invalidateOnComplete(getWriteKey(tuple), space.upsert(conditions, tuple, operations));
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolResult<T>> upsert(Conditions conditions,
+                                                            TarantoolTuple tuple,
+                                                            TupleOperations operations,
+                                                            ValueConverter<ArrayValue, T> tupleMapper) {
+        return invalidateOnComplete(getWriteKey(tuple), space.upsert(conditions, tuple, operations, tupleMapper));
+    }
+
+    @Override
+    public TarantoolPreparedSelect<TarantoolTuple> prepareSelect(Conditions conditions)
+            throws TarantoolClientException {
+        return space.prepareSelect(conditions);
+    }
+
+    @Override
+    public <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions,
+                                                        ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return space.prepareSelect(conditions, tupleMapper);
+    }
+
+    @Override
+    public Stream<TarantoolTuple> stream(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return space.stream(conditions, pageSize);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return space.stream(conditions, pageSize, tupleMapper);
+    }
+
+    @Override
+    public Publisher<TarantoolTuple> publish(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return space.publish(conditions, pageSize);
+    }
+
+    @Override
+    public <T> Publisher<T> publish(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return space.publish(conditions, pageSize, tupleMapper);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return space.count(conditions);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> min(String indexName) throws TarantoolClientException {
+        return space.min(indexName);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> max(String indexName) throws TarantoolClientException {
+        return space.max(indexName);
+    }
+
+    @Override
+    public CompletableFuture<Number> sum(String fieldName, Conditions conditions) throws TarantoolClientException {
+        return space.sum(fieldName, conditions);
+    }
+
+    /*
+     * The key is invalidated when the write is completed, either successfully or not, since a failed or timed out
+     * request may still have been applied on the server. The null key invalidates the whole space
+     */
+    private <R> CompletableFuture<R> invalidateOnComplete(ArrayValue key, CompletableFuture<R> result) {
+        return result.whenComplete((r, ex) -> {
+            if (key != null) {
+                cache.invalidate(spaceMetadata.getSpaceId(), key);
+            } else {
+                cache.invalidateSpace(spaceMetadata.getSpaceId());
+            }
+        });
+    }
+
+    /*
+     * Returns the primary key if the conditions select a single tuple by the full primary key, null otherwise
+     */
+    private ArrayValue getLookupKey(Conditions conditions) {
+        if (conditions.getOffset() > 0 || conditions.getLimit() == 0 || !conditions.getStartIndexValues().isEmpty() ||
+                conditions.hasFields()) {
+            // the cache holds the whole tuples only
+            return null;
+        }
+        TarantoolIndexQuery indexQuery;
+        try {
+            indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        } catch (TarantoolClientException e) {
+            // the conditions are not expressible as a single index query, e.g. the filters for the proxy spaces
+            return null;
+        }
+        TarantoolIteratorType iteratorType = indexQuery.getIteratorType();
+        if (indexQuery.getIndexId() != TarantoolIndexQuery.PRIMARY ||
+                iteratorType != TarantoolIteratorType.ITER_EQ && iteratorType != TarantoolIteratorType.ITER_REQ ||
+                indexQuery.getKeyValues().size() != primaryIndex.getIndexParts().size() ||
+                indexQuery.getKeyValues().contains(null)) {
+            return null;
+        }
+        return toKey(indexQuery.getKeyValues());
+    }
+
+    private ArrayValue getWriteKey(Conditions conditions) {
+        try {
+            return getLookupKey(conditions);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private ArrayValue getWriteKey(TarantoolTuple tuple) {
+        Value[] key = new Value[primaryIndex.getIndexParts().size()];
+        int i = 0;
+        for (TarantoolIndexPartMetadata part : primaryIndex.getIndexParts()) {
+            Optional<TarantoolField> field = tuple.getField(part.getFieldIndex());
+            if (!field.isPresent()) {
+                return null;
+            }
+            key[i++] = field.get().toMessagePackValue(mapper);
+        }
+        return ValueFactory.newArray(key);
+    }
+
+    private ArrayValue toKey(List<?> keyValues) {
+        Value[] key = new Value[keyValues.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = mapper.toValue(keyValues.get(i));
+        }
+        return ValueFactory.newArray(key);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingTarantoolSpace [%s]", space);
+    }
+}
@@ -0,0 +1,126 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.ValueConverter;
+import org.msgpack.value.ArrayValue;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the tuples selected page by page. The next page is requested as soon as the current one is
+ * received, so it is loaded while the current page is consumed. Each page is requested starting after the last
+ * tuple of the previous page, the tuples are converted only when they are taken from the iterator.
+ *
+ * @param <T> target tuple type
+ * @author Alexey Kuzin
+ */
+final class PagedSelectIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final BiFunction<ArrayValue, Long, CompletableFuture<? extends List<ArrayValue>>> pageLoader;
+    private final ValueConverter<ArrayValue, T> tupleMapper;
+    private final long pageSize;
+    private long remaining;
+    private Iterator<ArrayValue> currentPage = Collections.emptyIterator();
+    private CompletableFuture<? extends List<ArrayValue>> nextPage;
+    private long nextPageSize;
+
+    /**
+     * Basic constructor. The first page is requested immediately.
+     *
+     * @param pageLoader requests a page of the specified size starting after the specified tuple,
+     *                   the tuple is null for the first page. A page shorter than requested is considered the last
+     * @param tupleMapper converts the selected tuples to the target type
+     * @param pageSize maximum number of tuples in one page
+     * @param limit maximum number of tuples in all pages
+     */
+    PagedSelectIterator(BiFunction<ArrayValue, Long, CompletableFuture<? extends List<ArrayValue>>> pageLoader,
+                        ValueConverter<ArrayValue, T> tupleMapper,
+                        long pageSize,
+                        long limit) {
+        this.pageLoader = pageLoader;
+        this.tupleMapper = tupleMapper;
+        this.pageSize = pageSize;
+        this.remaining = limit;
+        if (remaining > 0) {
+            requestPage(null);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            List<ArrayValue> page = awaitPage();
+            remaining -= page.size();
+            if (page.size() >= nextPageSize && remaining > 0) {
+                requestPage(page.get(page.size() - 1));
+            } else {
+                nextPage = null;
+            }
+            currentPage = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return tupleMapper.fromValue(currentPage.next());
+    }
+
+    /**
+     * Get a sequential stream over the remaining tuples. Closing the stream closes this iterator.
+     *
+     * @return a lazy stream of tuples
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Drop the remaining tuples. The response for the already requested page is ignored.
+     */
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+        currentPage = Collections.emptyIterator();
+    }
+
+    private void requestPage(ArrayValue after) {
+        nextPage = null;
+        nextPageSize = Math.min(pageSize, remaining);
+        nextPage = pageLoader.apply(after, nextPageSize);
+    }
+
+    private List<ArrayValue> awaitPage() {
+        try {
+            return nextPage.join();
+        } catch (CompletionException e) {
+            nextPage = null;
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TarantoolClientException) {
+                throw (TarantoolClientException) cause;
+            }
+            throw new TarantoolClientException(cause);
+        }
+    }
+}
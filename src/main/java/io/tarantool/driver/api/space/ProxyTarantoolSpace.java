@@ -1,28 +1,56 @@
 package io.tarantool.driver.api.space;
 
 import io.tarantool.driver.ProxyTarantoolClient;
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolIndexQuery;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolResultPublisher;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolFieldNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
+import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolShardingException;
+import io.tarantool.driver.mappers.DefaultTarantoolTupleValueConverter;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.TarantoolBatchCallResultMapperFactory;
 import io.tarantool.driver.mappers.TarantoolCallResultMapper;
 import io.tarantool.driver.mappers.TarantoolCallResultMapperFactory;
 import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.protocol.operations.TupleOperations;
+import io.tarantool.driver.proxy.CRUDOperationOptions;
 import io.tarantool.driver.proxy.DeleteProxyOperation;
+import io.tarantool.driver.proxy.GetManyProxyOperation;
+import io.tarantool.driver.proxy.InsertManyProxyOperation;
 import io.tarantool.driver.proxy.InsertProxyOperation;
 import io.tarantool.driver.proxy.ProxyOperation;
+import io.tarantool.driver.proxy.ReplaceManyProxyOperation;
 import io.tarantool.driver.proxy.ReplaceProxyOperation;
 import io.tarantool.driver.proxy.SelectProxyOperation;
 import io.tarantool.driver.proxy.UpdateProxyOperation;
 import io.tarantool.driver.proxy.UpsertProxyOperation;
+import io.tarantool.driver.sharding.VshardRouter;
 import org.msgpack.value.ArrayValue;
-
+import org.msgpack.value.Value;
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Represents a proxy {@link TarantoolSpaceOperations} implementation, which uses calls to API functions defined in
@@ -32,12 +60,18 @@ import java.util.concurrent.CompletableFuture;
  */
 public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
 
+    private static final ValueConverter<ArrayValue, ArrayValue> ROW_CONVERTER = v -> v;
+
     private final String spaceName;
     private final ProxyTarantoolClient client;
     private final TarantoolMetadataOperations metadataOperations;
     private final TarantoolSpaceMetadata spaceMetadata;
 
     private final TarantoolCallResultMapperFactory tarantoolResultMapperFactory;
+    private final TarantoolCallResultMapper<TarantoolTuple> defaultResultMapper;
+    private final ValueConverter<ArrayValue, TarantoolTuple> defaultTupleConverter;
+    private final TarantoolCallResultMapperFactory batchResultMapperFactory;
+    private final TarantoolCallResultMapper<TarantoolTuple> defaultBatchResultMapper;
 
     public ProxyTarantoolSpace(ProxyTarantoolClient client,
                                TarantoolSpaceMetadata spaceMetadata) {
@@ -47,6 +81,12 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
         this.metadataOperations = client.metadata();
         this.tarantoolResultMapperFactory =
                 new TarantoolCallResultMapperFactory(client.getConfig().getMessagePackMapper());
+        this.defaultResultMapper = tarantoolResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata);
+        this.defaultTupleConverter =
+                new DefaultTarantoolTupleValueConverter(client.getConfig().getMessagePackMapper(), spaceMetadata);
+        this.batchResultMapperFactory =
+                new TarantoolBatchCallResultMapperFactory(client.getConfig().getMessagePackMapper());
+        this.defaultBatchResultMapper = batchResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata);
     }
 
     @Override
@@ -76,7 +116,8 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
                 .withResultMapper(resultMapper)
                 .build();
 
-        return executeOperation(operation);
+        return executeOperation(operation, keyOnStorage(client.getDeleteOnStorageFunctionName(), indexQuery,
+                Arrays.asList(spaceName, indexQuery.getKeyValues()), resultMapper));
     }
 
     @Override
@@ -103,7 +144,8 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
                 .withResultMapper(resultMapper)
                 .build();
 
-        return executeOperation(operation);
+        return executeOperation(operation, tupleOnStorage(client.getInsertOnStorageFunctionName(), tuple,
+                storageTuple -> Arrays.asList(spaceName, storageTuple), resultMapper));
     }
 
     @Override
@@ -130,12 +172,99 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
                 .withResultMapper(resultMapper)
                 .build();
 
-        return executeOperation(operation);
+        return executeOperation(operation, tupleOnStorage(client.getReplaceOnStorageFunctionName(), tuple,
+                storageTuple -> Arrays.asList(spaceName, storageTuple), resultMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> insertMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return insertMany(tuples, defaultTupleResultMapper(), defaultBatchResultMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return insertMany(tuples, tarantoolResultMapperFactory.withConverter(tupleMapper),
+                batchResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                      TarantoolCallResultMapper<T> resultMapper,
+                                                                      TarantoolCallResultMapper<T> batchMapper)
+            throws TarantoolClientException {
+        String functionName = client.getInsertManyFunctionName();
+        if (functionName == null) {
+            return this.<TarantoolTuple, T>executeBatch(tuples, tuple -> insert(tuple, resultMapper));
+        }
+        return this.<T>executeChunks(tuples, chunk -> new InsertManyProxyOperation.Builder<T>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(functionName)
+                .withTuples(chunk)
+                .withResultMapper(batchMapper)
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> replaceMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return replaceMany(tuples, defaultTupleResultMapper(), defaultBatchResultMapper);
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                      ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return replaceMany(tuples, tarantoolResultMapperFactory.withConverter(tupleMapper),
+                batchResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                       TarantoolCallResultMapper<T> resultMapper,
+                                                                       TarantoolCallResultMapper<T> batchMapper)
+            throws TarantoolClientException {
+        String functionName = client.getReplaceManyFunctionName();
+        if (functionName == null) {
+            return this.<TarantoolTuple, T>executeBatch(tuples, tuple -> replace(tuple, resultMapper));
+        }
+        return this.<T>executeChunks(tuples, chunk -> new ReplaceManyProxyOperation.Builder<T>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(functionName)
+                .withTuples(chunk)
+                .withResultMapper(batchMapper)
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> deleteMany(Iterable<Conditions> conditions)
+            throws TarantoolClientException {
+        return deleteMany(conditions, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return deleteMany(conditions, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                                      TarantoolCallResultMapper<T> resultMapper)
+            throws TarantoolClientException {
+        return this.<Conditions, T>executeBatch(conditions, query -> delete(query, resultMapper));
     }
 
     @Override
     public CompletableFuture<TarantoolResult<TarantoolTuple>> select(Conditions conditions)
             throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            TarantoolSpaceMetadata projection =
+                    spaceMetadata.project(conditions.toProjection(metadataOperations, spaceMetadata));
+            return select(conditions, tarantoolResultMapperFactory.withDefaultTupleValueConverter(projection));
+        }
         return select(conditions, defaultTupleResultMapper());
     }
 
@@ -168,6 +297,203 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
         return executeOperation(operation);
     }
 
+    /*
+     * Gets the tuples by many primary keys with a single call, the missing tuples are returned as null
+     */
+    CompletableFuture<List<TarantoolTuple>> getMany(List<List<Object>> keys) throws TarantoolClientException {
+        String functionName = client.getGetManyFunctionName();
+        if (functionName == null) {
+            return TarantoolBatchLoader.selectEach(this, keys);
+        }
+        ValueConverter<ArrayValue, TarantoolTuple> rowConverter =
+                row -> row.size() == 0 ? null : defaultTupleConverter.fromValue(row);
+        GetManyProxyOperation<TarantoolTuple> operation = new GetManyProxyOperation.Builder<TarantoolTuple>()
+                .withClient(client)
+                .withSpaceName(spaceName)
+                .withFunctionName(functionName)
+                .withKeys(keys)
+                .withResultMapper(tarantoolResultMapperFactory.withConverter(rowConverter))
+                .build();
+
+        return executeOperation(operation).thenApply(tuples -> tuples);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        List<Object> arguments = Arrays.asList(
+                spaceName, conditions.toProxyQuery(metadataOperations, spaceMetadata), operationOptions());
+        return callForScalar(client.getCountFunctionName(), arguments)
+                .thenApply(count -> count == null ? 0L : ((Number) count).longValue());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> min(String indexName) throws TarantoolClientException {
+        return indexEdge(client.getMinFunctionName(), indexName);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> max(String indexName) throws TarantoolClientException {
+        return indexEdge(client.getMaxFunctionName(), indexName);
+    }
+
+    private CompletableFuture<TarantoolTuple> indexEdge(String functionName, String indexName)
+            throws TarantoolClientException {
+        if (!metadataOperations.getIndexByName(spaceName, indexName).isPresent()) {
+            throw new TarantoolIndexNotFoundException(spaceName, indexName);
+        }
+        return client.call(functionName, Arrays.asList(spaceName, indexName, operationOptions()),
+                client.getConfig().getMessagePackMapper(), defaultTupleResultMapper())
+                .thenApply(tuples -> tuples.isEmpty() ? null : tuples.get(0));
+    }
+
+    @Override
+    public CompletableFuture<Number> sum(String fieldName, Conditions conditions) throws TarantoolClientException {
+        if (!spaceMetadata.getFieldByName(fieldName).isPresent()) {
+            throw new TarantoolFieldNotFoundException(fieldName, spaceMetadata);
+        }
+        List<Object> arguments = Arrays.asList(spaceName, fieldName,
+                conditions.toProxyQuery(metadataOperations, spaceMetadata), operationOptions());
+        return callForScalar(client.getSumFunctionName(), arguments)
+                .thenApply(sum -> sum == null ? 0L : (Number) sum);
+    }
+
+    /*
+     * The aggregates are calculated by the API functions on the router, which collects the partial results from
+     * the storages, so only the result is sent to the client
+     */
+    private CompletableFuture<Object> callForScalar(String functionName, List<Object> arguments)
+            throws TarantoolClientException {
+        return client.call(functionName, arguments).thenApply(result -> {
+            // [nil, "Error msg..."] or [nil, {str="Error msg...", stack="..."}]
+            if (result.size() > 1 && result.get(0) == null && result.get(1) != null) {
+                Value error = client.getConfig().getMessagePackMapper().toValue(result.get(1));
+                throw error.isMapValue() ?
+                        new TarantoolFunctionCallException(error.asMapValue()) :
+                        new TarantoolFunctionCallException(error.toString());
+            }
+            return result.isEmpty() ? null : result.get(0);
+        });
+    }
+
+    private Map<String, Object> operationOptions() {
+        return CRUDOperationOptions.builder()
+                .withTimeout(client.getConfig().getRequestTimeout())
+                .build()
+                .asMap();
+    }
+
+    @Override
+    public Stream<TarantoolTuple> stream(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return stream(conditions, pageSize, defaultTupleConverter);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        Assert.isTrue(pageSize > 0, "Page size should be greater than 0");
+        return new PagedSelectIterator<>(pageLoader(conditions), tupleMapper, pageSize, conditions.getLimit())
+                .stream();
+    }
+
+    @Override
+    public Publisher<TarantoolTuple> publish(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return publish(conditions, pageSize, defaultTupleConverter);
+    }
+
+    @Override
+    public <T> Publisher<T> publish(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        Assert.isTrue(pageSize > 0, "Page size should be greater than 0");
+        return new TarantoolResultPublisher<>(
+                pageLoader(conditions), tupleMapper::fromValue, pageSize, conditions.getLimit());
+    }
+
+    /*
+     * The pages after the first one are selected with the last tuple of the previous page passed as the
+     * "after" option, the API function continues the select from that tuple
+     */
+    private BiFunction<ArrayValue, Long, CompletableFuture<? extends List<ArrayValue>>> pageLoader(
+            Conditions conditions) {
+        if (conditions.hasFields()) {
+            throw new TarantoolClientException("Field projection is not supported for paged select");
+        }
+        MessagePackMapper mapper = client.getConfig().getMessagePackMapper();
+        TarantoolCallResultMapper<ArrayValue> resultMapper =
+                tarantoolResultMapperFactory.withConverter(ArrayValue.class, ROW_CONVERTER);
+
+        return (after, size) -> {
+            SelectProxyOperation<ArrayValue> operation =
+                    new SelectProxyOperation.Builder<ArrayValue>(metadataOperations, spaceMetadata)
+                            .withClient(client)
+                            .withSpaceName(spaceName)
+                            .withFunctionName(client.getSelectFunctionName())
+                            .withConditions(conditions)
+                            .withLimit(size)
+                            .withAfter(after != null ? new TarantoolTupleImpl(after, mapper, spaceMetadata) : null)
+                            .withResultMapper(resultMapper)
+                            .build();
+
+            return executeOperation(operation);
+        };
+    }
+
+    @Override
+    public TarantoolPreparedSelect<TarantoolTuple> prepareSelect(Conditions conditions)
+            throws TarantoolClientException {
+        return prepareSelect(conditions, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions,
+                                                        ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return prepareSelect(conditions, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    /*
+     * The select is performed by a call to the API function, so only the index query is resolved in advance
+     * and the conditions are rebuilt for each execution. The API function applies the field conditions as filters
+     * in addition to the index ones, so they cannot be expressed by an index query and are rejected
+     */
+    private <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions,
+                                                         TarantoolCallResultMapper<T> resultMapper)
+            throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            throw new TarantoolClientException("Field projection is not supported for prepared select");
+        }
+        if (conditions.hasFieldConditions()) {
+            throw new TarantoolClientException(
+                    "Field conditions are not supported for prepared select on a proxy space, use index conditions");
+        }
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        long limit = conditions.getLimit();
+        long offset = conditions.getOffset();
+
+        return keyValues -> select(
+                toConditions(indexQuery, new ArrayList<>(keyValues)).withLimit(limit).withOffset(offset),
+                resultMapper);
+    }
+
+    private static Conditions toConditions(TarantoolIndexQuery indexQuery, List<Object> keyValues) {
+        int indexId = indexQuery.getIndexId();
+        switch (indexQuery.getIteratorType()) {
+            case ITER_ALL:
+                return Conditions.any();
+            case ITER_REQ:
+                return Conditions.indexEquals(indexId, keyValues).withDescending();
+            case ITER_LT:
+                return Conditions.indexLessThan(indexId, keyValues);
+            case ITER_LE:
+                return Conditions.indexLessOrEquals(indexId, keyValues);
+            case ITER_GT:
+                return Conditions.indexGreaterThan(indexId, keyValues);
+            case ITER_GE:
+                return Conditions.indexGreaterOrEquals(indexId, keyValues);
+            default:
+                return Conditions.indexEquals(indexId, keyValues);
+        }
+    }
+
     @Override
     public CompletableFuture<TarantoolResult<TarantoolTuple>> update(Conditions conditions,
                                                                      TupleOperations operations) {
@@ -195,7 +521,9 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
                 .withResultMapper(resultMapper)
                 .build();
 
-        return executeOperation(operation);
+        return executeOperation(operation, keyOnStorage(client.getUpdateOnStorageFunctionName(), indexQuery,
+                Arrays.asList(spaceName, indexQuery.getKeyValues(), operations.asProxyOperationList()),
+                resultMapper));
     }
 
     @Override
@@ -226,11 +554,13 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
                 .withResultMapper(resultMapper)
                 .build();
 
-        return executeOperation(operation);
+        return executeOperation(operation, tupleOnStorage(client.getUpsertOnStorageFunctionName(), tuple,
+                storageTuple -> Arrays.asList(spaceName, storageTuple, operations.asProxyOperationList()),
+                resultMapper));
     }
 
     private TarantoolCallResultMapper<TarantoolTuple> defaultTupleResultMapper() {
-        return tarantoolResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata);
+        return defaultResultMapper;
     }
 
     private <T> ValueConverter<ArrayValue, T> getConverter(Class<T> tupleClass) {
@@ -242,10 +572,87 @@ public class ProxyTarantoolSpace implements TarantoolSpaceOperations {
         return converter.get();
     }
 
+    private <I, T> CompletableFuture<TarantoolBatchResult<T>> executeBatch(
+            Iterable<? extends I> items, Function<I, CompletableFuture<? extends List<T>>> operation) {
+        Assert.notNull(items, "Batch items should not be null");
+        return new BatchOperationExecutor<I, T>(
+                items.iterator(), client.getConfig().getBatchWindowSize(), 1, operation).execute();
+    }
+
+    /*
+     * The tuples are passed to the API function in chunks, so the number of tuples awaiting the responses is
+     * limited by the product of the window and chunk sizes
+     */
+    private <T> CompletableFuture<TarantoolBatchResult<T>> executeChunks(
+            Iterable<? extends TarantoolTuple> tuples,
+            Function<List<TarantoolTuple>, ProxyOperation<T>> operationFactory) {
+        Assert.notNull(tuples, "Batch items should not be null");
+        int chunkSize = client.getConfig().getBatchChunkSize();
+        return new BatchOperationExecutor<List<TarantoolTuple>, T>(
+                BatchOperationExecutor.chunks(tuples.iterator(), chunkSize),
+                client.getConfig().getBatchWindowSize(), List::size,
+                chunk -> executeOperation(operationFactory.apply(chunk))).execute();
+    }
+
     private <T> CompletableFuture<TarantoolResult<T>> executeOperation(ProxyOperation<T> operation) {
         return operation.execute();
     }
 
+    /*
+     * The operation is performed directly on the storage if the direct routing is enabled and the bucket ID can be
+     * calculated on the client side. If the bucket has been moved or the storage is not available, the routing
+     * table is refreshed and the operation is performed through the router
+     */
+    private <T> CompletableFuture<TarantoolResult<T>> executeOperation(
+            ProxyOperation<T> operation,
+            Function<VshardRouter, Optional<CompletableFuture<TarantoolResult<T>>>> storageOperation) {
+        VshardRouter router = client.getRouter();
+        Optional<CompletableFuture<TarantoolResult<T>>> result =
+                router != null ? storageOperation.apply(router) : Optional.empty();
+        if (!result.isPresent()) {
+            return executeOperation(operation);
+        }
+        return result.get().handle((tuples, ex) -> {
+            if (ex == null) {
+                return CompletableFuture.completedFuture(tuples);
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof TarantoolShardingException || cause instanceof NoAvailableConnectionsException) {
+                router.refresh();
+                return executeOperation(operation);
+            }
+            CompletableFuture<TarantoolResult<T>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(cause);
+            return failed;
+        }).thenCompose(Function.identity());
+    }
+
+    private <T> Function<VshardRouter, Optional<CompletableFuture<TarantoolResult<T>>>> tupleOnStorage(
+            String functionName,
+            TarantoolTuple tuple,
+            Function<TarantoolTuple, List<Object>> arguments,
+            TarantoolCallResultMapper<T> resultMapper) {
+        return router -> primaryIndex()
+                .flatMap(index -> router.getBucketId(spaceMetadata, index, tuple))
+                .flatMap(bucketId -> router.callOnStorage(bucketId, VshardRouter.WRITE_MODE, functionName,
+                        arguments.apply(router.withBucketId(spaceMetadata, tuple, bucketId)), resultMapper));
+    }
+
+    private <T> Function<VshardRouter, Optional<CompletableFuture<TarantoolResult<T>>>> keyOnStorage(
+            String functionName,
+            TarantoolIndexQuery indexQuery,
+            List<Object> arguments,
+            TarantoolCallResultMapper<T> resultMapper) {
+        return router -> primaryIndex()
+                .flatMap(index -> router.getBucketId(spaceMetadata, index, indexQuery))
+                .flatMap(bucketId -> router.callOnStorage(bucketId, VshardRouter.WRITE_MODE, functionName,
+                        arguments, resultMapper));
+    }
+
+    private Optional<TarantoolIndexMetadata> primaryIndex() {
+        return metadataOperations.getIndexById(spaceMetadata.getSpaceId(), TarantoolIndexQuery.PRIMARY);
+    }
+
     @Override
     public String toString() {
         return String.format("ProxyTarantoolSpace [%s]", spaceName);
@@ -0,0 +1,215 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects the single key lookups from concurrent callers into batches and loads each batch with a single
+ * multi-key request. A batch is sent when it reaches the maximum size or when the maximum delay passes after the
+ * first key is added, then the results are passed to the callers' futures. The lookups of the same key within a
+ * batch share the result.
+ *
+ * Use {@link #forSpace(TarantoolSpaceOperations, TarantoolBatchLoaderOptions)} for the primary key lookups in a space
+ * or provide a custom batch function. The batch function must return the values in the order of the keys, with
+ * <code>null</code> for the missing ones.
+ *
+ * The batch delays of all loaders are tracked by a single shared daemon thread, which also calls the batch function
+ * for the batches sent by timeout, so the batch function must not block.
+ *
+ * @param <K> key type, must implement equals and hashCode
+ * @param <V> value type
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchLoader<K, V> implements AutoCloseable {
+
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
+    private final Function<List<K>, CompletableFuture<? extends List<V>>> batchFunction;
+    private final int maxBatchSize;
+    private final int maxDelay;
+    private final Object lock = new Object();
+    private Batch<K, V> current;
+    private boolean closed;
+
+    /**
+     * Basic constructor.
+     *
+     * @param batchFunction loads the values for a batch of keys
+     * @param options batch size and delay options
+     */
+    public TarantoolBatchLoader(Function<List<K>, CompletableFuture<? extends List<V>>> batchFunction,
+                                TarantoolBatchLoaderOptions options) {
+        Assert.notNull(batchFunction, "Batch function must not be null");
+        Assert.notNull(options, "Batch loader options must not be null");
+
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = options.getMaxBatchSize();
+        this.maxDelay = options.getMaxDelay();
+    }
+
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler =
+                new ScheduledThreadPoolExecutor(1, new TarantoolDaemonThreadFactory("tarantool-batch-loader"));
+        // the timeouts of the full batches are cancelled, they must not pile up in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Create a loader for getting the tuples by primary key from the specified space. For a proxy space the batch
+     * is loaded with a single call to the API function, see
+     * {@link io.tarantool.driver.proxy.ProxyOperationsMapping#getGetManyFunctionName()}. For other spaces the
+     * selects for all keys in the batch are sent at once without waiting for the responses.
+     *
+     * @param space space operations
+     * @param options batch size and delay options
+     * @return new loader instance, the missing tuples are loaded as <code>null</code>
+     */
+    public static TarantoolBatchLoader<List<Object>, TarantoolTuple> forSpace(TarantoolSpaceOperations space,
+                                                                              TarantoolBatchLoaderOptions options) {
+        Assert.notNull(space, "Space operations must not be null");
+
+        if (space instanceof ProxyTarantoolSpace) {
+            return new TarantoolBatchLoader<>(((ProxyTarantoolSpace) space)::getMany, options);
+        }
+        return new TarantoolBatchLoader<>(keys -> selectEach(space, keys), options);
+    }
+
+    /*
+     * Sends a separate select for each key, so only the waiting for the responses is shared
+     */
+    static CompletableFuture<List<TarantoolTuple>> selectEach(TarantoolSpaceOperations space,
+                                                              List<List<Object>> keys) {
+        List<CompletableFuture<TarantoolTuple>> futures = new ArrayList<>(keys.size());
+        for (List<Object> key : keys) {
+            Conditions conditions = Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, key).withLimit(1);
+            futures.add(space.select(conditions).thenApply(tuples -> tuples.isEmpty() ? null : tuples.get(0)));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            List<TarantoolTuple> tuples = new ArrayList<>(futures.size());
+            for (CompletableFuture<TarantoolTuple> future : futures) {
+                tuples.add(future.join());
+            }
+            return tuples;
+        });
+    }
+
+    /**
+     * Load the value for the specified key within the next batch
+     *
+     * @param key the key
+     * @return a future with the value, <code>null</code> if the value is missing
+     * @throws IllegalStateException if the loader is closed
+     */
+    public CompletableFuture<V> load(K key) {
+        Assert.notNull(key, "Key must not be null");
+
+        Batch<K, V> full = null;
+        CompletableFuture<V> result;
+        synchronized (lock) {
+            Assert.state(!closed, "Batch loader is closed");
+            if (current == null) {
+                Batch<K, V> batch = new Batch<>();
+                batch.timeout = TIMEOUT_SCHEDULER.schedule(() -> dispatch(batch), maxDelay, TimeUnit.MILLISECONDS);
+                current = batch;
+            }
+            result = current.entries.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (current.entries.size() >= maxBatchSize) {
+                full = current;
+                current = null;
+                full.timeout.cancel(false);
+            }
+        }
+        if (full != null) {
+            execute(full);
+        }
+        // each caller receives its own future, so the shared one cannot be completed by the callers
+        return result.thenApply(Function.identity());
+    }
+
+    /**
+     * Send the current batch without waiting for the batch delay
+     */
+    public void dispatch() {
+        Batch<K, V> batch;
+        synchronized (lock) {
+            batch = current;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        synchronized (lock) {
+            if (current != batch) {
+                // the batch has been sent already
+                return;
+            }
+            current = null;
+            batch.timeout.cancel(false);
+        }
+        execute(batch);
+    }
+
+    private void execute(Batch<K, V> batch) {
+        List<K> keys = new ArrayList<>(batch.entries.keySet());
+        CompletableFuture<? extends List<V>> values;
+        try {
+            values = batchFunction.apply(keys);
+        } catch (RuntimeException e) {
+            batch.completeExceptionally(e);
+            return;
+        }
+        values.whenComplete((result, ex) -> {
+            if (ex != null) {
+                batch.completeExceptionally(ex);
+            } else if (result == null || result.size() != keys.size()) {
+                batch.completeExceptionally(new TarantoolClientException(
+                        "Batch function returned %d values for %d keys",
+                        result == null ? 0 : result.size(), keys.size()));
+            } else {
+                for (int i = 0; i < keys.size(); i++) {
+                    batch.entries.get(keys.get(i)).complete(result.get(i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Send the current batch. The loader cannot be used after closing
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        dispatch();
+    }
+
+    private static final class Batch<K, V> {
+        private final Map<K, CompletableFuture<V>> entries = new LinkedHashMap<>();
+        private ScheduledFuture<?> timeout;
+
+        private void completeExceptionally(Throwable ex) {
+            for (CompletableFuture<V> future : entries.values()) {
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+}
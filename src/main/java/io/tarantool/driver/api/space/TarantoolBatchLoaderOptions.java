@@ -0,0 +1,95 @@
+package io.tarantool.driver.api.space;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for collecting the single key lookups into batches, see {@link TarantoolBatchLoader}
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchLoaderOptions {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_DELAY = 1; // milliseconds
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxDelay = DEFAULT_MAX_DELAY;
+
+    public TarantoolBatchLoaderOptions() {
+    }
+
+    /**
+     * Get the maximum number of distinct keys in a batch. The batch is sent as soon as it is full
+     * @return a number
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Get the maximum time for which the first key in a batch awaits the other keys, in milliseconds
+     * @return a number
+     */
+    public int getMaxDelay() {
+        return maxDelay;
+    }
+
+    private void setMaxDelay(int maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Create a new builder instance
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the batch loader options
+     */
+    public static class Builder {
+
+        private TarantoolBatchLoaderOptions options;
+
+        /**
+         * Basic constructor
+         */
+        public Builder() {
+            this.options = new TarantoolBatchLoaderOptions();
+        }
+
+        /**
+         * Set the maximum number of distinct keys in a batch. The default value is 100
+         * @param maxBatchSize a number
+         * @return Builder
+         */
+        public Builder withMaxBatchSize(int maxBatchSize) {
+            Assert.state(maxBatchSize > 0, "Max batch size must be greater than 0");
+
+            options.setMaxBatchSize(maxBatchSize);
+            return this;
+        }
+
+        /**
+         * Set the maximum time for which the first key in a batch awaits the other keys. The default value is 1 ms
+         * @param maxDelay the delay, in milliseconds
+         * @return Builder
+         */
+        public Builder withMaxDelay(int maxDelay) {
+            Assert.state(maxDelay > 0, "Max delay must be greater than 0");
+
+            options.setMaxDelay(maxDelay);
+            return this;
+        }
+
+        public TarantoolBatchLoaderOptions build() {
+            return options;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side cache of the primary key lookup results, shared by the {@link CachingTarantoolSpace} instances.
+ * The entries are keyed by the space ID and the primary key values.
+ *
+ * The cache is split into up to 16 segments by the key hash, each segment has a separate lock and a plain LRU
+ * list. The entry count and weight bounds are divided across the segments, so their sums are equal to the
+ * configured bounds, and a segment evicts its least recently used entries when it exceeds its own share. With an
+ * uneven key distribution the entries may be evicted before the total number of entries reaches the bound.
+ * The expired entries are removed when they are looked up or evicted.
+ *
+ * A lookup result is stored only if no invalidation of its segment happened while the result was requested, so
+ * a write completed before the result was received cannot be overwritten by the stale tuple.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolNearCache {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final boolean weighed;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    /**
+     * Basic constructor.
+     *
+     * @param config cache bounds and expiration settings
+     */
+    public TarantoolNearCache(TarantoolNearCacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    TarantoolNearCache(TarantoolNearCacheConfig config, LongSupplier ticker) {
+        Assert.notNull(config, "Near cache config must not be null");
+
+        long maxEntries = config.getMaxEntries();
+        long maxWeight = config.getMaxWeight();
+        this.weighed = maxWeight > 0;
+        // each segment must be able to keep at least one entry
+        int segmentCount = (int) Math.min(MAX_SEGMENTS, weighed ? Math.min(maxEntries, maxWeight) : maxEntries);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(share(maxEntries, segmentCount, i), share(maxWeight, segmentCount, i));
+        }
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(config.getExpireAfterWrite());
+        this.ticker = ticker;
+    }
+
+    /**
+     * Get the cached lookup result
+     *
+     * @param spaceId space ID
+     * @param key primary key values
+     * @return the tuples or null if the result is not cached
+     */
+    ArrayValue get(int spaceId, ArrayValue key) {
+        CacheKey cacheKey = new CacheKey(spaceId, key);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            Entry entry = segment.entries.get(cacheKey);
+            if (entry != null && expireAfterWriteNanos > 0 && ticker.getAsLong() - entry.expireTime >= 0) {
+                segment.remove(cacheKey);
+                evictionCount.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.tuples;
+        }
+    }
+
+    /**
+     * Get the invalidation version for the key. Must be called before requesting the tuples for the key
+     *
+     * @param spaceId space ID
+     * @param key primary key values
+     * @return version to be passed to {@link #put(int, ArrayValue, ArrayValue, long)}
+     */
+    long getVersion(int spaceId, ArrayValue key) {
+        Segment segment = segmentFor(new CacheKey(spaceId, key));
+        synchronized (segment) {
+            return segment.version;
+        }
+    }
+
+    /**
+     * Store the lookup result, unless the key segment has been invalidated since the specified version
+     *
+     * @param spaceId space ID
+     * @param key primary key values
+     * @param tuples the lookup result
+     * @param version the invalidation version obtained before the lookup
+     */
+    void put(int spaceId, ArrayValue key, ArrayValue tuples, long version) {
+        CacheKey cacheKey = new CacheKey(spaceId, key);
+        long weight = weighed ? weigh(tuples) : 0;
+        Segment segment = segmentFor(cacheKey);
+        if (weighed && weight > segment.maxWeight) {
+            return;
+        }
+        synchronized (segment) {
+            if (segment.version != version) {
+                return;
+            }
+            segment.remove(cacheKey);
+            segment.entries.put(cacheKey, new Entry(tuples, weight, ticker.getAsLong() + expireAfterWriteNanos));
+            segment.weight += weight;
+            Iterator<Map.Entry<CacheKey, Entry>> eldest = segment.entries.entrySet().iterator();
+            while (segment.entries.size() > segment.maxEntries || weighed && segment.weight > segment.maxWeight) {
+                segment.weight -= eldest.next().getValue().weight;
+                eldest.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove the cached lookup result for the primary key
+     *
+     * @param spaceId space ID
+     * @param key primary key values
+     */
+    public void invalidate(int spaceId, ArrayValue key) {
+        CacheKey cacheKey = new CacheKey(spaceId, key);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+            segment.version++;
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * Remove all cached lookup results for the space
+     *
+     * @param spaceId space ID
+     */
+    public void invalidateSpace(int spaceId) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Map.Entry<CacheKey, Entry>> entries = segment.entries.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<CacheKey, Entry> entry = entries.next();
+                    if (entry.getKey().spaceId == spaceId) {
+                        segment.weight -= entry.getValue().weight;
+                        entries.remove();
+                    }
+                }
+                segment.version++;
+            }
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * Remove all cached lookup results
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+                segment.version++;
+            }
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * Get the current values of the cache counters
+     *
+     * @return statistics snapshot
+     */
+    public TarantoolNearCacheStatistics getStatistics() {
+        long size = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+                weight += segment.weight;
+            }
+        }
+        return new TarantoolNearCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(),
+                invalidationCount.sum(), size, weight);
+    }
+
+    private static long share(long bound, int segmentCount, int segmentIndex) {
+        return bound / segmentCount + (segmentIndex < bound % segmentCount ? 1 : 0);
+    }
+
+    private Segment segmentFor(CacheKey key) {
+        int hash = key.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    private static long weigh(ArrayValue tuples) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(tuples);
+            return packer.getTotalWrittenBytes();
+        } catch (IOException e) {
+            throw new TarantoolClientException("Failed to calculate the cached tuples size", e);
+        }
+    }
+
+    private static final class Segment {
+        private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxEntries;
+        private final long maxWeight;
+        private long weight;
+        private long version;
+
+        private Segment(long maxEntries, long maxWeight) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+        }
+
+        private void remove(CacheKey key) {
+            Entry removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final ArrayValue tuples;
+        private final long weight;
+        private final long expireTime;
+
+        private Entry(ArrayValue tuples, long weight, long expireTime) {
+            this.tuples = tuples;
+            this.weight = weight;
+            this.expireTime = expireTime;
+        }
+    }
+
+    private static final class CacheKey {
+        private final int spaceId;
+        private final ArrayValue key;
+        private final int hash;
+
+        private CacheKey(int spaceId, ArrayValue key) {
+            this.spaceId = spaceId;
+            this.key = key;
+            this.hash = 31 * spaceId + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return spaceId == other.spaceId && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.tarantool.driver.api.space;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounds and expiration settings for the {@link TarantoolNearCache}
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolNearCacheConfig {
+
+    private long maxEntries = 10_000;
+    private long maxWeight; // 0 is not limited
+    private long expireAfterWrite; // 0 is not expired
+
+    public TarantoolNearCacheConfig() {
+    }
+
+    /**
+     * Get the maximum number of the cached primary key lookups. The bound is divided across the cache segments
+     * @return a number
+     */
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    private void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get the maximum total size of the cached tuples in the MessagePack format, in bytes
+     * @return a number, 0 if the size is not limited
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    private void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the time after which the cached tuples are not returned anymore, in milliseconds
+     * @return a number, 0 if the tuples are kept until evicted or invalidated
+     */
+    public long getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    private void setExpireAfterWrite(long expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    /**
+     * Create a new builder instance
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the near cache config
+     */
+    public static class Builder {
+
+        private TarantoolNearCacheConfig config;
+
+        /**
+         * Basic constructor
+         */
+        public Builder() {
+            this.config = new TarantoolNearCacheConfig();
+        }
+
+        /**
+         * Set the maximum number of the cached primary key lookups. The default value is 10000
+         * @param maxEntries the number of entries
+         * @return Builder
+         */
+        public Builder withMaxEntries(long maxEntries) {
+            Assert.state(maxEntries > 0, "Max entries must be greater than 0");
+
+            config.setMaxEntries(maxEntries);
+            return this;
+        }
+
+        /**
+         * Set the maximum total size of the cached tuples. The size of a tuple is the size of its MessagePack
+         * representation
+         * @param maxWeight the size, in bytes
+         * @return Builder
+         */
+        public Builder withMaxWeight(long maxWeight) {
+            Assert.state(maxWeight > 0, "Max weight must be greater than 0");
+
+            config.setMaxWeight(maxWeight);
+            return this;
+        }
+
+        /**
+         * Set the time after which the cached tuples are requested from the server again
+         * @param expireAfterWrite the time, in milliseconds
+         * @return Builder
+         */
+        public Builder withExpireAfterWrite(long expireAfterWrite) {
+            Assert.state(expireAfterWrite > 0, "Expiration time must be greater than 0");
+
+            config.setExpireAfterWrite(expireAfterWrite);
+            return this;
+        }
+
+        public TarantoolNearCacheConfig build() {
+            return config;
+        }
+    }
+}
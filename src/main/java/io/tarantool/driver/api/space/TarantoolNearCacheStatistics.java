@@ -0,0 +1,90 @@
+package io.tarantool.driver.api.space;
+
+/**
+ * Snapshot of the {@link TarantoolNearCache} counters
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolNearCacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+    private final long size;
+    private final long weight;
+
+    TarantoolNearCacheStatistics(long hitCount, long missCount, long evictionCount, long invalidationCount,
+                                 long size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /**
+     * Get the number of the lookups served from the cache
+     * @return a number
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of the cacheable lookups sent to the server, including the ones for the expired entries
+     * @return a number
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the ratio of the lookups served from the cache
+     * @return a number between 0 and 1, 1 if there were no lookups
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Get the number of the entries removed for keeping the cache within its bounds or expired
+     * @return a number
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Get the number of the invalidations made by the writes and the external invalidation calls
+     * @return a number
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Get the number of the cached entries
+     * @return a number
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Get the total size of the cached tuples, in bytes. It is calculated only if the cache weight is limited
+     * @return a number
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TarantoolNearCacheStatistics {hits = %d, misses = %d, evictions = %d, " +
+                "invalidations = %d, size = %d, weight = %d}",
+                hitCount, missCount, evictionCount, invalidationCount, size, weight);
+    }
+}
@@ -0,0 +1,27 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Select query prepared for repeated execution with different key values. The index, iterator, limit and offset
+ * are resolved once when the query is prepared, see {@link TarantoolSpaceOperations#prepareSelect}.
+ *
+ * @param <T> result tuple type
+ * @author Alexey Kuzin
+ */
+@FunctionalInterface
+public interface TarantoolPreparedSelect<T> {
+
+    /**
+     * Select tuples matching the specified key values of the prepared index.
+     *
+     * @param keyValues index key values
+     * @return a future that will contain all corresponding tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<TarantoolResult<T>> select(List<?> keyValues) throws TarantoolClientException;
+}
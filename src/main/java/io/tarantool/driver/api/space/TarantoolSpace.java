@@ -1,32 +1,61 @@
 package io.tarantool.driver.api.space;
 
 import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolIndexQuery;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.TarantoolResultPublisher;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.TarantoolConnection;
 import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolRequestCoalescer;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolFieldNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.exceptions.TarantoolServerException;
+import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultTarantoolTupleValueConverter;
+import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.TarantoolCallResultMapperFactory;
 import io.tarantool.driver.mappers.TarantoolSimpleResultMapperFactory;
 import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.metadata.TarantoolIndexPartMetadata;
 import io.tarantool.driver.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestTemplate;
+import io.tarantool.driver.protocol.TarantoolRequestType;
 import io.tarantool.driver.protocol.operations.TupleOperations;
 import io.tarantool.driver.protocol.requests.TarantoolDeleteRequest;
+import io.tarantool.driver.protocol.requests.TarantoolEvalRequest;
 import io.tarantool.driver.protocol.requests.TarantoolInsertRequest;
 import io.tarantool.driver.protocol.requests.TarantoolReplaceRequest;
 import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpdateRequest;
 import io.tarantool.driver.protocol.requests.TarantoolUpsertRequest;
 import org.msgpack.value.ArrayValue;
-
+import org.msgpack.value.Value;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Basic Tarantool space operations implementation for standalone server
@@ -35,12 +64,64 @@ import java.util.concurrent.CompletableFuture;
  */
 public class TarantoolSpace implements TarantoolSpaceOperations {
 
+    // IPROTO error response code for ER_WRONG_SCHEMA_VERSION
+    private static final long ER_WRONG_SCHEMA_VERSION = 0x8000 | 109;
+
+    private static final ValueConverter<ArrayValue, ArrayValue> ROW_CONVERTER = v -> v;
+
+    // selects the tuples on the server and returns only the requested fields, the field numbers start from 1
+    private static final String PROJECTION_SELECT =
+            "local space_id, index_id, key, iterator, limit, offset, fields = ... " +
+            "local tuples = box.space[space_id].index[index_id]:select(key, " +
+            "{iterator = iterator, limit = limit, offset = offset}) " +
+            "local rows = {} " +
+            "for i, tuple in ipairs(tuples) do " +
+            "local row = {} " +
+            "for j, field in ipairs(fields) do " +
+            "local value = tuple[field] " +
+            "if value == nil then value = box.NULL end " +
+            "row[j] = value " +
+            "end " +
+            "rows[i] = row " +
+            "end " +
+            "return rows";
+
+    private static final String COUNT =
+            "local space_id, index_id, key, iterator = ... " +
+            "return box.space[space_id].index[index_id]:count(key, {iterator = iterator})";
+
+    // the tuple is wrapped into an array for distinguishing it from an array of tuples
+    private static final String MIN =
+            "local space_id, index_id = ... " +
+            "local tuple = box.space[space_id].index[index_id]:min() " +
+            "return tuple and {tuple} or {}";
+
+    private static final String MAX =
+            "local space_id, index_id = ... " +
+            "local tuple = box.space[space_id].index[index_id]:max() " +
+            "return tuple and {tuple} or {}";
+
+    // the integer fields are summed as int64 and the decimal fields as decimals to avoid the precision loss
+    private static final String SUM =
+            "local space_id, index_id, key, iterator, field, kind = ... " +
+            "local sum = 0 " +
+            "if kind == 'integer' then sum = 0LL elseif kind == 'decimal' then sum = require('decimal').new(0) end " +
+            "for _, tuple in box.space[space_id].index[index_id]:pairs(key, {iterator = iterator}) do " +
+            "local value = tuple[field] " +
+            "if value ~= nil then sum = sum + value end " +
+            "end " +
+            "return sum";
+
     private final int spaceId;
     private final TarantoolClientConfig config;
     private final TarantoolConnectionManager connectionManager;
     private final TarantoolSpaceMetadata spaceMetadata;
     private final TarantoolMetadataOperations metadataOperations;
     private final TarantoolSimpleResultMapperFactory tarantoolResultMapperFactory;
+    private final TarantoolCallResultMapperFactory evalResultMapperFactory;
+    private final MessagePackValueMapper defaultResultMapper;
+    private final ValueConverter<ArrayValue, TarantoolTuple> defaultTupleConverter;
+    private final TarantoolRequestCoalescer requestCoalescer;
 
     /**
      * Basic constructor.
@@ -53,12 +134,33 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
                           TarantoolConnectionManager connectionManager,
                           TarantoolSpaceMetadata spaceMetadata,
                           TarantoolMetadataOperations metadataOperations) {
+        this(config, connectionManager, spaceMetadata, metadataOperations, null);
+    }
+
+    /**
+     * Create the space operations sending the identical concurrent select requests once.
+     * @param config client config
+     * @param connectionManager Tarantool server connection manager
+     * @param spaceMetadata metadata for this space
+     * @param metadataOperations metadata operations implementation
+     * @param requestCoalescer coalescer for the select requests, may be null
+     */
+    public TarantoolSpace(TarantoolClientConfig config,
+                          TarantoolConnectionManager connectionManager,
+                          TarantoolSpaceMetadata spaceMetadata,
+                          TarantoolMetadataOperations metadataOperations,
+                          @Nullable TarantoolRequestCoalescer requestCoalescer) {
         this.spaceId = spaceMetadata.getSpaceId();
         this.config = config;
         this.connectionManager = connectionManager;
         this.spaceMetadata = spaceMetadata;
         this.metadataOperations = metadataOperations;
         this.tarantoolResultMapperFactory = new TarantoolSimpleResultMapperFactory(config.getMessagePackMapper());
+        this.evalResultMapperFactory = new TarantoolCallResultMapperFactory(config.getMessagePackMapper());
+        this.defaultResultMapper = tarantoolResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata);
+        this.defaultTupleConverter =
+                new DefaultTarantoolTupleValueConverter(config.getMessagePackMapper(), spaceMetadata);
+        this.requestCoalescer = requestCoalescer;
     }
 
     @Override
@@ -77,19 +179,15 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
     private <T> CompletableFuture<TarantoolResult<T>> delete(Conditions conditions,
                                                              MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        return sendRequest(space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
 
-            TarantoolDeleteRequest request = new TarantoolDeleteRequest.Builder()
-                    .withSpaceId(spaceId)
+            return new TarantoolDeleteRequest.Builder()
+                    .withSpaceId(space.getSpaceId())
                     .withIndexId(indexQuery.getIndexId())
                     .withKeyValues(indexQuery.getKeyValues())
                     .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+        }, resultMapper);
     }
 
     @Override
@@ -108,16 +206,10 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
     private <T> CompletableFuture<TarantoolResult<T>> insert(TarantoolTuple tuple,
                                                             MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolInsertRequest request = new TarantoolInsertRequest.Builder()
-                    .withSpaceId(spaceId)
-                    .withTuple(tuple)
-                    .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+        return sendRequest(space -> new TarantoolInsertRequest.Builder()
+                .withSpaceId(space.getSpaceId())
+                .withTuple(tuple)
+                .build(config.getMessagePackMapper()), resultMapper);
     }
 
     @Override
@@ -136,21 +228,78 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
     private <T> CompletableFuture<TarantoolResult<T>> replace(TarantoolTuple tuple,
                                                              MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolReplaceRequest request = new TarantoolReplaceRequest.Builder()
-                    .withSpaceId(spaceId)
-                    .withTuple(tuple)
-                    .build(config.getMessagePackMapper());
+        return sendRequest(space -> new TarantoolReplaceRequest.Builder()
+                .withSpaceId(space.getSpaceId())
+                .withTuple(tuple)
+                .build(config.getMessagePackMapper()), resultMapper);
+    }
 
-            return sendRequest(request, resultMapper);
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> insertMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return insertMany(tuples, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return insertMany(tuples, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                      MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return this.<TarantoolTuple, T>executeBatch(tuples, tuple -> this.<T>insert(tuple, resultMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> replaceMany(
+            Iterable<? extends TarantoolTuple> tuples) throws TarantoolClientException {
+        return replaceMany(tuples, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                      ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return replaceMany(tuples, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                                       MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return this.<TarantoolTuple, T>executeBatch(tuples, tuple -> this.<T>replace(tuple, resultMapper));
+    }
+
+    @Override
+    public CompletableFuture<TarantoolBatchResult<TarantoolTuple>> deleteMany(Iterable<Conditions> conditions)
+            throws TarantoolClientException {
+        return deleteMany(conditions, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                                     ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return deleteMany(conditions, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
+
+    private <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                                      MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return this.<Conditions, T>executeBatch(conditions, query -> this.<T>delete(query, resultMapper));
     }
 
     @Override
     public CompletableFuture<TarantoolResult<TarantoolTuple>> select(Conditions conditions)
             throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            TarantoolSpaceMetadata projection =
+                    spaceMetadata.project(conditions.toProjection(metadataOperations, spaceMetadata));
+            return selectFields(conditions,
+                    evalResultMapperFactory.withDefaultTupleValueConverter(projection));
+        }
         return select(conditions, defaultTupleResultMapper());
     }
 
@@ -159,6 +308,9 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
                                                             Class<T> tupleClass)
             throws TarantoolClientException {
         ValueConverter<ArrayValue, T> converter = getConverter(tupleClass);
+        if (conditions.hasFields()) {
+            return selectFields(conditions, evalResultMapperFactory.withConverter(tupleClass, converter));
+        }
         return select(conditions, tarantoolResultMapperFactory.withConverter(tupleClass, converter));
     }
 
@@ -166,29 +318,284 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
     public <T> CompletableFuture<TarantoolResult<T>> select(Conditions conditions,
                                                             ValueConverter<ArrayValue, T> tupleMapper)
             throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            return selectFields(conditions, evalResultMapperFactory.withConverter(tupleMapper));
+        }
         return select(conditions, tarantoolResultMapperFactory.withConverter(tupleMapper));
     }
 
+    /*
+     * IPROTO_SELECT always returns the whole tuples, so the tuples are cut on the server by evaluating Lua code
+     */
+    private <T> CompletableFuture<TarantoolResult<T>> selectFields(Conditions conditions,
+                                                                   MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return eval(PROJECTION_SELECT, space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
+            List<Integer> fieldNumbers = new ArrayList<>();
+            for (TarantoolFieldMetadata field : conditions.toProjection(metadataOperations, space)) {
+                fieldNumbers.add(field.getFieldPosition() + 1);
+            }
+            return Arrays.asList(space.getSpaceId(), indexQuery.getIndexId(), indexQuery.getKeyValues(),
+                    indexQuery.getIteratorType().getCode(), conditions.getLimit(), conditions.getOffset(),
+                    fieldNumbers);
+        }, resultMapper);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException {
+        return this.<List<Object>>eval(COUNT, space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
+            return Arrays.asList(space.getSpaceId(), indexQuery.getIndexId(),
+                    indexQuery.getKeyValues(), indexQuery.getIteratorType().getCode());
+        }, config.getMessagePackMapper()).thenApply(result -> ((Number) result.get(0)).longValue());
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> min(String indexName) throws TarantoolClientException {
+        return indexEdge(MIN, indexName);
+    }
+
+    @Override
+    public CompletableFuture<TarantoolTuple> max(String indexName) throws TarantoolClientException {
+        return indexEdge(MAX, indexName);
+    }
+
+    private CompletableFuture<TarantoolTuple> indexEdge(String expression, String indexName)
+            throws TarantoolClientException {
+        return this.<TarantoolResult<TarantoolTuple>>eval(expression, space -> {
+            TarantoolIndexMetadata indexMetadata = metadataOperations.getIndexByName(space.getSpaceId(), indexName)
+                    .orElseThrow(() -> new TarantoolIndexNotFoundException(space.getSpaceId(), indexName));
+            return Arrays.asList(space.getSpaceId(), indexMetadata.getIndexId());
+        }, evalResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata))
+                .thenApply(tuples -> tuples.isEmpty() ? null : tuples.get(0));
+    }
+
+    @Override
+    public CompletableFuture<Number> sum(String fieldName, Conditions conditions) throws TarantoolClientException {
+        return this.<List<Object>>eval(SUM, space -> {
+            TarantoolFieldMetadata fieldMetadata = space.getFieldByName(fieldName)
+                    .orElseThrow(() -> new TarantoolFieldNotFoundException(fieldName, space));
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
+            return Arrays.asList(space.getSpaceId(), indexQuery.getIndexId(),
+                    indexQuery.getKeyValues(), indexQuery.getIteratorType().getCode(),
+                    fieldMetadata.getFieldPosition() + 1, sumKind(fieldMetadata.getFieldType()));
+        }, config.getMessagePackMapper()).thenApply(result -> (Number) result.get(0));
+    }
+
+    private static String sumKind(String fieldType) {
+        switch (fieldType) {
+            case "unsigned":
+            case "integer":
+                return "integer";
+            case "decimal":
+                return "decimal";
+            default:
+                return "number";
+        }
+    }
+
+    /*
+     * Performs the operations not available in the IPROTO requests by evaluating Lua code on the server, so only
+     * the result is sent back. It requires the permission to execute the code
+     */
+    private <R> CompletableFuture<R> eval(String expression,
+                                          Function<TarantoolSpaceMetadata, List<Object>> arguments,
+                                          MessagePackValueMapper resultMapper) throws TarantoolClientException {
+        return sendRequest(space -> new TarantoolEvalRequest.Builder()
+                .withExpression(expression)
+                .withArguments(arguments.apply(space))
+                .build(config.getMessagePackMapper()), resultMapper);
+    }
+
     private <T> CompletableFuture<TarantoolResult<T>> select(Conditions conditions,
                                                              MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
-            TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
-                    .withSpaceId(spaceId)
+        return sendRequest(space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
+            return new TarantoolSelectRequest.Builder()
+                    .withSpaceId(space.getSpaceId())
                     .withIndexId(indexQuery.getIndexId())
                     .withIteratorType(indexQuery.getIteratorType())
                     .withKeyValues(indexQuery.getKeyValues())
                     .withLimit(conditions.getLimit())
                     .withOffset(conditions.getOffset())
                     .build(config.getMessagePackMapper());
+        }, resultMapper);
+    }
+
+    @Override
+    public TarantoolPreparedSelect<TarantoolTuple> prepareSelect(Conditions conditions)
+            throws TarantoolClientException {
+        return prepareSelect(conditions, defaultTupleResultMapper());
+    }
+
+    @Override
+    public <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions,
+                                                        ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        return prepareSelect(conditions, tarantoolResultMapperFactory.withConverter(tupleMapper));
+    }
 
-            return sendRequest(request, resultMapper);
+    private <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions,
+                                                         MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            throw new TarantoolSpaceOperationException("Field projection is not supported for prepared select");
+        }
+        try {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+            TarantoolRequestTemplate template = new TarantoolSelectRequest.Builder()
+                    .withSpaceId(spaceId)
+                    .withIndexId(indexQuery.getIndexId())
+                    .withIteratorType(indexQuery.getIteratorType())
+                    .withLimit(conditions.getLimit())
+                    .withOffset(conditions.getOffset())
+                    .buildTemplate(config.getMessagePackMapper());
+
+            // the template is prepared against the current metadata, the request is built anew after a schema change
+            return keyValues -> sendRequest(space -> space == spaceMetadata ?
+                    template.newRequest(keyValues, config.getMessagePackMapper()) :
+                    new TarantoolSelectRequest.Builder()
+                            .withSpaceId(space.getSpaceId())
+                            .withIndexId(conditions.toIndexQuery(metadataOperations, space).getIndexId())
+                            .withIteratorType(indexQuery.getIteratorType())
+                            .withKeyValues(keyValues)
+                            .withLimit(conditions.getLimit())
+                            .withOffset(conditions.getOffset())
+                            .build(config.getMessagePackMapper()), resultMapper);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
     }
 
+    @Override
+    public Stream<TarantoolTuple> stream(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return stream(conditions, pageSize, defaultTupleConverter);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        Assert.isTrue(pageSize > 0, "Page size should be greater than 0");
+        return new PagedSelectIterator<>(pageLoader(conditions), tupleMapper, pageSize, conditions.getLimit())
+                .stream();
+    }
+
+    @Override
+    public Publisher<TarantoolTuple> publish(Conditions conditions, int pageSize) throws TarantoolClientException {
+        return publish(conditions, pageSize, defaultTupleConverter);
+    }
+
+    @Override
+    public <T> Publisher<T> publish(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException {
+        Assert.isTrue(pageSize > 0, "Page size should be greater than 0");
+        return new TarantoolResultPublisher<>(
+                pageLoader(conditions), tupleMapper::fromValue, pageSize, conditions.getLimit());
+    }
+
+    /*
+     * The pages after the first one are selected by the GT (LT for the reverse order) iterator starting from the
+     * index key of the last tuple, so the index must be unique for not skipping the tuples with the same key.
+     * The equality iterators are replaced with the range ones too, so the key prefix is checked on the client side
+     */
+    private BiFunction<ArrayValue, Long, CompletableFuture<? extends List<ArrayValue>>> pageLoader(
+            Conditions conditions) throws TarantoolClientException {
+        if (conditions.hasFields()) {
+            throw new TarantoolSpaceOperationException("Field projection is not supported for paged select");
+        }
+        TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        Optional<TarantoolIndexMetadata> indexMetadata =
+                metadataOperations.getIndexById(spaceId, indexQuery.getIndexId());
+        if (!indexMetadata.isPresent() || !indexMetadata.get().isUnique()) {
+            throw new TarantoolSpaceOperationException("Index must be primary or unique for paged select");
+        }
+
+        List<TarantoolIndexPartMetadata> indexParts = indexMetadata.get().getIndexParts();
+        TarantoolIteratorType nextPageIteratorType = getNextPageIteratorType(indexQuery.getIteratorType());
+        List<Value> keyPrefix = getKeyPrefix(indexQuery);
+        long offset = conditions.getOffset();
+        MessagePackMapper mapper = config.getMessagePackMapper();
+        MessagePackValueMapper resultMapper =
+                tarantoolResultMapperFactory.withConverter(ArrayValue.class, ROW_CONVERTER);
+
+        return (after, size) -> {
+            CompletableFuture<TarantoolResult<ArrayValue>> page = sendRequest(space -> {
+                TarantoolSelectRequest.Builder builder = new TarantoolSelectRequest.Builder()
+                        .withSpaceId(space.getSpaceId())
+                        .withIndexId(space == spaceMetadata ? indexQuery.getIndexId() :
+                                conditions.toIndexQuery(metadataOperations, space).getIndexId())
+                        .withLimit(size);
+                if (after == null) {
+                    builder.withIteratorType(indexQuery.getIteratorType())
+                            .withKeyValues(indexQuery.getKeyValues())
+                            .withOffset(offset);
+                } else {
+                    builder.withIteratorType(nextPageIteratorType)
+                            .withKeyValues(getIndexKey(after, indexParts, mapper))
+                            .withOffset(0);
+                }
+                return builder.build(mapper);
+            }, resultMapper);
+            return after == null || keyPrefix.isEmpty() ?
+                    page : page.thenApply(rows -> takeWithKeyPrefix(rows, indexParts, keyPrefix));
+        };
+    }
+
+    private static TarantoolIteratorType getNextPageIteratorType(TarantoolIteratorType iteratorType) {
+        switch (iteratorType) {
+            case ITER_EQ:
+            case ITER_ALL:
+            case ITER_GE:
+            case ITER_GT:
+                return TarantoolIteratorType.ITER_GT;
+            case ITER_REQ:
+            case ITER_LE:
+            case ITER_LT:
+                return TarantoolIteratorType.ITER_LT;
+            default:
+                throw new TarantoolSpaceOperationException(
+                        "Iterator %s is not supported for paged select", iteratorType);
+        }
+    }
+
+    private List<Value> getKeyPrefix(TarantoolIndexQuery indexQuery) {
+        TarantoolIteratorType iteratorType = indexQuery.getIteratorType();
+        if (iteratorType != TarantoolIteratorType.ITER_EQ && iteratorType != TarantoolIteratorType.ITER_REQ) {
+            return Collections.emptyList();
+        }
+        List<Value> keyPrefix = new ArrayList<>(indexQuery.getKeyValues().size());
+        for (Object keyValue : indexQuery.getKeyValues()) {
+            keyPrefix.add(config.getMessagePackMapper().toValue(keyValue));
+        }
+        return keyPrefix;
+    }
+
+    private static List<Object> getIndexKey(ArrayValue tuple,
+                                            List<TarantoolIndexPartMetadata> indexParts,
+                                            MessagePackValueMapper mapper) {
+        List<Object> key = new ArrayList<>(indexParts.size());
+        for (TarantoolIndexPartMetadata part : indexParts) {
+            key.add(mapper.fromValue(tuple.get(part.getFieldIndex())));
+        }
+        return key;
+    }
+
+    private static List<ArrayValue> takeWithKeyPrefix(List<ArrayValue> tuples,
+                                                      List<TarantoolIndexPartMetadata> indexParts,
+                                                      List<Value> keyPrefix) {
+        for (int i = 0; i < tuples.size(); i++) {
+            ArrayValue tuple = tuples.get(i);
+            for (int j = 0; j < keyPrefix.size(); j++) {
+                if (!keyPrefix.get(j).equals(tuple.get(indexParts.get(j).getFieldIndex()))) {
+                    return tuples.subList(0, i);
+                }
+            }
+        }
+        return tuples;
+    }
+
     @Override
     public CompletableFuture<TarantoolResult<TarantoolTuple>> update(Conditions conditions,
                                                                      TupleOperations operations) {
@@ -207,27 +614,23 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
                                                              TupleOperations operations,
                                                              MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        return sendRequest(space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
 
             Optional<TarantoolIndexMetadata> indexMetadata =
-                    metadataOperations.getIndexById(spaceId, indexQuery.getIndexId());
+                    metadataOperations.getIndexById(space.getSpaceId(), indexQuery.getIndexId());
 
             if (!indexMetadata.isPresent() || !indexMetadata.get().isUnique()) {
                 throw new TarantoolSpaceOperationException("Index must be primary or unique for update operation");
             }
 
-            TarantoolUpdateRequest request = new TarantoolUpdateRequest.Builder(spaceMetadata)
-                    .withSpaceId(spaceId)
+            return new TarantoolUpdateRequest.Builder(space)
+                    .withSpaceId(space.getSpaceId())
                     .withIndexId(indexQuery.getIndexId())
                     .withKeyValues(indexQuery.getKeyValues())
                     .withTupleOperations(operations)
                     .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+        }, resultMapper);
     }
 
     @Override
@@ -251,20 +654,16 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
                                                              TupleOperations operations,
                                                              MessagePackValueMapper resultMapper)
             throws TarantoolClientException {
-        try {
-            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, spaceMetadata);
+        return sendRequest(space -> {
+            TarantoolIndexQuery indexQuery = conditions.toIndexQuery(metadataOperations, space);
 
-            TarantoolUpsertRequest request = new TarantoolUpsertRequest.Builder(spaceMetadata)
-                    .withSpaceId(spaceId)
+            return new TarantoolUpsertRequest.Builder(space)
+                    .withSpaceId(space.getSpaceId())
                     .withKeyValues(indexQuery.getKeyValues())
                     .withTuple(tuple)
                     .withTupleOperations(operations)
                     .build(config.getMessagePackMapper());
-
-            return sendRequest(request, resultMapper);
-        } catch (TarantoolProtocolException e) {
-            throw new TarantoolClientException(e);
-        }
+        }, resultMapper);
     }
 
     private <T> ValueConverter<ArrayValue, T> getConverter(Class<T> tupleClass) {
@@ -276,19 +675,100 @@ public class TarantoolSpace implements TarantoolSpaceOperations {
         return converter.get();
     }
 
+    private <I, T> CompletableFuture<TarantoolBatchResult<T>> executeBatch(
+            Iterable<? extends I> items, Function<I, CompletableFuture<? extends List<T>>> operation) {
+        Assert.notNull(items, "Batch items should not be null");
+        return new BatchOperationExecutor<I, T>(items.iterator(), config.getBatchWindowSize(), 1, operation)
+                .execute();
+    }
+
     private MessagePackValueMapper defaultTupleResultMapper() {
-        return tarantoolResultMapperFactory.withDefaultTupleValueConverter(spaceMetadata);
+        return defaultResultMapper;
+    }
+
+    /*
+     * The request is built by the factory, so it can be built again against the refreshed metadata
+     */
+    private <R> CompletableFuture<R> sendRequest(RequestFactory requestFactory,
+                                                 MessagePackValueMapper resultMapper) {
+        long schemaVersion = metadataOperations.getSchemaVersion();
+        CompletableFuture<R> requestFuture =
+                sendRequest(newRequest(requestFactory, spaceMetadata), schemaVersion, resultMapper);
+        if (schemaVersion == 0) {
+            return requestFuture;
+        }
+
+        // refresh the metadata and retry once if the schema has been changed since the metadata was loaded
+        CompletableFuture<R> resultFuture = new CompletableFuture<>();
+        requestFuture.whenComplete((result, ex) -> {
+            if (ex == null) {
+                resultFuture.complete(result);
+            } else if (isWrongSchemaVersion(ex)) {
+                metadataOperations.refresh()
+                        .thenComposeAsync(v -> this.<R>sendRequest(
+                                newRequest(requestFactory, getRefreshedSpaceMetadata()),
+                                metadataOperations.getSchemaVersion(), resultMapper))
+                        .whenComplete((retryResult, retryEx) -> {
+                            if (retryEx != null) {
+                                resultFuture.completeExceptionally(retryEx);
+                            } else {
+                                resultFuture.complete(retryResult);
+                            }
+                        });
+            } else {
+                resultFuture.completeExceptionally(ex);
+            }
+        });
+        return resultFuture;
     }
 
-    private <T> CompletableFuture<TarantoolResult<T>> sendRequest(TarantoolRequest request,
-                                                                  MessagePackValueMapper resultMapper) {
+    private static TarantoolRequest newRequest(RequestFactory requestFactory, TarantoolSpaceMetadata spaceMetadata) {
         try {
-            return connectionManager.getConnection().sendRequest(request, resultMapper);
+            return requestFactory.create(spaceMetadata);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
     }
 
+    /*
+     * The space may have been recreated with another ID, so it is looked up by name
+     */
+    private TarantoolSpaceMetadata getRefreshedSpaceMetadata() {
+        return metadataOperations.getSpaceByName(spaceMetadata.getSpaceName())
+                .orElseThrow(() -> new TarantoolSpaceNotFoundException(spaceMetadata.getSpaceName()));
+    }
+
+    private <T> CompletableFuture<T> sendRequest(TarantoolRequest request,
+                                                 long schemaVersion,
+                                                 MessagePackValueMapper resultMapper) {
+        try {
+            // the schema versions of different servers are independent, so the version depends on the connection
+            TarantoolConnection connection = connectionManager.getConnection();
+            long requestSchemaVersion = connection.getRequestSchemaVersion(schemaVersion);
+            request.setSchemaVersion(requestSchemaVersion > 0 ? requestSchemaVersion : null);
+            if (requestCoalescer != null &&
+                    request.getHeader().getCode() == TarantoolRequestType.IPROTO_SELECT.getCode()) {
+                return requestCoalescer.sendRequest(connection, request, resultMapper);
+            }
+            return connection.sendRequest(request, resultMapper);
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
+
+    private static boolean isWrongSchemaVersion(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+        return cause instanceof TarantoolServerException &&
+                ((TarantoolServerException) cause).getErrorCode() == ER_WRONG_SCHEMA_VERSION;
+    }
+
+    /**
+     * Builds a request against the specified space metadata
+     */
+    private interface RequestFactory {
+        TarantoolRequest create(TarantoolSpaceMetadata spaceMetadata) throws TarantoolProtocolException;
+    }
+
     @Override
     public String toString() {
         return String.format("TarantoolSpace %s [%d]", spaceMetadata.getSpaceName(), spaceMetadata.getSpaceId());
@@ -1,5 +1,7 @@
 package io.tarantool.driver.api.space;
 
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -7,8 +9,10 @@ import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.ValueConverter;
 import io.tarantool.driver.protocol.operations.TupleOperations;
 import org.msgpack.value.ArrayValue;
+import org.reactivestreams.Publisher;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Tarantool space operations interface (create, insert, replace, delete...)
@@ -85,6 +89,90 @@ public interface TarantoolSpaceOperations {
     <T> CompletableFuture<TarantoolResult<T>> replace(TarantoolTuple tuple, ValueConverter<ArrayValue, T> tupleMapper)
             throws TarantoolClientException;
 
+    /**
+     * Insert the tuples into the space. Not more than {@link TarantoolClientConfig#getBatchWindowSize()} requests
+     * are sent without waiting for the responses, the next tuples are taken from the iterator as the responses
+     * arrive. A failed tuple does not stop the insertion of the other ones.
+     *
+     * @param tuples new data
+     * @return a future that will contain the inserted tuples and the errors for the failed ones once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    CompletableFuture<TarantoolBatchResult<TarantoolTuple>> insertMany(Iterable<? extends TarantoolTuple> tuples)
+            throws TarantoolClientException;
+
+    /**
+     * Insert the tuples into the space. Not more than {@link TarantoolClientConfig#getBatchWindowSize()} requests
+     * are sent without waiting for the responses, the next tuples are taken from the iterator as the responses
+     * arrive. A failed tuple does not stop the insertion of the other ones.
+     *
+     * @param tuples new data
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> result tuple type
+     * @return a future that will contain the inserted tuples and the errors for the failed ones once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    <T> CompletableFuture<TarantoolBatchResult<T>> insertMany(Iterable<? extends TarantoolTuple> tuples,
+                                                              ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Insert the tuples into the space or replace the existing ones. Not more than
+     * {@link TarantoolClientConfig#getBatchWindowSize()} requests are sent without waiting for the responses.
+     * A failed tuple does not stop the processing of the other ones.
+     *
+     * @param tuples new data
+     * @return a future that will contain the stored tuples and the errors for the failed ones once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    CompletableFuture<TarantoolBatchResult<TarantoolTuple>> replaceMany(Iterable<? extends TarantoolTuple> tuples)
+            throws TarantoolClientException;
+
+    /**
+     * Insert the tuples into the space or replace the existing ones. Not more than
+     * {@link TarantoolClientConfig#getBatchWindowSize()} requests are sent without waiting for the responses.
+     * A failed tuple does not stop the processing of the other ones.
+     *
+     * @param tuples new data
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> result tuple type
+     * @return a future that will contain the stored tuples and the errors for the failed ones once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    <T> CompletableFuture<TarantoolBatchResult<T>> replaceMany(Iterable<? extends TarantoolTuple> tuples,
+                                                               ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Delete the tuples matching each of the specified queries. Not more than
+     * {@link TarantoolClientConfig#getBatchWindowSize()} requests are sent without waiting for the responses.
+     * A failed deletion does not stop the processing of the other ones.
+     *
+     * @param conditions queries with options, one for each deleted tuple
+     * @return a future that will contain the removed tuples and the errors for the failed queries once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    CompletableFuture<TarantoolBatchResult<TarantoolTuple>> deleteMany(Iterable<Conditions> conditions)
+            throws TarantoolClientException;
+
+    /**
+     * Delete the tuples matching each of the specified queries. Not more than
+     * {@link TarantoolClientConfig#getBatchWindowSize()} requests are sent without waiting for the responses.
+     * A failed deletion does not stop the processing of the other ones.
+     *
+     * @param conditions queries with options, one for each deleted tuple
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> result tuple type
+     * @return a future that will contain the removed tuples and the errors for the failed queries once completed
+     * @throws TarantoolClientException in case if the batch cannot be started
+     */
+    <T> CompletableFuture<TarantoolBatchResult<T>> deleteMany(Iterable<Conditions> conditions,
+                                                              ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
     /**
      * Select tuples matching the specified query with options.
      *
@@ -120,6 +208,89 @@ public interface TarantoolSpaceOperations {
                                                      ValueConverter<ArrayValue, T> tupleMapper)
             throws TarantoolClientException;
 
+    /**
+     * Prepare a select query for repeated execution. The index, iterator, limit and offset are taken from the
+     * specified conditions, the key values in the conditions are ignored and passed on each execution instead.
+     * The field conditions are not supported for the proxy spaces, since they are applied there as additional
+     * filters which cannot be kept in the prepared query.
+     *
+     * @param conditions query with options
+     * @return prepared select query
+     * @throws TarantoolClientException in case if the query cannot be prepared
+     */
+    TarantoolPreparedSelect<TarantoolTuple> prepareSelect(Conditions conditions) throws TarantoolClientException;
+
+    /**
+     * Prepare a select query for repeated execution. The index, iterator, limit and offset are taken from the
+     * specified conditions, the key values in the conditions are ignored and passed on each execution instead.
+     * See {@link #prepareSelect(Conditions)} for the restrictions on the conditions.
+     *
+     * @param conditions query with options
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> target tuple type
+     * @return prepared select query
+     * @throws TarantoolClientException in case if the query cannot be prepared
+     */
+    <T> TarantoolPreparedSelect<T> prepareSelect(Conditions conditions, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Select tuples matching the specified query page by page. Each page is requested starting after the last
+     * tuple of the previous page, and the next page is requested while the current one is consumed. The index
+     * and iterator are taken from the conditions, the limit restricts the total number of tuples in the stream.
+     *
+     * @param conditions query with options
+     * @param pageSize maximum number of tuples requested at once
+     * @return a lazy stream of the corresponding tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    Stream<TarantoolTuple> stream(Conditions conditions, int pageSize) throws TarantoolClientException;
+
+    /**
+     * Select tuples matching the specified query page by page. Each page is requested starting after the last
+     * tuple of the previous page, and the next page is requested while the current one is consumed. The index
+     * and iterator are taken from the conditions, the limit restricts the total number of tuples in the stream.
+     *
+     * @param conditions query with options
+     * @param pageSize maximum number of tuples requested at once
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> target tuple type
+     * @return a lazy stream of the corresponding tuples
+     * @throws TarantoolClientException in case if the request failed
+     */
+    <T> Stream<T> stream(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
+    /**
+     * Select tuples matching the specified query page by page as a Reactive Streams publisher. The pages are
+     * requested only when the subscriber demand exceeds the number of received tuples, and each page is requested
+     * starting after the last tuple of the previous page. Each subscriber receives the tuples from its own requests.
+     *
+     * @param conditions query with options
+     * @param pageSize maximum number of tuples requested at once
+     * @return a publisher of the corresponding tuples
+     * @throws TarantoolClientException in case if the query cannot be prepared
+     */
+    Publisher<TarantoolTuple> publish(Conditions conditions, int pageSize) throws TarantoolClientException;
+
+    /**
+     * Select tuples matching the specified query page by page as a Reactive Streams publisher. The pages are
+     * requested only when the subscriber demand exceeds the number of received tuples, and each page is requested
+     * starting after the last tuple of the previous page. Each subscriber receives the tuples from its own requests.
+     *
+     * @param conditions query with options
+     * @param pageSize maximum number of tuples requested at once
+     * @param tupleMapper the entity-to-object tupleMapper capable of converting MessagePack {@link ArrayValue} into
+     *                    an object of type {@code T}
+     * @param <T> target tuple type
+     * @return a publisher of the corresponding tuples
+     * @throws TarantoolClientException in case if the query cannot be prepared
+     */
+    <T> Publisher<T> publish(Conditions conditions, int pageSize, ValueConverter<ArrayValue, T> tupleMapper)
+            throws TarantoolClientException;
+
     /**
      * Update a tuple
      *
@@ -175,4 +346,56 @@ public interface TarantoolSpaceOperations {
                                                      TarantoolTuple tuple,
                                                      TupleOperations operations,
                                                      ValueConverter<ArrayValue, T> tupleMapper);
+
+    /**
+     * Count the tuples matching the specified query. The tuples are counted on the server, the limit and offset
+     * options are not applied.
+     *
+     * For the spaces of a standalone Tarantool server the aggregates are calculated by evaluating a Lua chunk on the
+     * server, so the user must have the <code>execute</code> privilege on <code>universe</code>. For the proxy spaces
+     * the API functions are called, see {@link io.tarantool.driver.proxy.ProxyOperationsMapping}.
+     *
+     * @param conditions query with options
+     * @return a future that will contain the number of tuples once completed
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Long> count(Conditions conditions) throws TarantoolClientException;
+
+    /**
+     * Get the tuple with the minimal key in the specified index. Requires the same privileges as
+     * {@link #count(Conditions)}.
+     *
+     * @param indexName index name
+     * @return a future that will contain the tuple once completed, or <code>null</code> if the space is empty
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<TarantoolTuple> min(String indexName) throws TarantoolClientException;
+
+    /**
+     * Get the tuple with the maximal key in the specified index. Requires the same privileges as
+     * {@link #count(Conditions)}.
+     *
+     * @param indexName index name
+     * @return a future that will contain the tuple once completed, or <code>null</code> if the space is empty
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<TarantoolTuple> max(String indexName) throws TarantoolClientException;
+
+    /**
+     * Sum the values of the specified numeric field in the tuples matching the specified query. The values are
+     * summed on the server, the null values are skipped, the limit and offset options are not applied. Requires the
+     * same privileges as {@link #count(Conditions)}.
+     *
+     * The values of the <code>unsigned</code> and <code>integer</code> fields are summed as 64-bit integers, which
+     * may overflow, and the values of the <code>decimal</code> fields are summed as decimals. The values of the
+     * other numeric fields are summed as double precision numbers, so the sum of the integers above 2^53 and of the
+     * decimal values stored in such fields is not exact.
+     *
+     * @param fieldName name of the field to be summed
+     * @param conditions query with options
+     * @return a future that will contain the sum once completed, 0 if no tuples match the query. The result is an
+     * integer type, {@link java.math.BigDecimal} or {@link Double} depending on the field type and values
+     * @throws TarantoolClientException in case if the request failed
+     */
+    CompletableFuture<Number> sum(String fieldName, Conditions conditions) throws TarantoolClientException;
 }
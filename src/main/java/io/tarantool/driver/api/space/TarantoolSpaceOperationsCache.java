@@ -0,0 +1,78 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the {@link TarantoolSpaceOperations} instances created by a client, so that the space handles with their
+ * result mappers are reused between the calls. A cached instance is replaced when the metadata for its space is
+ * changed, e.g. after the metadata refresh caused by a schema change.
+ *
+ * @param <S> space operations implementation type
+ * @author Alexey Kuzin
+ */
+public class TarantoolSpaceOperationsCache<S extends TarantoolSpaceOperations> {
+
+    private final Map<Integer, CachedSpace<S>> spaces = new ConcurrentHashMap<>();
+    private final Function<TarantoolSpaceMetadata, S> spaceFactory;
+
+    /**
+     * Basic constructor.
+     *
+     * @param spaceFactory creates a space operations instance for the given space metadata
+     */
+    public TarantoolSpaceOperationsCache(Function<TarantoolSpaceMetadata, S> spaceFactory) {
+        Assert.notNull(spaceFactory, "Space factory must not be null");
+
+        this.spaceFactory = spaceFactory;
+    }
+
+    /**
+     * Get the space operations instance for the space. A new instance is created if there is no instance for the
+     * space or the cached one was created with different metadata.
+     *
+     * @param spaceMetadata current metadata for the space
+     * @return space operations instance
+     */
+    public S get(TarantoolSpaceMetadata spaceMetadata) {
+        Assert.notNull(spaceMetadata, "Space metadata must not be null");
+
+        CachedSpace<S> cached = spaces.get(spaceMetadata.getSpaceId());
+        if (cached == null || cached.spaceMetadata != spaceMetadata) {
+            cached = spaces.compute(spaceMetadata.getSpaceId(), (id, current) ->
+                    current != null && current.spaceMetadata == spaceMetadata ?
+                            current : new CachedSpace<>(spaceMetadata, spaceFactory.apply(spaceMetadata)));
+        }
+        return cached.space;
+    }
+
+    /**
+     * Remove the instance for the specified space, if it is present
+     *
+     * @param spaceId space ID
+     */
+    public void invalidate(int spaceId) {
+        spaces.remove(spaceId);
+    }
+
+    /**
+     * Remove all cached instances
+     */
+    public void clear() {
+        spaces.clear();
+    }
+
+    private static final class CachedSpace<S> {
+        private final TarantoolSpaceMetadata spaceMetadata;
+        private final S space;
+
+        private CachedSpace(TarantoolSpaceMetadata spaceMetadata, S space) {
+            this.spaceMetadata = spaceMetadata;
+            this.space = space;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package io.tarantool.driver.api.tuple;
+
+import org.msgpack.core.MessageFormatException;
+import org.msgpack.core.MessageIntegerOverflowException;
+import org.msgpack.core.MessageTypeCastException;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free readers of the MessagePack values in a byte array, used by {@link TarantoolPackedTuple}.
+ * All methods accept the offset of the value format byte.
+ *
+ * @author Alexey Kuzin
+ */
+final class PackedTupleUtils {
+
+    private static final byte NIL = (byte) 0xc0;
+    private static final byte FALSE = (byte) 0xc2;
+    private static final byte TRUE = (byte) 0xc3;
+
+    private PackedTupleUtils() {
+    }
+
+    /**
+     * Read the array header
+     *
+     * @param data packed data
+     * @param offset array header offset
+     * @return number of the array elements
+     */
+    static int readArraySize(byte[] data, int offset) {
+        int b = data[offset] & 0xff;
+        if ((b & 0xf0) == 0x90) {
+            return b & 0x0f;
+        }
+        switch (b) {
+            case 0xdc:
+                return readUInt16(data, offset + 1);
+            case 0xdd:
+                return toSize(readUInt32(data, offset + 1));
+            default:
+                throw new MessageTypeCastException(
+                        String.format("Expected MessagePack array, but got format byte 0x%02x", b));
+        }
+    }
+
+    /**
+     * Get the size of the array header
+     *
+     * @param data packed data
+     * @param offset array header offset
+     * @return header size in bytes
+     */
+    static int arrayHeaderSize(byte[] data, int offset) {
+        int b = data[offset] & 0xff;
+        return b == 0xdc ? 3 : b == 0xdd ? 5 : 1;
+    }
+
+    /**
+     * Skip one value including all nested values
+     *
+     * @param data packed data
+     * @param offset value offset
+     * @return offset of the next value
+     */
+    static int skipValue(byte[] data, int offset) {
+        long remaining = 1;
+        while (remaining > 0) {
+            remaining--;
+            int b = data[offset] & 0xff;
+            if (b <= 0x7f || b >= 0xe0) {
+                offset++;
+            } else if (b <= 0x8f) {
+                remaining += 2 * (b & 0x0f);
+                offset++;
+            } else if (b <= 0x9f) {
+                remaining += b & 0x0f;
+                offset++;
+            } else if (b <= 0xbf) {
+                offset += 1 + (b & 0x1f);
+            } else {
+                switch (b) {
+                    case 0xc0:
+                    case 0xc2:
+                    case 0xc3:
+                        offset++;
+                        break;
+                    case 0xc4:
+                    case 0xd9:
+                        offset += 2 + (data[offset + 1] & 0xff);
+                        break;
+                    case 0xc5:
+                    case 0xda:
+                        offset += 3 + readUInt16(data, offset + 1);
+                        break;
+                    case 0xc6:
+                    case 0xdb:
+                        offset += 5 + toSize(readUInt32(data, offset + 1));
+                        break;
+                    case 0xc7:
+                        offset += 3 + (data[offset + 1] & 0xff);
+                        break;
+                    case 0xc8:
+                        offset += 4 + readUInt16(data, offset + 1);
+                        break;
+                    case 0xc9:
+                        offset += 6 + toSize(readUInt32(data, offset + 1));
+                        break;
+                    case 0xcc:
+                    case 0xd0:
+                        offset += 2;
+                        break;
+                    case 0xcd:
+                    case 0xd1:
+                    case 0xd4:
+                        offset += 3;
+                        break;
+                    case 0xd5:
+                        offset += 4;
+                        break;
+                    case 0xca:
+                    case 0xce:
+                    case 0xd2:
+                        offset += 5;
+                        break;
+                    case 0xd6:
+                        offset += 6;
+                        break;
+                    case 0xcb:
+                    case 0xcf:
+                    case 0xd3:
+                        offset += 9;
+                        break;
+                    case 0xd7:
+                        offset += 10;
+                        break;
+                    case 0xd8:
+                        offset += 18;
+                        break;
+                    case 0xdc:
+                        remaining += readUInt16(data, offset + 1);
+                        offset += 3;
+                        break;
+                    case 0xdd:
+                        remaining += readUInt32(data, offset + 1);
+                        offset += 5;
+                        break;
+                    case 0xde:
+                        remaining += 2L * readUInt16(data, offset + 1);
+                        offset += 3;
+                        break;
+                    case 0xdf:
+                        remaining += 2 * readUInt32(data, offset + 1);
+                        offset += 5;
+                        break;
+                    default:
+                        throw new MessageFormatException(
+                                String.format("Invalid MessagePack format byte 0x%02x", b));
+                }
+            }
+        }
+        return offset;
+    }
+
+    static boolean isNil(byte[] data, int offset) {
+        return data[offset] == NIL;
+    }
+
+    static boolean readBoolean(byte[] data, int offset) {
+        byte b = data[offset];
+        if (b == TRUE) {
+            return true;
+        }
+        if (b == FALSE) {
+            return false;
+        }
+        throw typeCastException("boolean", b);
+    }
+
+    static long readLong(byte[] data, int offset) {
+        int b = data[offset] & 0xff;
+        if (b <= 0x7f || b >= 0xe0) {
+            return (byte) b;
+        }
+        switch (b) {
+            case 0xcc:
+                return data[offset + 1] & 0xff;
+            case 0xcd:
+                return readUInt16(data, offset + 1);
+            case 0xce:
+                return readUInt32(data, offset + 1);
+            case 0xcf:
+                long value = readInt64(data, offset + 1);
+                if (value < 0) {
+                    throw new MessageIntegerOverflowException(
+                            BigInteger.valueOf(value).add(BigInteger.ONE.shiftLeft(64)));
+                }
+                return value;
+            case 0xd0:
+                return data[offset + 1];
+            case 0xd1:
+                return (short) readUInt16(data, offset + 1);
+            case 0xd2:
+                return (int) readUInt32(data, offset + 1);
+            case 0xd3:
+                return readInt64(data, offset + 1);
+            default:
+                throw typeCastException("integer", (byte) b);
+        }
+    }
+
+    static int readInt(byte[] data, int offset) {
+        long value = readLong(data, offset);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new MessageIntegerOverflowException(value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read a floating point or an integer value
+     */
+    static double readDouble(byte[] data, int offset) {
+        switch (data[offset] & 0xff) {
+            case 0xca:
+                return Float.intBitsToFloat((int) readUInt32(data, offset + 1));
+            case 0xcb:
+                return Double.longBitsToDouble(readInt64(data, offset + 1));
+            case 0xcf:
+                long value = readInt64(data, offset + 1);
+                return value < 0 ? BigInteger.valueOf(value).add(BigInteger.ONE.shiftLeft(64)).doubleValue() : value;
+            default:
+                return readLong(data, offset);
+        }
+    }
+
+    private static int readUInt16(byte[] data, int offset) {
+        return (data[offset] & 0xff) << 8 | data[offset + 1] & 0xff;
+    }
+
+    private static long readUInt32(byte[] data, int offset) {
+        return ((long) readUInt16(data, offset)) << 16 | readUInt16(data, offset + 2);
+    }
+
+    private static long readInt64(byte[] data, int offset) {
+        return readUInt32(data, offset) << 32 | readUInt32(data, offset + 4);
+    }
+
+    private static int toSize(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new MessageFormatException(String.format("MessagePack value size %d is too large", size));
+        }
+        return (int) size;
+    }
+
+    private static MessageTypeCastException typeCastException(String expectedType, byte formatByte) {
+        return new MessageTypeCastException(String.format("Expected MessagePack %s, but got format byte 0x%02x",
+                expectedType, formatByte & 0xff));
+    }
+}
@@ -2,10 +2,13 @@ package io.tarantool.driver.api.tuple;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.springframework.lang.Nullable;
 
+import java.io.IOException;
+
 /**
  * Basic tuple field implementation
  *
@@ -32,11 +35,31 @@ public class TarantoolFieldImpl implements TarantoolField {
         this.value = object;
     }
 
+    /**
+     * Get the field value without conversion, used for the fast access to the primitive values
+     * @return MessagePack value, entity object or null
+     */
+    @Nullable
+    Object getRawValue() {
+        return value;
+    }
+
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
         return getEntity(mapper);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        if (value == null) {
+            packer.packNil();
+        } else if (value instanceof Value) {
+            packer.packValue((Value) value);
+        } else {
+            mapper.toMessagePack(value, packer);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Value getEntity(MessagePackObjectMapper mapper) {
         if (value == null) {
@@ -0,0 +1,498 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.exceptions.TarantoolNullFieldException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Compact tuple implementation backed by the tuple bytes in MessagePack format. The field offsets are computed on
+ * the first field access and the fields are decoded only when accessed, so the tuples which are kept in memory
+ * take only the space of their serialized form. The primitive accessors like {@link #getLongValue(int)} read the
+ * values right from the bytes.
+ * <p>
+ * The tuple is unpacked into a {@link TarantoolTupleImpl} on the first modification or when all fields are
+ * requested with {@link #getFields()}. Until that, the tuple is serialized from the original bytes.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolPackedTuple implements TarantoolTuple {
+
+    private final byte[] data;
+    private final int size;
+    private final MessagePackMapper mapper;
+    private final TarantoolSpaceMetadata spaceMetadata;
+
+    private int[] offsets;
+    private TarantoolTupleImpl unpacked;
+
+    /**
+     * Construct an instance of {@link TarantoolTuple} from the tuple bytes
+     *
+     * @param data serialized Tarantool tuple, must not be modified after passing to the tuple
+     * @param mapper provides conversion between MessagePack values and Java objects
+     */
+    public TarantoolPackedTuple(byte[] data, MessagePackMapper mapper) {
+        this(data, mapper, null);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param data serialized Tarantool tuple, must not be modified after passing to the tuple
+     * @param mapper provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata
+     */
+    public TarantoolPackedTuple(byte[] data, MessagePackMapper mapper,
+                                @Nullable TarantoolSpaceMetadata spaceMetadata) {
+        Assert.notNull(data, "Tuple data should not be null");
+        Assert.notNull(mapper, "MessagePack mapper should not be null");
+
+        this.data = data;
+        this.size = PackedTupleUtils.readArraySize(data, 0);
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+    }
+
+    @Override
+    public Optional<TarantoolField> getField(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getField(fieldPosition);
+        }
+        Assert.state(fieldPosition >= 0, "Field position starts with 0");
+
+        if (fieldPosition >= size) {
+            return Optional.empty();
+        }
+        Value value = unpackField(fieldPosition);
+        return Optional.of(value.isNilValue() ? new TarantoolNullField() : new TarantoolFieldImpl(value));
+    }
+
+    @Override
+    public Optional<TarantoolField> getField(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        if (fieldPosition < 0) {
+            fieldPosition = Integer.MAX_VALUE;
+        }
+
+        return getField(fieldPosition);
+    }
+
+    @Override
+    public List<TarantoolField> getFields() {
+        return unpack().getFields();
+    }
+
+    @Override
+    public <O> Optional<O> getObject(int fieldPosition, Class<O> objectClass) {
+        Optional<TarantoolField> field = getField(fieldPosition);
+        return field.map(tarantoolField -> tarantoolField.getValue(objectClass, mapper));
+    }
+
+    @Override
+    public <O> Optional<O> getObject(String fieldName, Class<O> objectClass) {
+        Optional<TarantoolField> field = getField(fieldName);
+        return field.map(tarantoolField -> tarantoolField.getValue(objectClass, mapper));
+    }
+
+    @Override
+    public Iterator<TarantoolField> iterator() {
+        return unpack().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super TarantoolField> action) {
+        unpack().forEach(action);
+    }
+
+    @Override
+    public Spliterator<TarantoolField> spliterator() {
+        return unpack().spliterator();
+    }
+
+    @Override
+    public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+        if (unpacked != null) {
+            return unpacked.toMessagePackValue(mapper);
+        }
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            return unpacker.unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to unpack the tuple", e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        if (unpacked != null) {
+            unpacked.toMessagePack(packer, mapper);
+        } else {
+            packer.writePayload(data);
+        }
+    }
+
+    @Override
+    public int size() {
+        return unpacked != null ? unpacked.size() : size;
+    }
+
+    @Override
+    public void setField(int fieldPosition, TarantoolField field) {
+        unpack().setField(fieldPosition, field);
+    }
+
+    @Override
+    public void setField(String fieldName, TarantoolField field) {
+        unpack().setField(fieldName, field);
+    }
+
+    @Override
+    public void putObject(int fieldPosition, Object value) {
+        unpack().putObject(fieldPosition, value);
+    }
+
+    @Override
+    public void putObject(String fieldName, Object value) {
+        unpack().putObject(fieldName, value);
+    }
+
+    @Nullable
+    @Override
+    public byte[] getByteArray(int fieldPosition) {
+        return getObject(fieldPosition, byte[].class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public byte[] getByteArray(String fieldName) {
+        return getObject(fieldName, byte[].class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Boolean getBoolean(int fieldPosition) {
+        return getObject(fieldPosition, Boolean.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Boolean getBoolean(String fieldName) {
+        return getObject(fieldName, Boolean.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Double getDouble(int fieldPosition) {
+        return getObject(fieldPosition, Double.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Double getDouble(String fieldName) {
+        return getObject(fieldName, Double.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Float getFloat(int fieldPosition) {
+        return getObject(fieldPosition, Float.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Float getFloat(String fieldName) {
+        return getObject(fieldName, Float.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Integer getInteger(int fieldPosition) {
+        return getObject(fieldPosition, Integer.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Integer getInteger(String fieldName) {
+        return getObject(fieldName, Integer.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Long getLong(int fieldPosition) {
+        return getObject(fieldPosition, Long.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Long getLong(String fieldName) {
+        return getObject(fieldName, Long.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public String getString(int fieldPosition) {
+        return getObject(fieldPosition, String.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public String getString(String fieldName) {
+        return getObject(fieldName, String.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public UUID getUUID(int fieldPosition) {
+        return getObject(fieldPosition, UUID.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public UUID getUUID(String fieldName) {
+        return getObject(fieldName, UUID.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public BigDecimal getDecimal(int fieldPosition) {
+        return getObject(fieldPosition, BigDecimal.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public BigDecimal getDecimal(String fieldName) {
+        return getObject(fieldName, BigDecimal.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public List getList(int fieldPosition) {
+        return getObject(fieldPosition, List.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public List getList(String fieldName) {
+        return getObject(fieldName, List.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Map getMap(int fieldPosition) {
+        return getObject(fieldPosition, Map.class).orElse(null);
+    }
+
+    @Nullable
+    @Override
+    public Map getMap(String fieldName) {
+        return getObject(fieldName, Map.class).orElse(null);
+    }
+
+    @Override
+    public boolean isNull(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.isNull(fieldPosition);
+        }
+        return fieldPosition < 0 || fieldPosition >= size ||
+                PackedTupleUtils.isNil(data, getFieldOffset(fieldPosition));
+    }
+
+    @Override
+    public boolean isNull(String fieldName) {
+        return isNull(getExistingFieldPosition(fieldName));
+    }
+
+    @Override
+    public boolean getBooleanValue(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getBooleanValue(fieldPosition);
+        }
+        return PackedTupleUtils.readBoolean(data, getNonNullFieldOffset(fieldPosition, null));
+    }
+
+    @Override
+    public boolean getBooleanValue(String fieldName) {
+        if (unpacked != null) {
+            return unpacked.getBooleanValue(fieldName);
+        }
+        int offset = getNonNullFieldOffset(getExistingFieldPosition(fieldName), fieldName);
+        return PackedTupleUtils.readBoolean(data, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getDouble(int)}, accepts integer values as well
+     */
+    @Override
+    public double getDoubleValue(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getDoubleValue(fieldPosition);
+        }
+        return PackedTupleUtils.readDouble(data, getNonNullFieldOffset(fieldPosition, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getDouble(String)}, accepts integer values as well
+     */
+    @Override
+    public double getDoubleValue(String fieldName) {
+        if (unpacked != null) {
+            return unpacked.getDoubleValue(fieldName);
+        }
+        int offset = getNonNullFieldOffset(getExistingFieldPosition(fieldName), fieldName);
+        return PackedTupleUtils.readDouble(data, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getFloat(int)}, accepts integer values as well
+     */
+    @Override
+    public float getFloatValue(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getFloatValue(fieldPosition);
+        }
+        return (float) PackedTupleUtils.readDouble(data, getNonNullFieldOffset(fieldPosition, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getFloat(String)}, accepts integer values as well
+     */
+    @Override
+    public float getFloatValue(String fieldName) {
+        if (unpacked != null) {
+            return unpacked.getFloatValue(fieldName);
+        }
+        int offset = getNonNullFieldOffset(getExistingFieldPosition(fieldName), fieldName);
+        return (float) PackedTupleUtils.readDouble(data, offset);
+    }
+
+    @Override
+    public int getIntegerValue(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getIntegerValue(fieldPosition);
+        }
+        return PackedTupleUtils.readInt(data, getNonNullFieldOffset(fieldPosition, null));
+    }
+
+    @Override
+    public int getIntegerValue(String fieldName) {
+        if (unpacked != null) {
+            return unpacked.getIntegerValue(fieldName);
+        }
+        int offset = getNonNullFieldOffset(getExistingFieldPosition(fieldName), fieldName);
+        return PackedTupleUtils.readInt(data, offset);
+    }
+
+    @Override
+    public long getLongValue(int fieldPosition) {
+        if (unpacked != null) {
+            return unpacked.getLongValue(fieldPosition);
+        }
+        return PackedTupleUtils.readLong(data, getNonNullFieldOffset(fieldPosition, null));
+    }
+
+    @Override
+    public long getLongValue(String fieldName) {
+        if (unpacked != null) {
+            return unpacked.getLongValue(fieldName);
+        }
+        int offset = getNonNullFieldOffset(getExistingFieldPosition(fieldName), fieldName);
+        return PackedTupleUtils.readLong(data, offset);
+    }
+
+    /**
+     * Check whether the tuple is still backed by the original bytes, i.e. it has not been modified and
+     * {@link #getFields()} has not been called
+     *
+     * @return true if the tuple is serialized from the original bytes
+     */
+    public boolean isPacked() {
+        return unpacked == null;
+    }
+
+    private TarantoolTupleImpl unpack() {
+        if (unpacked == null) {
+            unpacked = new TarantoolTupleImpl(toMessagePackValue(mapper).asArrayValue(), mapper, spaceMetadata);
+        }
+        return unpacked;
+    }
+
+    private Value unpackField(int fieldPosition) {
+        int offset = getFieldOffset(fieldPosition);
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(
+                data, offset, offsets[fieldPosition + 1] - offset)) {
+            return unpacker.unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to unpack the field with position %d", fieldPosition), e);
+        }
+    }
+
+    private int getNonNullFieldOffset(int fieldPosition, @Nullable String fieldName) {
+        if (fieldPosition < 0 || fieldPosition >= size) {
+            throw nullFieldException(fieldPosition, fieldName);
+        }
+        int offset = getFieldOffset(fieldPosition);
+        if (PackedTupleUtils.isNil(data, offset)) {
+            throw nullFieldException(fieldPosition, fieldName);
+        }
+        return offset;
+    }
+
+    private static TarantoolNullFieldException nullFieldException(int fieldPosition, @Nullable String fieldName) {
+        return fieldName != null ?
+                new TarantoolNullFieldException(fieldName) : new TarantoolNullFieldException(fieldPosition);
+    }
+
+    private int getFieldOffset(int fieldPosition) {
+        if (offsets == null) {
+            int[] fieldOffsets = new int[size + 1];
+            int offset = PackedTupleUtils.arrayHeaderSize(data, 0);
+            for (int i = 0; i < size; i++) {
+                fieldOffsets[i] = offset;
+                offset = PackedTupleUtils.skipValue(data, offset);
+            }
+            fieldOffsets[size] = offset;
+            offsets = fieldOffsets;
+        }
+        return offsets[fieldPosition];
+    }
+
+    private int getExistingFieldPosition(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        if (fieldPosition < 0) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return fieldPosition;
+    }
+
+    private int getFieldPositionByName(String fieldName) {
+        int fieldPosition = -1;
+        if (spaceMetadata != null) {
+            fieldPosition = spaceMetadata.getFieldPositionByName(fieldName);
+        }
+
+        return fieldPosition;
+    }
+}
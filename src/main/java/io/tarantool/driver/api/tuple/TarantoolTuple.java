@@ -1,5 +1,6 @@
 package io.tarantool.driver.api.tuple;
 
+import io.tarantool.driver.exceptions.TarantoolNullFieldException;
 import io.tarantool.driver.protocol.Packable;
 
 import java.math.BigDecimal;
@@ -268,4 +269,174 @@ public interface TarantoolTuple extends Iterable<TarantoolField>, Packable {
      * @return value
      */
     Map getMap(String fieldName);
+
+    /**
+     * Check if the field is null or absent in the tuple
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return true if the field value is null
+     */
+    default boolean isNull(int fieldPosition) {
+        return getField(fieldPosition).map(field -> field instanceof TarantoolNullField).orElse(true);
+    }
+
+    /**
+     * Check if the field is null or absent in the tuple
+     *
+     * @param fieldName the field name, must not be null
+     * @return true if the field value is null
+     */
+    default boolean isNull(String fieldName) {
+        return getField(fieldName).map(field -> field instanceof TarantoolNullField).orElse(true);
+    }
+
+    /**
+     * Get the field value as a primitive {@code boolean}
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default boolean getBooleanValue(int fieldPosition) {
+        Boolean value = getBoolean(fieldPosition);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code boolean}
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default boolean getBooleanValue(String fieldName) {
+        Boolean value = getBoolean(fieldName);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldName);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code double}
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default double getDoubleValue(int fieldPosition) {
+        Double value = getDouble(fieldPosition);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code double}
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default double getDoubleValue(String fieldName) {
+        Double value = getDouble(fieldName);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldName);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code float}
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default float getFloatValue(int fieldPosition) {
+        Float value = getFloat(fieldPosition);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code float}
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default float getFloatValue(String fieldName) {
+        Float value = getFloat(fieldName);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldName);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code int}
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default int getIntegerValue(int fieldPosition) {
+        Integer value = getInteger(fieldPosition);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code int}
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default int getIntegerValue(String fieldName) {
+        Integer value = getInteger(fieldName);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldName);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code long}
+     *
+     * @param fieldPosition the field position from the the tuple start, starting from 0
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default long getLongValue(int fieldPosition) {
+        Long value = getLong(fieldPosition);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    /**
+     * Get the field value as a primitive {@code long}
+     *
+     * @param fieldName the field name, must not be null
+     * @return value
+     * @throws TarantoolNullFieldException if the field is null or absent
+     */
+    default long getLongValue(String fieldName) {
+        Long value = getLong(fieldName);
+        if (value == null) {
+            throw new TarantoolNullFieldException(fieldName);
+        }
+        return value;
+    }
 }
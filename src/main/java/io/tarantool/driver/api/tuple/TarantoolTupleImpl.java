@@ -1,14 +1,17 @@
 package io.tarantool.driver.api.tuple;
 
+import io.tarantool.driver.exceptions.TarantoolNullFieldException;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -184,6 +187,14 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return mapper.toValue(fields);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packArrayHeader(fields.size());
+        for (TarantoolField field : fields) {
+            field.toMessagePack(packer, mapper);
+        }
+    }
+
     @Override
     public int size() {
         return this.fields.size();
@@ -370,6 +381,140 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         return getObject(fieldName, Map.class).orElse(null);
     }
 
+    @Override
+    public boolean isNull(int fieldPosition) {
+        if (fieldPosition < 0 || fieldPosition >= fields.size()) {
+            return true;
+        }
+        TarantoolField field = fields.get(fieldPosition);
+        if (field instanceof TarantoolFieldImpl) {
+            Object value = ((TarantoolFieldImpl) field).getRawValue();
+            return value == null || value instanceof Value && ((Value) value).isNilValue();
+        }
+        return field == null || field instanceof TarantoolNullField;
+    }
+
+    @Override
+    public boolean isNull(String fieldName) {
+        return isNull(getExistingFieldPosition(fieldName));
+    }
+
+    @Override
+    public boolean getBooleanValue(int fieldPosition) {
+        return toBooleanValue(getNonNullRawValue(fieldPosition, null, Boolean.class));
+    }
+
+    @Override
+    public boolean getBooleanValue(String fieldName) {
+        return toBooleanValue(getNonNullRawValue(getExistingFieldPosition(fieldName), fieldName, Boolean.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getDouble(int)}, accepts integer values as well
+     */
+    @Override
+    public double getDoubleValue(int fieldPosition) {
+        return toDoubleValue(getNonNullRawValue(fieldPosition, null, Double.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getDouble(String)}, accepts integer values as well
+     */
+    @Override
+    public double getDoubleValue(String fieldName) {
+        return toDoubleValue(getNonNullRawValue(getExistingFieldPosition(fieldName), fieldName, Double.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getFloat(int)}, accepts integer values as well
+     */
+    @Override
+    public float getFloatValue(int fieldPosition) {
+        return toFloatValue(getNonNullRawValue(fieldPosition, null, Float.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Unlike {@link #getFloat(String)}, accepts integer values as well
+     */
+    @Override
+    public float getFloatValue(String fieldName) {
+        return toFloatValue(getNonNullRawValue(getExistingFieldPosition(fieldName), fieldName, Float.class));
+    }
+
+    @Override
+    public int getIntegerValue(int fieldPosition) {
+        return toIntegerValue(getNonNullRawValue(fieldPosition, null, Integer.class));
+    }
+
+    @Override
+    public int getIntegerValue(String fieldName) {
+        return toIntegerValue(getNonNullRawValue(getExistingFieldPosition(fieldName), fieldName, Integer.class));
+    }
+
+    @Override
+    public long getLongValue(int fieldPosition) {
+        return toLongValue(getNonNullRawValue(fieldPosition, null, Long.class));
+    }
+
+    @Override
+    public long getLongValue(String fieldName) {
+        return toLongValue(getNonNullRawValue(getExistingFieldPosition(fieldName), fieldName, Long.class));
+    }
+
+    /**
+     * Get the field value as a MessagePack value or an entity object without the conversion through the mapper.
+     * The values of custom field implementations and non-primitive entity objects are converted to the target class
+     */
+    private Object getNonNullRawValue(int fieldPosition, @Nullable String fieldName, Class<?> targetClass) {
+        TarantoolField field = fieldPosition >= 0 && fieldPosition < fields.size() ? fields.get(fieldPosition) : null;
+        Object value;
+        if (field instanceof TarantoolFieldImpl) {
+            value = ((TarantoolFieldImpl) field).getRawValue();
+            if (value != null && !(value instanceof Value || value instanceof Number || value instanceof Boolean)) {
+                value = field.getValue(targetClass, mapper);
+            }
+        } else {
+            value = field == null ? null : field.getValue(targetClass, mapper);
+        }
+        if (value == null || value instanceof Value && ((Value) value).isNilValue()) {
+            throw fieldName != null ?
+                    new TarantoolNullFieldException(fieldName) : new TarantoolNullFieldException(fieldPosition);
+        }
+        return value;
+    }
+
+    private static boolean toBooleanValue(Object value) {
+        return value instanceof Value ? ((Value) value).asBooleanValue().getBoolean() : (Boolean) value;
+    }
+
+    private static double toDoubleValue(Object value) {
+        return value instanceof Value ? ((Value) value).asNumberValue().toDouble() : ((Number) value).doubleValue();
+    }
+
+    private static float toFloatValue(Object value) {
+        return value instanceof Value ? ((Value) value).asNumberValue().toFloat() : ((Number) value).floatValue();
+    }
+
+    private static int toIntegerValue(Object value) {
+        return value instanceof Value ? ((Value) value).asIntegerValue().asInt() : ((Number) value).intValue();
+    }
+
+    private static long toLongValue(Object value) {
+        return value instanceof Value ? ((Value) value).asIntegerValue().asLong() : ((Number) value).longValue();
+    }
+
+    private int getExistingFieldPosition(String fieldName) {
+        int fieldPosition = getFieldPositionByName(fieldName);
+        if (fieldPosition < 0) {
+            throw new TarantoolSpaceFieldNotFoundException(fieldName);
+        }
+        return fieldPosition;
+    }
+
     protected int getFieldPositionByName(String fieldName) {
         int fieldPosition = -1;
         if (spaceMetadata != null) {
@@ -37,11 +37,10 @@ public class MessagePackFrameDecoder extends ReplayingDecoder<MessagePackFrameDe
                     }
                 case BODY:
                     if (size > 0) {
-                        try (ByteBufInputStream in = new ByteBufInputStream(byteBuf.readBytes(size))) {
-                            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                            list.add(TarantoolResponse.fromMessagePack(unpacker));
-                            size = 0;
-                        }
+                        byte[] frame = new byte[size];
+                        byteBuf.readBytes(frame);
+                        list.add(TarantoolResponse.fromMessagePack(frame));
+                        size = 0;
                     }
                     checkpoint(DecoderState.LENGTH);
             }
@@ -1,22 +1,31 @@
 package io.tarantool.driver.codecs;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
-import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.buffer.OutputStreamBufferOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
- * Converts Tarantool requests from Java objects to MessagePack frames
+ * Converts Tarantool requests from Java objects to MessagePack frames. The request is packed directly into the
+ * outbound buffer, the frame size is written into a fixed-length MP_UINT32 prefix afterwards.
  *
  * @author Alexey Kuzin
  */
 public class MessagePackFrameEncoder extends MessageToByteEncoder<TarantoolRequest> {
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
+    private static final byte UINT32_PREFIX = (byte) 0xce;
     private MessagePackObjectMapper mapper;
+    private OutputStreamBufferOutput output;
+    private MessagePacker packer;
 
     public MessagePackFrameEncoder(MessagePackObjectMapper mapper) {
         super();
@@ -26,15 +35,28 @@ public class MessagePackFrameEncoder extends MessageToByteEncoder<TarantoolReque
     @Override
     protected void encode(ChannelHandlerContext ctx, TarantoolRequest tarantoolRequest,
                           ByteBuf byteBuf) throws Exception {
-        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
-        tarantoolRequest.toMessagePack(packer, mapper);
-        long outputSize = packer.getTotalWrittenBytes();
-        byteBuf.capacity((int) (outputSize + MINIMAL_HEADER_SIZE));
-        byte[] output = packer.toByteArray();
-        packer.clear();
-        packer.packLong(outputSize);
-        byteBuf.writeBytes(packer.toByteArray());
-        packer.close();
-        byteBuf.writeBytes(output);
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeByte(UINT32_PREFIX);
+        byteBuf.writeInt(0);
+        MessagePacker packer = getPacker(new ByteBufOutputStream(byteBuf));
+        try {
+            tarantoolRequest.toMessagePack(packer, mapper);
+            packer.flush();
+        } catch (Exception e) {
+            // the packer may contain the partially written request
+            this.packer = null;
+            throw e;
+        }
+        byteBuf.setInt(headerIndex + 1, byteBuf.writerIndex() - headerIndex - MINIMAL_HEADER_SIZE);
+    }
+
+    private MessagePacker getPacker(OutputStream outputStream) throws IOException {
+        if (packer == null) {
+            output = new OutputStreamBufferOutput(outputStream);
+            packer = MessagePack.DEFAULT_PACKER_CONFIG.newPacker(output);
+        } else {
+            output.reset(outputStream);
+        }
+        return packer;
     }
 }
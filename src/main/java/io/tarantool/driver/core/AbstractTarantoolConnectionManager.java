@@ -81,6 +81,21 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
         }
     }
 
+    @Override
+    public Map<TarantoolServerAddress, TarantoolConnection> getServerConnections() {
+        // establishes the connections if necessary
+        getConnection();
+        Map<TarantoolServerAddress, TarantoolConnection> connections = new HashMap<>();
+        for (Map.Entry<TarantoolServerAddress, List<TarantoolConnection>> entry :
+                connectionRegistry.get().entrySet()) {
+            entry.getValue().stream()
+                    .filter(TarantoolConnection::isConnected)
+                    .findFirst()
+                    .ifPresent(connection -> connections.put(entry.getKey(), connection));
+        }
+        return connections;
+    }
+
     private CompletableFuture<TarantoolConnection> getConnectionInternal() {
         CompletableFuture<TarantoolConnection> result;
         if (connectionMode.compareAndSet(true, false)) {
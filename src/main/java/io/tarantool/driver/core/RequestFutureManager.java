@@ -58,7 +58,7 @@ public class RequestFutureManager implements AutoCloseable {
         CompletableFuture<T> requestFuture = new CompletableFuture<>();
         long requestId = request.getHeader().getSync();
         requestFuture.whenComplete((r, e) -> requestFutures.remove(requestId));
-        requestFutures.put(requestId, new TarantoolRequestMetadata(requestFuture, resultMapper));
+        requestFutures.put(requestId, new TarantoolRequestMetadata(requestFuture, resultMapper, request));
         timeoutScheduler.schedule(() -> {
             if (!requestFuture.isDone()) {
                 requestFuture.completeExceptionally(new TimeoutException(String.format(
@@ -3,7 +3,9 @@ package io.tarantool.driver.core;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.auth.ChapSha1TarantoolAuthenticator;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
@@ -11,18 +13,21 @@ import io.tarantool.driver.codecs.MessagePackFrameEncoder;
 import io.tarantool.driver.codecs.MessagePackFrameDecoder;
 import io.tarantool.driver.handlers.TarantoolAuthenticationHandler;
 import io.tarantool.driver.handlers.TarantoolAuthenticationResponseHandler;
+import io.tarantool.driver.handlers.TarantoolPingHandler;
 import io.tarantool.driver.handlers.TarantoolRequestHandler;
 import io.tarantool.driver.handlers.TarantoolResponseHandler;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The main channel pipeline initializer.
  *
  *  - Adds authentication handler which accepts the Tarantool server greeting and sets up the pipeline when channel
  *  is connect to the server;
- *  - Sets up the necessary handlers and codecs.
+ *  - Sets up the necessary handlers and codecs;
+ *  - Adds the heartbeat handlers if enabled in the client configuration.
  *
  * @author Alexey Kuzin
  */
@@ -32,13 +37,19 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
     private TarantoolVersionHolder versionHolder;
     private CompletableFuture<Channel> connectionFuture;
     private RequestFutureManager futureManager;
+    private TarantoolConnectionStatistics statistics;
+    private TarantoolSchemaVersionHolder schemaVersionHolder;
 
     public TarantoolChannelInitializer(TarantoolClientConfig config,
                                        RequestFutureManager futureManager,
                                        TarantoolVersionHolder versionHolder,
+                                       TarantoolSchemaVersionHolder schemaVersionHolder,
+                                       TarantoolConnectionStatistics statistics,
                                        CompletableFuture<Channel> connectionFuture) {
         this.config = config;
         this.versionHolder = versionHolder;
+        this.schemaVersionHolder = schemaVersionHolder;
+        this.statistics = statistics;
         this.connectionFuture = connectionFuture;
         this.futureManager = futureManager;
     }
@@ -62,6 +73,19 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
                 .addLast("TarantoolAuthenticationResponseHandler", new TarantoolAuthenticationResponseHandler(
                         connectionFuture))
                 // inbound
-                .addLast("TarantoolResponseHandler", new TarantoolResponseHandler(futureManager));
+                .addLast("TarantoolResponseHandler", new TarantoolResponseHandler(
+                        futureManager, schemaVersionHolder));
+
+        if (config.getPingInterval() > 0) {
+            socketChannel.pipeline()
+                    // tracks all reads, so it must be the first one. The writes are not taken into account, since
+                    // the client may keep writing to a dead peer
+                    .addFirst("IdleStateHandler", new IdleStateHandler(
+                            config.getPingInterval(), 0, 0, TimeUnit.MILLISECONDS))
+                    // heartbeat
+                    .addLast("TarantoolPingHandler", new TarantoolPingHandler(
+                            futureManager, connectionFuture, statistics,
+                            config.getPingInterval(), config.getMaxMissedPings()));
+        }
     }
 }
@@ -22,6 +22,26 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     boolean isConnected();
 
+    /**
+     * Get the connection heartbeat statistics, e.g. the round-trip time measured with ping requests. The default
+     * implementation returns empty statistics, for the connections without heartbeat
+     * @return {@link TarantoolConnectionStatistics}
+     */
+    default TarantoolConnectionStatistics getStatistics() {
+        return new TarantoolConnectionStatistics();
+    }
+
+    /**
+     * Get the schema version to be sent with the requests prepared against the metadata with the specified schema
+     * version. The schema version counters of different servers are independent, so the connected server may expect
+     * another value. The default implementation returns the metadata schema version
+     * @param metadataSchemaVersion schema version of the metadata, 0 if unknown
+     * @return a number, 0 if the schema version must not be sent
+     */
+    default long getRequestSchemaVersion(long metadataSchemaVersion) {
+        return metadataSchemaVersion;
+    }
+
     /**
      * Send a prepared request to the Tarantool server and flush the buffer
      * @param request the request
@@ -5,12 +5,15 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
 import java.net.InetSocketAddress;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +26,9 @@ public class TarantoolConnectionFactory {
 
     private final TarantoolClientConfig config;
     private final Bootstrap bootstrap;
+    private final TarantoolSchemaVersionHolder schemaVersionHolder;
+    private final Map<InetSocketAddress, TarantoolSchemaVersionHolder> serverSchemaVersionHolders =
+            new ConcurrentHashMap<>();
 
     /**
      * Basic constructor.
@@ -30,8 +36,22 @@ public class TarantoolConnectionFactory {
      * @param bootstrap prepared Netty's bootstrap
      */
     public TarantoolConnectionFactory(TarantoolClientConfig config, Bootstrap bootstrap) {
+        this(config, bootstrap, new TarantoolSchemaVersionHolder());
+    }
+
+    /**
+     * Create a factory, specifying the holder for database schema version shared by all created connections.
+     * Each server also has its own holder, since the schema versions of different servers are not comparable
+     * @param config Tarantool client config
+     * @param bootstrap prepared Netty's bootstrap
+     * @param schemaVersionHolder receives the schema versions from the server responses
+     */
+    public TarantoolConnectionFactory(TarantoolClientConfig config,
+                                      Bootstrap bootstrap,
+                                      TarantoolSchemaVersionHolder schemaVersionHolder) {
         this.config = config;
         this.bootstrap = bootstrap;
+        this.schemaVersionHolder = schemaVersionHolder;
     }
 
     /**
@@ -43,8 +63,12 @@ public class TarantoolConnectionFactory {
         CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
         RequestFutureManager requestManager = new RequestFutureManager(config);
         TarantoolVersionHolder versionHolder = new TarantoolVersionHolder();
+        TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+        TarantoolSchemaVersionHolder serverSchemaVersionHolder = serverSchemaVersionHolders.computeIfAbsent(
+                serverAddress, address -> new TarantoolSchemaVersionHolder(schemaVersionHolder));
         ChannelFuture future = bootstrap.clone()
-                .handler(new TarantoolChannelInitializer(config, requestManager, versionHolder, connectionFuture))
+                .handler(new TarantoolChannelInitializer(config, requestManager, versionHolder,
+                        serverSchemaVersionHolder, statistics, connectionFuture))
                 .remoteAddress(serverAddress).connect();
         future.addListener((ChannelFutureListener) f -> {
             //TODO reconnect when failed
@@ -53,7 +77,9 @@ public class TarantoolConnectionFactory {
                         "Failed to connect to the Tarantool server", f.cause()));
             }
         });
-        return connectionFuture.thenApply(ch -> new TarantoolConnectionImpl(requestManager, versionHolder, ch));
+        return connectionFuture.thenApply(
+                ch -> new TarantoolConnectionImpl(
+                        requestManager, versionHolder, serverSchemaVersionHolder, statistics, ch));
     }
 
     /**
@@ -1,6 +1,7 @@
 package io.tarantool.driver.core;
 
 import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
@@ -15,16 +16,29 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TarantoolConnectionImpl implements TarantoolConnection {
 
     private final TarantoolVersionHolder versionHolder;
+    private final TarantoolSchemaVersionHolder schemaVersionHolder;
     private final RequestFutureManager requestManager;
+    private final TarantoolConnectionStatistics statistics;
     private final Channel channel;
     private final AtomicBoolean connected = new AtomicBoolean(true);
     private final List<TarantoolConnectionFailureListener> failureListeners = new ArrayList<>();
 
     public TarantoolConnectionImpl(RequestFutureManager requestManager,
                                    TarantoolVersionHolder versionHolder,
+                                   TarantoolConnectionStatistics statistics,
+                                   Channel channel) {
+        this(requestManager, versionHolder, new TarantoolSchemaVersionHolder(), statistics, channel);
+    }
+
+    public TarantoolConnectionImpl(RequestFutureManager requestManager,
+                                   TarantoolVersionHolder versionHolder,
+                                   TarantoolSchemaVersionHolder schemaVersionHolder,
+                                   TarantoolConnectionStatistics statistics,
                                    Channel channel) {
         this.requestManager = requestManager;
         this.versionHolder = versionHolder;
+        this.schemaVersionHolder = schemaVersionHolder;
+        this.statistics = statistics;
         this.channel = channel;
         channel.closeFuture().addListener(f -> {
            if (connected.compareAndSet(true, false)) {
@@ -48,6 +62,16 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         return connected.get();
     }
 
+    @Override
+    public TarantoolConnectionStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public long getRequestSchemaVersion(long metadataSchemaVersion) {
+        return schemaVersionHolder.getRequestSchemaVersion(metadataSchemaVersion);
+    }
+
     @Override
     public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
         if (!isConnected()) {
@@ -1,5 +1,10 @@
 package io.tarantool.driver.core;
 
+import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+
+import java.util.Map;
+
 /**
  * Manages the Tarantool server connections lifecycle. Maintains multiple connections. Once a connection is lost,
  * a connection procedure is performed.
@@ -13,4 +18,16 @@ public interface TarantoolConnectionManager extends AutoCloseable {
      * @return next connection in order
      */
     TarantoolConnection getConnection();
+
+    /**
+     * Get one established connection to each of the Tarantool servers. If the connection procedure hasn't been
+     * performed yet, starts it. Required for the operations on all cluster nodes, the default implementation
+     * does not support them.
+     * @return connections by the server addresses
+     * @throws TarantoolClientException if the connections to each server are not supported by the manager
+     */
+    default Map<TarantoolServerAddress, TarantoolConnection> getServerConnections() {
+        throw new TarantoolClientException(
+                "Connection manager %s does not provide connections to each server", getClass().getName());
+    }
 }
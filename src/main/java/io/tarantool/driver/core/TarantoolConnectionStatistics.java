@@ -0,0 +1,72 @@
+package io.tarantool.driver.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the heartbeat statistics of a single connection: the round-trip time measured with ping requests and
+ * the number of consecutive ping requests left without response
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolConnectionStatistics {
+
+    private static final double RTT_SMOOTHING_FACTOR = 0.2;
+
+    private volatile long lastRoundTripTime = -1;
+    private volatile long averageRoundTripTime = -1;
+    private volatile int missedPings;
+
+    /**
+     * Basic constructor.
+     */
+    public TarantoolConnectionStatistics() {
+    }
+
+    /**
+     * Register a successful ping round trip. Resets the missed pings counter
+     * @param roundTripTimeNanos measured round-trip time, in nanoseconds
+     */
+    public synchronized void recordRoundTrip(long roundTripTimeNanos) {
+        lastRoundTripTime = roundTripTimeNanos;
+        averageRoundTripTime = averageRoundTripTime < 0 ? roundTripTimeNanos :
+                Math.round(RTT_SMOOTHING_FACTOR * roundTripTimeNanos +
+                        (1 - RTT_SMOOTHING_FACTOR) * averageRoundTripTime);
+        missedPings = 0;
+    }
+
+    /**
+     * Register a ping request which has not been answered in time
+     * @return the number of consecutive missed pings
+     */
+    public synchronized int recordMissedPing() {
+        return ++missedPings;
+    }
+
+    /**
+     * Get the round-trip time measured by the last successful ping
+     * @param unit time unit for the result
+     * @return round-trip time or -1 if no pings have been completed yet
+     */
+    public long getLastRoundTripTime(TimeUnit unit) {
+        long rtt = lastRoundTripTime;
+        return rtt < 0 ? rtt : unit.convert(rtt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the exponentially smoothed round-trip time over all successful pings
+     * @param unit time unit for the result
+     * @return round-trip time or -1 if no pings have been completed yet
+     */
+    public long getAverageRoundTripTime(TimeUnit unit) {
+        long rtt = averageRoundTripTime;
+        return rtt < 0 ? rtt : unit.convert(rtt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the number of consecutive ping requests left without response
+     * @return a number
+     */
+    public int getMissedPings() {
+        return missedPings;
+    }
+}
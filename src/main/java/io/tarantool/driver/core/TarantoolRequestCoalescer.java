@@ -0,0 +1,222 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends a single request for the identical concurrent read requests. The requests are identical if they have the same
+ * type, schema version and encoded body. A request arriving while an identical one is awaiting the response does not
+ * go to the server and receives the result of the request in flight. The results are never reused after the response
+ * is received, so the coalescing does not affect the consistency of the reads.
+ *
+ * Must be used only for the requests without side effects.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestCoalescer {
+
+    /**
+     * Defines how the result of the request in flight is passed to the coalesced requests
+     */
+    public enum ResultSharing {
+        /**
+         * The requests with the same result mapper receive the same result instance, which must not be modified.
+         * The requests with different result mappers are not coalesced
+         */
+        SHARED,
+        /**
+         * Each request receives its own result instance converted by its result mapper from the shared response
+         */
+        COPIED
+    }
+
+    private final Map<RequestKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MessagePackValueMapper rawValueMapper = new RawValueMapper();
+    private final MessagePackObjectMapper mapper;
+    private final ResultSharing resultSharing;
+
+    /**
+     * Basic constructor.
+     *
+     * @param mapper mapper for encoding the request bodies
+     * @param resultSharing defines how the results are passed to the coalesced requests
+     */
+    public TarantoolRequestCoalescer(MessagePackObjectMapper mapper, ResultSharing resultSharing) {
+        Assert.notNull(mapper, "Mapper must not be null");
+        Assert.notNull(resultSharing, "Result sharing must not be null");
+
+        this.mapper = mapper;
+        this.resultSharing = resultSharing;
+    }
+
+    /**
+     * Send the request or join an identical request in flight
+     *
+     * @param connectionManager provides the connection for sending the request
+     * @param request the request
+     * @param resultMapper mapper for the response body
+     * @param <T> result type
+     * @return a future with the result
+     * @throws TarantoolClientException if the request cannot be sent
+     */
+    public <T> CompletableFuture<T> sendRequest(TarantoolConnectionManager connectionManager,
+                                                TarantoolRequest request,
+                                                MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        return sendRequest(connectionManager.getConnection(), request, resultMapper);
+    }
+
+    /**
+     * Send the request through the specified connection or join an identical request in flight
+     *
+     * @param connection connection for sending the request
+     * @param request the request
+     * @param resultMapper mapper for the response body
+     * @param <T> result type
+     * @return a future with the result
+     * @throws TarantoolClientException if the request cannot be sent
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> sendRequest(TarantoolConnection connection,
+                                                TarantoolRequest request,
+                                                MessagePackValueMapper resultMapper)
+            throws TarantoolClientException {
+        boolean shared = resultSharing == ResultSharing.SHARED;
+        RequestKey key = new RequestKey(request, encodeBody(request), shared ? resultMapper : null);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> current = inFlight.putIfAbsent(key, result);
+        if (current == null) {
+            current = result;
+            CompletableFuture<Object> response;
+            try {
+                response = connection.sendRequest(request, shared ? resultMapper : rawValueMapper);
+            } catch (TarantoolProtocolException e) {
+                TarantoolClientException error = new TarantoolClientException(e);
+                inFlight.remove(key, result);
+                result.completeExceptionally(error);
+                throw error;
+            } catch (RuntimeException e) {
+                inFlight.remove(key, result);
+                result.completeExceptionally(e);
+                throw e;
+            }
+            response.whenComplete((value, ex) -> {
+                // the requests arriving after the response are sent again
+                inFlight.remove(key, result);
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+        // each request receives its own future, so the shared one cannot be completed by the callers
+        if (shared) {
+            return current.thenApply(value -> (T) value);
+        }
+        return current.thenApply(value -> value == null ? null : resultMapper.<Value, T>fromValue((Value) value));
+    }
+
+    /**
+     * Get the number of the distinct requests awaiting the responses
+     *
+     * @return a number
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private byte[] encodeBody(TarantoolRequest request) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            request.getBody().toMessagePack(packer, mapper);
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new TarantoolClientException("Failed to encode the request body", e);
+        }
+    }
+
+    private static final class RequestKey {
+        private final Long code;
+        private final Long schemaVersion;
+        private final byte[] body;
+        private final MessagePackValueMapper resultMapper;
+        private final int hash;
+
+        private RequestKey(TarantoolRequest request, byte[] body, MessagePackValueMapper resultMapper) {
+            this.code = request.getHeader().getCode();
+            this.schemaVersion = request.getHeader().getSchemaVersion();
+            this.body = body;
+            this.resultMapper = resultMapper;
+            this.hash = 31 * (31 * Objects.hash(code, schemaVersion) + Arrays.hashCode(body)) +
+                    System.identityHashCode(resultMapper);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey other = (RequestKey) o;
+            return resultMapper == other.resultMapper &&
+                    Objects.equals(code, other.code) &&
+                    Objects.equals(schemaVersion, other.schemaVersion) &&
+                    Arrays.equals(body, other.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /*
+     * Passes the response body as is, so it can be converted by each of the coalesced requests. The conversions
+     * to other types are delegated to the wrapped mapper, which has no converters until they are registered
+     */
+    private static final class RawValueMapper implements MessagePackValueMapper {
+        private final DefaultMessagePackMapper delegate = new DefaultMessagePackMapper();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V extends Value, O> O fromValue(V v) {
+            return (O) v;
+        }
+
+        @Override
+        public <V extends Value, O> O fromValue(V v, Class<O> targetClass) {
+            return targetClass.isInstance(v) ? targetClass.cast(v) : delegate.fromValue(v, targetClass);
+        }
+
+        @Override
+        public <V extends Value, O> void registerValueConverter(Class<V> valueClass, Class<O> objectClass,
+                                                                ValueConverter<V, O> converter) {
+            delegate.registerValueConverter(valueClass, objectClass, converter);
+        }
+
+        @Override
+        public <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverter(Class<V> entityClass,
+                                                                                    Class<O> objectClass) {
+            return delegate.getValueConverter(entityClass, objectClass);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.tarantool.driver.core;
 
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -12,10 +13,12 @@ import java.util.concurrent.CompletableFuture;
 public class TarantoolRequestMetadata {
     private CompletableFuture<?> feature;
     private MessagePackValueMapper mapper;
+    private TarantoolRequest request;
 
-    TarantoolRequestMetadata(CompletableFuture<?> feature, MessagePackValueMapper mapper) {
+    TarantoolRequestMetadata(CompletableFuture<?> feature, MessagePackValueMapper mapper, TarantoolRequest request) {
         this.feature = feature;
         this.mapper = mapper;
+        this.request = request;
     }
 
     public CompletableFuture<?> getFuture() {
@@ -25,4 +28,8 @@ public class TarantoolRequestMetadata {
     public MessagePackValueMapper getMapper() {
         return mapper;
     }
+
+    public TarantoolRequest getRequest() {
+        return request;
+    }
 }
@@ -0,0 +1,31 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents an error for a failed item of a batch operation
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchItemException extends TarantoolSpaceOperationException {
+
+    private final int position;
+
+    /**
+     * Basic constructor.
+     *
+     * @param position position of the failed item in the batch, starting from 0
+     * @param cause the item error
+     */
+    public TarantoolBatchItemException(int position, Throwable cause) {
+        super(String.format("Batch operation failed at position %d", position), cause);
+        this.position = position;
+    }
+
+    /**
+     * Get the position of the failed item in the batch
+     *
+     * @return a number starting from 0
+     */
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,17 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents error when a tuple field value is requested as a primitive, but the field is null or absent
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolNullFieldException extends TarantoolException {
+
+    public TarantoolNullFieldException(int fieldPosition) {
+        super(String.format("Field with position %d is null or absent in the tuple", fieldPosition));
+    }
+
+    public TarantoolNullFieldException(String fieldName) {
+        super(String.format("Field '%s' is null or absent in the tuple", fieldName));
+    }
+}
@@ -0,0 +1,26 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents vshard errors returned when a request is sent to a storage which does not hold the target bucket at
+ * the moment, e.g. while the bucket is being moved to another replica set
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolShardingException extends TarantoolException {
+
+    private final String errorName;
+
+    public TarantoolShardingException(String errorName, String errorMessage) {
+        super(errorMessage);
+        this.errorName = errorName;
+    }
+
+    /**
+     * Get vshard error name, e.g. <code>WRONG_BUCKET</code> or <code>TRANSFER_IS_IN_PROGRESS</code>
+     *
+     * @return the error name
+     */
+    public String getErrorName() {
+        return errorName;
+    }
+}
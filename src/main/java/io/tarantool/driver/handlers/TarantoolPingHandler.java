@@ -0,0 +1,89 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sends ping requests to the server when no data has been received from it for some time. Measures the round-trip
+ * time and closes the channel if the server has not responded to the specified number of consecutive pings
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolPingHandler extends ChannelDuplexHandler {
+
+    private final Logger log = LoggerFactory.getLogger(TarantoolPingHandler.class);
+
+    private final RequestFutureManager futureManager;
+    private final CompletableFuture<Channel> connectionFuture;
+    private final TarantoolConnectionStatistics statistics;
+    private final int pingTimeout;
+    private final int maxMissedPings;
+    private final AtomicBoolean pingInProgress = new AtomicBoolean(false);
+
+    /**
+     * Basic constructor.
+     * @param futureManager request future manager
+     * @param connectionFuture future which is completed after successful authentication
+     * @param statistics connection heartbeat statistics holder
+     * @param pingTimeout timeout for receiving a ping response, in milliseconds
+     * @param maxMissedPings number of consecutive missed pings after which the channel is closed
+     */
+    public TarantoolPingHandler(RequestFutureManager futureManager,
+                                CompletableFuture<Channel> connectionFuture,
+                                TarantoolConnectionStatistics statistics,
+                                int pingTimeout,
+                                int maxMissedPings) {
+        super();
+        this.futureManager = futureManager;
+        this.connectionFuture = connectionFuture;
+        this.statistics = statistics;
+        this.pingTimeout = pingTimeout;
+        this.maxMissedPings = maxMissedPings;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
+            // do not interfere with the authentication and do not stack the pings up
+            if (connectionFuture.isDone() && !connectionFuture.isCompletedExceptionally() &&
+                    pingInProgress.compareAndSet(false, true)) {
+                sendPing(ctx.channel());
+            }
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    private void sendPing(Channel channel) {
+        TarantoolPingRequest request = new TarantoolPingRequest.Builder().build();
+        CompletableFuture<Object> pingFuture = futureManager.submitRequest(request, pingTimeout,
+                DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper());
+        long startTime = System.nanoTime();
+        pingFuture.whenComplete((result, ex) -> {
+            pingInProgress.set(false);
+            if (ex == null) {
+                statistics.recordRoundTrip(System.nanoTime() - startTime);
+            } else {
+                int missedPings = statistics.recordMissedPing();
+                if (missedPings >= maxMissedPings) {
+                    log.warn("Server has not responded to {} pings, closing the connection {}",
+                            missedPings, channel.remoteAddress());
+                    channel.close();
+                }
+            }
+        });
+        channel.writeAndFlush(request);
+    }
+}
@@ -3,16 +3,22 @@ package io.tarantool.driver.handlers;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderException;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.exceptions.TarantoolServerException;
 import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.core.TarantoolRequestMetadata;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.TarantoolPositionalResultMapper;
 import io.tarantool.driver.protocol.TarantoolErrorResult;
 import io.tarantool.driver.protocol.TarantoolOkResult;
 import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBodyType;
+import org.msgpack.core.MessageUnpacker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -24,16 +30,27 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
 
     private final Logger log = LoggerFactory.getLogger(TarantoolResponseHandler.class);
     private RequestFutureManager futureManager;
+    private TarantoolSchemaVersionHolder schemaVersionHolder;
 
     public TarantoolResponseHandler(RequestFutureManager futureManager) {
+        this(futureManager, new TarantoolSchemaVersionHolder());
+    }
+
+    public TarantoolResponseHandler(RequestFutureManager futureManager,
+                                    TarantoolSchemaVersionHolder schemaVersionHolder) {
         super();
         this.futureManager = futureManager;
+        this.schemaVersionHolder = schemaVersionHolder;
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, TarantoolResponse tarantoolResponse) throws Exception {
+        if (tarantoolResponse.getSchemaVersion() != null) {
+            schemaVersionHolder.updateSchemaVersion(tarantoolResponse.getSchemaVersion());
+        }
         TarantoolRequestMetadata requestMeta = futureManager.getRequest(tarantoolResponse.getSyncId());
         if (requestMeta != null) {
+            requestMeta.getRequest().setResponseSchemaVersion(tarantoolResponse.getSchemaVersion());
             CompletableFuture<?> requestFuture = requestMeta.getFuture();
             if (!requestFuture.isDone()) {
                 switch (tarantoolResponse.getResponseType()) {
@@ -46,6 +63,20 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
                         break;
                     case IPROTO_OK:
                         try {
+                            if (tarantoolResponse.getBody().getResponseBodyType() ==
+                                    TarantoolResponseBodyType.EMPTY) {
+                                // e.g. response for a ping request
+                                requestFuture.complete(null);
+                                break;
+                            }
+                            MessageUnpacker unpacker = tarantoolResponse.getBody().getDataUnpacker();
+                            MessagePackValueMapper mapper = requestMeta.getMapper();
+                            if (unpacker != null && mapper instanceof TarantoolPositionalResultMapper) {
+                                // the tuples are read from the response bytes directly
+                                completeFromPackedData(
+                                        requestFuture, (TarantoolPositionalResultMapper<?>) mapper, unpacker);
+                                break;
+                            }
                             TarantoolOkResult okResult = new TarantoolOkResult(tarantoolResponse.getSyncId(),
                                     tarantoolResponse.getBody().getData());
                             requestFuture.complete(requestMeta.getMapper().fromValue(okResult.getData()));
@@ -59,6 +90,17 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void completeFromPackedData(CompletableFuture<?> requestFuture,
+                                        TarantoolPositionalResultMapper<?> mapper,
+                                        MessageUnpacker unpacker) throws IOException {
+        try {
+            ((CompletableFuture<Object>) requestFuture).complete(mapper.fromUnpacker(unpacker));
+        } finally {
+            unpacker.close();
+        }
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         if (cause instanceof DecoderException && cause.getCause() instanceof TarantoolDecoderException) {
@@ -17,6 +17,8 @@ public abstract class AbstractTarantoolResultMapperFactory {
 
     protected final MessagePackMapper messagePackMapper;
     protected final Map<Class<?>, MessagePackValueMapper> mapperCache = new ConcurrentHashMap<>();
+    // the converters the cached mappers were created with
+    private final Map<Class<?>, CachedMapper> convertersCache = new ConcurrentHashMap<>();
 
     /**
      * Basic constructor
@@ -44,6 +46,11 @@ public abstract class AbstractTarantoolResultMapperFactory {
      */
     public AbstractTarantoolResultMapper<TarantoolTuple> withDefaultTupleValueConverter(
             TarantoolSpaceMetadata spaceMetadata) {
+        CachedMapper cached = convertersCache.get(TarantoolTuple.class);
+        if (cached != null && cached.converter instanceof DefaultTarantoolTupleValueConverter &&
+                ((DefaultTarantoolTupleValueConverter) cached.converter).getSpaceMetadata() == spaceMetadata) {
+            return cached.getMapper();
+        }
         return withConverter(TarantoolTuple.class,
                 new DefaultTarantoolTupleValueConverter(messagePackMapper, spaceMetadata));
     }
@@ -60,7 +67,8 @@ public abstract class AbstractTarantoolResultMapperFactory {
     }
 
     /**
-     * Create TarantoolResultMapper instance with the passed converter.
+     * Create TarantoolResultMapper instance with the passed converter. The last created mapper for each target type
+     * is cached and returned while the same converter instance is passed.
      *
      * @param tupleClass target object type class. Necessary for resolving ambiguity when more than one suitable
      *        converters are present in the configured mapper
@@ -68,11 +76,35 @@ public abstract class AbstractTarantoolResultMapperFactory {
      * @param <T> target object type
      * @return a mapper instance
      */
-    @SuppressWarnings("unchecked")
     public <T> AbstractTarantoolResultMapper<T> withConverter(Class<T> tupleClass,
                                                       ValueConverter<ArrayValue, T> valueConverter) {
-        return (AbstractTarantoolResultMapper<T>) mapperCache.computeIfAbsent(
-                tupleClass, c -> createMapper(valueConverter));
+        CachedMapper cached = convertersCache.get(tupleClass);
+        if (cached == null || cached.converter != valueConverter) {
+            cached = convertersCache.compute(tupleClass, (c, current) -> {
+                if (current != null && current.converter == valueConverter) {
+                    return current;
+                }
+                CachedMapper created = new CachedMapper(valueConverter, createMapper(valueConverter));
+                mapperCache.put(tupleClass, created.mapper);
+                return created;
+            });
+        }
+        return cached.getMapper();
+    }
+
+    private static final class CachedMapper {
+        private final ValueConverter<ArrayValue, ?> converter;
+        private final AbstractTarantoolResultMapper<?> mapper;
+
+        private CachedMapper(ValueConverter<ArrayValue, ?> converter, AbstractTarantoolResultMapper<?> mapper) {
+            this.converter = converter;
+            this.mapper = mapper;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> AbstractTarantoolResultMapper<T> getMapper() {
+            return (AbstractTarantoolResultMapper<T>) mapper;
+        }
     }
 
 }
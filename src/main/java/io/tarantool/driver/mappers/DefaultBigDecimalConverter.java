@@ -1,6 +1,5 @@
 package io.tarantool.driver.mappers;
 
-import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessagePacker;
 import org.msgpack.core.MessageUnpacker;
@@ -10,10 +9,13 @@ import org.msgpack.value.ValueFactory;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 
 /**
- * Default {@link BigDecimal} to {@link ExtensionValue} converter
+ * Default {@link BigDecimal} to {@link ExtensionValue} converter.
+ * <p>
+ * The payload consists of the MessagePack-encoded scale followed by the packed BCD digits with the sign in the last
+ * nibble. The digits are converted directly from and to the unscaled value, using a {@code long} for values with
+ * up to 18 digits and chunks of 18 digits for larger ones.
  *
  * @author Alexey Kuzin
  */
@@ -27,51 +29,118 @@ public class DefaultBigDecimalConverter implements
     private static final byte DECIMAL_PLUS = 0x0C;
     private static final byte DECIMAL_MINUS_ALT = 0x0B;
 
+    private static final byte MP_INT8 = (byte) 0xD0;
+    private static final int LONG_CHUNK_DIGITS = 18;
+    private static final long LONG_CHUNK = 1_000_000_000_000_000_000L;
+    private static final BigInteger BIG_CHUNK = BigInteger.valueOf(LONG_CHUNK);
+
     private byte[] toBytes(BigDecimal object) throws IOException {
-        int scale = -object.scale();
-        if (scale > DECIMAL_MAX_DIGITS || scale < -DECIMAL_MAX_DIGITS) {
-            throw new IOException(
-                    String.format("Scales with absolute value greater than %d are not supported", DECIMAL_MAX_DIGITS));
-        }
-        String number = object.unscaledValue().toString();
-        byte signum = DECIMAL_PLUS;
-        int digits = number.length();
-        if (number.charAt(0) == '-') {
-            signum = DECIMAL_MINUS;
-            digits--;
-        }
-        int len = (digits >> 1) + 1;
-        byte[] bcd = new byte[len];
-        bcd[len - 1] = signum;
-        for (int i = len - 1, pos = number.length() - 1; i >= 0; i--) {
-            bcd[i] |= Character.digit(number.charAt(pos--), 10) << 4;
-            if (i > 0) {
-                bcd[i - 1] |= Character.digit(number.charAt(pos--), 10);
+        int scale = object.scale();
+        checkScale(scale);
+        // the scale always fits into a positive or negative fixint or an int8
+        int scaleLen = scale >= -32 ? 1 : 2;
+        BigInteger unscaled = object.unscaledValue();
+        byte signum = unscaled.signum() < 0 ? DECIMAL_MINUS : DECIMAL_PLUS;
+        byte[] data;
+        if (unscaled.bitLength() < 63) {
+            long number = Math.abs(unscaled.longValue());
+            data = allocate(scaleLen, digits(number), signum);
+            writeDigits(data, 0, number, -1);
+        } else {
+            BigInteger[] chunks = toChunks(unscaled.abs());
+            int top = chunks.length - 1;
+            data = allocate(scaleLen, LONG_CHUNK_DIGITS * top + digits(chunks[top].longValue()), signum);
+            for (int i = 0; i < top; i++) {
+                writeDigits(data, LONG_CHUNK_DIGITS * i, chunks[i].longValue(), LONG_CHUNK_DIGITS);
             }
+            writeDigits(data, LONG_CHUNK_DIGITS * top, chunks[top].longValue(), -1);
+        }
+        if (scaleLen == 1) {
+            data[0] = (byte) scale;
+        } else {
+            data[0] = MP_INT8;
+            data[1] = (byte) scale;
+        }
+        return data;
+    }
+
+    private static byte[] allocate(int scaleLen, int digits, byte signum) {
+        byte[] data = new byte[scaleLen + (digits >> 1) + 1];
+        data[data.length - 1] = signum;
+        return data;
+    }
+
+    private static BigInteger[] toChunks(BigInteger number) {
+        BigInteger[] chunks = new BigInteger[number.bitLength() / 59 + 1];
+        int count = 0;
+        BigInteger rest = number;
+        while (rest.signum() > 0) {
+            BigInteger[] qr = rest.divideAndRemainder(BIG_CHUNK);
+            chunks[count++] = qr[1];
+            rest = qr[0];
         }
-        MessagePacker packer = MessagePack.newDefaultBufferPacker();
-        packer.packInt(scale);
-        packer.addPayload(bcd);
-        return ((MessageBufferPacker) packer).toByteArray();
+        if (count == chunks.length) {
+            return chunks;
+        }
+        BigInteger[] result = new BigInteger[count];
+        System.arraycopy(chunks, 0, result, 0, count);
+        return result;
+    }
+
+    private static int digits(long number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /*
+     * Writes the decimal digits of a non-negative number starting from the given position counted from the least
+     * significant digit. A negative width means writing digits until the number is exhausted.
+     */
+    private static void writeDigits(byte[] data, int position, long number, int width) {
+        int last = data.length - 1;
+        int nibble = position + 1;
+        do {
+            int digit = (int) (number % 10);
+            number /= 10;
+            if ((nibble & 1) == 1) {
+                data[last - (nibble >> 1)] |= digit << 4;
+            } else {
+                data[last - (nibble >> 1)] |= digit;
+            }
+            nibble++;
+        } while (width < 0 ? number > 0 : nibble <= position + width);
     }
 
     /*
      * See https://github.com/tarantool/tarantool/blob/master/src/lib/core/decimal.c#L401
      */
     private BigDecimal fromBytes(byte[] data) throws IOException {
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(buffer);
-        int scale = -unpacker.unpackInt();
-        if (scale > DECIMAL_MAX_DIGITS || scale < -DECIMAL_MAX_DIGITS) {
-            throw new IOException(
-                    String.format("Scales with absolute value greater than %d are not supported", DECIMAL_MAX_DIGITS));
-        }
-        if (!buffer.hasRemaining()) {
+        if (data.length == 0) {
             throw new IOException("Not enough bytes in the packed data");
         }
+        int scale;
+        int start;
+        byte first = data[0];
+        if (first >= -32) {
+            // positive or negative fixint
+            scale = first;
+            start = 1;
+        } else {
+            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data);
+            scale = unpacker.unpackInt();
+            start = (int) unpacker.getTotalReadBytes();
+        }
+        checkScale(scale);
         int len = data.length;
+        if (start >= len) {
+            throw new IOException("Not enough bytes in the packed data");
+        }
         // Extract sign from the last nibble
-        int signum = (byte) (data[len - 1] & 0x0F);
+        int signum = data[len - 1] & 0x0F;
         if (signum == DECIMAL_MINUS || signum == DECIMAL_MINUS_ALT) {
             signum = -1;
         } else if (signum <= 0x09) {
@@ -79,43 +148,75 @@ public class DefaultBigDecimalConverter implements
         } else {
             signum = 1;
         }
-        int i;
-        for (i = buffer.position(); i < len && data[i] == 0; i++) {
-            // skip zero bytes
+        // the digit nibbles are numbered from the first BCD byte, the last nibble is the sign
+        int firstNibble = start << 1;
+        int end = (len << 1) - 1;
+        int nibble = firstNibble;
+        while (nibble < end && nibble(data, nibble) == 0) {
+            nibble++;
         }
-        if (len == i + 1 && (data[i] & 0xF0) == 0) {
-            return BigDecimal.ZERO;
+        if (nibble == end) {
+            return BigDecimal.valueOf(0, scale);
         }
-        StringBuilder sb = new StringBuilder();
-        int digit;
-        for (int j = len - 1; j >= i; j--) {
-            digit = (byte) ((data[j] & 0xF0) >>> 4);
-            if (digit > 9) {
-                throw new IOException(String.format("Invalid digit at position %d", 2 * (j - i)));
-            }
-            sb.insert(0, digit);
-            digit = (byte) (data[j - 1] & 0x0F);
+        int digits = end - nibble;
+        if (digits <= LONG_CHUNK_DIGITS) {
+            long number = readDigits(data, nibble, end, firstNibble);
+            return BigDecimal.valueOf(signum < 0 ? -number : number, scale);
+        }
+        int chunkEnd = nibble + (digits - 1) % LONG_CHUNK_DIGITS + 1;
+        BigInteger number = BigInteger.valueOf(readDigits(data, nibble, chunkEnd, firstNibble));
+        for (nibble = chunkEnd; nibble < end; nibble += LONG_CHUNK_DIGITS) {
+            number = number.multiply(BIG_CHUNK).add(
+                    BigInteger.valueOf(readDigits(data, nibble, nibble + LONG_CHUNK_DIGITS, firstNibble)));
+        }
+        return new BigDecimal(signum < 0 ? number.negate() : number, scale);
+    }
+
+    private static int nibble(byte[] data, int index) {
+        int b = data[index >> 1];
+        return (index & 1) == 0 ? (b >>> 4) & 0x0F : b & 0x0F;
+    }
+
+    private static long readDigits(byte[] data, int from, int to, int base) throws IOException {
+        long number = 0;
+        for (int i = from; i < to; i++) {
+            int digit = nibble(data, i);
             if (digit > 9) {
-                throw new IOException(String.format("Invalid digit at position %d", 2 * (j - i) - 1));
+                throw new IOException(String.format("Invalid digit at position %d", i - base));
             }
-            sb.insert(0, digit);
+            number = number * 10 + digit;
         }
-        if (signum < 0) {
-            sb.insert(0, '-');
+        return number;
+    }
+
+    private static void checkScale(int scale) throws IOException {
+        if (scale > DECIMAL_MAX_DIGITS || scale < -DECIMAL_MAX_DIGITS) {
+            throw new IOException(
+                    String.format("Scales with absolute value greater than %d are not supported", DECIMAL_MAX_DIGITS));
         }
-        return new BigDecimal(new BigInteger(sb.toString()), scale);
     }
 
-    @Override
-    public ExtensionValue toValue(BigDecimal object) {
+    private byte[] encode(BigDecimal object) {
         try {
-            return ValueFactory.newExtension(DECIMAL_TYPE, toBytes(object));
+            return toBytes(object);
         } catch (IOException e) {
             throw new MessagePackValueMapperException(
                     String.format("Failed to pack BigDecimal %s to MessagePack entity", object), e);
         }
     }
 
+    @Override
+    public ExtensionValue toValue(BigDecimal object) {
+        return ValueFactory.newExtension(DECIMAL_TYPE, encode(object));
+    }
+
+    @Override
+    public void toMessagePack(BigDecimal object, MessagePacker packer) throws IOException {
+        byte[] data = encode(object);
+        packer.packExtensionTypeHeader(DECIMAL_TYPE, data.length);
+        packer.writePayload(data);
+    }
+
     @Override
     public BigDecimal fromValue(ExtensionValue value) {
         try {
@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BooleanValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code Boolean} to {@link BooleanValue} converter
  *
@@ -15,6 +18,11 @@ public class DefaultBooleanConverter implements
         return ValueFactory.newBoolean(object);
     }
 
+    @Override
+    public void toMessagePack(Boolean object, MessagePacker packer) throws IOException {
+        packer.packBoolean(object);
+    }
+
     @Override
     public Boolean fromValue(BooleanValue value) {
         return value.getBoolean();
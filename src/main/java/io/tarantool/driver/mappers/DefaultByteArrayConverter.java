@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.BinaryValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code byte[]} to {@link BinaryValue} converter
  *
@@ -15,6 +18,12 @@ public class DefaultByteArrayConverter implements
         return ValueFactory.newBinary(object);
     }
 
+    @Override
+    public void toMessagePack(byte[] object, MessagePacker packer) throws IOException {
+        packer.packBinaryHeader(object.length);
+        packer.writePayload(object);
+    }
+
     @Override
     public byte[] fromValue(BinaryValue value) {
         return value.asByteArray();
@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code Double} to {@link FloatValue} converter
  *
@@ -14,6 +17,11 @@ public class DefaultDoubleConverter implements ValueConverter<FloatValue, Double
         return ValueFactory.newFloat(object);
     }
 
+    @Override
+    public void toMessagePack(Double object, MessagePacker packer) throws IOException {
+        packer.packDouble(object);
+    }
+
     @Override
     public Double fromValue(FloatValue value) {
         return value.toDouble();
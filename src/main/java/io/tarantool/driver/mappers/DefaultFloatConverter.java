@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.FloatValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code Float} to {@link FloatValue} converter
  *
@@ -14,6 +17,12 @@ public class DefaultFloatConverter implements ValueConverter<FloatValue, Float>,
         return ValueFactory.newFloat(object);
     }
 
+    @Override
+    public void toMessagePack(Float object, MessagePacker packer) throws IOException {
+        // packed as MP_DOUBLE, the same way as the float entity values
+        packer.packDouble(object);
+    }
+
     @Override
     public Float fromValue(FloatValue value) {
         return value.toFloat();
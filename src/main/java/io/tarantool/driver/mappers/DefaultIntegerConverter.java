@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code Integer} to {@link IntegerValue} converter
  *
@@ -15,6 +18,11 @@ public class DefaultIntegerConverter implements
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void toMessagePack(Integer object, MessagePacker packer) throws IOException {
+        packer.packInt(object);
+    }
+
     @Override
     public Integer fromValue(IntegerValue value) {
         return value.asInt();
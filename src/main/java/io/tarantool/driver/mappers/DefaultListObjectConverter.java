@@ -1,9 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,4 +28,12 @@ public class DefaultListObjectConverter implements ObjectConverter<List<?>, Arra
         Stream<Value> values = object.stream().map(v -> v == null ? ValueFactory.newNil() : mapper.toValue(v));
         return ValueFactory.newArray(values.collect(Collectors.toList()));
     }
+
+    @Override
+    public void toMessagePack(List<?> object, MessagePacker packer) throws IOException {
+        packer.packArrayHeader(object.size());
+        for (Object value : object) {
+            mapper.toMessagePack(value, packer);
+        }
+    }
 }
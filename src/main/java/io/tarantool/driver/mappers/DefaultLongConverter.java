@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code Long} to {@link IntegerValue} converter
  *
@@ -14,6 +17,11 @@ public class DefaultLongConverter implements ValueConverter<IntegerValue, Long>,
         return ValueFactory.newInteger(object);
     }
 
+    @Override
+    public void toMessagePack(Long object, MessagePacker packer) throws IOException {
+        packer.packLong(object);
+    }
+
     @Override
     public Long fromValue(IntegerValue value) {
         return value.asLong();
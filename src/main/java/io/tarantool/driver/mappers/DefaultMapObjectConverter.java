@@ -1,9 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -26,4 +28,13 @@ public class DefaultMapObjectConverter implements ObjectConverter<Map<?, ?>, Map
                 .collect(Collectors.toMap(e -> mapper.toValue(e.getKey()), e -> mapper.toValue(e.getValue())));
         return ValueFactory.newMap(values);
     }
+
+    @Override
+    public void toMessagePack(Map<?, ?> object, MessagePacker packer) throws IOException {
+        packer.packMapHeader(object.size());
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            mapper.toMessagePack(entry.getKey(), packer);
+            mapper.toMessagePack(entry.getValue(), packer);
+        }
+    }
 }
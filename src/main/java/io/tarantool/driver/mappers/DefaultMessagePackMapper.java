@@ -1,15 +1,22 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 import org.springframework.lang.Nullable;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static io.tarantool.driver.mappers.MapperReflectionUtils.getInterfaceParameterClass;
 
@@ -26,6 +33,15 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     private Map<String, ValueConverter<? extends Value, ?>> valueConvertersByTarget;
     private Map<String, ObjectConverter<?, ? extends Value>> objectConvertersByTarget;
 
+    // Resolved converter candidates in the lookup order, by source class and by source and target class.
+    // Cleared on each converter registration
+    private final Map<Class<?>, List<ObjectConverter<?, ? extends Value>>> objectConvertersCache =
+            new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<ValueConverter<? extends Value, ?>>> valueConvertersCache =
+            new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Class<?>, List<ValueConverter<? extends Value, ?>>>> valueConvertersByTargetCache =
+            new ConcurrentHashMap<>();
+
     /**
      * Basic constructor
      */
@@ -42,73 +58,117 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
      */
     public DefaultMessagePackMapper(DefaultMessagePackMapper mapper) {
         this();
-        this.valueConverters.putAll(mapper.valueConverters);
-        this.objectConverters.putAll(mapper.objectConverters);
+        mapper.valueConverters.forEach((k, v) -> this.valueConverters.put(k, new LinkedList<>(v)));
+        mapper.objectConverters.forEach((k, v) -> this.objectConverters.put(k, new LinkedList<>(v)));
         this.valueConvertersByTarget.putAll(mapper.valueConvertersByTarget);
         this.objectConvertersByTarget.putAll(mapper.objectConvertersByTarget);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <V extends Value, O> V toValue(O o) {
-        Function<String, Optional<ObjectConverter<O, V>>> getter =
-                typeName -> objectConverters.getOrDefault(typeName, Collections.emptyList()).stream()
-                        .map(c -> (ObjectConverter<O, V>) c)
-                        .filter(c -> c.canConvertObject(o))
-                        .findFirst();
-        Optional<ObjectConverter<O, V>> converter = findConverter(o.getClass(), getter);
-        if (!converter.isPresent()) {
-            throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
-        }
-        return converter.get().toValue(o);
+        ObjectConverter<O, V> converter = getObjectConverter(o);
+        return converter.toValue(o);
     }
 
     @Override
+    public <O> void toMessagePack(@Nullable O o, MessagePacker packer) throws IOException {
+        if (o == null) {
+            packer.packNil();
+            return;
+        }
+        ObjectConverter<O, ? extends Value> converter = getObjectConverter(o);
+        converter.toMessagePack(o, packer);
+    }
+
     @SuppressWarnings("unchecked")
+    private <V extends Value, O> ObjectConverter<O, V> getObjectConverter(O o) {
+        List<ObjectConverter<?, ? extends Value>> converters = objectConvertersCache.get(o.getClass());
+        if (converters == null) {
+            converters = objectConvertersCache.computeIfAbsent(o.getClass(),
+                    c -> collectConverters(c, objectConverters, converter -> true));
+        }
+        for (int i = 0; i < converters.size(); i++) {
+            ObjectConverter<O, V> converter = (ObjectConverter<O, V>) converters.get(i);
+            if (converter.canConvertObject(o)) {
+                return converter;
+            }
+        }
+        throw new MessagePackObjectMapperException("ObjectConverter for type %s is not found", o.getClass());
+    }
+
+    @Override
     public <V extends Value, O> O fromValue(V v) {
-        Function<String, Optional<ValueConverter<V, O>>> getter =
-                typeName -> valueConverters.getOrDefault(typeName, Collections.emptyList()).stream()
-                        .map(c -> (ValueConverter<V, O>) c)
-                        .filter(c -> c.canConvertValue(v))
-                        .findFirst();
-        return fromValue(v, getter);
+        List<ValueConverter<? extends Value, ?>> converters = valueConvertersCache.get(v.getClass());
+        if (converters == null) {
+            converters = valueConvertersCache.computeIfAbsent(v.getClass(),
+                    c -> collectConverters(c, valueConverters, converter -> true));
+        }
+        return fromValue(v, converters);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <V extends Value, O> O fromValue(V v, Class<O> targetClass) {
-        Function<String, Optional<ValueConverter<V, O>>> getter =
-                typeName -> valueConverters.getOrDefault(typeName, Collections.emptyList()).stream()
-                        .map(c -> (ValueConverter<V, O>) c)
-                        .filter(c -> c.canConvertValue(v))
-                        .filter(c -> checkConverterByTargetType(c, targetClass))
-                        .findFirst();
-        return fromValue(v, getter);
+        return fromValue(v, getValueConverters(v.getClass(), targetClass));
     }
 
-    private <V extends Value, O> O fromValue(V v, Function<String, Optional<ValueConverter<V, O>>> getter) {
-        Optional<ValueConverter<V, O>> converter = findConverter(v.getClass(), getter);
-        if (!converter.isPresent()) {
-            throw new MessagePackValueMapperException("ValueConverter for type %s is not found", v.getClass());
+    @SuppressWarnings("unchecked")
+    private <V extends Value, O> O fromValue(V v, List<ValueConverter<? extends Value, ?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            ValueConverter<V, O> converter = (ValueConverter<V, O>) converters.get(i);
+            if (converter.canConvertValue(v)) {
+                return converter.fromValue(v);
+            }
         }
-        return converter.get().fromValue(v);
+        throw new MessagePackValueMapperException("ValueConverter for type %s is not found", v.getClass());
     }
 
-    @Nullable
-    private <T> Optional<T> findConverter(Class<?> objectClass, Function<String, Optional<T>> getter) {
-        Optional<T> converter = getter.apply(objectClass.getTypeName());
-        if (!converter.isPresent() && objectClass.getSuperclass() != null) {
-            converter = findConverter(objectClass.getSuperclass(), getter);
+    private List<ValueConverter<? extends Value, ?>> getValueConverters(Class<?> valueClass, Class<?> targetClass) {
+        Map<Class<?>, List<ValueConverter<? extends Value, ?>>> convertersByTarget =
+                valueConvertersByTargetCache.get(valueClass);
+        if (convertersByTarget == null) {
+            convertersByTarget = valueConvertersByTargetCache.computeIfAbsent(
+                    valueClass, c -> new ConcurrentHashMap<>());
         }
-        if (!converter.isPresent()) {
-            for (Class<?> iface : objectClass.getInterfaces()) {
-                converter = findConverter(iface, getter);
-                if (converter.isPresent()) {
-                    break;
-                }
+        List<ValueConverter<? extends Value, ?>> converters = convertersByTarget.get(targetClass);
+        if (converters == null) {
+            converters = convertersByTarget.computeIfAbsent(targetClass, t -> collectConverters(
+                    valueClass, valueConverters, converter -> checkConverterByTargetType(converter, t)));
+        }
+        return converters;
+    }
+
+    /**
+     * Collect the converters registered for the class, its superclasses and interfaces, in the lookup order
+     */
+    private static <T> List<T> collectConverters(Class<?> objectClass,
+                                                 Map<String, List<T>> converters,
+                                                 Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        collectConverters(objectClass, converters, filter, result);
+        return result;
+    }
+
+    private static <T> void collectConverters(Class<?> objectClass,
+                                              Map<String, List<T>> converters,
+                                              Predicate<T> filter,
+                                              List<T> result) {
+        for (T converter : converters.getOrDefault(objectClass.getTypeName(), Collections.emptyList())) {
+            if (filter.test(converter)) {
+                result.add(converter);
             }
         }
-        return converter;
+        if (objectClass.getSuperclass() != null) {
+            collectConverters(objectClass.getSuperclass(), converters, filter, result);
+        }
+        for (Class<?> iface : objectClass.getInterfaces()) {
+            collectConverters(iface, converters, filter, result);
+        }
+    }
+
+    private void clearConvertersCache() {
+        objectConvertersCache.clear();
+        valueConvertersCache.clear();
+        valueConvertersByTargetCache.clear();
     }
 
     /**
@@ -157,6 +217,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
                 valueConverters.computeIfAbsent(valueClass.getTypeName(), k -> new LinkedList<>());
         converters.add(converter);
         valueConvertersByTarget.put(objectClass.getTypeName(), converter);
+        clearConvertersCache();
     }
 
     /**
@@ -176,12 +237,8 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
     @SuppressWarnings("unchecked")
     public <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverter(Class<V> entityClass,
                                                                                  Class<O> targetClass) {
-        Function<String, Optional<ValueConverter<V, O>>> getter =
-                typeName -> valueConverters.getOrDefault(typeName, Collections.emptyList()).stream()
-                        .filter(c -> checkConverterByTargetType(c, targetClass))
-                        .map(c -> (ValueConverter<V, O>) c)
-                        .findFirst();
-        return findConverter(entityClass, getter);
+        List<ValueConverter<? extends Value, ?>> converters = getValueConverters(entityClass, targetClass);
+        return converters.isEmpty() ? Optional.empty() : Optional.of((ValueConverter<V, O>) converters.get(0));
     }
 
     /**
@@ -230,6 +287,7 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
                 objectConverters.computeIfAbsent(objectClass.getTypeName(), k -> new LinkedList<>());
         converters.add(converter);
         objectConvertersByTarget.put(valueClass.getTypeName(), converter);
+        clearConvertersCache();
     }
 
     /**
@@ -320,6 +378,38 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
             return this;
         }
 
+        /**
+         * Configure the mapper with a converter between the tuples of the specified space and the objects of the
+         * specified class. The object fields are matched to the tuple fields by name, see {@link PojoTupleConverter}
+         * @param pojoClass object class
+         * @param spaceMetadata metadata of the space containing the tuples
+         * @param <O> object type
+         * @return builder
+         */
+        public <O> Builder withAutoPojoMapping(Class<O> pojoClass, TarantoolSpaceMetadata spaceMetadata) {
+            mapper.registerConverter(ArrayValue.class, pojoClass,
+                    new PojoTupleConverter<>(mapper, pojoClass, spaceMetadata));
+            return this;
+        }
+
+        /**
+         * Configure the mapper with a converter between the tuples of the specified space and the objects of the
+         * specified class. The space metadata is requested from the supplier on the first conversion, so the mapper
+         * can be configured before the client is connected, e.g.
+         * {@code withAutoPojoMapping(Customer.class, () -> client.metadata().getSpaceByName("customers").get())}.
+         * The object fields are matched to the tuple fields by name, see {@link PojoTupleConverter}
+         * @param pojoClass object class
+         * @param spaceMetadataSupplier supplier of the metadata of the space containing the tuples
+         * @param <O> object type
+         * @return builder
+         */
+        public <O> Builder withAutoPojoMapping(Class<O> pojoClass,
+                                               Supplier<TarantoolSpaceMetadata> spaceMetadataSupplier) {
+            mapper.registerConverter(ArrayValue.class, pojoClass,
+                    new LazyPojoTupleConverter<>(mapper, pojoClass, spaceMetadataSupplier));
+            return this;
+        }
+
         /**
          * Configure the mapper with a specified MessagePack entity-to-object converter
          * @param converter MessagePack entity-to-object and object-to-entity converter
@@ -1,8 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
+
 /**
  * Default {@code String} to {@link StringValue} converter
  *
@@ -15,6 +18,11 @@ public class DefaultStringConverter implements
         return ValueFactory.newString(object);
     }
 
+    @Override
+    public void toMessagePack(String object, MessagePacker packer) throws IOException {
+        packer.packString(object);
+    }
+
     @Override
     public String fromValue(StringValue value) {
         return value.asString();
@@ -20,6 +20,10 @@ public class DefaultTarantoolTupleValueConverter implements ValueConverter<Array
         this.spaceMetadata = spaceMetadata;
     }
 
+    TarantoolSpaceMetadata getSpaceMetadata() {
+        return spaceMetadata;
+    }
+
     @Override
     public TarantoolTuple fromValue(ArrayValue value) {
         return new TarantoolTupleImpl(value, mapper, spaceMetadata);
@@ -1,8 +1,10 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ExtensionValue;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.UUID;
 
@@ -70,6 +72,12 @@ public class DefaultUUIDConverter implements
         return ValueFactory.newExtension(UUID_TYPE, toBytes(object));
     }
 
+    @Override
+    public void toMessagePack(UUID object, MessagePacker packer) throws IOException {
+        packer.packExtensionTypeHeader(UUID_TYPE, 16);
+        packer.writePayload(toBytes(object));
+    }
+
     @Override
     public UUID fromValue(ExtensionValue value) {
         return fromBytes(value.getData());
@@ -0,0 +1,81 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link PojoTupleConverter} on the first conversion, when the space metadata is available. The mapper
+ * is usually configured before the client is connected and the metadata is loaded, so the metadata cannot be passed
+ * to the converter eagerly.
+ *
+ * @param <T> target object type
+ * @author Alexey Kuzin
+ */
+final class LazyPojoTupleConverter<T> implements PositionalTupleConverter<T> {
+
+    private final MessagePackMapper mapper;
+    private final Class<T> pojoClass;
+    private final Supplier<TarantoolSpaceMetadata> spaceMetadataSupplier;
+    private volatile PojoTupleConverter<T> converter;
+
+    LazyPojoTupleConverter(MessagePackMapper mapper, Class<T> pojoClass,
+                           Supplier<TarantoolSpaceMetadata> spaceMetadataSupplier) {
+        Assert.notNull(mapper, "Mapper must not be null");
+        Assert.notNull(pojoClass, "POJO class must not be null");
+        Assert.notNull(spaceMetadataSupplier, "Space metadata supplier must not be null");
+
+        this.mapper = mapper;
+        this.pojoClass = pojoClass;
+        this.spaceMetadataSupplier = spaceMetadataSupplier;
+    }
+
+    private PojoTupleConverter<T> getConverter() {
+        PojoTupleConverter<T> current = converter;
+        if (current == null) {
+            synchronized (this) {
+                current = converter;
+                if (current == null) {
+                    TarantoolSpaceMetadata spaceMetadata = spaceMetadataSupplier.get();
+                    if (spaceMetadata == null) {
+                        throw new MessagePackValueMapperException(
+                                "Space metadata for %s is not available", pojoClass.getName());
+                    }
+                    current = new PojoTupleConverter<>(mapper, pojoClass, spaceMetadata);
+                    converter = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public Class<T> getTupleClass() {
+        return pojoClass;
+    }
+
+    @Override
+    public T fromValue(ArrayValue value) {
+        return getConverter().fromValue(value);
+    }
+
+    @Override
+    public T unpack(MessageUnpacker unpacker) throws IOException {
+        return getConverter().unpack(unpacker);
+    }
+
+    @Override
+    public ArrayValue toValue(T object) {
+        return getConverter().toValue(object);
+    }
+
+    @Override
+    public void toMessagePack(T object, MessagePacker packer) throws IOException {
+        getConverter().toMessagePack(object, packer);
+    }
+}
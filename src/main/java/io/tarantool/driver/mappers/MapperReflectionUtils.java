@@ -2,6 +2,7 @@ package io.tarantool.driver.mappers;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.stream.Stream;
 
@@ -92,7 +93,12 @@ final class MapperReflectionUtils {
                 if (iface instanceof ParameterizedType) {
                     ParameterizedType parameterizedType = (ParameterizedType) iface;
                     if (Class.forName(parameterizedType.getRawType().getTypeName()).isAssignableFrom(interfaceClass)) {
-                        return getParameterType(parameterizedType, parameterTypePosition);
+                        Type parameterType = getParameterType(parameterizedType, parameterTypePosition);
+                        if (parameterType instanceof TypeVariable) {
+                            // generic converters like PojoTupleConverter<T>
+                            break;
+                        }
+                        return parameterType;
                     }
                 }
             }
@@ -1,6 +1,11 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
 
 /**
  * Basic interface for generic converters between Java objects and MessagePack entities.
@@ -19,6 +24,20 @@ public interface MessagePackObjectMapper {
      */
     <V extends Value, O> V toValue(O o) throws MessagePackObjectMapperException;
 
+    /**
+     * Write the MessagePack representation of an object into the packer, without building the intermediate
+     * entities where the corresponding converter supports it. A null object is written as nil.
+     * @param o an object to be written, may be null
+     * @param packer configured {@link MessagePacker}
+     * @param <O> the source object type
+     * @throws MessagePackObjectMapperException if the corresponding conversion cannot be performed
+     * @throws IOException if writing to the packer failed
+     */
+    default <O> void toMessagePack(@Nullable O o, MessagePacker packer)
+            throws MessagePackObjectMapperException, IOException {
+        packer.packValue(o == null ? ValueFactory.newNil() : toValue(o));
+    }
+
     /**
      * Adds a Java object converter to this mappers instance
      * @param objectClass source object class
@@ -1,7 +1,10 @@
 package io.tarantool.driver.mappers;
 
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
  * Basic interface for converters from Java objects to MessagePack entities for a particular class
  *
@@ -15,6 +18,17 @@ public interface ObjectConverter<T, S extends Value> {
      */
     S toValue(T object);
 
+    /**
+     * Write the MessagePack representation of a Java object into the packer. The default implementation packs
+     * the entity created by {@link #toValue(Object)}, converters may override it for writing the object directly
+     * @param object object
+     * @param packer configured {@link MessagePacker}
+     * @throws IOException if writing to the packer failed
+     */
+    default void toMessagePack(T object, MessagePacker packer) throws IOException {
+        packer.packValue(toValue(object));
+    }
+
     /**
      * Optional method for determining if this specific object can be converted to the specified {@link Value} type.
      * @param object the object to be converted
@@ -0,0 +1,971 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.NumberValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Maps tuples to plain Java objects which cannot be annotated for the compile-time generated converters.
+ * The object class is introspected once: the tuple fields from the space format are matched to the object fields
+ * with the same name (or the camel case form of a snake case name, e.g. {@code bucket_id} to {@code bucketId}),
+ * and the access to the object constructor, getters, setters or fields is bound once with {@link MethodHandle}s.
+ * The conversion from tuples is composed into a single method handle per class, which the JVM compiles into the
+ * specialized code after warm-up. For the conversion to tuples and the direct unpacking, the public members of
+ * a public class are bound with {@link LambdaMetafactory}, and the primitive properties are accessed without boxing.
+ * <p>
+ * The object class must have a constructor without arguments. The object fields which are not present in the space
+ * format are ignored, the missing tuple fields are left with the default values.
+ *
+ * @param <T> target object type
+ * @author Alexey Kuzin
+ * @see DefaultMessagePackMapper.Builder#withAutoPojoMapping(Class, TarantoolSpaceMetadata)
+ */
+public final class PojoTupleConverter<T> implements ValueConverter<ArrayValue, T>, ObjectConverter<T, ArrayValue>,
+        PositionalTupleConverter<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle ARRAY_GET =
+            findVirtual(ArrayValue.class, "get", MethodType.methodType(Value.class, int.class));
+    private static final MethodHandle HAS_FIELD =
+            findStatic("hasField", MethodType.methodType(boolean.class, ArrayValue.class, int.class));
+    private static final MethodHandle NOOP = findStatic("noop", MethodType.methodType(void.class));
+    private static final MethodHandle IS_NIL =
+            findVirtual(Value.class, "isNilValue", MethodType.methodType(boolean.class));
+    private static final MethodHandle VALUE_AS_LONG = MethodHandles.filterReturnValue(
+            findVirtual(Value.class, "asIntegerValue", MethodType.methodType(IntegerValue.class)),
+            findVirtual(IntegerValue.class, "asLong", MethodType.methodType(long.class)));
+    private static final MethodHandle VALUE_AS_INT = MethodHandles.filterReturnValue(
+            findVirtual(Value.class, "asIntegerValue", MethodType.methodType(IntegerValue.class)),
+            findVirtual(IntegerValue.class, "asInt", MethodType.methodType(int.class)));
+    private static final MethodHandle VALUE_AS_DOUBLE = MethodHandles.filterReturnValue(
+            findVirtual(Value.class, "asNumberValue", MethodType.methodType(NumberValue.class)),
+            findVirtual(NumberValue.class, "toDouble", MethodType.methodType(double.class)));
+    private static final MethodHandle KIND_FROM_VALUE = findVirtual(PropertyKind.class, "fromValue",
+            MethodType.methodType(Object.class, Value.class, Class.class, MessagePackMapper.class));
+
+    private final MessagePackMapper mapper;
+    private final Class<T> pojoClass;
+    private final Supplier<T> constructor;
+    // (ArrayValue)Object handle creating an object from the tuple
+    private final MethodHandle fromValueHandle;
+    // indexed by the tuple field position, contains null for the fields not present in the object
+    private final PojoProperty[] propertiesByPosition;
+    private final PojoProperty[] properties;
+
+    /**
+     * Basic constructor
+     * @param mapper mapper for the property values of other than the basic types
+     * @param pojoClass object class
+     * @param spaceMetadata metadata of the space containing tuples, determines the field positions
+     */
+    public PojoTupleConverter(MessagePackMapper mapper, Class<T> pojoClass, TarantoolSpaceMetadata spaceMetadata) {
+        Assert.notNull(mapper, "Mapper must not be null");
+        Assert.notNull(pojoClass, "POJO class must not be null");
+        Assert.notNull(spaceMetadata, "Space metadata must not be null");
+
+        this.mapper = mapper;
+        this.pojoClass = pojoClass;
+        Constructor<T> pojoConstructor = findConstructor(pojoClass);
+        MethodHandle constructorHandle =
+                unreflect(pojoConstructor, () -> LOOKUP.unreflectConstructor(pojoConstructor));
+        this.constructor = bindConstructor(pojoClass, pojoConstructor, constructorHandle);
+
+        int tupleSize = 0;
+        int count = 0;
+        PojoProperty[] byPosition = new PojoProperty[spaceMetadata.getSpaceFormatMetadata().size()];
+        for (TarantoolFieldMetadata fieldMetadata : spaceMetadata.getSpaceFormatMetadata().values()) {
+            PojoProperty property = bindProperty(pojoClass, fieldMetadata);
+            if (property != null) {
+                byPosition[property.position] = property;
+                tupleSize = Math.max(tupleSize, property.position + 1);
+                count++;
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Class %s has no fields matching the format of space %s",
+                    pojoClass.getName(), spaceMetadata.getSpaceName()));
+        }
+
+        this.propertiesByPosition = new PojoProperty[tupleSize];
+        System.arraycopy(byPosition, 0, propertiesByPosition, 0, tupleSize);
+        this.properties = new PojoProperty[count];
+        for (int i = 0, j = 0; i < tupleSize; i++) {
+            if (propertiesByPosition[i] != null) {
+                properties[j++] = propertiesByPosition[i];
+            }
+        }
+        this.fromValueHandle = composeFromValue(constructorHandle, properties, mapper);
+    }
+
+    @Override
+    public Class<T> getTupleClass() {
+        return pojoClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T fromValue(ArrayValue value) {
+        try {
+            return (T) fromValueHandle.invokeExact(value);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessagePackValueMapperException(
+                    String.format("Failed to convert tuple to %s", pojoClass.getName()), e);
+        }
+    }
+
+    @Override
+    public T unpack(MessageUnpacker unpacker) throws IOException {
+        T object = constructor.get();
+        int size = unpacker.unpackArrayHeader();
+        for (int i = 0; i < size; i++) {
+            PojoProperty property = i < propertiesByPosition.length ? propertiesByPosition[i] : null;
+            if (property == null) {
+                unpacker.skipValue();
+            } else if (unpacker.getNextFormat() == MessageFormat.NIL) {
+                unpacker.unpackNil();
+            } else {
+                property.unpack(object, unpacker, mapper);
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public ArrayValue toValue(T object) {
+        Value[] values = new Value[propertiesByPosition.length];
+        for (int i = 0; i < values.length; i++) {
+            PojoProperty property = propertiesByPosition[i];
+            values[i] = property == null ? ValueFactory.newNil() : property.toValue(object, mapper);
+        }
+        return ValueFactory.newArray(values, true);
+    }
+
+    @Override
+    public void toMessagePack(T object, MessagePacker packer) throws IOException {
+        packer.packArrayHeader(propertiesByPosition.length);
+        for (PojoProperty property : propertiesByPosition) {
+            if (property == null) {
+                packer.packNil();
+            } else {
+                property.pack(object, packer, mapper);
+            }
+        }
+    }
+
+    /**
+     * Compose a single method handle which creates the object and sets all its properties from a tuple. Unlike
+     * a loop over the properties, the composed handle does not contain the megamorphic call sites, and the JVM
+     * compiles it into the code specialized for the object class
+     */
+    private static MethodHandle composeFromValue(MethodHandle constructorHandle, PojoProperty[] properties,
+                                                 MessagePackMapper mapper) {
+        MethodHandle skipValue = MethodHandles.dropArguments(NOOP, 0, Object.class, Value.class);
+        MethodHandle skipField = MethodHandles.dropArguments(NOOP, 0, Object.class, ArrayValue.class);
+        MethodHandle isNil = MethodHandles.dropArguments(IS_NIL, 0, Object.class);
+        // (Object, ArrayValue)Object
+        MethodHandle result = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, ArrayValue.class);
+        for (int i = properties.length - 1; i >= 0; i--) {
+            PojoProperty property = properties[i];
+            MethodHandle converter = property.valueConverter(mapper);
+            // the value returned by a fluent setter is discarded
+            MethodHandle setter = property.setterHandle.asType(
+                    MethodType.methodType(void.class, Object.class, converter.type().returnType()));
+            // (Object, Value)void
+            MethodHandle setValue = MethodHandles.guardWithTest(
+                    isNil, skipValue, MethodHandles.filterArguments(setter, 1, converter));
+            // (Object, ArrayValue)void
+            MethodHandle setField = MethodHandles.guardWithTest(
+                    MethodHandles.dropArguments(MethodHandles.insertArguments(HAS_FIELD, 1, property.position),
+                            0, Object.class),
+                    MethodHandles.filterArguments(setValue, 1,
+                            MethodHandles.insertArguments(ARRAY_GET, 1, property.position)),
+                    skipField);
+            result = MethodHandles.foldArguments(result, setField);
+        }
+        return MethodHandles.foldArguments(result, MethodHandles.dropArguments(
+                constructorHandle.asType(MethodType.methodType(Object.class)), 0, ArrayValue.class));
+    }
+
+    private static boolean hasField(ArrayValue value, int position) {
+        return position < value.size();
+    }
+
+    private static void noop() {
+    }
+
+    private static MethodHandle findVirtual(Class<?> type, String name, MethodType methodType) {
+        try {
+            return LOOKUP.findVirtual(type, name, methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findStatic(String name, MethodType methodType) {
+        try {
+            return LOOKUP.findStatic(PojoTupleConverter.class, name, methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> Constructor<T> findConstructor(Class<T> pojoClass) {
+        try {
+            return pojoClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Class %s must have a constructor without arguments", pojoClass.getName()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> bindConstructor(Class<T> pojoClass, Constructor<T> constructor,
+                                                   MethodHandle handle) {
+        if (isLambdaAccessible(pojoClass, constructor)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                        MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                        handle, MethodType.methodType(pojoClass));
+                return (Supplier<T>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                // fall back to the method handle
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+        return () -> {
+            try {
+                return (T) generic.invokeExact();
+            } catch (Throwable e) {
+                throw new MessagePackValueMapperException(
+                        String.format("Failed to instantiate class %s", pojoClass.getName()), e);
+            }
+        };
+    }
+
+    private static PojoProperty bindProperty(Class<?> pojoClass, TarantoolFieldMetadata fieldMetadata) {
+        Field field = findField(pojoClass, fieldMetadata.getFieldName());
+        if (field == null) {
+            field = findField(pojoClass, toCamelCase(fieldMetadata.getFieldName()));
+        }
+        if (field == null) {
+            return null;
+        }
+        Class<?> type = field.getType();
+        String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        Method getterMethod = findMethod(pojoClass, "get" + suffix, type);
+        if (getterMethod == null && (type == boolean.class || type == Boolean.class)) {
+            getterMethod = findMethod(pojoClass, "is" + suffix, type);
+        }
+        Method setterMethod = findMethod(pojoClass, "set" + suffix, null, type);
+        if (setterMethod == null && Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        Accessor getter = getterMethod != null ? Accessor.method(pojoClass, getterMethod) :
+                Accessor.fieldGetter(pojoClass, field);
+        Accessor setter = setterMethod != null ? Accessor.method(pojoClass, setterMethod) :
+                Accessor.fieldSetter(pojoClass, field);
+
+        int position = fieldMetadata.getFieldPosition();
+        // the primitive properties of the most common types are accessed without boxing
+        if (type == long.class) {
+            return new LongProperty(position, getter.bindLongGetter(), setter.bindLongSetter(), setter.handle);
+        } else if (type == int.class) {
+            return new IntProperty(position, getter.bindIntGetter(), setter.bindIntSetter(), setter.handle);
+        } else if (type == double.class) {
+            return new DoubleProperty(position, getter.bindDoubleGetter(), setter.bindDoubleSetter(), setter.handle);
+        }
+        return new ReferenceProperty(position, type, getter.bindGetter(), setter.bindSetter(), setter.handle);
+    }
+
+    /**
+     * The lambda classes are defined in the class loader of this class and can only call the public members of
+     * public classes visible from it
+     */
+    private static boolean isLambdaAccessible(Class<?> pojoClass, Member member) {
+        return Modifier.isPublic(member.getModifiers()) && isPublic(pojoClass) &&
+                isPublic(member.getDeclaringClass()) && isVisible(pojoClass);
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> pojoClass) {
+        try {
+            return Class.forName(pojoClass.getName(), false, PojoTupleConverter.class.getClassLoader()) == pojoClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(AccessibleObject member, HandleSupplier supplier) {
+        try {
+            member.setAccessible(true);
+            return supplier.get();
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Cannot access %s", member), e);
+        }
+    }
+
+    private static Field findField(Class<?> pojoClass, String name) {
+        for (Class<?> c = pojoClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                int modifiers = field.getModifiers();
+                return Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) ? null : field;
+            } catch (NoSuchFieldException e) {
+                // look in the superclass
+            }
+        }
+        return null;
+    }
+
+    private static Method findMethod(Class<?> pojoClass, String name, Class<?> returnType, Class<?>... parameters) {
+        for (Class<?> c = pojoClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Method method = c.getDeclaredMethod(name, parameters);
+                if (Modifier.isStatic(method.getModifiers()) ||
+                        returnType != null && method.getReturnType() != returnType) {
+                    return null;
+                }
+                return method;
+            } catch (NoSuchMethodException e) {
+                // look in the superclass
+            }
+        }
+        return null;
+    }
+
+    private static String toCamelCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean upper = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = sb.length() > 0;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    @FunctionalInterface
+    private interface HandleSupplier {
+        MethodHandle get() throws IllegalAccessException;
+    }
+
+    /**
+     * A getter or setter method, or a field of the object class
+     */
+    private static final class Accessor {
+        private final Class<?> pojoClass;
+        private final MethodHandle handle;
+        private final boolean direct;
+
+        private Accessor(Class<?> pojoClass, MethodHandle handle, boolean direct) {
+            this.pojoClass = pojoClass;
+            this.handle = handle;
+            this.direct = direct;
+        }
+
+        static Accessor method(Class<?> pojoClass, Method method) {
+            return new Accessor(pojoClass, unreflect(method, () -> LOOKUP.unreflect(method)),
+                    isLambdaAccessible(pojoClass, method));
+        }
+
+        static Accessor fieldGetter(Class<?> pojoClass, Field field) {
+            return new Accessor(pojoClass, unreflect(field, () -> LOOKUP.unreflectGetter(field)), false);
+        }
+
+        static Accessor fieldSetter(Class<?> pojoClass, Field field) {
+            return new Accessor(pojoClass, unreflect(field, () -> LOOKUP.unreflectSetter(field)), false);
+        }
+
+        Function<Object, Object> bindGetter() {
+            return bind(Function.class, "apply", MethodType.methodType(Object.class, Object.class), h -> object -> {
+                try {
+                    return h.invokeExact(object);
+                } catch (Throwable e) {
+                    throw getterFailed(e);
+                }
+            });
+        }
+
+        ToLongFunction<Object> bindLongGetter() {
+            return bind(ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class),
+                    h -> object -> {
+                        try {
+                            return (long) h.invokeExact(object);
+                        } catch (Throwable e) {
+                            throw getterFailed(e);
+                        }
+                    });
+        }
+
+        ToIntFunction<Object> bindIntGetter() {
+            return bind(ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class),
+                    h -> object -> {
+                        try {
+                            return (int) h.invokeExact(object);
+                        } catch (Throwable e) {
+                            throw getterFailed(e);
+                        }
+                    });
+        }
+
+        ToDoubleFunction<Object> bindDoubleGetter() {
+            return bind(ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class),
+                    h -> object -> {
+                        try {
+                            return (double) h.invokeExact(object);
+                        } catch (Throwable e) {
+                            throw getterFailed(e);
+                        }
+                    });
+        }
+
+        BiConsumer<Object, Object> bindSetter() {
+            return bind(BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class),
+                    h -> (object, value) -> {
+                        try {
+                            h.invokeExact(object, value);
+                        } catch (Throwable e) {
+                            throw setterFailed(e);
+                        }
+                    });
+        }
+
+        ObjLongConsumer<Object> bindLongSetter() {
+            return bind(ObjLongConsumer.class, "accept", MethodType.methodType(void.class, Object.class, long.class),
+                    h -> (object, value) -> {
+                        try {
+                            h.invokeExact(object, value);
+                        } catch (Throwable e) {
+                            throw setterFailed(e);
+                        }
+                    });
+        }
+
+        ObjIntConsumer<Object> bindIntSetter() {
+            return bind(ObjIntConsumer.class, "accept", MethodType.methodType(void.class, Object.class, int.class),
+                    h -> (object, value) -> {
+                        try {
+                            h.invokeExact(object, value);
+                        } catch (Throwable e) {
+                            throw setterFailed(e);
+                        }
+                    });
+        }
+
+        ObjDoubleConsumer<Object> bindDoubleSetter() {
+            return bind(ObjDoubleConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, double.class),
+                    h -> (object, value) -> {
+                        try {
+                            h.invokeExact(object, value);
+                        } catch (Throwable e) {
+                            throw setterFailed(e);
+                        }
+                    });
+        }
+
+        /**
+         * Bind the accessor to an instance of the specified functional interface. Uses {@link LambdaMetafactory}
+         * where possible, otherwise wraps the method handle adapted to the interface method type
+         */
+        @SuppressWarnings("unchecked")
+        private <I> I bind(Class<?> functionalInterface, String methodName, MethodType methodType,
+                           Function<MethodHandle, I> fallback) {
+            if (direct) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                            MethodType.methodType(functionalInterface), methodType, handle,
+                            instantiatedMethodType(methodType));
+                    return (I) site.getTarget().invoke();
+                } catch (Throwable e) {
+                    // fall back to the method handle
+                }
+            }
+            // the value returned by a fluent setter is discarded
+            return fallback.apply(handle.asType(methodType));
+        }
+
+        private MethodType instantiatedMethodType(MethodType methodType) {
+            MethodType type = handle.type().changeParameterType(0, pojoClass);
+            for (int i = 1; i < type.parameterCount(); i++) {
+                if (!methodType.parameterType(i).isPrimitive()) {
+                    type = type.changeParameterType(i, wrap(type.parameterType(i)));
+                }
+            }
+            if (methodType.returnType() == void.class) {
+                return type.changeReturnType(void.class);
+            }
+            return methodType.returnType().isPrimitive() ? type : type.changeReturnType(wrap(type.returnType()));
+        }
+
+        private static MessagePackObjectMapperException getterFailed(Throwable e) {
+            return new MessagePackObjectMapperException("Failed to get the object property value", e);
+        }
+
+        private static MessagePackValueMapperException setterFailed(Throwable e) {
+            return new MessagePackValueMapperException("Failed to set the object property value", e);
+        }
+    }
+
+    private abstract static class PojoProperty {
+        protected final int position;
+        protected final MethodHandle setterHandle;
+
+        protected PojoProperty(int position, MethodHandle setterHandle) {
+            this.position = position;
+            this.setterHandle = setterHandle;
+        }
+
+        /**
+         * Get the handle converting a non-nil field value to the property type
+         */
+        abstract MethodHandle valueConverter(MessagePackMapper mapper);
+
+        abstract void unpack(Object object, MessageUnpacker unpacker, MessagePackMapper mapper) throws IOException;
+
+        abstract Value toValue(Object object, MessagePackMapper mapper);
+
+        abstract void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException;
+    }
+
+    private static final class LongProperty extends PojoProperty {
+        private final ToLongFunction<Object> getter;
+        private final ObjLongConsumer<Object> setter;
+
+        private LongProperty(int position, ToLongFunction<Object> getter, ObjLongConsumer<Object> setter,
+                             MethodHandle setterHandle) {
+            super(position, setterHandle);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        MethodHandle valueConverter(MessagePackMapper mapper) {
+            return VALUE_AS_LONG;
+        }
+
+        @Override
+        void unpack(Object object, MessageUnpacker unpacker, MessagePackMapper mapper) throws IOException {
+            setter.accept(object, unpacker.unpackLong());
+        }
+
+        @Override
+        Value toValue(Object object, MessagePackMapper mapper) {
+            return ValueFactory.newInteger(getter.applyAsLong(object));
+        }
+
+        @Override
+        void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+            packer.packLong(getter.applyAsLong(object));
+        }
+    }
+
+    private static final class IntProperty extends PojoProperty {
+        private final ToIntFunction<Object> getter;
+        private final ObjIntConsumer<Object> setter;
+
+        private IntProperty(int position, ToIntFunction<Object> getter, ObjIntConsumer<Object> setter,
+                            MethodHandle setterHandle) {
+            super(position, setterHandle);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        MethodHandle valueConverter(MessagePackMapper mapper) {
+            return VALUE_AS_INT;
+        }
+
+        @Override
+        void unpack(Object object, MessageUnpacker unpacker, MessagePackMapper mapper) throws IOException {
+            setter.accept(object, unpacker.unpackInt());
+        }
+
+        @Override
+        Value toValue(Object object, MessagePackMapper mapper) {
+            return ValueFactory.newInteger(getter.applyAsInt(object));
+        }
+
+        @Override
+        void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+            packer.packInt(getter.applyAsInt(object));
+        }
+    }
+
+    private static final class DoubleProperty extends PojoProperty {
+        private final ToDoubleFunction<Object> getter;
+        private final ObjDoubleConsumer<Object> setter;
+
+        private DoubleProperty(int position, ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter,
+                               MethodHandle setterHandle) {
+            super(position, setterHandle);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        MethodHandle valueConverter(MessagePackMapper mapper) {
+            return VALUE_AS_DOUBLE;
+        }
+
+        @Override
+        void unpack(Object object, MessageUnpacker unpacker, MessagePackMapper mapper) throws IOException {
+            setter.accept(object, unpacker.getNextFormat().getValueType() == ValueType.INTEGER ?
+                    unpacker.unpackLong() : unpacker.unpackDouble());
+        }
+
+        @Override
+        Value toValue(Object object, MessagePackMapper mapper) {
+            return ValueFactory.newFloat(getter.applyAsDouble(object));
+        }
+
+        @Override
+        void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+            packer.packDouble(getter.applyAsDouble(object));
+        }
+    }
+
+    private static final class ReferenceProperty extends PojoProperty {
+        private final Class<?> type;
+        private final PropertyKind kind;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+
+        private ReferenceProperty(int position, Class<?> type, Function<Object, Object> getter,
+                                  BiConsumer<Object, Object> setter, MethodHandle setterHandle) {
+            super(position, setterHandle);
+            this.type = type;
+            this.kind = PropertyKind.of(type);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        MethodHandle valueConverter(MessagePackMapper mapper) {
+            return MethodHandles.insertArguments(KIND_FROM_VALUE.bindTo(kind), 1, type, mapper);
+        }
+
+        @Override
+        void unpack(Object object, MessageUnpacker unpacker, MessagePackMapper mapper) throws IOException {
+            setter.accept(object, kind.unpack(unpacker, type, mapper));
+        }
+
+        @Override
+        Value toValue(Object object, MessagePackMapper mapper) {
+            Object value = getter.apply(object);
+            return value == null ? ValueFactory.newNil() : kind.toValue(value, mapper);
+        }
+
+        @Override
+        void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+            Object value = getter.apply(object);
+            if (value == null) {
+                packer.packNil();
+            } else {
+                kind.pack(value, packer, mapper);
+            }
+        }
+    }
+
+    /**
+     * Conversions for the basic property types which are performed without the mapper lookups
+     */
+    private enum PropertyKind {
+        LONG {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asIntegerValue().asLong();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackLong();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newInteger((Long) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packLong((Long) object);
+            }
+        },
+        INTEGER {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asIntegerValue().asInt();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackInt();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newInteger((Integer) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packInt((Integer) object);
+            }
+        },
+        SHORT {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asIntegerValue().asShort();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackShort();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newInteger((Short) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packShort((Short) object);
+            }
+        },
+        BYTE {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asIntegerValue().asByte();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackByte();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newInteger((Byte) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packByte((Byte) object);
+            }
+        },
+        DOUBLE {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asNumberValue().toDouble();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.getNextFormat().getValueType() == ValueType.INTEGER ?
+                        (double) unpacker.unpackLong() : unpacker.unpackDouble();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newFloat((Double) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packDouble((Double) object);
+            }
+        },
+        FLOAT {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asNumberValue().toFloat();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.getNextFormat().getValueType() == ValueType.INTEGER ?
+                        (float) unpacker.unpackLong() : unpacker.unpackFloat();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newFloat((Float) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packDouble((Float) object);
+            }
+        },
+        BOOLEAN {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asBooleanValue().getBoolean();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackBoolean();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newBoolean((Boolean) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packBoolean((Boolean) object);
+            }
+        },
+        STRING {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asStringValue().asString();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.unpackString();
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newString((String) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                packer.packString((String) object);
+            }
+        },
+        BINARY {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return value.asBinaryValue().asByteArray();
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return unpacker.readPayload(unpacker.unpackBinaryHeader());
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return ValueFactory.newBinary((byte[]) object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                byte[] data = (byte[]) object;
+                packer.packBinaryHeader(data.length);
+                packer.writePayload(data);
+            }
+        },
+        OBJECT {
+            @Override
+            Object fromValue(Value value, Class<?> type, MessagePackMapper mapper) {
+                return mapper.fromValue(value, type);
+            }
+
+            @Override
+            Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException {
+                return mapper.fromValue(unpacker.unpackValue(), type);
+            }
+
+            @Override
+            Value toValue(Object object, MessagePackMapper mapper) {
+                return mapper.toValue(object);
+            }
+
+            @Override
+            void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException {
+                mapper.toMessagePack(object, packer);
+            }
+        };
+
+        abstract Object fromValue(Value value, Class<?> type, MessagePackMapper mapper);
+
+        abstract Object unpack(MessageUnpacker unpacker, Class<?> type, MessagePackMapper mapper) throws IOException;
+
+        abstract Value toValue(Object object, MessagePackMapper mapper);
+
+        abstract void pack(Object object, MessagePacker packer, MessagePackMapper mapper) throws IOException;
+
+        static PropertyKind of(Class<?> type) {
+            if (type == long.class || type == Long.class) {
+                return LONG;
+            } else if (type == int.class || type == Integer.class) {
+                return INTEGER;
+            } else if (type == short.class || type == Short.class) {
+                return SHORT;
+            } else if (type == byte.class || type == Byte.class) {
+                return BYTE;
+            } else if (type == double.class || type == Double.class) {
+                return DOUBLE;
+            } else if (type == float.class || type == Float.class) {
+                return FLOAT;
+            } else if (type == boolean.class || type == Boolean.class) {
+                return BOOLEAN;
+            } else if (type == String.class) {
+                return STRING;
+            } else if (type == byte[].class) {
+                return BINARY;
+            }
+            return OBJECT;
+        }
+    }
+}
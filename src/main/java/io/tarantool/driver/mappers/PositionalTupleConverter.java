@@ -0,0 +1,31 @@
+package io.tarantool.driver.mappers;
+
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+
+import java.io.IOException;
+
+/**
+ * Converter between tuples and Java objects which maps the tuple fields to the object properties by position.
+ * Besides the conversion from and to {@link ArrayValue}, the objects can be read directly from a
+ * {@link MessageUnpacker} without materializing the intermediate MessagePack entities.
+ *
+ * @param <T> target object type
+ * @author Alexey Kuzin
+ */
+public interface PositionalTupleConverter<T> extends ValueConverter<ArrayValue, T>, ObjectConverter<T, ArrayValue> {
+
+    /**
+     * Get the class of objects handled by this converter
+     * @return object class
+     */
+    Class<T> getTupleClass();
+
+    /**
+     * Read an object from a packed tuple. The unpacker must be positioned at the tuple array header
+     * @param unpacker MessagePack unpacker
+     * @return a new object
+     * @throws IOException if the tuple cannot be read from the unpacker
+     */
+    T unpack(MessageUnpacker unpacker) throws IOException;
+}
@@ -0,0 +1,75 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.api.TarantoolBatchResult;
+import io.tarantool.driver.exceptions.TarantoolBatchItemException;
+import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.impl.ImmutableArrayValueImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tuple mapper for the results of API functions processing many tuples at once, like <code>crud.insert_many</code>.
+ *
+ * The function returns the processed tuples and an array of errors for the failed ones:
+ * <code>{metadata = ..., rows = ...}, {err1, err2, ...}</code>. If all tuples have failed, the first value is
+ * <code>nil</code>. An error may contain the <code>position</code> field with the index of the failed tuple in the
+ * passed array, starting from 1, then it is converted into {@link TarantoolBatchItemException}. The result is
+ * converted into a {@link TarantoolBatchResult}.
+ *
+ * @param <T> target tuple type
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchCallResultMapper<T> extends TarantoolCallResultMapper<T> {
+
+    private static final Value ERROR_POSITION = ValueFactory.newString("position");
+
+    public TarantoolBatchCallResultMapper(MessagePackValueMapper valueMapper,
+                                          ValueConverter<ArrayValue, T> tupleConverter) {
+        super(v -> {
+            Value result = v.size() > 0 ? v.get(0) : null;
+            Value errors = v.size() > 1 ? v.get(1) : null;
+
+            // [nil, "Error msg..."] or [nil, {str="Error msg...", stack="..."}]
+            if ((result == null || result.isNilValue()) && errors != null && !errors.isArrayValue()) {
+                if (errors.isMapValue()) {
+                    throw new TarantoolFunctionCallException(errors.asMapValue());
+                } else if (!errors.isNilValue()) {
+                    throw new TarantoolFunctionCallException(errors.toString());
+                }
+            }
+
+            ArrayValue tuples = ImmutableArrayValueImpl.empty();
+            if (result != null && result.isMapValue() && hasRowsAndMetadata(result.asMapValue().map())) {
+                tuples = result.asMapValue().map().get(RESULT_ROWS).asArrayValue();
+            } else if (result != null && result.isArrayValue()) {
+                tuples = result.asArrayValue();
+            }
+
+            List<Throwable> failures = Collections.emptyList();
+            if (errors != null && errors.isArrayValue()) {
+                failures = new ArrayList<>(errors.asArrayValue().size());
+                for (Value error : errors.asArrayValue()) {
+                    failures.add(toItemError(error));
+                }
+            }
+            return new TarantoolBatchResult<>(tuples, tupleConverter, failures);
+        }, valueMapper);
+    }
+
+    private static Throwable toItemError(Value error) {
+        if (!error.isMapValue()) {
+            return new TarantoolFunctionCallException(error.toString());
+        }
+        TarantoolFunctionCallException cause = new TarantoolFunctionCallException(error.asMapValue());
+        Value position = error.asMapValue().map().get(ERROR_POSITION);
+        if (position != null && position.isIntegerValue()) {
+            return new TarantoolBatchItemException(position.asIntegerValue().asInt() - 1, cause);
+        }
+        return cause;
+    }
+}
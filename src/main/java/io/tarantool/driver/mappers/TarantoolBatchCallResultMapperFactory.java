@@ -0,0 +1,26 @@
+package io.tarantool.driver.mappers;
+
+import org.msgpack.value.ArrayValue;
+
+/**
+ * Factory for {@link TarantoolBatchCallResultMapper} instances used for calling API functions processing many
+ * tuples at once
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchCallResultMapperFactory extends TarantoolCallResultMapperFactory {
+
+    /**
+     * Basic constructor
+     *
+     * @param messagePackMapper mapper for MessagePack entities in tuple fields to Java objects
+     */
+    public TarantoolBatchCallResultMapperFactory(MessagePackMapper messagePackMapper) {
+        super(messagePackMapper);
+    }
+
+    @Override
+    protected <T> TarantoolCallResultMapper<T> createMapper(ValueConverter<ArrayValue, T> valueConverter) {
+        return new TarantoolBatchCallResultMapper<>(new DefaultMessagePackMapper(), valueConverter);
+    }
+}
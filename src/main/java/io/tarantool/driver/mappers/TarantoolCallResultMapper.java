@@ -22,8 +22,8 @@ import java.util.Map;
  */
 public class TarantoolCallResultMapper<T> extends AbstractTarantoolResultMapper<T> {
 
-    private static final ImmutableStringValue RESULT_META = new ImmutableStringValueImpl("metadata");
-    private static final ImmutableStringValue RESULT_ROWS = new ImmutableStringValueImpl("rows");
+    protected static final ImmutableStringValue RESULT_META = new ImmutableStringValueImpl("metadata");
+    protected static final ImmutableStringValue RESULT_ROWS = new ImmutableStringValueImpl("rows");
 
     public TarantoolCallResultMapper(MessagePackValueMapper valueMapper,
                                      ValueConverter<ArrayValue, T> tupleConverter) {
@@ -56,7 +56,18 @@ public class TarantoolCallResultMapper<T> extends AbstractTarantoolResultMapper<
         });
     }
 
-    private static boolean hasRowsAndMetadata(Map<Value, Value> valueMap) {
+    /**
+     * Create a mapper with a custom conversion of the call result
+     *
+     * @param resultConverter converter for the whole call result
+     * @param valueMapper mapper for the tuple field values
+     */
+    protected TarantoolCallResultMapper(ValueConverter<ArrayValue, TarantoolResultImpl> resultConverter,
+                                        MessagePackValueMapper valueMapper) {
+        super(valueMapper, resultConverter);
+    }
+
+    protected static boolean hasRowsAndMetadata(Map<Value, Value> valueMap) {
         return valueMap.containsKey(RESULT_META) && valueMap.containsKey(RESULT_ROWS);
     }
 }
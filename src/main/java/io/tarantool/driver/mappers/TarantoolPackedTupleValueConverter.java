@@ -0,0 +1,37 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.api.tuple.TarantoolPackedTuple;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+
+import java.io.IOException;
+
+/**
+ * {@link ArrayValue} to {@link TarantoolPackedTuple} converter. Use it instead of the default converter for large
+ * results which are kept in memory and only some of the fields are read from each tuple
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolPackedTupleValueConverter implements ValueConverter<ArrayValue, TarantoolTuple> {
+
+    private final MessagePackMapper mapper;
+    private final TarantoolSpaceMetadata spaceMetadata;
+
+    public TarantoolPackedTupleValueConverter(MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata) {
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+    }
+
+    @Override
+    public TarantoolTuple fromValue(ArrayValue value) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(value);
+            return new TarantoolPackedTuple(packer.toByteArray(), mapper, spaceMetadata);
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to pack the tuple", e);
+        }
+    }
+}
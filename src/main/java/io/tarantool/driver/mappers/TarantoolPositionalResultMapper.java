@@ -0,0 +1,48 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.api.TarantoolResultImpl;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper from array of MessagePack tuples to TarantoolResult, which is able to read the tuples directly from the
+ * packed response data using a {@link PositionalTupleConverter}
+ *
+ * @param <T> target tuple type
+ * @author Alexey Kuzin
+ */
+public class TarantoolPositionalResultMapper<T> extends TarantoolSimpleResultMapper<T> {
+
+    private final PositionalTupleConverter<T> tupleConverter;
+
+    /**
+     * Basic constructor
+     *
+     * @param valueMapper value mapper to be used for tuple fields
+     * @param tupleConverter converter between tuples and the target objects
+     */
+    public TarantoolPositionalResultMapper(MessagePackValueMapper valueMapper,
+                                           PositionalTupleConverter<T> tupleConverter) {
+        super(valueMapper, tupleConverter);
+        this.tupleConverter = tupleConverter;
+    }
+
+    /**
+     * Read the result from the packed array of tuples
+     *
+     * @param unpacker MessagePack unpacker positioned at the array header
+     * @return result containing the converted tuples
+     * @throws IOException if the tuples cannot be read from the unpacker
+     */
+    public TarantoolResultImpl<T> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        int size = unpacker.unpackArrayHeader();
+        List<T> tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tuples.add(tupleConverter.unpack(unpacker));
+        }
+        return new TarantoolResultImpl<>(tuples);
+    }
+}
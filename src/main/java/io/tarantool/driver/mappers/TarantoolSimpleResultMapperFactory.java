@@ -28,6 +28,11 @@ public class TarantoolSimpleResultMapperFactory extends AbstractTarantoolResultM
     }
 
     protected <T> TarantoolSimpleResultMapper<T> createMapper(ValueConverter<ArrayValue, T> valueConverter) {
+        if (valueConverter instanceof PositionalTupleConverter) {
+            // the tuples will be read from the response bytes directly
+            return new TarantoolPositionalResultMapper<>(
+                    new DefaultMessagePackMapper(), (PositionalTupleConverter<T>) valueConverter);
+        }
         return new TarantoolSimpleResultMapper<>(new DefaultMessagePackMapper(), valueConverter);
     }
 
@@ -0,0 +1,64 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.api.TarantoolResultImpl;
+import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
+import io.tarantool.driver.exceptions.TarantoolShardingException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.StringValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.msgpack.value.impl.ImmutableArrayValueImpl;
+
+import java.util.Map;
+
+/**
+ * Tuple mapper for the results of the functions called on a storage with <code>vshard.storage.call</code>.
+ *
+ * The call returns <code>true</code> and the function result, which is a single tuple or <code>nil</code>, on
+ * success. On failure <code>nil</code> and an error object are returned, the vshard errors (the error objects
+ * with type <code>ShardingError</code>) are converted into {@link TarantoolShardingException}.
+ *
+ * @param <T> target tuple type
+ * @author Alexey Kuzin
+ */
+public class TarantoolStorageCallResultMapper<T> extends TarantoolCallResultMapper<T> {
+
+    private static final StringValue ERROR_TYPE = ValueFactory.newString("type");
+    private static final StringValue ERROR_NAME = ValueFactory.newString("name");
+    private static final StringValue ERROR_MESSAGE = ValueFactory.newString("message");
+    private static final StringValue ERROR_STR = ValueFactory.newString("str");
+    private static final String SHARDING_ERROR = "ShardingError";
+
+    public TarantoolStorageCallResultMapper(MessagePackValueMapper valueMapper,
+                                            ValueConverter<ArrayValue, T> tupleConverter) {
+        super(v -> {
+            Value status = v.size() > 0 ? v.get(0) : ValueFactory.newNil();
+
+            // [nil, {type="ShardingError", name="WRONG_BUCKET", message="..."}] or [nil, "Error msg..."]
+            if (status.isNilValue() && v.size() > 1 && !v.get(1).isNilValue()) {
+                throw toException(v.get(1));
+            }
+
+            // [true, [...]] or [true] if the function returned nil
+            Value tuple = status.isBooleanValue() ? (v.size() > 1 ? v.get(1) : ValueFactory.newNil()) : status;
+            ArrayValue tuples = tuple.isArrayValue() ?
+                    ValueFactory.newArray(tuple) : ImmutableArrayValueImpl.empty();
+            return new TarantoolResultImpl<>(tuples, tupleConverter);
+        }, valueMapper);
+    }
+
+    private static RuntimeException toException(Value error) {
+        if (!error.isMapValue()) {
+            return new TarantoolFunctionCallException(error.toString());
+        }
+        Map<Value, Value> errorMap = error.asMapValue().map();
+        Value message = errorMap.containsKey(ERROR_MESSAGE) ? errorMap.get(ERROR_MESSAGE) : errorMap.get(ERROR_STR);
+        String errorMessage = message != null ? message.toString() : error.toString();
+        Value type = errorMap.get(ERROR_TYPE);
+        if (type != null && SHARDING_ERROR.equals(type.toString())) {
+            Value name = errorMap.get(ERROR_NAME);
+            return new TarantoolShardingException(name != null ? name.toString() : null, errorMessage);
+        }
+        return new TarantoolFunctionCallException(errorMessage);
+    }
+}
@@ -0,0 +1,23 @@
+package io.tarantool.driver.mappers.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a field of a class annotated with {@link Tuple} to a tuple field
+ *
+ * @author Alexey Kuzin
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Field {
+    /**
+     * Position of the field in tuple, starting from 0
+     * @return a non-negative number
+     */
+    int position();
+}
@@ -0,0 +1,44 @@
+package io.tarantool.driver.mappers.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class which is mapped to Tarantool tuples. A converter named {@code <ClassName>TupleConverter}
+ * implementing {@link io.tarantool.driver.mappers.PositionalTupleConverter} is generated for the class at compile
+ * time by {@link TupleMappingProcessor}. The tuple fields are mapped to the class fields annotated with
+ * {@link Field}. The processor must be enabled explicitly in the compiler configuration.
+ * <p>
+ * The result mappers created with the generated converter read the tuples directly from the response bytes.
+ * <p>
+ * The class must have a non-private constructor without arguments. The mapped fields must be either non-private or
+ * have non-private getters and setters following the JavaBeans naming conventions.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * {@literal @}Tuple
+ * public class Customer {
+ *     {@literal @}Field(position = 0)
+ *     long id;
+ *     {@literal @}Field(position = 1)
+ *     String name;
+ * }
+ *
+ * DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+ * CustomerTupleConverter.register(mapper);
+ * TarantoolResult&lt;Customer&gt; customers = client.space("customers")
+ *     .select(conditions, new CustomerTupleConverter(mapper)).get();
+ * </code>
+ * </pre>
+ *
+ * @author Alexey Kuzin
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Tuple {
+}
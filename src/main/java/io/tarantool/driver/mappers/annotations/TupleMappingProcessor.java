@@ -0,0 +1,454 @@
+package io.tarantool.driver.mappers.annotations;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates {@link io.tarantool.driver.mappers.PositionalTupleConverter} implementations for the classes annotated
+ * with {@link Tuple}. The generated converters access the object fields directly or through the accessor methods,
+ * without reflection, and convert the values of the common types (numbers, booleans, strings and binary data)
+ * without consulting the mapper. The values of other types are converted with the mapper passed to the converter.
+ * <p>
+ * The processor is not registered as a service and must be enabled explicitly for the modules containing the
+ * annotated classes, e.g. with the {@code annotationProcessors} option of maven-compiler-plugin or with the
+ * {@code -processor io.tarantool.driver.mappers.annotations.TupleMappingProcessor} option of javac.
+ *
+ * @author Alexey Kuzin
+ */
+@SupportedAnnotationTypes("io.tarantool.driver.mappers.annotations.Tuple")
+public class TupleMappingProcessor extends AbstractProcessor {
+
+    static final String CONVERTER_SUFFIX = "TupleConverter";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Tuple.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Tuple can be applied only to classes");
+                continue;
+            }
+            TypeElement tupleClass = (TypeElement) element;
+            List<TupleField> fields = collectFields(tupleClass);
+            if (fields != null && checkConstructor(tupleClass)) {
+                writeConverter(tupleClass, fields);
+            }
+        }
+        return true;
+    }
+
+    private boolean checkConstructor(TypeElement tupleClass) {
+        if (tupleClass.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(tupleClass, "@Tuple class must not be abstract");
+            return false;
+        }
+        if (tupleClass.getNestingKind().isNested() && !tupleClass.getModifiers().contains(Modifier.STATIC)) {
+            error(tupleClass, "@Tuple class must be a top level or a static nested class");
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(tupleClass.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        error(tupleClass, "@Tuple class must have a non-private constructor without arguments");
+        return false;
+    }
+
+    private List<TupleField> collectFields(TypeElement tupleClass) {
+        List<TupleField> fields = new ArrayList<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(tupleClass.getEnclosedElements())) {
+            Field annotation = field.getAnnotation(Field.class);
+            if (annotation == null) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+                error(field, "@Field must not be static or final");
+                valid = false;
+                continue;
+            }
+            if (annotation.position() < 0) {
+                error(field, "@Field position must be greater than or equal 0");
+                valid = false;
+                continue;
+            }
+            for (TupleField other : fields) {
+                if (other.position == annotation.position()) {
+                    error(field, "Field %s is already mapped to position %d", other.name, other.position);
+                    valid = false;
+                }
+            }
+            TupleField tupleField = new TupleField(field, annotation.position());
+            if (field.getModifiers().contains(Modifier.PRIVATE) && !tupleField.resolveAccessors(tupleClass)) {
+                error(field, "Private @Field must have non-private getter and setter");
+                valid = false;
+                continue;
+            }
+            fields.add(tupleField);
+        }
+        if (fields.isEmpty() && valid) {
+            error(tupleClass, "@Tuple class must have at least one @Field");
+            valid = false;
+        }
+        fields.sort(Comparator.comparingInt(f -> f.position));
+        return valid ? fields : null;
+    }
+
+    private void writeConverter(TypeElement tupleClass, List<TupleField> fields) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(tupleClass);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String className = tupleClass.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(tupleClass).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_');
+        String converterName = simpleName + CONVERTER_SUFFIX;
+        int tupleSize = fields.get(fields.size() - 1).position + 1;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? converterName : packageName + "." + converterName, tupleClass);
+            try (Writer writer = file.openWriter(); PrintWriter out = new PrintWriter(writer)) {
+                if (!packageName.isEmpty()) {
+                    out.printf("package %s;%n%n", packageName);
+                }
+                out.printf("/**%n * Converter for {@link %s} generated by %s%n */%n",
+                        className, TupleMappingProcessor.class.getName());
+                // the converter interfaces are listed explicitly, the mapper determines the target type from them
+                out.printf("public final class %s implements%n", converterName);
+                out.printf("        io.tarantool.driver.mappers.ValueConverter<org.msgpack.value.ArrayValue, %s>,%n",
+                        className);
+                out.printf("        io.tarantool.driver.mappers.ObjectConverter<%s, org.msgpack.value.ArrayValue>,%n",
+                        className);
+                out.printf("        io.tarantool.driver.mappers.PositionalTupleConverter<%s> {%n%n", className);
+                out.printf("    private static final int TUPLE_SIZE = %d;%n%n", tupleSize);
+                out.printf("    private final io.tarantool.driver.mappers.MessagePackMapper mapper;%n%n");
+
+                out.printf("    /**%n     * Basic constructor.%n     *%n");
+                out.printf("     * @param mapper mapper for the field values of other than the basic types%n     */%n");
+                out.printf("    public %s(io.tarantool.driver.mappers.MessagePackMapper mapper) {%n", converterName);
+                out.printf("        this.mapper = mapper;%n    }%n%n");
+
+                out.printf("    /**%n     * Register a new converter instance in the mapper%n");
+                out.printf("     * @param mapper mapper to register the converter in%n");
+                out.printf("     * @return the registered converter%n     */%n");
+                out.printf("    public static %s register(%n", converterName);
+                out.printf("            io.tarantool.driver.mappers.DefaultMessagePackMapper mapper) {%n");
+                out.printf("        %s converter = new %s(mapper);%n", converterName, converterName);
+                out.printf("        mapper.registerConverter(%n");
+                out.printf("                org.msgpack.value.ArrayValue.class, %s.class, converter);%n", className);
+                out.printf("        return converter;%n    }%n%n");
+
+                out.printf("    @Override%n    public Class<%s> getTupleClass() {%n", className);
+                out.printf("        return %s.class;%n    }%n%n", className);
+
+                writeFromValue(out, className, fields);
+                writeUnpack(out, className, fields);
+                writeToValue(out, className, fields);
+                writeToMessagePack(out, className, fields);
+                out.printf("}%n");
+            }
+        } catch (IOException e) {
+            error(tupleClass, "Failed to write the tuple converter: %s", e.getMessage());
+        }
+    }
+
+    private void writeFromValue(PrintWriter out, String className, List<TupleField> fields) {
+        out.printf("    @Override%n    @SuppressWarnings(\"unchecked\")%n");
+        out.printf("    public %s fromValue(org.msgpack.value.ArrayValue value) {%n", className);
+        out.printf("        %s object = new %s();%n", className, className);
+        out.printf("        int size = value.size();%n");
+        out.printf("        org.msgpack.value.Value field;%n");
+        for (TupleField field : fields) {
+            out.printf("        if (size > %d) {%n", field.position);
+            out.printf("            field = value.get(%d);%n", field.position);
+            out.printf("            if (!field.isNilValue()) {%n");
+            out.printf("                %s;%n", field.setter("object", field.kind.readValue(field, "field")));
+            out.printf("            }%n        }%n");
+        }
+        out.printf("        return object;%n    }%n%n");
+    }
+
+    private void writeUnpack(PrintWriter out, String className, List<TupleField> fields) {
+        out.printf("    @Override%n    @SuppressWarnings(\"unchecked\")%n");
+        out.printf("    public %s unpack(org.msgpack.core.MessageUnpacker unpacker) throws java.io.IOException {%n",
+                className);
+        out.printf("        %s object = new %s();%n", className, className);
+        out.printf("        int size = unpacker.unpackArrayHeader();%n");
+        out.printf("        for (int i = 0; i < size; i++) {%n");
+        out.printf("            if (unpacker.getNextFormat() == org.msgpack.core.MessageFormat.NIL) {%n");
+        out.printf("                unpacker.unpackNil();%n                continue;%n            }%n");
+        out.printf("            switch (i) {%n");
+        for (TupleField field : fields) {
+            out.printf("                case %d:%n", field.position);
+            out.printf("                    %s;%n", field.setter("object", field.kind.unpack(field, "unpacker")));
+            out.printf("                    break;%n");
+        }
+        out.printf("                default:%n                    unpacker.skipValue();%n");
+        out.printf("            }%n        }%n");
+        out.printf("        return object;%n    }%n%n");
+    }
+
+    private void writeToValue(PrintWriter out, String className, List<TupleField> fields) {
+        out.printf("    @Override%n");
+        out.printf("    public org.msgpack.value.ArrayValue toValue(%s object) {%n", className);
+        out.printf("        org.msgpack.value.Value[] values = new org.msgpack.value.Value[TUPLE_SIZE];%n");
+        int position = 0;
+        for (TupleField field : fields) {
+            for (; position < field.position; position++) {
+                out.printf("        values[%d] = org.msgpack.value.ValueFactory.newNil();%n", position);
+            }
+            String getter = field.getter("object");
+            if (field.isPrimitive()) {
+                out.printf("        values[%d] = %s;%n", field.position, field.kind.toValue(getter));
+            } else {
+                out.printf("        values[%d] = %s == null ?%n", field.position, getter);
+                out.printf("                org.msgpack.value.ValueFactory.newNil() : %s;%n",
+                        field.kind.toValue(getter));
+            }
+            position++;
+        }
+        out.printf("        return org.msgpack.value.ValueFactory.newArray(values, true);%n    }%n");
+    }
+
+    private void writeToMessagePack(PrintWriter out, String className, List<TupleField> fields) {
+        out.printf("%n    @Override%n");
+        out.printf("    public void toMessagePack(%s object, org.msgpack.core.MessagePacker packer)%n", className);
+        out.printf("            throws java.io.IOException {%n");
+        out.printf("        packer.packArrayHeader(TUPLE_SIZE);%n");
+        int position = 0;
+        for (TupleField field : fields) {
+            for (; position < field.position; position++) {
+                out.printf("        packer.packNil();%n");
+            }
+            String getter = field.getter("object");
+            if (field.isPrimitive() || field.kind == FieldKind.OBJECT) {
+                // the mapper writes null objects as nil
+                out.printf("        %s;%n", field.kind.pack(getter, "packer"));
+            } else {
+                out.printf("        if (%s == null) {%n", getter);
+                out.printf("            packer.packNil();%n        } else {%n");
+                out.printf("            %s;%n        }%n", field.kind.pack(getter, "packer"));
+            }
+            position++;
+        }
+        out.printf("    }%n");
+    }
+
+    private void error(Element element, String message, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(message, args), element);
+    }
+
+    /**
+     * Field value conversion kinds. The basic types are converted inline, the other types are converted with
+     * the mapper
+     */
+    private enum FieldKind {
+        INTEGER("asIntegerValue().asInt()", "unpackInt()", "newInteger"),
+        LONG("asIntegerValue().asLong()", "unpackLong()", "newInteger"),
+        SHORT("asIntegerValue().asShort()", "unpackShort()", "newInteger"),
+        BYTE("asIntegerValue().asByte()", "unpackByte()", "newInteger"),
+        BOOLEAN("asBooleanValue().getBoolean()", "unpackBoolean()", "newBoolean"),
+        FLOAT("asNumberValue().toFloat()", null, "newFloat"),
+        DOUBLE("asNumberValue().toDouble()", null, "newFloat"),
+        STRING("asStringValue().asString()", "unpackString()", "newString"),
+        BINARY("asBinaryValue().asByteArray()", null, "newBinary"),
+        OBJECT(null, null, null);
+
+        private final String valueAccessor;
+        private final String unpackerMethod;
+        private final String factoryMethod;
+
+        FieldKind(String valueAccessor, String unpackerMethod, String factoryMethod) {
+            this.valueAccessor = valueAccessor;
+            this.unpackerMethod = unpackerMethod;
+            this.factoryMethod = factoryMethod;
+        }
+
+        String readValue(TupleField field, String value) {
+            if (this == OBJECT) {
+                return String.format("(%s) mapper.fromValue(%s, %s.class)", field.typeName, value, field.erasure);
+            }
+            return value + "." + valueAccessor;
+        }
+
+        String unpack(TupleField field, String unpacker) {
+            switch (this) {
+                case FLOAT:
+                    return String.format("(float) (%1$s.getNextFormat().getValueType() == " +
+                            "org.msgpack.value.ValueType.INTEGER ? %1$s.unpackLong() : %1$s.unpackDouble())",
+                            unpacker);
+                case DOUBLE:
+                    return String.format("%1$s.getNextFormat().getValueType() == " +
+                            "org.msgpack.value.ValueType.INTEGER ? %1$s.unpackLong() : %1$s.unpackDouble()",
+                            unpacker);
+                case BINARY:
+                    return String.format("%1$s.readPayload(%1$s.unpackBinaryHeader())", unpacker);
+                case OBJECT:
+                    return String.format("(%s) mapper.fromValue(%s.unpackValue(), %s.class)",
+                            field.typeName, unpacker, field.erasure);
+                default:
+                    return unpacker + "." + unpackerMethod;
+            }
+        }
+
+        String toValue(String getter) {
+            if (this == OBJECT) {
+                return String.format("mapper.toValue(%s)", getter);
+            }
+            return String.format("org.msgpack.value.ValueFactory.%s(%s)", factoryMethod, getter);
+        }
+
+        String pack(String getter, String packer) {
+            switch (this) {
+                case INTEGER:
+                    return String.format("%s.packInt(%s)", packer, getter);
+                case LONG:
+                    return String.format("%s.packLong(%s)", packer, getter);
+                case SHORT:
+                    return String.format("%s.packShort(%s)", packer, getter);
+                case BYTE:
+                    return String.format("%s.packByte(%s)", packer, getter);
+                case BOOLEAN:
+                    return String.format("%s.packBoolean(%s)", packer, getter);
+                case FLOAT:
+                case DOUBLE:
+                    // floats are packed as MP_DOUBLE, the same way as the float entity values
+                    return String.format("%s.packDouble(%s)", packer, getter);
+                case STRING:
+                    return String.format("%s.packString(%s)", packer, getter);
+                case BINARY:
+                    return String.format("%1$s.packBinaryHeader(%2$s.length).writePayload(%2$s)", packer, getter);
+                default:
+                    return String.format("mapper.toMessagePack(%s, %s)", getter, packer);
+            }
+        }
+
+        static FieldKind of(TypeMirror type) {
+            switch (type.getKind()) {
+                case INT:
+                    return INTEGER;
+                case LONG:
+                    return LONG;
+                case SHORT:
+                    return SHORT;
+                case BYTE:
+                    return BYTE;
+                case BOOLEAN:
+                    return BOOLEAN;
+                case FLOAT:
+                    return FLOAT;
+                case DOUBLE:
+                    return DOUBLE;
+                case ARRAY:
+                    return ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE ? BINARY : OBJECT;
+                case DECLARED:
+                    switch (type.toString()) {
+                        case "java.lang.Integer":
+                            return INTEGER;
+                        case "java.lang.Long":
+                            return LONG;
+                        case "java.lang.Short":
+                            return SHORT;
+                        case "java.lang.Byte":
+                            return BYTE;
+                        case "java.lang.Boolean":
+                            return BOOLEAN;
+                        case "java.lang.Float":
+                            return FLOAT;
+                        case "java.lang.Double":
+                            return DOUBLE;
+                        case "java.lang.String":
+                            return STRING;
+                        default:
+                            return OBJECT;
+                    }
+                default:
+                    return OBJECT;
+            }
+        }
+    }
+
+    private final class TupleField {
+        private final String name;
+        private final int position;
+        private final TypeMirror type;
+        private final String typeName;
+        private final String erasure;
+        private final FieldKind kind;
+        private String getterName;
+        private String setterName;
+
+        TupleField(VariableElement field, int position) {
+            this.name = field.getSimpleName().toString();
+            this.position = position;
+            this.type = field.asType();
+            this.typeName = type.toString();
+            this.erasure = processingEnv.getTypeUtils().erasure(type).toString();
+            this.kind = FieldKind.of(type);
+        }
+
+        boolean isPrimitive() {
+            return type.getKind().isPrimitive();
+        }
+
+        boolean resolveAccessors(TypeElement tupleClass) {
+            String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (ExecutableElement method : ElementFilter.methodsIn(tupleClass.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.PRIVATE) ||
+                        method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                boolean getter = method.getParameters().isEmpty() &&
+                        processingEnv.getTypeUtils().isSameType(method.getReturnType(), type) &&
+                        (methodName.equals("get" + property) ||
+                                type.getKind() == TypeKind.BOOLEAN && methodName.equals("is" + property));
+                boolean setter = method.getParameters().size() == 1 &&
+                        processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), type) &&
+                        methodName.equals("set" + property);
+                if (getter) {
+                    getterName = methodName;
+                } else if (setter) {
+                    setterName = methodName;
+                }
+            }
+            return getterName != null && setterName != null;
+        }
+
+        String getter(String object) {
+            return getterName != null ? object + "." + getterName + "()" : object + "." + name;
+        }
+
+        String setter(String object, String value) {
+            return setterName != null ? object + "." + setterName + "(" + value + ")" : object + "." + name + " = " +
+                    value;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Contains annotations for mapping Java classes to tuples and the annotation processor generating the converters
+ *
+ * @author Alexey Kuzin
+ */
+@org.springframework.lang.NonNullApi
+package io.tarantool.driver.mappers.annotations;
@@ -3,12 +3,13 @@ package io.tarantool.driver.metadata;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import org.springframework.util.Assert;
 
-import java.util.List;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Base class for {@link TarantoolMetadataOperations} implementations
@@ -23,6 +24,9 @@ public abstract class AbstractTarantoolMetadata implements TarantoolMetadataOper
     protected final Map<Integer, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceId =
             new ConcurrentHashMap<>();
     private final CountDownLatch initLatch = new CountDownLatch(1);
+    private final AtomicReference<CompletableFuture<Void>> refreshFuture = new AtomicReference<>();
+    private volatile long schemaVersion;
+    private volatile TarantoolMetadataLookupTable lookupTable = TarantoolMetadataLookupTable.EMPTY;
 
     protected Map<String, TarantoolSpaceMetadata> getSpaceMetadata() {
         awaitInitLatch();
@@ -44,16 +48,77 @@ public abstract class AbstractTarantoolMetadata implements TarantoolMetadataOper
         return indexMetadataBySpaceId;
     }
 
+    /**
+     * Refresh metadata cache. Only one refresh is performed at a time, the concurrent callers receive the future
+     * of the refresh which is already in progress
+     * @return future with empty value for tracking the refresh progress
+     * @throws TarantoolClientException if fetching data failed with error
+     */
     @Override
     public CompletableFuture<Void> refresh() throws TarantoolClientException {
-        return populateMetadata().whenComplete((v, ex) -> {
-            if (initLatch.getCount() > 0) {
-                initLatch.countDown();
-            }
-            if (ex != null) {
-                throw new TarantoolClientException("Failed to refresh spaces and indexes metadata", ex);
-            }
-        });
+        CompletableFuture<Void> current = refreshFuture.get();
+        if (current != null && !current.isDone()) {
+            return current;
+        }
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        if (!refreshFuture.compareAndSet(current, next)) {
+            return refreshFuture.get();
+        }
+        try {
+            populateMetadata().whenComplete((v, ex) -> {
+                if (ex == null) {
+                    rebuildLookupTable();
+                }
+                if (initLatch.getCount() > 0) {
+                    initLatch.countDown();
+                }
+                if (ex != null) {
+                    throw new TarantoolClientException("Failed to refresh spaces and indexes metadata", ex);
+                }
+            }).whenComplete((v, ex) -> {
+                if (ex != null) {
+                    next.completeExceptionally(ex);
+                } else {
+                    next.complete(v);
+                }
+            });
+        } catch (RuntimeException e) {
+            next.completeExceptionally(e);
+            throw e;
+        }
+        return next;
+    }
+
+    /**
+     * Mark the metadata as initialized, so that the getters do not wait for the first refresh. Used when the metadata
+     * is populated from a source other than the server, e.g. from a snapshot
+     */
+    protected void markInitialized() {
+        rebuildLookupTable();
+        if (initLatch.getCount() > 0) {
+            initLatch.countDown();
+        }
+    }
+
+    /**
+     * Rebuild the table used for the lookups by space and index IDs from the current metadata. Must be called
+     * after the metadata maps are changed outside of {@link #refresh()}
+     */
+    protected void rebuildLookupTable() {
+        lookupTable = new TarantoolMetadataLookupTable(spaceMetadataById, indexMetadataBySpaceId);
+    }
+
+    @Override
+    public long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Set the version of the database schema which the loaded metadata corresponds to
+     * @param schemaVersion a number, 0 if the schema version is unknown
+     */
+    protected void setSchemaVersion(long schemaVersion) {
+        this.schemaVersion = schemaVersion;
     }
 
     protected abstract CompletableFuture<Void> populateMetadata();
@@ -95,12 +160,12 @@ public abstract class AbstractTarantoolMetadata implements TarantoolMetadataOper
         Assert.hasText(spaceName, "Space name must not be null or empty");
         Assert.state(indexId >= 0, "Index ID must be greater than or equal 0");
 
-        Map<String, TarantoolIndexMetadata> metaMap = getIndexMetadata().get(spaceName);
-        if (metaMap == null) {
+        TarantoolSpaceMetadata space = getSpaceMetadata().get(spaceName);
+        if (space == null) {
             return Optional.empty();
         }
 
-        return metaMap.values().stream().filter(i -> i.getIndexId() == indexId).findFirst();
+        return getIndexById(space.getSpaceId(), indexId);
     }
 
     @Override
@@ -108,6 +173,11 @@ public abstract class AbstractTarantoolMetadata implements TarantoolMetadataOper
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
         Assert.state(indexId >= 0, "Index ID must be greater than or equal 0");
 
+        TarantoolIndexMetadata index = lookupTable.getIndex(spaceId, indexId);
+        if (index != null) {
+            return Optional.of(index);
+        }
+
         Map<String, TarantoolIndexMetadata> metaMap = getIndexMetadataBySpaceId().get(spaceId);
         if (metaMap == null) {
             return Optional.empty();
@@ -120,9 +190,32 @@ public abstract class AbstractTarantoolMetadata implements TarantoolMetadataOper
     public Optional<TarantoolSpaceMetadata> getSpaceById(int spaceId) {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
 
+        TarantoolSpaceMetadata space = lookupTable.getSpace(spaceId);
+        if (space != null) {
+            return Optional.of(space);
+        }
+
         return Optional.ofNullable(getSpaceMetadataById().get(spaceId));
     }
 
+    @Override
+    public Optional<TarantoolIndexMetadata> findIndexByFields(int spaceId, BitSet fieldPositions) {
+        Assert.state(spaceId > 0, "Space ID must be greater than 0");
+        Assert.notNull(fieldPositions, "Field positions must not be null");
+
+        TarantoolMetadataLookupTable table = lookupTable;
+        if (table.getSpace(spaceId) == null) {
+            // the space is not loaded yet or has been added after the last refresh
+            awaitInitLatch();
+            if (getSpaceMetadataById().containsKey(spaceId)) {
+                rebuildLookupTable();
+            }
+            table = lookupTable;
+        }
+
+        return Optional.ofNullable(table.findIndexByFields(spaceId, fieldPositions));
+    }
+
     @Override
     public Optional<Map<String, TarantoolIndexMetadata>> getSpaceIndexes(int spaceId) {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
@@ -0,0 +1,262 @@
+package io.tarantool.driver.metadata;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.internal.ThreadExecutorMap;
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolException;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the metadata from system spaces on a standalone Tarantool instance on demand. Only the spaces accessed by
+ * the client and the spaces specified for prefetching in the client configuration are loaded, using keyed selects
+ * from the system spaces. The metadata refresh reloads only the already loaded spaces.
+ *
+ * The spaces which are not found are remembered until the server reports a newer schema version, so that the
+ * lookups of the missing spaces do not send the selects each time. The metadata of a space cannot be loaded on
+ * demand from a network thread, since the thread is needed for receiving the response. Such a lookup starts loading
+ * the space in the background and fails, so the spaces used in the callbacks of the client futures should be
+ * specified for prefetching.
+ *
+ * @author Alexey Kuzin
+ */
+public class LazyTarantoolMetadata extends TarantoolMetadata {
+
+    private static final int VSPACE_NAME_INDEX_ID = 2; // _vspace index by space name
+    private static final int VINDEX_PRIMARY_INDEX_ID = 0; // _vindex index by space ID and index ID
+
+    private final List<String> prefetchSpaces;
+    private final TarantoolSchemaVersionHolder schemaVersionHolder;
+    // the spaces which are not found, mapped to the schema version of the response
+    private final Map<String, Long> missingSpaceNames = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> missingSpaceIds = new ConcurrentHashMap<>();
+
+    /**
+     * Basic constructor.
+     *
+     * @param config client configuration
+     * @param connectionManager configured {@link TarantoolConnectionManager} instance
+     * @param schemaVersionHolder holder of the schema version received in the server responses
+     */
+    public LazyTarantoolMetadata(TarantoolClientConfig config,
+                                 TarantoolConnectionManager connectionManager,
+                                 TarantoolSchemaVersionHolder schemaVersionHolder) {
+        super(config, connectionManager, schemaVersionHolder, false);
+        this.prefetchSpaces = config.getMetadataPrefetchSpaces();
+        this.schemaVersionHolder = schemaVersionHolder;
+    }
+
+    @Override
+    public CompletableFuture<Void> populateMetadata() throws TarantoolClientException {
+        missingSpaceNames.clear();
+        missingSpaceIds.clear();
+        Set<String> spaceNames = new HashSet<>(spaceMetadata.keySet());
+        spaceNames.addAll(prefetchSpaces);
+
+        LoadedSchemaVersion loadedSchemaVersion = new LoadedSchemaVersion();
+        Map<String, CompletableFuture<Optional<TarantoolSpaceMetadata>>> spaces = spaceNames.stream()
+                .collect(Collectors.toMap(name -> name, name -> loadSpaceByName(name, loadedSchemaVersion)));
+
+        return CompletableFuture.allOf(spaces.values().toArray(new CompletableFuture[0])).thenAccept(v -> {
+            // the spaces which are not found have been dropped
+            spaces.forEach((name, space) -> {
+                if (!space.join().isPresent()) {
+                    removeSpace(name);
+                }
+            });
+            updateSchemaVersion(loadedSchemaVersion);
+        });
+    }
+
+    private CompletableFuture<Optional<TarantoolSpaceMetadata>> loadSpaceByName(
+            String spaceName, @Nullable LoadedSchemaVersion loadedSchemaVersion) {
+        TarantoolIndexQuery query = new TarantoolIndexQuery(VSPACE_NAME_INDEX_ID)
+                .withKeyValues(Collections.singletonList(spaceName));
+        return loadSpace(query, loadedSchemaVersion);
+    }
+
+    private CompletableFuture<Optional<TarantoolSpaceMetadata>> loadSpaceById(
+            int spaceId, LoadedSchemaVersion loadedSchemaVersion) {
+        TarantoolIndexQuery query = new TarantoolIndexQuery(TarantoolIndexQuery.PRIMARY)
+                .withKeyValues(Collections.singletonList(spaceId));
+        return loadSpace(query, loadedSchemaVersion);
+    }
+
+    private CompletableFuture<Optional<TarantoolSpaceMetadata>> loadSpace(
+            TarantoolIndexQuery spaceQuery, @Nullable LoadedSchemaVersion loadedSchemaVersion) {
+        return select(VSPACE_SPACE_ID, spaceQuery.withIteratorType(TarantoolIteratorType.ITER_EQ),
+                spaceMetadataMapper, loadedSchemaVersion)
+                .thenCompose(spaces -> {
+                    if (spaces.isEmpty()) {
+                        return CompletableFuture.completedFuture(Optional.empty());
+                    }
+                    TarantoolSpaceMetadata space = spaces.get(0);
+                    TarantoolIndexQuery indexQuery = new TarantoolIndexQuery(VINDEX_PRIMARY_INDEX_ID)
+                            .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                            .withKeyValues(Collections.singletonList(space.getSpaceId()));
+                    return select(VINDEX_SPACE_ID, indexQuery, indexMetadataMapper, loadedSchemaVersion)
+                            .thenApply(indexes -> {
+                                putSpace(space, indexes);
+                                return Optional.of(space);
+                            });
+                });
+    }
+
+    private void putSpace(TarantoolSpaceMetadata space, TarantoolResult<TarantoolIndexMetadata> indexes) {
+        Map<String, TarantoolIndexMetadata> spaceIndexes = new HashMap<>();
+        indexes.forEach(meta -> spaceIndexes.put(meta.getIndexName(), meta));
+        // put the indexes first so that they are visible once the space is visible
+        indexMetadata.put(space.getSpaceName(), spaceIndexes);
+        indexMetadataBySpaceId.put(space.getSpaceId(), spaceIndexes);
+        spaceMetadataById.put(space.getSpaceId(), space);
+        spaceMetadata.put(space.getSpaceName(), space);
+    }
+
+    private void removeSpace(String spaceName) {
+        TarantoolSpaceMetadata space = spaceMetadata.remove(spaceName);
+        indexMetadata.remove(spaceName);
+        if (space != null) {
+            spaceMetadataById.remove(space.getSpaceId());
+            indexMetadataBySpaceId.remove(space.getSpaceId());
+        }
+    }
+
+    private void ensureSpaceLoaded(String spaceName) {
+        Assert.hasText(spaceName, "Space name must not be null or empty");
+
+        if (!spaceMetadata.containsKey(spaceName) && !isKnownMissing(missingSpaceNames, spaceName)) {
+            LoadedSchemaVersion loadedSchemaVersion = new LoadedSchemaVersion();
+            awaitLoading(spaceName, loadSpaceByName(spaceName, loadedSchemaVersion).thenApply(
+                    space -> afterLoading(space, missingSpaceNames, spaceName, loadedSchemaVersion)));
+        }
+    }
+
+    private void ensureSpaceLoaded(int spaceId) {
+        Assert.state(spaceId > 0, "Space ID must be greater than 0");
+
+        if (!spaceMetadataById.containsKey(spaceId) && !isKnownMissing(missingSpaceIds, spaceId)) {
+            LoadedSchemaVersion loadedSchemaVersion = new LoadedSchemaVersion();
+            awaitLoading(spaceId, loadSpaceById(spaceId, loadedSchemaVersion).thenApply(
+                    space -> afterLoading(space, missingSpaceIds, spaceId, loadedSchemaVersion)));
+        }
+    }
+
+    /*
+     * The space is known to be missing if it has not been found in the current schema version
+     */
+    private <K> boolean isKnownMissing(Map<K, Long> missingSpaces, K key) {
+        Long schemaVersion = missingSpaces.get(key);
+        if (schemaVersion == null) {
+            return false;
+        }
+        if (schemaVersion >= schemaVersionHolder.getSchemaVersion()) {
+            return true;
+        }
+        missingSpaces.remove(key, schemaVersion);
+        return false;
+    }
+
+    private <K> Optional<TarantoolSpaceMetadata> afterLoading(Optional<TarantoolSpaceMetadata> space,
+                                                              Map<K, Long> missingSpaces, K key,
+                                                              LoadedSchemaVersion loadedSchemaVersion) {
+        if (space.isPresent()) {
+            rebuildLookupTable();
+        } else {
+            loadedSchemaVersion.get().ifPresent(schemaVersion -> missingSpaces.put(key, schemaVersion));
+        }
+        return space;
+    }
+
+    private void awaitLoading(Object space, CompletableFuture<Optional<TarantoolSpaceMetadata>> loadingFuture) {
+        if (!loadingFuture.isDone() && isEventLoopThread()) {
+            throw new TarantoolClientException("Metadata for space %s is not loaded yet and cannot be awaited " +
+                    "in a network thread, specify the space for prefetching", space);
+        }
+        try {
+            loadingFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TarantoolException) {
+                throw (TarantoolException) e.getCause();
+            }
+            throw new TarantoolClientException("Failed to load the space metadata", e.getCause());
+        }
+    }
+
+    private static boolean isEventLoopThread() {
+        EventExecutor executor = ThreadExecutorMap.currentExecutor();
+        return executor != null && executor.inEventLoop();
+    }
+
+    @Override
+    public Optional<TarantoolSpaceMetadata> getSpaceByName(String spaceName) {
+        ensureSpaceLoaded(spaceName);
+        return super.getSpaceByName(spaceName);
+    }
+
+    @Override
+    public Optional<TarantoolSpaceMetadata> getSpaceById(int spaceId) {
+        ensureSpaceLoaded(spaceId);
+        return super.getSpaceById(spaceId);
+    }
+
+    @Override
+    public Optional<TarantoolIndexMetadata> getIndexByName(int spaceId, String indexName) {
+        ensureSpaceLoaded(spaceId);
+        return super.getIndexByName(spaceId, indexName);
+    }
+
+    @Override
+    public Optional<TarantoolIndexMetadata> getIndexByName(String spaceName, String indexName) {
+        ensureSpaceLoaded(spaceName);
+        return super.getIndexByName(spaceName, indexName);
+    }
+
+    @Override
+    public Optional<TarantoolIndexMetadata> getIndexById(String spaceName, int indexId) {
+        ensureSpaceLoaded(spaceName);
+        return super.getIndexById(spaceName, indexId);
+    }
+
+    @Override
+    public Optional<TarantoolIndexMetadata> getIndexById(int spaceId, int indexId) {
+        ensureSpaceLoaded(spaceId);
+        return super.getIndexById(spaceId, indexId);
+    }
+
+    @Override
+    public Optional<TarantoolIndexMetadata> findIndexByFields(int spaceId, BitSet fieldPositions) {
+        ensureSpaceLoaded(spaceId);
+        return super.findIndexByFields(spaceId, fieldPositions);
+    }
+
+    @Override
+    public Optional<Map<String, TarantoolIndexMetadata>> getSpaceIndexes(int spaceId) {
+        ensureSpaceLoaded(spaceId);
+        return super.getSpaceIndexes(spaceId);
+    }
+
+    @Override
+    public Optional<Map<String, TarantoolIndexMetadata>> getSpaceIndexes(String spaceName) {
+        ensureSpaceLoaded(spaceName);
+        return super.getSpaceIndexes(spaceName);
+    }
+}
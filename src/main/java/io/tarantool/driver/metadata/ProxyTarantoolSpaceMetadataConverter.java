@@ -42,6 +42,7 @@ public class ProxyTarantoolSpaceMetadataConverter
 
     private static final ImmutableStringValue INDEX_PARTS_FIELD_NO = new ImmutableStringValueImpl("fieldno");
     private static final ImmutableStringValue INDEX_PARTS_TYPE_KEY = new ImmutableStringValueImpl("type");
+    private static final ImmutableStringValue INDEX_PARTS_COLLATION_KEY = new ImmutableStringValueImpl("collation");
 
     private final MessagePackValueMapper mapper;
 
@@ -217,7 +218,10 @@ public class ProxyTarantoolSpaceMetadataConverter
                         }
                         String fieldType = fieldTypeValue.asStringValue().asString();
 
-                        return new TarantoolIndexPartMetadata(fieldNumber - 1, fieldType);
+                        String collation = TarantoolIndexMetadataConverter.getCollation(
+                                partsMap.get(INDEX_PARTS_COLLATION_KEY));
+
+                        return new TarantoolIndexPartMetadata(fieldNumber - 1, fieldType, collation);
                     })
                     .collect(Collectors.toList());
 
@@ -2,7 +2,8 @@ package io.tarantool.driver.metadata;
 
 import io.tarantool.driver.api.TarantoolIndexQuery;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,7 +24,8 @@ public class TarantoolIndexMetadata {
     private TarantoolIndexOptions indexOptions;
     private List<TarantoolIndexPartMetadata> indexParts;
     private Map<Integer, TarantoolIndexPartMetadata> indexPartsByPosition;
-    private Map<Integer, Integer> fieldPositionToKeyPosition;
+    private BitSet fieldPositions;
+    private int[] fieldPositionToKeyPosition;
 
     /**
      * Get ID of a space that this index is defined on
@@ -113,10 +115,17 @@ public class TarantoolIndexMetadata {
         this.indexParts = indexParts;
         this.indexPartsByPosition = indexParts.stream()
                 .collect(Collectors.toMap(TarantoolIndexPartMetadata::getFieldIndex, Function.identity()));
-        this.fieldPositionToKeyPosition = new HashMap<>();
+        this.fieldPositions = new BitSet();
+        int maxFieldPosition = -1;
+        for (TarantoolIndexPartMetadata meta : indexParts) {
+            fieldPositions.set(meta.getFieldIndex());
+            maxFieldPosition = Math.max(maxFieldPosition, meta.getFieldIndex());
+        }
+        this.fieldPositionToKeyPosition = new int[maxFieldPosition + 1];
+        Arrays.fill(fieldPositionToKeyPosition, -1);
         int index = 0;
         for (TarantoolIndexPartMetadata meta : indexParts) {
-            fieldPositionToKeyPosition.put(meta.getFieldIndex(), index++);
+            fieldPositionToKeyPosition[meta.getFieldIndex()] = index++;
         }
     }
 
@@ -142,7 +151,34 @@ public class TarantoolIndexMetadata {
      * @return field position
      */
     public Optional<Integer> getIndexPartPositionByFieldPosition(int fieldPosition) {
-        return Optional.ofNullable(fieldPositionToKeyPosition.get(fieldPosition));
+        int partPosition = getIndexPartPosition(fieldPosition);
+        return partPosition < 0 ? Optional.empty() : Optional.of(partPosition);
+    }
+
+    /**
+     * Get position of the index part corresponding to the specified field without boxing
+     * @param fieldPosition field position in tuple, starting from 0
+     * @return index part position, or -1 if the field is not a part of this index
+     */
+    public int getIndexPartPosition(int fieldPosition) {
+        if (fieldPosition < 0 || fieldPosition >= fieldPositionToKeyPosition.length) {
+            return -1;
+        }
+        return fieldPositionToKeyPosition[fieldPosition];
+    }
+
+    /**
+     * Check if all the specified fields are parts of this index
+     * @param positions bitmap of field positions in tuple, starting from 0
+     * @return true if each of the fields is a part of this index
+     */
+    public boolean containsFields(BitSet positions) {
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            if (!fieldPositions.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
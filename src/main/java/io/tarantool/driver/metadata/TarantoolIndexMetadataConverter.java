@@ -22,6 +22,9 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
 
     private static final ImmutableStringValue INDEX_FIELD_KEY = new ImmutableStringValueImpl("field");
     private static final ImmutableStringValue INDEX_TYPE_KEY = new ImmutableStringValueImpl("type");
+    private static final ImmutableStringValue INDEX_COLLATION_KEY = new ImmutableStringValueImpl("collation");
+    // the built-in collations from _collation, the parts refer to them by ID
+    private static final String[] COLLATION_NAMES = {"none", "unicode", "unicode_ci", "binary"};
 
     private final MessagePackValueMapper mapper;
 
@@ -50,7 +53,7 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
 
         //There are two index formats:
         // as array: [[0, 'unsigned'], [3, 'string'],...]
-        // as map: [{'field' : 0, 'type' : 'unsigned'}, {'field' : 3, 'type' : 'string'}, ...]
+        // as map: [{'field' : 0, 'type' : 'unsigned'}, {'field' : 3, 'type' : 'string', 'collation' : 1}, ...]
         if (indexPartsValue.size() > 0) {
             if (indexPartsValue.get(0).isArrayValue()) {
                 indexParts = indexPartsValue.list().stream()
@@ -62,7 +65,8 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
                 indexParts = indexPartsValue.list().stream()
                         .map(partValue -> new TarantoolIndexPartMetadata(
                                 partValue.asMapValue().map().get(INDEX_FIELD_KEY).asIntegerValue().asInt(),
-                                partValue.asMapValue().map().get(INDEX_TYPE_KEY).asStringValue().asString()
+                                partValue.asMapValue().map().get(INDEX_TYPE_KEY).asStringValue().asString(),
+                                getCollation(partValue.asMapValue().map().get(INDEX_COLLATION_KEY))
                         )).collect(Collectors.toList());
             }
         }
@@ -71,4 +75,16 @@ public class TarantoolIndexMetadataConverter implements ValueConverter<ArrayValu
 
         return metadata;
     }
+
+    static String getCollation(Value collation) {
+        if (collation == null || collation.isNilValue()) {
+            return null;
+        }
+        if (collation.isStringValue()) {
+            return collation.asStringValue().asString();
+        }
+        int collationId = collation.asIntegerValue().asInt();
+        return collationId >= 0 && collationId < COLLATION_NAMES.length ?
+                COLLATION_NAMES[collationId] : String.valueOf(collationId);
+    }
 }
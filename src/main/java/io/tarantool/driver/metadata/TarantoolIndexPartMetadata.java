@@ -1,5 +1,7 @@
 package io.tarantool.driver.metadata;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Represents Tarantool index part metadata
  *
@@ -9,10 +11,16 @@ public class TarantoolIndexPartMetadata {
 
     private final int fieldIndex;
     private final String fieldType;
+    private final String collation;
 
     public TarantoolIndexPartMetadata(int fieldIndex, String fieldType) {
+        this(fieldIndex, fieldType, null);
+    }
+
+    public TarantoolIndexPartMetadata(int fieldIndex, String fieldType, @Nullable String collation) {
         this.fieldIndex = fieldIndex;
         this.fieldType = fieldType;
+        this.collation = collation;
     }
 
     /**
@@ -32,4 +40,14 @@ public class TarantoolIndexPartMetadata {
     public String getFieldType() {
         return fieldType;
     }
+
+    /**
+     * Get the name of the collation used for comparing the string values of the part
+     *
+     * @return collation name (e.g. "unicode_ci") or null if the part has no collation
+     */
+    @Nullable
+    public String getCollation() {
+        return collation;
+    }
 }
@@ -1,6 +1,7 @@
 package io.tarantool.driver.metadata;
 
 import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
 import io.tarantool.driver.api.TarantoolIndexQuery;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolSelectOptions;
@@ -10,27 +11,53 @@ import io.tarantool.driver.mappers.TarantoolSimpleResultMapperFactory;
 import io.tarantool.driver.mappers.ValueConverter;
 import io.tarantool.driver.protocol.TarantoolIteratorType;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
 import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
 import org.msgpack.value.ArrayValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
- * Populates metadata from system spaces on a standalone Tarantool instance
+ * Populates metadata from system spaces on a standalone Tarantool instance. Optionally keeps a snapshot of the
+ * metadata on disk, which allows to use the metadata before it is validated against the server schema version
  *
  * @author Alexey Kuzin
  */
 public class TarantoolMetadata extends AbstractTarantoolMetadata {
 
-    private static final int VSPACE_SPACE_ID = 281; // System space with all space descriptions (_vspace)
-    private static final int VINDEX_SPACE_ID = 289; // System space with all index descriptions (_vindex)
+    private final Logger log = LoggerFactory.getLogger(TarantoolMetadata.class);
 
-    private final TarantoolSpaceMetadataConverter spaceMetadataMapper;
-    private final TarantoolIndexMetadataConverter indexMetadataMapper;
+    protected static final int VSPACE_SPACE_ID = 281; // System space with all space descriptions (_vspace)
+    protected static final int VINDEX_SPACE_ID = 289; // System space with all index descriptions (_vindex)
+    private static final String SNAPSHOT_FILE_NAME_FORMAT = "tarantool-metadata-%s.msgpack";
+    // the anonymous class keeps the generic types, which are needed for the result mapper
+    private static final ValueConverter<ArrayValue, ArrayValue> ROW_CONVERTER =
+            new ValueConverter<ArrayValue, ArrayValue>() {
+                @Override
+                public ArrayValue fromValue(ArrayValue value) {
+                    return value;
+                }
+            };
+
+    protected final TarantoolSpaceMetadataConverter spaceMetadataMapper;
+    protected final TarantoolIndexMetadataConverter indexMetadataMapper;
     private final TarantoolClientConfig config;
     private final TarantoolConnectionManager connectionManager;
     private final TarantoolSimpleResultMapperFactory mapperFactory;
+    private final TarantoolSchemaVersionHolder schemaVersionHolder;
+    private final String clusterName;
+    private final Path snapshotFile;
+    private final AtomicBoolean snapshotNotValidated = new AtomicBoolean();
 
     /**
      * Basic constructor.
@@ -39,48 +66,214 @@ public class TarantoolMetadata extends AbstractTarantoolMetadata {
      * @param connectionManager configured {@link TarantoolConnectionManager} instance
      */
     public TarantoolMetadata(TarantoolClientConfig config, TarantoolConnectionManager connectionManager) {
+        this(config, connectionManager, new TarantoolSchemaVersionHolder());
+    }
+
+    /**
+     * Create metadata bound to the schema version received from the server. The metadata is refreshed in
+     * background once the server reports a newer schema version.
+     *
+     * @param config client configuration
+     * @param connectionManager configured {@link TarantoolConnectionManager} instance
+     * @param schemaVersionHolder holder of the schema version received in the server responses
+     */
+    public TarantoolMetadata(TarantoolClientConfig config,
+                             TarantoolConnectionManager connectionManager,
+                             TarantoolSchemaVersionHolder schemaVersionHolder) {
+        this(config, connectionManager, schemaVersionHolder, config.getMetadataSnapshotDirectory() != null);
+    }
+
+    /**
+     * Create metadata bound to the schema version received from the server, optionally using the on-disk snapshot
+     * specified in the client configuration.
+     *
+     * @param config client configuration
+     * @param connectionManager configured {@link TarantoolConnectionManager} instance
+     * @param schemaVersionHolder holder of the schema version received in the server responses
+     * @param useSnapshot whether the metadata snapshot is loaded at construction and saved after each fetch
+     */
+    protected TarantoolMetadata(TarantoolClientConfig config,
+                                TarantoolConnectionManager connectionManager,
+                                TarantoolSchemaVersionHolder schemaVersionHolder,
+                                boolean useSnapshot) {
         super();
+        this.schemaVersionHolder = schemaVersionHolder;
+        schemaVersionHolder.addSchemaVersionChangeListener(this::onSchemaVersionChange);
         this.spaceMetadataMapper = new TarantoolSpaceMetadataConverter(config.getMessagePackMapper());
         this.indexMetadataMapper = new TarantoolIndexMetadataConverter(config.getMessagePackMapper());
         this.config = config;
         this.connectionManager = connectionManager;
         this.mapperFactory = new TarantoolSimpleResultMapperFactory(config.getMessagePackMapper());
+        this.clusterName = config.getClusterName();
+        this.snapshotFile = useSnapshot ? config.getMetadataSnapshotDirectory()
+                .resolve(String.format(SNAPSHOT_FILE_NAME_FORMAT, clusterName)) : null;
+        if (snapshotFile != null) {
+            loadSnapshot();
+        }
+    }
+
+    private void loadSnapshot() {
+        try {
+            Optional<TarantoolMetadataSnapshot> snapshot = TarantoolMetadataSnapshot.readFrom(snapshotFile);
+            if (snapshot.isPresent() && clusterName.equals(snapshot.get().getClusterName())) {
+                fillMetadata(snapshot.get().getSpaces(), snapshot.get().getIndexes());
+                setSchemaVersion(snapshot.get().getSchemaVersion());
+                snapshotNotValidated.set(true);
+                markInitialized();
+                log.debug("Loaded metadata snapshot for schema version {} from {}",
+                        snapshot.get().getSchemaVersion(), snapshotFile);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load metadata snapshot from {}, it will be ignored", snapshotFile, e);
+        }
     }
 
+    private void saveSnapshot(List<ArrayValue> spaces, List<ArrayValue> indexes) {
+        TarantoolMetadataSnapshot snapshot =
+                new TarantoolMetadataSnapshot(clusterName, getSchemaVersion(), spaces, indexes);
+        CompletableFuture.runAsync(() -> snapshot.writeTo(snapshotFile)).exceptionally(ex -> {
+            log.warn("Failed to save metadata snapshot to {}", snapshotFile, ex);
+            return null;
+        });
+    }
+
+    /**
+     * Fetch the metadata from the server. The metadata loaded from the snapshot is checked against the server schema
+     * version first on the first call, and is fetched only if the versions differ
+     * @return future with empty value for tracking the fetch progress
+     * @throws TarantoolClientException if fetching data failed with error
+     */
     @Override
     public CompletableFuture<Void> populateMetadata() throws TarantoolClientException {
+        if (snapshotNotValidated.compareAndSet(true, false)) {
+            long snapshotSchemaVersion = getSchemaVersion();
+            return fetchServerSchemaVersion().thenCompose(serverSchemaVersion ->
+                    serverSchemaVersion == snapshotSchemaVersion ?
+                            CompletableFuture.completedFuture(null) : fetchMetadata());
+        }
+        return fetchMetadata();
+    }
+
+    private CompletableFuture<Long> fetchServerSchemaVersion() {
+        try {
+            TarantoolPingRequest request = new TarantoolPingRequest.Builder().build();
+            return connectionManager.getConnection().sendRequest(request, config.getMessagePackMapper())
+                    .thenApply(v -> request.getResponseSchemaVersion() == null ?
+                            0L : request.getResponseSchemaVersion());
+        } catch (TarantoolProtocolException e) {
+            throw new TarantoolClientException(e);
+        }
+    }
 
-        CompletableFuture<TarantoolResult<TarantoolSpaceMetadata>> spaces =
-                select(VSPACE_SPACE_ID, spaceMetadataMapper);
-        CompletableFuture<TarantoolResult<TarantoolIndexMetadata>> indexes =
-                select(VINDEX_SPACE_ID, indexMetadataMapper);
+    private CompletableFuture<Void> fetchMetadata() {
+        TarantoolIndexQuery indexQuery = new TarantoolIndexQuery(TarantoolIndexQuery.PRIMARY)
+                .withIteratorType(TarantoolIteratorType.ITER_ALL);
+        LoadedSchemaVersion loadedSchemaVersion = new LoadedSchemaVersion();
+        CompletableFuture<TarantoolResult<ArrayValue>> spaces =
+                select(VSPACE_SPACE_ID, indexQuery, ROW_CONVERTER, loadedSchemaVersion);
+        CompletableFuture<TarantoolResult<ArrayValue>> indexes =
+                select(VINDEX_SPACE_ID, indexQuery, ROW_CONVERTER, loadedSchemaVersion);
 
         return spaces.thenAcceptBoth(indexes, (spacesCollection, indexesCollection) -> {
-            spaceMetadata.clear(); // clear the metadata only after the result fetching is successful
-            spaceMetadataById.clear();
-            indexMetadata.clear();
-            indexMetadataBySpaceId.clear();
-
-            spacesCollection.forEach(meta -> {
-                spaceMetadata.put(meta.getSpaceName(), meta);
-                spaceMetadataById.put(meta.getSpaceId(), meta);
-            });
+            fillMetadata(spacesCollection, indexesCollection);
+            updateSchemaVersion(loadedSchemaVersion);
+            if (snapshotFile != null) {
+                saveSnapshot(spacesCollection, indexesCollection);
+            }
+        });
+    }
 
-            indexesCollection.forEach(meta -> {
-                String spaceName = spaceMetadataById.get(meta.getSpaceId()).getSpaceName();
-                indexMetadata.putIfAbsent(spaceName, new HashMap<>());
-                indexMetadata.get(spaceName).put(meta.getIndexName(), meta);
-                indexMetadataBySpaceId.putIfAbsent(meta.getSpaceId(), new HashMap<>());
-                indexMetadataBySpaceId.get(meta.getSpaceId()).put(meta.getIndexName(), meta);
-            });
+    private void fillMetadata(List<ArrayValue> spacesCollection, List<ArrayValue> indexesCollection) {
+        List<TarantoolSpaceMetadata> spaces = spacesCollection.stream()
+                .map(spaceMetadataMapper::fromValue).collect(Collectors.toList());
+        List<TarantoolIndexMetadata> indexes = indexesCollection.stream()
+                .map(indexMetadataMapper::fromValue).collect(Collectors.toList());
+
+        spaceMetadata.clear(); // clear the metadata only after the result fetching is successful
+        spaceMetadataById.clear();
+        indexMetadata.clear();
+        indexMetadataBySpaceId.clear();
+
+        spaces.forEach(meta -> {
+            spaceMetadata.put(meta.getSpaceName(), meta);
+            spaceMetadataById.put(meta.getSpaceId(), meta);
+        });
+
+        indexes.forEach(meta -> {
+            String spaceName = spaceMetadataById.get(meta.getSpaceId()).getSpaceName();
+            indexMetadata.putIfAbsent(spaceName, new HashMap<>());
+            indexMetadata.get(spaceName).put(meta.getIndexName(), meta);
+            indexMetadataBySpaceId.putIfAbsent(meta.getSpaceId(), new HashMap<>());
+            indexMetadataBySpaceId.get(meta.getSpaceId()).put(meta.getIndexName(), meta);
+        });
+    }
+
+    /**
+     * Set the schema version of the loaded metadata to the version received in the responses to the metadata
+     * selects. If no selects have been performed, the latest version received from the server is used
+     * @param loadedSchemaVersion schema versions of the metadata select responses
+     */
+    void updateSchemaVersion(LoadedSchemaVersion loadedSchemaVersion) {
+        setSchemaVersion(loadedSchemaVersion.get().orElseGet(schemaVersionHolder::getSchemaVersion));
+    }
+
+    private void onSchemaVersionChange(long newSchemaVersion) {
+        long currentSchemaVersion = getSchemaVersion();
+        if (currentSchemaVersion > 0 && newSchemaVersion > currentSchemaVersion) {
+            refreshToLatestSchemaVersion();
+        }
+    }
+
+    /*
+     * The notification about a newer schema version may join a refresh which is already loading an older schema,
+     * so the refresh is repeated while it makes progress and the server has reported a newer version
+     */
+    private void refreshToLatestSchemaVersion() {
+        long previousSchemaVersion = getSchemaVersion();
+        // the listener is called from the network thread, avoid blocking it on getting a connection
+        CompletableFuture.supplyAsync(this::refresh).thenCompose(f -> f).whenComplete((v, ex) -> {
+            if (ex != null) {
+                log.warn("Failed to refresh metadata for the schema version {}",
+                        schemaVersionHolder.getSchemaVersion(), ex);
+            } else if (getSchemaVersion() > previousSchemaVersion &&
+                    schemaVersionHolder.getSchemaVersion() > getSchemaVersion()) {
+                refreshToLatestSchemaVersion();
+            }
         });
     }
 
-    private <T> CompletableFuture<TarantoolResult<T>> select(int spaceId,  ValueConverter<ArrayValue, T> resultMapper)
+    /**
+     * Perform select from a system space
+     * @param spaceId system space ID
+     * @param indexQuery index query
+     * @param resultMapper converter for the result tuples
+     * @param <T> target result tuple type
+     * @return future with the select result
+     * @throws TarantoolClientException if the request cannot be sent
+     */
+    protected <T> CompletableFuture<TarantoolResult<T>> select(int spaceId,
+                                                               TarantoolIndexQuery indexQuery,
+                                                               ValueConverter<ArrayValue, T> resultMapper)
+            throws TarantoolClientException {
+        return select(spaceId, indexQuery, resultMapper, null);
+    }
+
+    /**
+     * Perform select from a system space, registering the schema version of the response
+     * @param spaceId system space ID
+     * @param indexQuery index query
+     * @param resultMapper converter for the result tuples
+     * @param loadedSchemaVersion receives the schema version of the response, may be null
+     * @param <T> target result tuple type
+     * @return future with the select result
+     * @throws TarantoolClientException if the request cannot be sent
+     */
+    <T> CompletableFuture<TarantoolResult<T>> select(int spaceId,
+                                                     TarantoolIndexQuery indexQuery,
+                                                     ValueConverter<ArrayValue, T> resultMapper,
+                                                     @Nullable LoadedSchemaVersion loadedSchemaVersion)
             throws TarantoolClientException {
         try {
-            TarantoolIndexQuery indexQuery = new TarantoolIndexQuery(TarantoolIndexQuery.PRIMARY)
-                    .withIteratorType(TarantoolIteratorType.ITER_ALL);
             TarantoolSelectOptions options = new TarantoolSelectOptions.Builder().build();
 
             TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
@@ -92,9 +285,36 @@ public class TarantoolMetadata extends AbstractTarantoolMetadata {
                     .withOffset(options.getOffset())
                     .build(config.getMessagePackMapper());
 
-            return connectionManager.getConnection().sendRequest(request, mapperFactory.withConverter(resultMapper));
+            CompletableFuture<TarantoolResult<T>> result =
+                    connectionManager.getConnection().sendRequest(request, mapperFactory.withConverter(resultMapper));
+            if (loadedSchemaVersion == null) {
+                return result;
+            }
+            return result.thenApply(tuples -> {
+                loadedSchemaVersion.register(request.getResponseSchemaVersion());
+                return tuples;
+            });
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
     }
+
+    /**
+     * The schema version which the metadata loaded with several selects corresponds to. The minimal version of the
+     * responses is taken, so if the schema has changed between the selects, the metadata is refreshed again
+     */
+    static final class LoadedSchemaVersion {
+        private final AtomicLong minSchemaVersion = new AtomicLong(Long.MAX_VALUE);
+
+        void register(@Nullable Long schemaVersion) {
+            if (schemaVersion != null) {
+                minSchemaVersion.accumulateAndGet(schemaVersion, Math::min);
+            }
+        }
+
+        Optional<Long> get() {
+            long schemaVersion = minSchemaVersion.get();
+            return schemaVersion == Long.MAX_VALUE ? Optional.empty() : Optional.of(schemaVersion);
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package io.tarantool.driver.metadata;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the spaces and indexes metadata optimized for the lookups by numeric IDs. The spaces and
+ * indexes are stored in arrays addressed by ID, so the lookups on the request path do not involve hashing or boxing.
+ * A new table is built each time the metadata is changed.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolMetadataLookupTable {
+
+    /**
+     * Spaces with IDs above this value are stored in a map, so that a single space with a large ID does not blow
+     * up the array size
+     */
+    static final int MAX_DENSE_SPACE_ID = 65535;
+
+    private static final TarantoolIndexMetadata[] NO_INDEXES = new TarantoolIndexMetadata[0];
+    private static final Comparator<TarantoolIndexMetadata> BY_PARTS_COUNT =
+            Comparator.<TarantoolIndexMetadata>comparingInt(i -> i.getIndexParts().size())
+                    .thenComparingInt(TarantoolIndexMetadata::getIndexId);
+
+    static final TarantoolMetadataLookupTable EMPTY =
+            new TarantoolMetadataLookupTable(Collections.emptyMap(), Collections.emptyMap());
+
+    private final TarantoolSpaceMetadata[] spaces;
+    private final TarantoolIndexMetadata[][] indexesById;
+    private final TarantoolIndexMetadata[][] indexesByPartsCount;
+    private final Map<Integer, SpaceEntry> sparseSpaces = new HashMap<>();
+
+    /**
+     * Basic constructor.
+     *
+     * @param spaceMetadataById space metadata by space ID
+     * @param indexMetadataBySpaceId index metadata by index name, by space ID
+     */
+    TarantoolMetadataLookupTable(Map<Integer, TarantoolSpaceMetadata> spaceMetadataById,
+                                 Map<Integer, Map<String, TarantoolIndexMetadata>> indexMetadataBySpaceId) {
+        int maxSpaceId = spaceMetadataById.keySet().stream()
+                .filter(id -> id <= MAX_DENSE_SPACE_ID)
+                .mapToInt(Integer::intValue)
+                .max().orElse(-1);
+        this.spaces = new TarantoolSpaceMetadata[maxSpaceId + 1];
+        this.indexesById = new TarantoolIndexMetadata[maxSpaceId + 1][];
+        this.indexesByPartsCount = new TarantoolIndexMetadata[maxSpaceId + 1][];
+
+        for (Map.Entry<Integer, TarantoolSpaceMetadata> space : spaceMetadataById.entrySet()) {
+            int spaceId = space.getKey();
+            Map<String, TarantoolIndexMetadata> spaceIndexes = indexMetadataBySpaceId.get(spaceId);
+            Collection<TarantoolIndexMetadata> indexes =
+                    spaceIndexes != null ? spaceIndexes.values() : Collections.emptyList();
+            TarantoolIndexMetadata[] byId = indexesById(indexes);
+            TarantoolIndexMetadata[] byPartsCount = indexes.toArray(NO_INDEXES);
+            Arrays.sort(byPartsCount, BY_PARTS_COUNT);
+            if (spaceId >= 0 && spaceId <= MAX_DENSE_SPACE_ID) {
+                spaces[spaceId] = space.getValue();
+                indexesById[spaceId] = byId;
+                indexesByPartsCount[spaceId] = byPartsCount;
+            } else {
+                sparseSpaces.put(spaceId, new SpaceEntry(space.getValue(), byId, byPartsCount));
+            }
+        }
+    }
+
+    private static TarantoolIndexMetadata[] indexesById(Collection<TarantoolIndexMetadata> indexes) {
+        int maxIndexId = indexes.stream().mapToInt(TarantoolIndexMetadata::getIndexId).max().orElse(-1);
+        TarantoolIndexMetadata[] byId = new TarantoolIndexMetadata[maxIndexId + 1];
+        for (TarantoolIndexMetadata index : indexes) {
+            byId[index.getIndexId()] = index;
+        }
+        return byId;
+    }
+
+    /**
+     * Get space metadata by space ID
+     * @param spaceId space ID
+     * @return space metadata or null if the space is not present in the table
+     */
+    TarantoolSpaceMetadata getSpace(int spaceId) {
+        if (spaceId >= 0 && spaceId < spaces.length) {
+            return spaces[spaceId];
+        }
+        SpaceEntry entry = sparseSpaces.get(spaceId);
+        return entry != null ? entry.space : null;
+    }
+
+    /**
+     * Get index metadata by space ID and index ID
+     * @param spaceId space ID
+     * @param indexId index ID
+     * @return index metadata or null if the space or the index is not present in the table
+     */
+    TarantoolIndexMetadata getIndex(int spaceId, int indexId) {
+        TarantoolIndexMetadata[] indexes = getIndexesById(spaceId);
+        if (indexes == null || indexId < 0 || indexId >= indexes.length) {
+            return null;
+        }
+        return indexes[indexId];
+    }
+
+    /**
+     * Find the index with the least number of parts containing all the specified fields
+     * @param spaceId space ID
+     * @param fieldPositions bitmap of field positions in tuple, starting from 0
+     * @return index metadata or null if the space is not present in the table or no index contains all the fields
+     */
+    TarantoolIndexMetadata findIndexByFields(int spaceId, BitSet fieldPositions) {
+        TarantoolIndexMetadata[] indexes = getIndexesByPartsCount(spaceId);
+        if (indexes == null) {
+            return null;
+        }
+        int fieldsCount = fieldPositions.cardinality();
+        for (TarantoolIndexMetadata index : indexes) {
+            if (index.getIndexParts().size() >= fieldsCount && index.containsFields(fieldPositions)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private TarantoolIndexMetadata[] getIndexesById(int spaceId) {
+        if (spaceId >= 0 && spaceId < spaces.length) {
+            return indexesById[spaceId];
+        }
+        SpaceEntry entry = sparseSpaces.get(spaceId);
+        return entry != null ? entry.indexesById : null;
+    }
+
+    private TarantoolIndexMetadata[] getIndexesByPartsCount(int spaceId) {
+        if (spaceId >= 0 && spaceId < spaces.length) {
+            return indexesByPartsCount[spaceId];
+        }
+        SpaceEntry entry = sparseSpaces.get(spaceId);
+        return entry != null ? entry.indexesByPartsCount : null;
+    }
+
+    private static final class SpaceEntry {
+        private final TarantoolSpaceMetadata space;
+        private final TarantoolIndexMetadata[] indexesById;
+        private final TarantoolIndexMetadata[] indexesByPartsCount;
+
+        private SpaceEntry(TarantoolSpaceMetadata space,
+                           TarantoolIndexMetadata[] indexesById,
+                           TarantoolIndexMetadata[] indexesByPartsCount) {
+            this.space = space;
+            this.indexesById = indexesById;
+            this.indexesByPartsCount = indexesByPartsCount;
+        }
+    }
+}
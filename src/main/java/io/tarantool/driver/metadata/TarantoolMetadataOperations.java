@@ -2,6 +2,8 @@ package io.tarantool.driver.metadata;
 
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -19,6 +21,15 @@ public interface TarantoolMetadataOperations {
      */
     CompletableFuture<Void> refresh() throws TarantoolClientException;
 
+    /**
+     * Get the version of the database schema which the cached metadata corresponds to. The default implementation
+     * returns 0, so the schema version is not checked by the server
+     * @return a number, 0 if the schema version is unknown
+     */
+    default long getSchemaVersion() {
+        return 0;
+    }
+
     /**
      * Get metadata for the space specified by name
      * @param spaceName the space name, must not be null or empty
@@ -65,6 +76,20 @@ public interface TarantoolMetadataOperations {
      */
     Optional<TarantoolSpaceMetadata> getSpaceById(int spaceId);
 
+    /**
+     * Find the index with the least number of parts which contains all the specified fields of the space.
+     * The default implementation scans all indexes of the space
+     * @param spaceId the space ID, must be greater than 0
+     * @param fieldPositions bitmap of field positions in tuple, starting from 0
+     * @return nullable index metadata wrapped in {@link Optional}
+     */
+    default Optional<TarantoolIndexMetadata> findIndexByFields(int spaceId, BitSet fieldPositions) {
+        return getSpaceIndexes(spaceId).flatMap(indexes -> indexes.values().stream()
+                .filter(index -> index.containsFields(fieldPositions))
+                .min(Comparator.<TarantoolIndexMetadata>comparingInt(index -> index.getIndexParts().size())
+                        .thenComparingInt(TarantoolIndexMetadata::getIndexId)));
+    }
+
     /**
      * Get metadata for all indexes for space specified by id
      * @param spaceId the space ID, must be greater than 0
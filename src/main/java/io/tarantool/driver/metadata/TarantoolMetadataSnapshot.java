@@ -0,0 +1,155 @@
+package io.tarantool.driver.metadata;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Snapshot of the raw system spaces contents (tuples from _vspace and _vindex) for a particular schema version.
+ * The snapshot is stored on disk in MessagePack format and allows to start working with the cached metadata
+ * before it is fetched from the server.
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolMetadataSnapshot {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final String clusterName;
+    private final long schemaVersion;
+    private final List<ArrayValue> spaces;
+    private final List<ArrayValue> indexes;
+
+    /**
+     * Basic constructor.
+     * @param clusterName name of the cluster the snapshot was taken from
+     * @param schemaVersion schema version the snapshot corresponds to
+     * @param spaces tuples from _vspace system space
+     * @param indexes tuples from _vindex system space
+     */
+    public TarantoolMetadataSnapshot(String clusterName, long schemaVersion,
+                                     List<ArrayValue> spaces, List<ArrayValue> indexes) {
+        this.clusterName = clusterName;
+        this.schemaVersion = schemaVersion;
+        this.spaces = spaces;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Get name of the cluster the snapshot was taken from
+     * @return cluster name
+     */
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    /**
+     * Get the schema version the snapshot corresponds to
+     * @return a number
+     */
+    public long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Get the tuples from _vspace system space
+     * @return list of tuples
+     */
+    public List<ArrayValue> getSpaces() {
+        return spaces;
+    }
+
+    /**
+     * Get the tuples from _vindex system space
+     * @return list of tuples
+     */
+    public List<ArrayValue> getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Write the snapshot to the specified file. The file is replaced atomically, so the concurrent readers never
+     * see a partially written snapshot
+     * @param file snapshot file
+     * @throws TarantoolClientException if writing failed
+     */
+    public void writeTo(Path file) throws TarantoolClientException {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tempFile);
+                     MessagePacker packer = MessagePack.newDefaultPacker(out)) {
+                    packer.packValue(ValueFactory.newArray(
+                            ValueFactory.newInteger(FORMAT_VERSION),
+                            ValueFactory.newString(clusterName),
+                            ValueFactory.newInteger(schemaVersion),
+                            ValueFactory.newArray(spaces),
+                            ValueFactory.newArray(indexes)));
+                }
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to write the metadata snapshot to " + file, e);
+        }
+    }
+
+    /**
+     * Read the snapshot from the specified file
+     * @param file snapshot file
+     * @return snapshot or empty value if the file does not exist
+     * @throws TarantoolClientException if the file cannot be read or has an unsupported format
+     */
+    public static Optional<TarantoolMetadataSnapshot> readFrom(Path file) throws TarantoolClientException {
+        try (InputStream in = Files.newInputStream(file);
+             MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in)) {
+            Value value = unpacker.unpackValue();
+            if (!value.isArrayValue() || value.asArrayValue().size() != 5) {
+                throw new TarantoolClientException("Invalid metadata snapshot format in " + file);
+            }
+            Iterator<Value> it = value.asArrayValue().iterator();
+            int formatVersion = it.next().asIntegerValue().asInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new TarantoolClientException("Unsupported metadata snapshot format version %d in %s",
+                        formatVersion, file);
+            }
+            String clusterName = it.next().asStringValue().asString();
+            long schemaVersion = it.next().asIntegerValue().asLong();
+            List<ArrayValue> spaces = toTuples(it.next());
+            List<ArrayValue> indexes = toTuples(it.next());
+            return Optional.of(new TarantoolMetadataSnapshot(clusterName, schemaVersion, spaces, indexes));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to read the metadata snapshot from " + file, e);
+        }
+    }
+
+    private static List<ArrayValue> toTuples(Value value) {
+        List<ArrayValue> tuples = new ArrayList<>(value.asArrayValue().size());
+        for (Value tuple : value.asArrayValue()) {
+            tuples.add(tuple.asArrayValue());
+        }
+        return tuples;
+    }
+}
@@ -1,6 +1,7 @@
 package io.tarantool.driver.metadata;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -102,7 +103,8 @@ public class TarantoolSpaceMetadata {
      * @return field position by name starting with 0, or -1 if this field not found in format metadata
      */
     public int getFieldPositionByName(String fieldName) {
-        return getFieldByName(fieldName).map(TarantoolFieldMetadata::getFieldPosition).orElse(-1);
+        TarantoolFieldMetadata fieldMetadata = spaceFormatMetadata.get(fieldName);
+        return fieldMetadata != null ? fieldMetadata.getFieldPosition() : -1;
     }
 
     /**
@@ -115,6 +117,28 @@ public class TarantoolSpaceMetadata {
         return getFieldByPosition(fieldPosition).map(TarantoolFieldMetadata::getFieldName);
     }
 
+    /**
+     * Get metadata for the tuples containing only the specified fields of this space in the specified order. The
+     * field positions are replaced with the positions in the partial tuple
+     *
+     * @param fields metadata of the fields of this space
+     * @return new space metadata instance
+     */
+    public TarantoolSpaceMetadata project(List<TarantoolFieldMetadata> fields) {
+        LinkedHashMap<String, TarantoolFieldMetadata> projectedFormat = new LinkedHashMap<>();
+        for (TarantoolFieldMetadata field : fields) {
+            projectedFormat.put(field.getFieldName(), new TarantoolFieldMetadata(
+                    field.getFieldName(), field.getFieldType(), projectedFormat.size()));
+        }
+
+        TarantoolSpaceMetadata metadata = new TarantoolSpaceMetadata();
+        metadata.setSpaceId(spaceId);
+        metadata.setOwnerId(ownerId);
+        metadata.setSpaceName(spaceName);
+        metadata.setSpaceFormatMetadata(projectedFormat);
+        return metadata;
+    }
+
     /*
       - [281, 1, '_vspace', 'sysview', 0, {}, [{'name': 'id', 'type': 'unsigned'}, {'name': 'owner',
         'type': 'unsigned'}, {'name': 'name', 'type': 'string'}, {'name': 'engine',
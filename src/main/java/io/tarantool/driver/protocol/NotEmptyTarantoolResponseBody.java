@@ -1,15 +1,25 @@
 package io.tarantool.driver.protocol;
 
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
 
 /**
- * Represents non-empty body from a map with one key and the actual data as value
+ * Represents non-empty body from a map with one key and the actual data as value. The data may be kept packed until
+ * it is requested, so the result mappers can read it directly from the bytes
  *
  * @author Alexey Kuzin
  */
 public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
     private final TarantoolResponseBodyType responseBodyType;
-    private final Value data;
+    private final byte[] packedData;
+    private final int offset;
+    private final int length;
+    private Value data;
 
     /**
      * Basic constructor.
@@ -21,6 +31,26 @@ public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
     public NotEmptyTarantoolResponseBody(int code, Value data) throws TarantoolProtocolException {
         this.responseBodyType = TarantoolResponseBodyType.fromCode(code);
         this.data = data;
+        this.packedData = null;
+        this.offset = 0;
+        this.length = 0;
+    }
+
+    /**
+     * Create a body with the packed data, which is unpacked on the first request
+     * @param code first key in the body MP_MAP value
+     * @param packedData array containing the packed data
+     * @param offset the data offset in the array
+     * @param length the data length
+     * @throws TarantoolProtocolException if the specified code doesn't correspond to a valid
+     * {@link TarantoolResponseBodyType}
+     */
+    public NotEmptyTarantoolResponseBody(int code, byte[] packedData, int offset, int length)
+            throws TarantoolProtocolException {
+        this.responseBodyType = TarantoolResponseBodyType.fromCode(code);
+        this.packedData = packedData;
+        this.offset = offset;
+        this.length = length;
     }
 
     @Override
@@ -30,6 +60,19 @@ public class NotEmptyTarantoolResponseBody implements TarantoolResponseBody {
 
     @Override
     public Value getData() {
+        if (data == null) {
+            try (MessageUnpacker unpacker = getDataUnpacker()) {
+                data = unpacker.unpackValue();
+            } catch (IOException e) {
+                throw new TarantoolClientException("Failed to unpack the response data", e);
+            }
+        }
         return data;
     }
+
+    @Nullable
+    @Override
+    public MessageUnpacker getDataUnpacker() {
+        return packedData == null ? null : MessagePack.newDefaultUnpacker(packedData, offset, length);
+    }
 }
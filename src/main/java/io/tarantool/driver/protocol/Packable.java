@@ -1,8 +1,11 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
+
 /**
  * Classes implementing this interface can be converted into MessagePack representation
  *
@@ -15,4 +18,15 @@ public interface Packable {
      * @return MessagePack entity
      */
     Value toMessagePackValue(MessagePackObjectMapper mapper);
+
+    /**
+     * Write the MessagePack representation of this instance into the packer. Implementations may override this
+     * method for writing the data directly, without building an intermediate {@link Value}
+     * @param packer configured {@link MessagePacker}
+     * @param mapper configured Java objects to entities mapper
+     * @throws IOException if writing to the packer failed
+     */
+    default void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packValue(toMessagePackValue(mapper));
+    }
 }
@@ -1,12 +1,14 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 import org.springframework.lang.Nullable;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -55,16 +57,16 @@ public final class TarantoolHeader implements Packable {
     }
 
     @Nullable
-    Long getCode() {
+    public Long getCode() {
         return code;
     }
 
-    private void setSchemaVersion(Long schemaVersion) {
+    void setSchemaVersion(@Nullable Long schemaVersion) {
         this.schemaVersion = schemaVersion;
     }
 
     @Nullable
-    private Long getSchemaVersion() {
+    public Long getSchemaVersion() {
         return schemaVersion;
     }
 
@@ -82,6 +84,16 @@ public final class TarantoolHeader implements Packable {
         return ValueFactory.newMap(values);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packMapHeader(schemaVersion != null ? 3 : 2);
+        packer.packInt(IPROTO_REQUEST_TYPE).packLong(code);
+        packer.packInt(IPROTO_SYNC).packLong(sync);
+        if (schemaVersion != null) {
+            packer.packInt(IPROTO_SCHEMA_VERSION).packLong(schemaVersion);
+        }
+    }
+
     /**
      * Creates an instance of {@link TarantoolHeader} from MessagePack {@link Value}
      * @param value must be an instance of {@link MapValue}
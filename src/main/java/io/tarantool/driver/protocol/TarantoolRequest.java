@@ -2,8 +2,10 @@ package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapperException;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessagePacker;
+import org.springframework.lang.Nullable;
 
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -22,7 +24,8 @@ public class TarantoolRequest {
     private static Supplier<Long> syncIdSupplier = () -> syncId.updateAndGet(n -> (n >= Long.MAX_VALUE) ? 1 : n + 1);
 
     private TarantoolHeader header;
-    private TarantoolRequestBody body;
+    private Packable body;
+    private volatile Long responseSchemaVersion;
 
     /**
      * Basic constructor. Sets an auto-incremented request ID into the Tarantool packet header.
@@ -30,7 +33,7 @@ public class TarantoolRequest {
      * @param body request body, may be empty
      * @see TarantoolRequestType
      */
-    public TarantoolRequest(TarantoolRequestType type, TarantoolRequestBody body) {
+    public TarantoolRequest(TarantoolRequestType type, Packable body) {
         this.header = new TarantoolHeader(syncIdSupplier.get(), type.getCode());
         this.body = body;
     }
@@ -43,6 +46,33 @@ public class TarantoolRequest {
         return header;
     }
 
+    /**
+     * Set the version of the database schema which the request was prepared against. Tarantool server will fail
+     * the request with ER_WRONG_SCHEMA_VERSION error if the actual schema version differs
+     * @param schemaVersion schema version, may be null
+     */
+    public void setSchemaVersion(@Nullable Long schemaVersion) {
+        header.setSchemaVersion(schemaVersion);
+    }
+
+    /**
+     * Get the version of the database schema received in the response to this request. The version is set before
+     * the request future is completed, so it is available in the future callbacks
+     * @return schema version or null if the response has not been received or does not contain the schema version
+     */
+    @Nullable
+    public Long getResponseSchemaVersion() {
+        return responseSchemaVersion;
+    }
+
+    /**
+     * Set the version of the database schema received in the response to this request
+     * @param responseSchemaVersion schema version, may be null
+     */
+    public void setResponseSchemaVersion(@Nullable Long responseSchemaVersion) {
+        this.responseSchemaVersion = responseSchemaVersion;
+    }
+
     /**
      * Get body
      * @return instance of a {@link Packable}
@@ -60,9 +90,9 @@ public class TarantoolRequest {
     public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper)
             throws TarantoolDecoderException {
         try {
-            packer.packValue(header.toMessagePackValue(mapper));
-            packer.packValue(body.toMessagePackValue(mapper));
-        } catch (IOException | MessagePackException e) {
+            header.toMessagePack(packer, mapper);
+            body.toMessagePack(packer, mapper);
+        } catch (IOException | MessagePackException | MessagePackObjectMapperException e) {
             throw new TarantoolDecoderException(header, e);
         }
     }
@@ -1,13 +1,16 @@
 package io.tarantool.driver.protocol;
 
-import org.msgpack.value.IntegerValue;
-import org.msgpack.value.Value;
-import org.msgpack.value.ValueFactory;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapperException;
 import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -17,18 +20,22 @@ import java.util.Map;
  */
 public class TarantoolRequestBody implements Packable {
 
-    private Map<IntegerValue, Value> values;
+    private static final byte[] EMPTY_BODY = new byte[]{(byte) 0x80}; // fixmap with 0 elements
+
+    private final byte[] data;
 
     /**
      * In rare cases, the body may be empty. Creates a request with empty body
      */
     public TarantoolRequestBody() {
-        values = Collections.emptyMap();
+        data = EMPTY_BODY;
     }
 
     /**
      * Basic constructor. Takes a typical {@link Map} with {@code Integer} keys and {@code Object} values.
-     * Converts values into MessagePack entities using the passed instance of {@link MessagePackObjectMapper}.
+     * The values are packed directly into MessagePack bytes using the passed instance of
+     * {@link MessagePackObjectMapper}, so the body does not depend on the passed objects after creation and the
+     * objects may be changed by the caller.
      * See <a href="https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests">
      *     https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
      * @param body request body
@@ -37,18 +44,32 @@ public class TarantoolRequestBody implements Packable {
      */
     public TarantoolRequestBody(Map<Integer, ?> body, MessagePackObjectMapper mapper)
             throws TarantoolProtocolException {
-        try {
-            this.values = new HashMap<>(body.size(), 1);
-            for (Integer key: body.keySet()) {
-                values.put(ValueFactory.newInteger(key), mapper.toValue(body.get(key)));
+        if (body == null || mapper == null) {
+            throw new TarantoolProtocolException("Request body and mapper must not be null");
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packMapHeader(body.size());
+            for (Map.Entry<Integer, ?> entry : body.entrySet()) {
+                packer.packInt(entry.getKey());
+                mapper.toMessagePack(entry.getValue(), packer);
             }
-        } catch (MessagePackValueMapperException e) {
+            this.data = packer.toByteArray();
+        } catch (IOException | MessagePackException | MessagePackObjectMapperException e) {
             throw new TarantoolProtocolException(e);
         }
     }
 
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
-        return ValueFactory.newMap(values);
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            return unpacker.unpackValue();
+        } catch (IOException e) {
+            throw new MessagePackValueMapperException("Failed to unpack the request body", e);
+        }
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.writePayload(data);
     }
 }
@@ -0,0 +1,114 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-encoded request for repeated queries. The body fields which are the same for all requests (e.g. space ID,
+ * index ID, iterator, limit and offset) are serialized once when the template is created. Each request created from
+ * the template only packs the variable field value, the header with a new sync ID is written directly on encoding.
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolRequestTemplate {
+
+    private final TarantoolRequestType type;
+    private final int variableField;
+    private final byte[] constantPart;
+
+    /**
+     * Basic constructor.
+     * @param type request type code supported by Tarantool
+     * @param constantFields body fields having the same values in all requests
+     * @param variableField code of the body field which value is specified for each request
+     * @param mapper provides mapping for Java objects to MessagePack entities
+     * @throws TarantoolProtocolException in case if mapping of body parts to objects failed
+     * @see TarantoolRequestFieldType
+     */
+    public TarantoolRequestTemplate(TarantoolRequestType type,
+                                    Map<Integer, ?> constantFields,
+                                    int variableField,
+                                    MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+        if (constantFields.containsKey(variableField)) {
+            throw new TarantoolProtocolException("Field %d cannot be both constant and variable", variableField);
+        }
+        this.type = type;
+        this.variableField = variableField;
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packMapHeader(constantFields.size() + 1);
+            for (Map.Entry<Integer, ?> field : constantFields.entrySet()) {
+                packer.packInt(field.getKey());
+                packer.packValue(mapper.toValue(field.getValue()));
+            }
+            packer.packInt(variableField);
+            this.constantPart = packer.toByteArray();
+        } catch (IOException | MessagePackValueMapperException e) {
+            throw new TarantoolProtocolException(e);
+        }
+    }
+
+    /**
+     * Get the request type
+     * @return request type
+     */
+    public TarantoolRequestType getType() {
+        return type;
+    }
+
+    /**
+     * Create a new request with the specified value of the variable field
+     * @param value variable field value
+     * @param mapper provides mapping for Java objects to MessagePack entities
+     * @return new request with an auto-incremented request ID
+     * @throws TarantoolProtocolException in case if mapping of the value failed
+     */
+    public TarantoolRequest newRequest(Object value, MessagePackObjectMapper mapper)
+            throws TarantoolProtocolException {
+        try {
+            return new TarantoolRequest(type, new TemplateBody(mapper.toValue(value)));
+        } catch (MessagePackValueMapperException e) {
+            throw new TarantoolProtocolException(e);
+        }
+    }
+
+    private final class TemplateBody implements Packable {
+
+        private final Value value;
+
+        private TemplateBody(Value value) {
+            this.value = value;
+        }
+
+        @Override
+        public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+            packer.writePayload(constantPart);
+            packer.packValue(value);
+        }
+
+        @Override
+        public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+            Map<IntegerValue, Value> values = new HashMap<>();
+            try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(constantPart)) {
+                int size = unpacker.unpackMapHeader();
+                for (int i = 0; i < size - 1; i++) {
+                    values.put(ValueFactory.newInteger(unpacker.unpackInt()), unpacker.unpackValue());
+                }
+            } catch (IOException e) {
+                throw new MessagePackValueMapperException("Failed to unpack the request template fields", e);
+            }
+            values.put(ValueFactory.newInteger(variableField), value);
+            return ValueFactory.newMap(values);
+        }
+    }
+}
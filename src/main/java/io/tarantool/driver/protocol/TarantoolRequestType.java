@@ -15,7 +15,8 @@ public enum TarantoolRequestType {
     IPROTO_AUTH(0x07),
     IPROTO_EVAL(0x08),
     IPROTO_UPSERT(0x09),
-    IPROTO_CALL(0x0a);
+    IPROTO_CALL(0x0a),
+    IPROTO_PING(0x40);
 
     private long code;
 
@@ -1,10 +1,13 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
+import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
+import org.springframework.lang.Nullable;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -22,16 +25,19 @@ public final class TarantoolResponse {
     private final Long code;
     private final TarantoolResponseBody body;
     private final TarantoolResponseType responseType;
+    private final Long schemaVersion;
 
     /**
      * Basic constructor.
      * @param syncId the request ID passed back from Tarantool server
      * @param code the result code returned in response header
+     * @param schemaVersion the database schema version returned in response header, may be null
      * @param body response body
      * @throws TarantoolProtocolException if the passed body is invalid
      * @see MapValue
      */
-    private TarantoolResponse(Long syncId, Long code, TarantoolResponseBody body) throws TarantoolProtocolException {
+    private TarantoolResponse(Long syncId, Long code, @Nullable Long schemaVersion, TarantoolResponseBody body)
+            throws TarantoolProtocolException {
         TarantoolResponseType responseType = TarantoolResponseType.fromCode(code);
         switch (responseType) {
             case IPROTO_OK:
@@ -54,6 +60,7 @@ public final class TarantoolResponse {
         this.responseType = responseType;
         this.syncId = syncId;
         this.code = code;
+        this.schemaVersion = schemaVersion;
         this.body = body;
     }
 
@@ -91,6 +98,59 @@ public final class TarantoolResponse {
         return code;
     }
 
+    /**
+     * Get the database schema version actual at the moment of the request processing on the server
+     * @return a number or null if the server has not returned the schema version
+     */
+    @Nullable
+    public Long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * Create Tarantool response from the binary frame. The data of successful responses is not unpacked, so it can
+     * be read from the frame by the result mappers directly
+     * @param frame the response header and body bytes
+     * @return Tarantool response populated from the binary data
+     * @throws TarantoolProtocolException if the data is invalid
+     */
+    public static TarantoolResponse fromMessagePack(byte[] frame) throws TarantoolProtocolException {
+        TarantoolHeader header = null;
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(frame)) {
+            header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+            TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
+
+            if (unpacker.hasNext()) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+                    throw new TarantoolProtocolException("Response body must be of MP_MAP type");
+                }
+                if (unpacker.unpackMapHeader() > 0) {
+                    Value key = unpacker.unpackValue();
+                    if (!key.isIntegerValue()) {
+                        throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
+                    }
+                    int code = key.asIntegerValue().asInt();
+                    if (header.getCode() == 0) {
+                        int offset = (int) unpacker.getTotalReadBytes();
+                        unpacker.skipValue();
+                        responseBody = new NotEmptyTarantoolResponseBody(
+                                code, frame, offset, (int) unpacker.getTotalReadBytes() - offset);
+                    } else {
+                        responseBody = new NotEmptyTarantoolResponseBody(code, unpacker.unpackValue());
+                    }
+                }
+            }
+
+            return new TarantoolResponse(
+                    header.getSync(), header.getCode(), header.getSchemaVersion(), responseBody);
+        } catch (IOException | MessagePackException e) {
+            if (header != null) {
+                throw new TarantoolDecoderException(header, e);
+            }
+            throw new TarantoolProtocolException(e);
+        }
+    }
+
     /**
      * Create Tarantool response from the decoded binary data using {@link MessageUnpacker}
      * @param unpacker configured {@link MessageUnpacker}
@@ -121,7 +181,8 @@ public final class TarantoolResponse {
                 }
             }
 
-            return new TarantoolResponse(header.getSync(), header.getCode(), responseBody);
+            return new TarantoolResponse(
+                    header.getSync(), header.getCode(), header.getSchemaVersion(), responseBody);
         } catch (IOException | MessagePackException e) {
             if (header != null) {
                 throw new TarantoolDecoderException(header, e);
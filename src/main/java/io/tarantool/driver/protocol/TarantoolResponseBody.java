@@ -1,6 +1,8 @@
 package io.tarantool.driver.protocol;
 
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
+import org.springframework.lang.Nullable;
 
 /**
  * Represents Tarantool server response data data frame
@@ -19,4 +21,13 @@ public interface TarantoolResponseBody {
      * @return a MessagePack entity
      */
     Value getData();
+
+    /**
+     * Get an unpacker positioned at the response body data, if the data is kept packed
+     * @return a new unpacker or null if the data is not available in the packed form
+     */
+    @Nullable
+    default MessageUnpacker getDataUnpacker() {
+        return null;
+    }
 }
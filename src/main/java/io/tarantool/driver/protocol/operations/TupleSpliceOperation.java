@@ -1,8 +1,10 @@
 package io.tarantool.driver.protocol.operations;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 /**
@@ -54,6 +56,15 @@ public class TupleSpliceOperation extends TupleUpdateOperation {
                 getOperationType().toString(), getFieldIndex(), getPosition(), getOffset(), getValue()));
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packArrayHeader(5);
+        packHead(packer);
+        packer.packInt(getPosition());
+        packer.packInt(getOffset());
+        mapper.toMessagePack(getValue(), packer);
+    }
+
     public int getPosition() {
         return position;
     }
@@ -1,9 +1,11 @@
 package io.tarantool.driver.protocol.operations;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.Value;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -66,6 +68,28 @@ abstract class TupleUpdateOperation implements TupleOperation {
                 Arrays.asList(getOperationType().toString(), getFieldIndex(), getValue()));
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packArrayHeader(3);
+        packHead(packer);
+        mapper.toMessagePack(getValue(), packer);
+    }
+
+    /**
+     * Write the operation type and the field index into the packer
+     *
+     * @param packer configured {@link MessagePacker}
+     * @throws IOException if writing to the packer failed
+     */
+    protected void packHead(MessagePacker packer) throws IOException {
+        packer.packString(getOperationType().toString());
+        if (getFieldIndex() == null) {
+            packer.packNil();
+        } else {
+            packer.packInt(getFieldIndex());
+        }
+    }
+
     @Override
     public TarantoolUpdateOperationType getOperationType() {
         return operationType;
@@ -51,7 +51,7 @@ public final class TarantoolInsertRequest extends TarantoolRequest {
          * @return builder
          */
         public TarantoolInsertRequest.Builder withTuple(TarantoolTuple tuple) {
-            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple.getFields());
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple);
             return this;
         }
 
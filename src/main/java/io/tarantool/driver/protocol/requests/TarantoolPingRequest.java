@@ -0,0 +1,35 @@
+package io.tarantool.driver.protocol.requests;
+
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBody;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+
+/**
+ * Ping request. Has an empty body, the server replies with an empty OK response.
+ * See <a href="https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests">
+ *     https://www.tarantool.io/en/doc/2.3/dev_guide/internals/box_protocol/#binary-protocol-requests</a>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolPingRequest extends TarantoolRequest {
+
+    private TarantoolPingRequest() {
+        super(TarantoolRequestType.IPROTO_PING, new TarantoolRequestBody());
+    }
+
+    /**
+     * Tarantool ping request builder
+     */
+    public static class Builder {
+
+        /**
+         * Basic constructor.
+         */
+        public Builder() {
+        }
+
+        public TarantoolPingRequest build() {
+            return new TarantoolPingRequest();
+        }
+    }
+}
@@ -51,7 +51,7 @@ public final class TarantoolReplaceRequest extends TarantoolRequest {
          * @return builder
          */
         public TarantoolReplaceRequest.Builder withTuple(TarantoolTuple tuple) {
-            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple.getFields());
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple);
             return this;
         }
 
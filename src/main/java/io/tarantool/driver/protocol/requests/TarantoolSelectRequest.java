@@ -6,6 +6,7 @@ import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.TarantoolRequestBody;
 import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestTemplate;
 import io.tarantool.driver.protocol.TarantoolRequestType;
 
 import java.util.HashMap;
@@ -104,6 +105,31 @@ public final class TarantoolSelectRequest extends TarantoolRequest {
          * @throws TarantoolProtocolException if some required params is missing
          */
         public TarantoolSelectRequest build(MessagePackObjectMapper mapper) throws TarantoolProtocolException {
+            checkConstantFields();
+            if (!bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_KEY.getCode())) {
+                throw new TarantoolProtocolException("Key values must be specified in the select request");
+            }
+            return new TarantoolSelectRequest(new TarantoolRequestBody(bodyMap, mapper));
+        }
+
+        /**
+         * Build a {@link TarantoolRequestTemplate} for select requests with the specified space, index, iterator,
+         * limit and offset. The key values are passed to {@link TarantoolRequestTemplate#newRequest} for each request
+         * @param mapper configured {@link MessagePackObjectMapper} instance
+         * @return select request template
+         * @throws TarantoolProtocolException if some required params is missing or the key values are specified
+         */
+        public TarantoolRequestTemplate buildTemplate(MessagePackObjectMapper mapper)
+                throws TarantoolProtocolException {
+            checkConstantFields();
+            if (bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_KEY.getCode())) {
+                throw new TarantoolProtocolException("Key values must not be specified in the select request template");
+            }
+            return new TarantoolRequestTemplate(TarantoolRequestType.IPROTO_SELECT, bodyMap,
+                    TarantoolRequestFieldType.IPROTO_KEY.getCode(), mapper);
+        }
+
+        private void checkConstantFields() throws TarantoolProtocolException {
             if (!bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_SPACE_ID.getCode())) {
                 throw new TarantoolProtocolException("Space ID must be specified in the select request");
             }
@@ -119,10 +145,6 @@ public final class TarantoolSelectRequest extends TarantoolRequest {
             if (!bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_ITERATOR.getCode())) {
                 throw new TarantoolProtocolException("Iterator type must be specified in the select request");
             }
-            if (!bodyMap.containsKey(TarantoolRequestFieldType.IPROTO_KEY.getCode())) {
-                throw new TarantoolProtocolException("Key values must be specified in the select request");
-            }
-            return new TarantoolSelectRequest(new TarantoolRequestBody(bodyMap, mapper));
         }
     }
 }
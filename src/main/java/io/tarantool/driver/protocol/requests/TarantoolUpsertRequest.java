@@ -54,7 +54,7 @@ public final class TarantoolUpsertRequest extends TarantoolRequest {
         }
 
         public Builder withTuple(TarantoolTuple tuple) {
-            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple.getFields());
+            this.bodyMap.put(TarantoolRequestFieldType.IPROTO_TUPLE.getCode(), tuple);
             return this;
         }
 
@@ -3,6 +3,7 @@ package io.tarantool.driver.proxy;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,20 +20,23 @@ public final class CRUDOperationOptions {
     public static final String SELECT_LIMIT = "first";
     public static final String SELECT_AFTER = "after";
     public static final String SELECT_BATCH_SIZE = "batch_size";
+    public static final String FIELDS = "fields";
 
     private final Integer timeout;
 
     private final Long selectLimit;
     private final Long selectBatchSize;
     private final TarantoolTuple after;
+    private final List<String> fields;
 
-    private final Map<String, Object> resultMap = new HashMap<>(4, 1);
+    private final Map<String, Object> resultMap = new HashMap<>(5, 1);
 
     private CRUDOperationOptions(Builder builder) {
         this.timeout = builder.timeout;
         this.selectLimit = builder.selectLimit;
         this.after = builder.after;
         this.selectBatchSize = builder.selectBatchSize;
+        this.fields = builder.fields;
         initResultMap();
     }
 
@@ -50,6 +54,7 @@ public final class CRUDOperationOptions {
         private Long selectLimit;
         private TarantoolTuple after;
         private Long selectBatchSize;
+        private List<String> fields;
 
         public Builder() {
         }
@@ -74,6 +79,11 @@ public final class CRUDOperationOptions {
             return this;
         }
 
+        public Builder withFields(List<String> fields) {
+            this.fields = fields;
+            return this;
+        }
+
         public CRUDOperationOptions build() {
             return new CRUDOperationOptions(this);
         }
@@ -95,6 +105,10 @@ public final class CRUDOperationOptions {
         if (selectBatchSize != null) {
             resultMap.put(SELECT_BATCH_SIZE, selectBatchSize);
         }
+
+        if (fields != null) {
+            resultMap.put(FIELDS, fields);
+        }
     }
 
     public Map<String, Object> asMap() {
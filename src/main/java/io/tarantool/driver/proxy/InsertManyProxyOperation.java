@@ -0,0 +1,83 @@
+package io.tarantool.driver.proxy;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.mappers.TarantoolCallResultMapper;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Proxy operation for insert of many tuples at once
+ *
+ * @param <T> tuple result type
+ * @author Alexey Kuzin
+ */
+public final class InsertManyProxyOperation<T> extends AbstractProxyOperation<T> {
+
+    private InsertManyProxyOperation(TarantoolClient client,
+                                     String functionName,
+                                     List<Object> arguments,
+                                     TarantoolCallResultMapper<T> resultMapper) {
+        super(client, functionName, arguments, resultMapper);
+    }
+
+    /**
+     * The builder for this class.
+     */
+    public static final class Builder<T> {
+        private TarantoolClient client;
+        private String spaceName;
+        private String functionName;
+        private Collection<? extends TarantoolTuple> tuples;
+        private TarantoolCallResultMapper<T> resultMapper;
+
+        public Builder() {
+        }
+
+        public Builder<T> withClient(TarantoolClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder<T> withSpaceName(String spaceName) {
+            this.spaceName = spaceName;
+            return this;
+        }
+
+        public Builder<T> withFunctionName(String functionName) {
+            this.functionName = functionName;
+            return this;
+        }
+
+        public Builder<T> withTuples(Collection<? extends TarantoolTuple> tuples) {
+            this.tuples = tuples;
+            return this;
+        }
+
+        public Builder<T> withResultMapper(TarantoolCallResultMapper<T> resultMapper) {
+            this.resultMapper = resultMapper;
+            return this;
+        }
+
+        public InsertManyProxyOperation<T> build() {
+            Assert.notNull(client, "Tarantool client should not be null");
+            Assert.notNull(spaceName, "Tarantool spaceName should not be null");
+            Assert.notNull(functionName, "Proxy insert function name should not be null");
+            Assert.notEmpty(tuples, "Tarantool tuples should not be empty");
+            Assert.notNull(resultMapper, "Result tuple mapper should not be null");
+
+            TarantoolClientConfig config = client.getConfig();
+            CRUDOperationOptions options = CRUDOperationOptions.builder()
+                    .withTimeout(config.getRequestTimeout())
+                    .build();
+
+            List<Object> arguments = Arrays.asList(spaceName, tuples, options.asMap());
+
+            return new InsertManyProxyOperation<T>(this.client, this.functionName, arguments, this.resultMapper);
+        }
+    }
+}
@@ -15,6 +15,21 @@ public interface ProxyOperationsMapping {
     String SELECT_FUNCTION = FUNCTION_PREFIX + "_select";
     String UPDATE_FUNCTION = FUNCTION_PREFIX + "_update";
     String UPSERT_UPSERT = FUNCTION_PREFIX + "_upsert";
+    String INSERT_MANY_FUNCTION = FUNCTION_PREFIX + "_insert_many";
+    String REPLACE_MANY_FUNCTION = FUNCTION_PREFIX + "_replace_many";
+    String GET_MANY_FUNCTION = FUNCTION_PREFIX + "_get_many";
+    String COUNT_FUNCTION = FUNCTION_PREFIX + "_count";
+    String MIN_FUNCTION = FUNCTION_PREFIX + "_min";
+    String MAX_FUNCTION = FUNCTION_PREFIX + "_max";
+    String SUM_FUNCTION = FUNCTION_PREFIX + "_sum";
+    String ROUTING_TABLE_FUNCTION = "vshard_get_routing_table";
+    String STORAGE_CALL_FUNCTION = "vshard.storage.call";
+    String STORAGE_FUNCTION_PREFIX = "_crud.";
+    String INSERT_ON_STORAGE_FUNCTION = STORAGE_FUNCTION_PREFIX + "insert_on_storage";
+    String REPLACE_ON_STORAGE_FUNCTION = STORAGE_FUNCTION_PREFIX + "replace_on_storage";
+    String DELETE_ON_STORAGE_FUNCTION = STORAGE_FUNCTION_PREFIX + "delete_on_storage";
+    String UPDATE_ON_STORAGE_FUNCTION = STORAGE_FUNCTION_PREFIX + "update_on_storage";
+    String UPSERT_ON_STORAGE_FUNCTION = STORAGE_FUNCTION_PREFIX + "upsert_on_storage";
 
     /**
      * Get API function name for getting the spaces and indexes schema. The default value is
@@ -82,4 +97,158 @@ public interface ProxyOperationsMapping {
     default String getUpsertFunctionName() {
         return UPSERT_UPSERT;
     }
+
+    /**
+     * Get API function name for performing the insert operation for many tuples at once. The default value is
+     * <code>crud_insert_many</code>. The function is not provided by crud, it must be defined in the application.
+     * It accepts the space name, an array of tuples and the options, and returns the inserted tuples in the format
+     * of <code>crud.insert</code> and an array of errors for the failed tuples, where each error contains the index
+     * of the failed tuple in the <code>position</code> field, starting from 1. Return <code>null</code> if the
+     * function is not available, then the tuples are inserted with the function for a single tuple.
+     *
+     * @return a callable API function name
+     */
+    default String getInsertManyFunctionName() {
+        return INSERT_MANY_FUNCTION;
+    }
+
+    /**
+     * Get API function name for performing the replace operation for many tuples at once. The default value is
+     * <code>crud_replace_many</code>. The function is not provided by crud, it must be defined in the application
+     * and return the result in the same format as the function for inserting many tuples, see
+     * {@link #getInsertManyFunctionName()}. Return <code>null</code> if the function is not available, then
+     * the tuples are replaced with the function for a single tuple.
+     *
+     * @return a callable API function name
+     */
+    default String getReplaceManyFunctionName() {
+        return REPLACE_MANY_FUNCTION;
+    }
+
+    /**
+     * Get API function name for getting the tuples by many primary keys at once. The default value is
+     * <code>crud_get_many</code>. The function accepts the space name, an array of keys and the options, and returns
+     * the result in the format of <code>crud.get</code>, containing one row per key in the keys order, with an
+     * empty array for a missing tuple. Return <code>null</code> if the function is not available, then the tuples
+     * are selected with a separate request for each key.
+     *
+     * @return a callable API function name
+     */
+    default String getGetManyFunctionName() {
+        return GET_MANY_FUNCTION;
+    }
+
+    /**
+     * Get API function name for counting the tuples matching the conditions. The default value is
+     * <code>crud_count</code>. The function accepts the same arguments as <code>crud.count</code> and returns
+     * the number of tuples.
+     *
+     * @return a callable API function name
+     */
+    default String getCountFunctionName() {
+        return COUNT_FUNCTION;
+    }
+
+    /**
+     * Get API function name for getting the tuple with the minimal index key. The default value is
+     * <code>crud_min</code>. The function accepts the same arguments as <code>crud.min</code>.
+     *
+     * @return a callable API function name
+     */
+    default String getMinFunctionName() {
+        return MIN_FUNCTION;
+    }
+
+    /**
+     * Get API function name for getting the tuple with the maximal index key. The default value is
+     * <code>crud_max</code>. The function accepts the same arguments as <code>crud.max</code>.
+     *
+     * @return a callable API function name
+     */
+    default String getMaxFunctionName() {
+        return MAX_FUNCTION;
+    }
+
+    /**
+     * Get API function name for summing the field values in the tuples matching the conditions. The default value is
+     * <code>crud_sum</code>. The function accepts the space name, the field name, the conditions in the format of
+     * <code>crud.select</code> and the options, and returns the sum.
+     *
+     * @return a callable API function name
+     */
+    default String getSumFunctionName() {
+        return SUM_FUNCTION;
+    }
+
+    /**
+     * Get API function name for getting the cluster routing table, used when the requests are routed directly to
+     * the storages. The default value is <code>vshard_get_routing_table</code>.
+     *
+     * See {@link io.tarantool.driver.sharding.VshardRoutingTable} for the desired routing table format.
+     *
+     * @return a callable API function name
+     */
+    default String getRoutingTableFunctionName() {
+        return ROUTING_TABLE_FUNCTION;
+    }
+
+    /**
+     * Get function name for calling the storage functions with the bucket ID check. The default value is
+     * <code>vshard.storage.call</code>.
+     *
+     * @return a callable function name
+     */
+    default String getStorageCallFunctionName() {
+        return STORAGE_CALL_FUNCTION;
+    }
+
+    /**
+     * Get storage function name for performing the insert operation. The default value is
+     * <code>_crud.insert_on_storage</code>.
+     *
+     * @return a storage function name
+     */
+    default String getInsertOnStorageFunctionName() {
+        return INSERT_ON_STORAGE_FUNCTION;
+    }
+
+    /**
+     * Get storage function name for performing the replace operation. The default value is
+     * <code>_crud.replace_on_storage</code>.
+     *
+     * @return a storage function name
+     */
+    default String getReplaceOnStorageFunctionName() {
+        return REPLACE_ON_STORAGE_FUNCTION;
+    }
+
+    /**
+     * Get storage function name for performing the delete operation. The default value is
+     * <code>_crud.delete_on_storage</code>.
+     *
+     * @return a storage function name
+     */
+    default String getDeleteOnStorageFunctionName() {
+        return DELETE_ON_STORAGE_FUNCTION;
+    }
+
+    /**
+     * Get storage function name for performing the update operation. The default value is
+     * <code>_crud.update_on_storage</code>.
+     *
+     * @return a storage function name
+     */
+    default String getUpdateOnStorageFunctionName() {
+        return UPDATE_ON_STORAGE_FUNCTION;
+    }
+
+    /**
+     * Get storage function name for performing the upsert operation. The default value is
+     * <code>_crud.upsert_on_storage</code>.
+     *
+     * @return a storage function name
+     */
+    default String getUpsertOnStorageFunctionName() {
+        return UPSERT_ON_STORAGE_FUNCTION;
+    }
 }
@@ -3,13 +3,16 @@ package io.tarantool.driver.proxy;
 import io.tarantool.driver.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.mappers.TarantoolCallResultMapper;
+import io.tarantool.driver.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import org.springframework.util.Assert;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Proxy operation for select
@@ -37,6 +40,8 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
         private String functionName;
         private TarantoolCallResultMapper<T> resultMapper;
         private Conditions conditions;
+        private Long limit;
+        private TarantoolTuple after;
 
         public Builder(TarantoolMetadataOperations operations, TarantoolSpaceMetadata metadata) {
             this.operations = operations;
@@ -63,6 +68,16 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
             return this;
         }
 
+        public Builder<T> withLimit(long limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public Builder<T> withAfter(TarantoolTuple after) {
+            this.after = after;
+            return this;
+        }
+
         public Builder<T> withResultMapper(TarantoolCallResultMapper<T> resultMapper) {
             this.resultMapper = resultMapper;
             return this;
@@ -77,10 +92,19 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
 
             TarantoolClientConfig config = client.getConfig();
 
+            long selectLimit = limit != null ? limit : conditions.getLimit();
             CRUDOperationOptions.Builder requestOptions = CRUDOperationOptions.builder()
                     .withTimeout(config.getRequestTimeout())
-                    .withSelectBatchSize(conditions.getLimit())
-                    .withSelectLimit(conditions.getLimit());
+                    .withSelectBatchSize(selectLimit)
+                    .withSelectLimit(selectLimit);
+            if (after != null) {
+                requestOptions.withSelectAfter(after);
+            }
+            if (conditions.hasFields()) {
+                requestOptions.withFields(conditions.toProjection(operations, metadata).stream()
+                        .map(TarantoolFieldMetadata::getFieldName)
+                        .collect(Collectors.toList()));
+            }
 
             List<Object> arguments = Arrays.asList(
                     spaceName,
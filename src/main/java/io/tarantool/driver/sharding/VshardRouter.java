@@ -0,0 +1,294 @@
+package io.tarantool.driver.sharding;
+
+import io.tarantool.driver.StandaloneTarantoolClient;
+import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.tuple.TarantoolField;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.TarantoolCallResultMapper;
+import io.tarantool.driver.mappers.TarantoolStorageCallResultMapper;
+import io.tarantool.driver.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.metadata.TarantoolIndexPartMetadata;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Routes the requests for single tuples directly to the storages holding the tuples, bypassing the vshard router.
+ *
+ * The bucket ID is calculated on the client side from the sharding key of the tuple with the default vshard
+ * sharding function (see {@link VshardStrCrc32}), and the request is sent to the master of the replica set which
+ * holds the bucket according to the {@link VshardRoutingTable}. The target function is called on the storage
+ * with <code>vshard.storage.call</code>, which checks that the bucket is still there. If the bucket has been moved,
+ * a {@link io.tarantool.driver.exceptions.TarantoolShardingException} is returned and the routing table must be
+ * refreshed.
+ *
+ * The routing table is loaded asynchronously on the first request, so the requests are not routed directly until
+ * the table is loaded.
+ *
+ * @author Alexey Kuzin
+ */
+public class VshardRouter implements AutoCloseable {
+
+    /**
+     * Mode for the operations which change data
+     */
+    public static final String WRITE_MODE = "write";
+    /**
+     * Mode for the read-only operations
+     */
+    public static final String READ_MODE = "read";
+
+    private static final String BUCKET_ID_FIELD = "bucket_id";
+
+    private final TarantoolClient client;
+    private final String routingTableFunctionName;
+    private final String storageCallFunctionName;
+    private final MessagePackMapper mapper;
+    private final TarantoolCallResultMapper<ArrayValue> storageResultMapper =
+            new TarantoolStorageCallResultMapper<>(new DefaultMessagePackMapper(), v -> v);
+    private final AtomicReference<VshardRoutingTable> routingTable = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Void>> refreshFuture = new AtomicReference<>();
+    private final Map<TarantoolServerAddress, TarantoolClient> storages = new ConcurrentHashMap<>();
+
+    /**
+     * Basic constructor.
+     *
+     * @param client client connected to the routers, used for getting the routing table
+     * @param routingTableFunctionName API function returning the routing table
+     * @param storageCallFunctionName function for calling the target functions on the storages
+     */
+    public VshardRouter(TarantoolClient client, String routingTableFunctionName, String storageCallFunctionName) {
+        this.client = client;
+        this.routingTableFunctionName = routingTableFunctionName;
+        this.storageCallFunctionName = storageCallFunctionName;
+        this.mapper = client.getConfig().getMessagePackMapper();
+    }
+
+    /**
+     * Get the current routing table
+     *
+     * @return the routing table or empty if it has not been loaded yet
+     */
+    public Optional<VshardRoutingTable> getRoutingTable() {
+        return Optional.ofNullable(routingTable.get());
+    }
+
+    /**
+     * Load the routing table from the cluster. Only one request is performed at a time, the concurrent calls
+     * receive the same future
+     *
+     * @return a future completed when the new routing table is loaded
+     */
+    public CompletableFuture<Void> refresh() {
+        CompletableFuture<Void> current = refreshFuture.get();
+        if (current != null && !current.isDone()) {
+            return current;
+        }
+        CompletableFuture<Void> next = new CompletableFuture<>();
+        if (!refreshFuture.compareAndSet(current, next)) {
+            return refreshFuture.get();
+        }
+        try {
+            client.call(routingTableFunctionName).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    next.completeExceptionally(ex);
+                    return;
+                }
+                try {
+                    routingTable.set(VshardRoutingTable.fromResult(result));
+                    next.complete(null);
+                } catch (RuntimeException e) {
+                    next.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            next.completeExceptionally(e);
+        }
+        return next;
+    }
+
+    /**
+     * Calculate the bucket ID for a tuple. The value of the <code>bucket_id</code> field is used if it is set,
+     * otherwise the bucket ID is calculated from the sharding key, which is the primary key by default
+     *
+     * @param spaceMetadata space metadata
+     * @param primaryIndex primary index metadata
+     * @param tuple tuple
+     * @return the bucket ID or empty if it cannot be calculated on the client side
+     */
+    public Optional<Integer> getBucketId(TarantoolSpaceMetadata spaceMetadata,
+                                         TarantoolIndexMetadata primaryIndex,
+                                         TarantoolTuple tuple) {
+        VshardRoutingTable table = loadedRoutingTable();
+        int bucketIdPosition = spaceMetadata.getFieldPositionByName(BUCKET_ID_FIELD);
+        if (table == null || bucketIdPosition < 0) {
+            return Optional.empty();
+        }
+        Optional<Value> bucketId = tuple.getField(bucketIdPosition).map(f -> f.toMessagePackValue(mapper));
+        if (bucketId.isPresent() && bucketId.get().isIntegerValue()) {
+            return Optional.of(bucketId.get().asIntegerValue().asInt());
+        }
+
+        List<Value> key = new ArrayList<>();
+        for (int position : getShardingKeyPositions(table, spaceMetadata, primaryIndex)) {
+            Optional<TarantoolField> field = position < 0 ? Optional.empty() : tuple.getField(position);
+            if (!field.isPresent()) {
+                return Optional.empty();
+            }
+            key.add(field.get().toMessagePackValue(mapper));
+        }
+        return VshardStrCrc32.bucketId(key, table.getBucketCount());
+    }
+
+    /**
+     * Calculate the bucket ID for an index query. Only the queries by the full primary key with the sharding key
+     * equal to the primary key are supported
+     *
+     * @param spaceMetadata space metadata
+     * @param primaryIndex primary index metadata
+     * @param indexQuery index query
+     * @return the bucket ID or empty if it cannot be calculated on the client side
+     */
+    public Optional<Integer> getBucketId(TarantoolSpaceMetadata spaceMetadata,
+                                         TarantoolIndexMetadata primaryIndex,
+                                         TarantoolIndexQuery indexQuery) {
+        VshardRoutingTable table = loadedRoutingTable();
+        if (table == null || spaceMetadata.getFieldPositionByName(BUCKET_ID_FIELD) < 0 ||
+                indexQuery.getIndexId() != TarantoolIndexQuery.PRIMARY ||
+                indexQuery.getIteratorType() != TarantoolIteratorType.ITER_EQ ||
+                indexQuery.getKeyValues().size() != primaryIndex.getIndexParts().size() ||
+                !getShardingKeyPositions(table, spaceMetadata, primaryIndex).equals(getPositions(primaryIndex))) {
+            return Optional.empty();
+        }
+        List<Value> key = indexQuery.getKeyValues().stream()
+                .<Value>map(mapper::toValue)
+                .collect(Collectors.toList());
+        return VshardStrCrc32.bucketId(key, table.getBucketCount());
+    }
+
+    /**
+     * Make a copy of the tuple with the <code>bucket_id</code> field set
+     *
+     * @param spaceMetadata space metadata
+     * @param tuple tuple
+     * @param bucketId bucket ID
+     * @return a new tuple
+     */
+    public TarantoolTuple withBucketId(TarantoolSpaceMetadata spaceMetadata, TarantoolTuple tuple, int bucketId) {
+        int bucketIdPosition = spaceMetadata.getFieldPositionByName(BUCKET_ID_FIELD);
+        List<Value> values = tuple.getFields().stream()
+                .map(f -> f.toMessagePackValue(mapper))
+                .collect(Collectors.toList());
+        while (values.size() <= bucketIdPosition) {
+            values.add(ValueFactory.newNil());
+        }
+        values.set(bucketIdPosition, ValueFactory.newInteger(bucketId));
+        return new TarantoolTupleImpl(ValueFactory.newArray(values), mapper, spaceMetadata);
+    }
+
+    /**
+     * Call a function on the master of the replica set holding the bucket. The function must return a single
+     * tuple or <code>nil</code>
+     *
+     * @param bucketId bucket ID
+     * @param mode {@link #WRITE_MODE} or {@link #READ_MODE}
+     * @param functionName function name
+     * @param arguments function arguments
+     * @param resultMapper mapper for the result converted to the API function call result format
+     * @param <T> target tuple type
+     * @return a future with the result or empty if the bucket is not known
+     */
+    public <T> Optional<CompletableFuture<TarantoolResult<T>>> callOnStorage(
+            int bucketId, String mode, String functionName, List<Object> arguments,
+            TarantoolCallResultMapper<T> resultMapper) {
+        VshardRoutingTable table = routingTable.get();
+        if (table == null) {
+            return Optional.empty();
+        }
+        return table.getMasterAddress(bucketId).map(address -> storages.computeIfAbsent(address, this::connect)
+                .call(storageCallFunctionName, Arrays.asList(bucketId, mode, functionName, arguments), mapper,
+                        storageResultMapper)
+                .thenApply(rows -> toCallResult(rows, resultMapper)));
+    }
+
+    /*
+     * The tuple returned from the storage is wrapped into an array, like the API functions return the tuples
+     */
+    private static <T> TarantoolResult<T> toCallResult(List<ArrayValue> rows,
+                                                       TarantoolCallResultMapper<T> resultMapper) {
+        return resultMapper.fromValue(ValueFactory.newArray(ValueFactory.newArray(rows)));
+    }
+
+    private VshardRoutingTable loadedRoutingTable() {
+        VshardRoutingTable table = routingTable.get();
+        if (table == null) {
+            refresh();
+        }
+        return table;
+    }
+
+    private static List<Integer> getShardingKeyPositions(VshardRoutingTable table,
+                                                         TarantoolSpaceMetadata spaceMetadata,
+                                                         TarantoolIndexMetadata primaryIndex) {
+        return table.getShardingKey(spaceMetadata.getSpaceName())
+                .map(fields -> fields.stream()
+                        .map(spaceMetadata::getFieldPositionByName)
+                        .collect(Collectors.toList()))
+                .orElseGet(() -> getPositions(primaryIndex));
+    }
+
+    private static List<Integer> getPositions(TarantoolIndexMetadata index) {
+        return index.getIndexParts().stream()
+                .map(TarantoolIndexPartMetadata::getFieldIndex)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a client for calling the functions on a storage. The client configuration of the router client is
+     * used. Override this method for customizing the storage clients, e.g. if the storages are reachable at
+     * addresses different from the ones they advertise to the cluster. The schema is not loaded on connect.
+     *
+     * @param address storage address from the routing table
+     * @return new client instance
+     */
+    protected TarantoolClient connect(TarantoolServerAddress address) {
+        TarantoolClient storage = new StandaloneTarantoolClient(client.getConfig(), address);
+        storage.getListeners().clear();
+        return storage;
+    }
+
+    @Override
+    public void close() throws Exception {
+        TarantoolClientException error = null;
+        for (TarantoolClient storage : storages.values()) {
+            try {
+                storage.close();
+            } catch (Exception e) {
+                error = new TarantoolClientException(e);
+            }
+        }
+        storages.clear();
+        if (error != null) {
+            throw error;
+        }
+    }
+}
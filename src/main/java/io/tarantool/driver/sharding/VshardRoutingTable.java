@@ -0,0 +1,150 @@
+package io.tarantool.driver.sharding;
+
+import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the vshard cluster routing information: the replica set masters, the replica set for each bucket
+ * and the sharding keys of the spaces.
+ *
+ * The routing information is returned by an API function on the router in the following format:
+ * <pre>
+ * {
+ *     bucket_count = 30000,
+ *     replicasets = { [replicaset_uuid] = 'host:port', ... },
+ *     buckets = { [bucket_id] = replicaset_uuid, ... },
+ *     sharding_keys = { [space_name] = { 'field_name', ... }, ... },
+ * }
+ * </pre>
+ * The addresses are the addresses of the replica set masters. The buckets may be returned as an array indexed by
+ * the bucket ID, the buckets not known to the router may be missing. The sharding keys are optional, the primary
+ * key is used as the sharding key for the missing spaces.
+ *
+ * @author Alexey Kuzin
+ */
+public final class VshardRoutingTable {
+
+    private static final String BUCKET_COUNT = "bucket_count";
+    private static final String REPLICASETS = "replicasets";
+    private static final String BUCKETS = "buckets";
+    private static final String SHARDING_KEYS = "sharding_keys";
+
+    private final int bucketCount;
+    private final TarantoolServerAddress[] bucketMasters;
+    private final Map<String, List<String>> shardingKeys;
+
+    /**
+     * Basic constructor.
+     *
+     * @param bucketCount total number of buckets in the cluster
+     * @param masters replica set master addresses by the replica set UUIDs
+     * @param buckets replica set UUIDs by the bucket IDs
+     * @param shardingKeys sharding key field names by the space names
+     */
+    public VshardRoutingTable(int bucketCount,
+                              Map<String, TarantoolServerAddress> masters,
+                              Map<Integer, String> buckets,
+                              Map<String, List<String>> shardingKeys) {
+        this.bucketCount = bucketCount;
+        this.bucketMasters = new TarantoolServerAddress[bucketCount + 1];
+        for (Map.Entry<Integer, String> bucket : buckets.entrySet()) {
+            int bucketId = bucket.getKey();
+            if (bucketId > 0 && bucketId <= bucketCount) {
+                bucketMasters[bucketId] = masters.get(bucket.getValue());
+            }
+        }
+        this.shardingKeys = shardingKeys;
+    }
+
+    /**
+     * Get total number of buckets in the cluster
+     *
+     * @return the bucket count
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Get the address of the replica set master storing the specified bucket
+     *
+     * @param bucketId bucket ID
+     * @return the master address or empty if the bucket is not known
+     */
+    public Optional<TarantoolServerAddress> getMasterAddress(int bucketId) {
+        if (bucketId <= 0 || bucketId > bucketCount) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(bucketMasters[bucketId]);
+    }
+
+    /**
+     * Get the sharding key field names for the specified space
+     *
+     * @param spaceName space name
+     * @return the field names or empty if the primary key is used as the sharding key
+     */
+    public Optional<List<String>> getShardingKey(String spaceName) {
+        return Optional.ofNullable(shardingKeys.get(spaceName));
+    }
+
+    /**
+     * Create a routing table from the routing information returned by the API function
+     *
+     * @param result the API function call result
+     * @return a new routing table
+     * @throws TarantoolClientException if the result has invalid format
+     */
+    public static VshardRoutingTable fromResult(List<?> result) throws TarantoolClientException {
+        if (result.isEmpty() || !(result.get(0) instanceof Map)) {
+            throw new TarantoolClientException("Invalid routing information format: %s", result);
+        }
+        Map<?, ?> info = (Map<?, ?>) result.get(0);
+        if (!(info.get(BUCKET_COUNT) instanceof Number) || !(info.get(REPLICASETS) instanceof Map)) {
+            throw new TarantoolClientException("Invalid routing information format: %s", info);
+        }
+
+        Map<String, TarantoolServerAddress> masters = new HashMap<>();
+        for (Map.Entry<?, ?> replicaset : ((Map<?, ?>) info.get(REPLICASETS)).entrySet()) {
+            if (replicaset.getValue() != null) {
+                masters.put(replicaset.getKey().toString(),
+                        new TarantoolServerAddress(replicaset.getValue().toString()));
+            }
+        }
+
+        Map<Integer, String> buckets = new HashMap<>();
+        Object bucketsInfo = info.get(BUCKETS);
+        if (bucketsInfo instanceof List) {
+            List<?> bucketList = (List<?>) bucketsInfo;
+            for (int i = 0; i < bucketList.size(); i++) {
+                if (bucketList.get(i) != null) {
+                    buckets.put(i + 1, bucketList.get(i).toString());
+                }
+            }
+        } else if (bucketsInfo instanceof Map) {
+            for (Map.Entry<?, ?> bucket : ((Map<?, ?>) bucketsInfo).entrySet()) {
+                if (bucket.getKey() instanceof Number && bucket.getValue() != null) {
+                    buckets.put(((Number) bucket.getKey()).intValue(), bucket.getValue().toString());
+                }
+            }
+        }
+
+        Map<String, List<String>> shardingKeys = Collections.emptyMap();
+        if (info.get(SHARDING_KEYS) instanceof Map) {
+            shardingKeys = ((Map<?, ?>) info.get(SHARDING_KEYS)).entrySet().stream()
+                    .filter(e -> e.getValue() instanceof List)
+                    .collect(Collectors.toMap(e -> e.getKey().toString(), e -> ((List<?>) e.getValue()).stream()
+                            .map(Object::toString)
+                            .collect(Collectors.toList())));
+        }
+
+        return new VshardRoutingTable(((Number) info.get(BUCKET_COUNT)).intValue(), masters, buckets, shardingKeys);
+    }
+}
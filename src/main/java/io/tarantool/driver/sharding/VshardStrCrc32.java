@@ -0,0 +1,114 @@
+package io.tarantool.driver.sharding;
+
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Client-side implementation of the default vshard sharding function <code>vshard.router.bucket_id_strcrc32</code>.
+ *
+ * The function calculates CRC32-C of the Lua string representations of the sharding key parts with the initial
+ * value of <code>0xFFFFFFFF</code> and without the final inversion, like <code>digest.crc32</code> does. Only the
+ * key parts which string representation in Lua is known are supported: strings, booleans and integers (including
+ * integral floating-point numbers) less than 10^14 by absolute value or not less than 2^53.
+ *
+ * @author Alexey Kuzin
+ */
+public final class VshardStrCrc32 {
+
+    private static final int CRC32C_POLYNOMIAL = 0x82F63B78; // reversed Castagnoli polynomial
+    private static final int CRC32_INIT = 0xFFFFFFFF;
+    // LuaJIT prints numbers with the "%.14g" format
+    private static final long MAX_PLAIN_NUMBER = 100_000_000_000_000L;
+    // Tarantool pushes integers starting from this value into Lua as 64-bit cdata
+    private static final long MAX_LUA_NUMBER = 1L << 53;
+    private static final int[] TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc >>> 1) ^ (CRC32C_POLYNOMIAL & -(crc & 1));
+            }
+            TABLE[i] = crc;
+        }
+    }
+
+    private VshardStrCrc32() {
+    }
+
+    /**
+     * Calculate the bucket ID for the specified sharding key
+     *
+     * @param key sharding key parts
+     * @param bucketCount total number of buckets in the cluster
+     * @return bucket ID between 1 and the bucket count, or empty if the key contains unsupported parts
+     */
+    public static Optional<Integer> bucketId(List<? extends Value> key, int bucketCount) {
+        int crc = CRC32_INIT;
+        for (Value part : key) {
+            Optional<String> luaString = toLuaString(part);
+            if (!luaString.isPresent()) {
+                return Optional.empty();
+            }
+            crc = update(crc, luaString.get().getBytes(StandardCharsets.UTF_8));
+        }
+        return Optional.of((int) (Integer.toUnsignedLong(crc) % bucketCount) + 1);
+    }
+
+    /**
+     * Calculate the checksum like <code>digest.crc32</code>
+     *
+     * @param data source bytes
+     * @return unsigned checksum value
+     */
+    public static long crc32(byte[] data) {
+        return Integer.toUnsignedLong(update(CRC32_INIT, data));
+    }
+
+    private static int update(int crc, byte[] data) {
+        for (byte b : data) {
+            crc = TABLE[(crc ^ b) & 0xFF] ^ (crc >>> 8);
+        }
+        return crc;
+    }
+
+    private static Optional<String> toLuaString(Value value) {
+        switch (value.getValueType()) {
+            case STRING:
+                return Optional.of(value.asStringValue().asString());
+            case BOOLEAN:
+                return Optional.of(String.valueOf(value.asBooleanValue().getBoolean()));
+            case INTEGER:
+                return integerToLuaString(value.asIntegerValue());
+            case FLOAT:
+                double number = value.asFloatValue().toDouble();
+                if (number == Math.rint(number) && Math.abs(number) < MAX_PLAIN_NUMBER) {
+                    return Optional.of(String.valueOf((long) number));
+                }
+                return Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<String> integerToLuaString(IntegerValue value) {
+        if (!value.isInLongRange()) {
+            return Optional.of(value.asBigInteger() + "ULL");
+        }
+        long number = value.asLong();
+        if (number >= MAX_LUA_NUMBER) {
+            return Optional.of(number + "ULL");
+        }
+        if (number <= -MAX_LUA_NUMBER) {
+            return Optional.of(number + "LL");
+        }
+        if (Math.abs(number) < MAX_PLAIN_NUMBER) {
+            return Optional.of(String.valueOf(number));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains classes for routing the requests directly to the vshard storages
+ *
+ * @author Alexey Kuzin
+ */
+package io.tarantool.driver.sharding;
@@ -0,0 +1,127 @@
+package io.tarantool.driver;
+
+import io.tarantool.driver.exceptions.TarantoolSpaceOperationException;
+import io.tarantool.driver.mappers.DefaultBigDecimalConverter;
+import io.tarantool.driver.metadata.TarantoolIndexPartMetadata;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexKeyComparatorTest {
+
+    @Test
+    public void testMultiPartIndex() {
+        IndexKeyComparator comparator = new IndexKeyComparator(Arrays.asList(
+                new TarantoolIndexPartMetadata(1, "string"),
+                new TarantoolIndexPartMetadata(0, "unsigned")), false);
+
+        ArrayValue a1 = tuple(ValueFactory.newInteger(1), ValueFactory.newString("a"));
+        ArrayValue a2 = tuple(ValueFactory.newInteger(2), ValueFactory.newString("a"));
+        ArrayValue b1 = tuple(ValueFactory.newInteger(1), ValueFactory.newString("b"));
+
+        assertTrue(comparator.compare(a1, a2) < 0);
+        assertTrue(comparator.compare(a2, b1) < 0);
+        assertEquals(0, comparator.compare(a1, tuple(ValueFactory.newInteger(1), ValueFactory.newString("a"))));
+
+        IndexKeyComparator descending = new IndexKeyComparator(Arrays.asList(
+                new TarantoolIndexPartMetadata(1, "string"),
+                new TarantoolIndexPartMetadata(0, "unsigned")), true);
+        assertTrue(descending.compare(a1, a2) > 0);
+    }
+
+    @Test
+    public void testNumbers() {
+        IndexKeyComparator comparator =
+                new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "number")), false);
+
+        assertTrue(comparator.compare(tuple(ValueFactory.newInteger(-1)), tuple(ValueFactory.newFloat(-0.5))) < 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newFloat(2.5)), tuple(ValueFactory.newInteger(2))) > 0);
+        assertEquals(0, comparator.compare(tuple(ValueFactory.newFloat(3.0)), tuple(ValueFactory.newInteger(3))));
+        assertTrue(comparator.compare(tuple(ValueFactory.newInteger(Long.MAX_VALUE)),
+                tuple(ValueFactory.newInteger(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)))) < 0);
+        // the doubles are compared by their exact values near the integer precision limits
+        Value twoPow63 = ValueFactory.newInteger(BigInteger.ONE.shiftLeft(63));
+        assertEquals(0, comparator.compare(tuple(ValueFactory.newFloat(0x1p63)), tuple(twoPow63)));
+        assertTrue(comparator.compare(tuple(ValueFactory.newInteger(Long.MAX_VALUE)),
+                tuple(ValueFactory.newFloat(0x1p63))) < 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newInteger((1L << 53) + 1)),
+                tuple(ValueFactory.newFloat(0x1p53))) > 0);
+        // nullable parts
+        assertTrue(comparator.compare(tuple(ValueFactory.newNil()), tuple(ValueFactory.newInteger(0))) < 0);
+    }
+
+    @Test
+    public void testDecimals() {
+        IndexKeyComparator comparator =
+                new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "number")), false);
+        DefaultBigDecimalConverter converter = new DefaultBigDecimalConverter();
+        Value decimal = converter.toValue(new BigDecimal("2.50"));
+
+        assertEquals(0, comparator.compare(tuple(decimal), tuple(converter.toValue(new BigDecimal("2.5")))));
+        assertTrue(comparator.compare(tuple(decimal), tuple(converter.toValue(new BigDecimal("-3")))) > 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newInteger(2)), tuple(decimal)) < 0);
+        assertEquals(0, comparator.compare(tuple(decimal), tuple(ValueFactory.newFloat(2.5))));
+        // the double closest to 0.1 is slightly greater than it
+        assertTrue(comparator.compare(tuple(converter.toValue(new BigDecimal("0.1"))),
+                tuple(ValueFactory.newFloat(0.1))) < 0);
+        assertTrue(comparator.compare(tuple(decimal), tuple(ValueFactory.newFloat(Double.POSITIVE_INFINITY))) < 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newFloat(Double.NaN)), tuple(decimal)) < 0);
+
+        IndexKeyComparator scalarComparator =
+                new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "scalar")), false);
+        // decimals are ordered with the other numbers, before the strings
+        assertTrue(scalarComparator.compare(tuple(ValueFactory.newInteger(3)), tuple(decimal)) > 0);
+        assertTrue(scalarComparator.compare(tuple(decimal), tuple(ValueFactory.newString("a"))) < 0);
+    }
+
+    @Test
+    public void testStringsByBytes() {
+        IndexKeyComparator comparator =
+                new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "string")), false);
+
+        assertTrue(comparator.compare(tuple(ValueFactory.newString("B")), tuple(ValueFactory.newString("a"))) < 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newString("ab")), tuple(ValueFactory.newString("abc"))) < 0);
+        assertTrue(comparator.compare(tuple(ValueFactory.newString("z")), tuple(ValueFactory.newString("я"))) < 0);
+    }
+
+    @Test
+    public void testCollations() {
+        new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "string", "binary")), false);
+        assertThrows(TarantoolSpaceOperationException.class, () -> new IndexKeyComparator(
+                Collections.singletonList(new TarantoolIndexPartMetadata(0, "string", "unicode_ci")), false));
+    }
+
+    @Test
+    public void testScalars() {
+        IndexKeyComparator comparator =
+                new IndexKeyComparator(Collections.singletonList(new TarantoolIndexPartMetadata(0, "scalar")), false);
+
+        Value[] ordered = {
+                ValueFactory.newNil(),
+                ValueFactory.newBoolean(false),
+                ValueFactory.newBoolean(true),
+                ValueFactory.newInteger(-10),
+                ValueFactory.newFloat(1.5),
+                ValueFactory.newInteger(100),
+                ValueFactory.newString("a"),
+                ValueFactory.newBinary(new byte[]{0})
+        };
+        for (int i = 1; i < ordered.length; i++) {
+            assertTrue(comparator.compare(tuple(ordered[i - 1]), tuple(ordered[i])) < 0);
+        }
+    }
+
+    private static ArrayValue tuple(Value... fields) {
+        return ValueFactory.newArray(fields);
+    }
+}
@@ -0,0 +1,87 @@
+package io.tarantool.driver;
+
+import io.tarantool.driver.api.TarantoolMapCallOptions.PartialResultPolicy;
+import io.tarantool.driver.api.TarantoolMapCallResult;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapCallAggregatorTest {
+
+    private static final TarantoolServerAddress NODE1 = new TarantoolServerAddress("localhost", 3301);
+    private static final TarantoolServerAddress NODE2 = new TarantoolServerAddress("localhost", 3302);
+    private static final TarantoolServerAddress NODE3 = new TarantoolServerAddress("localhost", 3303);
+
+    @Test
+    public void testReduceOnArrival() throws Exception {
+        MapCallAggregator<Integer, Integer> aggregator =
+                new MapCallAggregator<>(0, Integer::sum, PartialResultPolicy.FAIL, 3);
+        CompletableFuture<TarantoolMapCallResult<Integer>> result = aggregator.getResult();
+
+        aggregator.onResult(NODE1, 1, null);
+        aggregator.onResult(NODE2, 2, null);
+        assertFalse(result.isDone());
+
+        aggregator.onResult(NODE3, 3, null);
+        assertEquals(6, (int) result.get().getValue());
+        assertTrue(result.get().isComplete());
+    }
+
+    @Test
+    public void testFailPolicy() {
+        MapCallAggregator<Integer, Integer> aggregator =
+                new MapCallAggregator<>(0, Integer::sum, PartialResultPolicy.FAIL, 3);
+
+        aggregator.onResult(NODE1, 1, null);
+        aggregator.onResult(NODE2, null, new TimeoutException("Timed out"));
+        // the late results are ignored
+        aggregator.onResult(NODE3, 3, null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> aggregator.getResult().get());
+        assertTrue(e.getCause() instanceof TarantoolClientException);
+        assertTrue(e.getCause().getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    public void testIgnoreFailedPolicy() throws Exception {
+        MapCallAggregator<Integer, Integer> aggregator =
+                new MapCallAggregator<>(0, Integer::sum, PartialResultPolicy.IGNORE_FAILED, 3);
+
+        aggregator.onResult(NODE1, 1, null);
+        aggregator.onResult(NODE2, null, new TimeoutException("Timed out"));
+        aggregator.onResult(NODE3, 3, null);
+
+        TarantoolMapCallResult<Integer> result = aggregator.getResult().get();
+        assertEquals(4, (int) result.getValue());
+        assertFalse(result.isComplete());
+        assertEquals(1, result.getFailures().size());
+        assertTrue(result.getFailures().get(NODE2) instanceof TimeoutException);
+    }
+
+    @Test
+    public void testReducerError() {
+        MapCallAggregator<Integer, Integer> aggregator = new MapCallAggregator<>(0, (a, r) -> {
+            throw new IllegalStateException("Reducer failed");
+        }, PartialResultPolicy.IGNORE_FAILED, 2);
+
+        aggregator.onResult(NODE1, 1, null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> aggregator.getResult().get());
+        assertEquals("Reducer failed", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testNoNodes() throws Exception {
+        MapCallAggregator<Integer, Integer> aggregator =
+                new MapCallAggregator<>(0, Integer::sum, PartialResultPolicy.FAIL, 0);
+        assertEquals(0, (int) aggregator.getResult().get().getValue());
+    }
+}
@@ -0,0 +1,86 @@
+package io.tarantool.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OrderedMergeIteratorTest {
+
+    @Test
+    public void testMerge() {
+        List<Iterator<Integer>> sources = Arrays.asList(
+                Arrays.asList(1, 4, 7, 10).iterator(),
+                Collections.<Integer>emptyList().iterator(),
+                Arrays.asList(2, 5, 8).iterator(),
+                Arrays.asList(3, 6, 9, 11, 12).iterator());
+
+        List<Integer> result = new ArrayList<>();
+        new OrderedMergeIterator<>(sources, Comparator.<Integer>naturalOrder()).forEachRemaining(result::add);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), result);
+    }
+
+    @Test
+    public void testDescendingWithDuplicates() {
+        List<Iterator<Integer>> sources = Arrays.asList(
+                Arrays.asList(5, 3, 3, 1).iterator(),
+                Arrays.asList(4, 3, 2).iterator());
+
+        List<Integer> result = new ArrayList<>();
+        new OrderedMergeIterator<>(sources, Comparator.<Integer>reverseOrder()).forEachRemaining(result::add);
+
+        assertEquals(Arrays.asList(5, 4, 3, 3, 3, 2, 1), result);
+    }
+
+    @Test
+    public void testEarlyStop() {
+        AtomicInteger consumed = new AtomicInteger();
+        List<Iterator<Integer>> sources = Arrays.asList(
+                counting(Arrays.asList(1, 3, 5, 7, 9), consumed),
+                counting(Arrays.asList(2, 4, 6, 8, 10), consumed));
+
+        OrderedMergeIterator<Integer> merged =
+                new OrderedMergeIterator<>(sources, Comparator.<Integer>naturalOrder());
+        assertEquals(1, (int) merged.next());
+        assertEquals(2, (int) merged.next());
+        assertEquals(3, (int) merged.next());
+
+        // only one element ahead of the returned ones is taken from each source
+        assertEquals(5, consumed.get());
+    }
+
+    @Test
+    public void testNoSources() {
+        OrderedMergeIterator<Integer> merged =
+                new OrderedMergeIterator<>(Collections.emptyList(), Comparator.<Integer>naturalOrder());
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+
+    private static Iterator<Integer> counting(List<Integer> values, AtomicInteger consumed) {
+        Iterator<Integer> iterator = values.iterator();
+        return new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                consumed.incrementAndGet();
+                return iterator.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package io.tarantool.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolSchemaVersionHolderTest {
+
+    @Test
+    public void testServerSchemaVersions() {
+        TarantoolSchemaVersionHolder shared = new TarantoolSchemaVersionHolder();
+        List<Long> notifications = new ArrayList<>();
+        shared.addSchemaVersionChangeListener(notifications::add);
+        TarantoolSchemaVersionHolder first = new TarantoolSchemaVersionHolder(shared);
+        TarantoolSchemaVersionHolder second = new TarantoolSchemaVersionHolder(shared);
+
+        // the metadata is loaded from the first server
+        first.updateSchemaVersion(5);
+        second.updateSchemaVersion(80);
+        assertEquals(5, first.getRequestSchemaVersion(5));
+        assertEquals(80, second.getRequestSchemaVersion(5));
+        assertEquals(80, shared.getSchemaVersion());
+        assertEquals(2, notifications.size());
+
+        // the schema change is detected by the server until the metadata is refreshed
+        second.updateSchemaVersion(81);
+        assertEquals(80, second.getRequestSchemaVersion(5));
+        first.updateSchemaVersion(6);
+        assertEquals(6, first.getRequestSchemaVersion(6));
+        assertEquals(81, second.getRequestSchemaVersion(6));
+    }
+
+    @Test
+    public void testUnknownServerSchemaVersion() {
+        TarantoolSchemaVersionHolder holder = new TarantoolSchemaVersionHolder();
+        assertEquals(0, holder.getRequestSchemaVersion(5));
+        holder.updateSchemaVersion(7);
+        assertEquals(0, holder.getRequestSchemaVersion(0));
+        assertEquals(7, holder.getRequestSchemaVersion(5));
+    }
+}
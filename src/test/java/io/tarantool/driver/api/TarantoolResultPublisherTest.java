@@ -0,0 +1,157 @@
+package io.tarantool.driver.api;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolResultPublisherTest {
+
+    private static final List<Integer> TUPLES = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    private static class TestSubscriber<T> implements Subscriber<T> {
+        private final List<T> values = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @Test
+    public void testDemand() {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+        List<Integer> afterTuples = new ArrayList<>();
+        TarantoolResultPublisher<Integer, String> publisher = new TarantoolResultPublisher<>((after, size) -> {
+            CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+            afterTuples.add(after);
+            pending.add(future);
+            return future;
+        }, String::valueOf, 4, Long.MAX_VALUE);
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        // nothing is requested until the demand is signalled
+        assertEquals(0, pending.size());
+
+        subscriber.subscription.request(2);
+        assertEquals(1, pending.size());
+        assertNull(afterTuples.get(0));
+        pending.get(0).complete(TUPLES.subList(0, 4));
+        assertEquals(Arrays.asList("0", "1"), subscriber.values);
+        // the buffered tuples cover the demand
+        assertEquals(1, pending.size());
+
+        subscriber.subscription.request(5);
+        assertEquals(Arrays.asList("0", "1", "2", "3"), subscriber.values);
+        assertEquals(2, pending.size());
+        assertEquals(3, afterTuples.get(1));
+        pending.get(1).complete(TUPLES.subList(4, 8));
+        assertEquals(7, subscriber.values.size());
+        assertEquals(2, pending.size());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(8, subscriber.values.size());
+        assertEquals(3, pending.size());
+        pending.get(2).complete(TUPLES.subList(8, 10));
+        assertEquals(10, subscriber.values.size());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testLimitAndSynchronousCompletion() {
+        List<Long> pageSizes = new ArrayList<>();
+        TarantoolResultPublisher<Integer, Integer> publisher = new TarantoolResultPublisher<>((after, size) -> {
+            pageSizes.add(size);
+            int start = after == null ? 0 : after + 1;
+            return CompletableFuture.completedFuture(TUPLES.subList(start, (int) Math.min(10, start + size)));
+        }, v -> v, 3, 7);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(TUPLES.subList(0, 7), subscriber.values);
+        assertEquals(Arrays.asList(3L, 3L, 1L), pageSizes);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testCancel() {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+        TarantoolResultPublisher<Integer, Integer> publisher = new TarantoolResultPublisher<>((after, size) -> {
+            CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }, v -> v, 4, Long.MAX_VALUE);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        subscriber.subscription.cancel();
+        pending.get(0).complete(TUPLES.subList(0, 4));
+
+        assertEquals(1, pending.size());
+        assertTrue(subscriber.values.isEmpty());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testError() {
+        CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Failed"));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        TarantoolResultPublisher.fromResult(() -> failed).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertEquals("Failed", subscriber.error.getMessage());
+        assertFalse(subscriber.completed);
+
+        TestSubscriber<Integer> invalidSubscriber = new TestSubscriber<>();
+        TarantoolResultPublisher.fromResult(() -> CompletableFuture.completedFuture(TUPLES))
+                .subscribe(invalidSubscriber);
+        invalidSubscriber.subscription.request(0);
+        assertTrue(invalidSubscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testFromResult() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        TarantoolResultPublisher.fromResult(() -> CompletableFuture.completedFuture(Collections.singletonList(1)))
+                .subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertEquals(Collections.singletonList(1), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+}
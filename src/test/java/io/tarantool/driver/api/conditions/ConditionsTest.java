@@ -5,6 +5,8 @@ import io.tarantool.driver.api.TarantoolIndexQueryFactory;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolFieldNotFoundException;
 import io.tarantool.driver.exceptions.TarantoolIndexNotFoundException;
+import io.tarantool.driver.metadata.TarantoolFieldMetadata;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.metadata.TestMetadata;
 import io.tarantool.driver.protocol.TarantoolIteratorType;
 import org.junit.jupiter.api.Test;
@@ -12,9 +14,13 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Alexey Kuzin
@@ -275,4 +281,41 @@ class ConditionsTest {
 
         assertEquals("No indexes that fit the passed fields are found", ex.getMessage());
     }
+
+    @Test
+    public void testProjection() {
+        TarantoolSpaceMetadata spaceMetadata = testOperations.getTestSpaceMetadata();
+        Conditions conditions = Conditions.indexEquals(0, Collections.singletonList("abc"))
+                .withFields("fourth", "first");
+
+        List<TarantoolFieldMetadata> projection = conditions.toProjection(testOperations, spaceMetadata);
+        assertEquals(Arrays.asList(3, 0),
+                projection.stream().map(TarantoolFieldMetadata::getFieldPosition).collect(Collectors.toList()));
+
+        TarantoolSpaceMetadata projectedMetadata = spaceMetadata.project(projection);
+        assertEquals(0, projectedMetadata.getFieldPositionByName("fourth"));
+        assertEquals(1, projectedMetadata.getFieldPositionByName("first"));
+        assertEquals(-1, projectedMetadata.getFieldPositionByName("second"));
+        assertEquals(spaceMetadata.getSpaceId(), projectedMetadata.getSpaceId());
+
+        assertEquals(Arrays.asList(spaceMetadata.getFieldNameByPosition(3), spaceMetadata.getFieldNameByPosition(0)),
+                Conditions.fields(3, 0).toProjection(testOperations, spaceMetadata).stream()
+                        .map(field -> Optional.of(field.getFieldName()))
+                        .collect(Collectors.toList()));
+        assertTrue(Conditions.any().toProjection(testOperations, spaceMetadata).isEmpty());
+        assertThrows(TarantoolFieldNotFoundException.class,
+                () -> Conditions.fields("unknown").toProjection(testOperations, spaceMetadata));
+        assertThrows(TarantoolClientException.class,
+                () -> Conditions.fields(0, 0).toProjection(testOperations, spaceMetadata));
+    }
+
+    @Test
+    public void testHasFieldConditions() {
+        assertFalse(Conditions.any().hasFieldConditions());
+        assertFalse(Conditions.indexEquals(0, Collections.singletonList("abc")).withFields("first")
+                .hasFieldConditions());
+        assertTrue(Conditions.equals("first", "abc").hasFieldConditions());
+        assertTrue(Conditions.indexEquals(0, Collections.singletonList("abc")).andLessThan(1, 5)
+                .hasFieldConditions());
+    }
 }
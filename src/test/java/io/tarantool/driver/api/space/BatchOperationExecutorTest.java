@@ -0,0 +1,112 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.api.TarantoolBatchResult;
+import io.tarantool.driver.exceptions.TarantoolBatchItemException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchOperationExecutorTest {
+
+    @Test
+    public void testWindow() throws Exception {
+        List<CompletableFuture<List<Integer>>> pending = new ArrayList<>();
+        Iterator<Integer> items = IntStream.range(0, 10).boxed().iterator();
+        CompletableFuture<TarantoolBatchResult<Integer>> result = new BatchOperationExecutor<Integer, Integer>(
+                items, 3, 1, item -> {
+                    CompletableFuture<List<Integer>> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return future;
+                }).execute();
+
+        assertEquals(3, pending.size());
+        // complete out of order, the results are still collected in the order of items
+        pending.get(2).complete(Collections.singletonList(2));
+        assertEquals(4, pending.size());
+        pending.get(1).completeExceptionally(new RuntimeException("Failed"));
+        pending.get(0).complete(Collections.singletonList(0));
+        assertEquals(6, pending.size());
+        for (int i = 3; i < 10; i++) {
+            pending.get(i).complete(Collections.singletonList(i));
+        }
+        assertEquals(10, pending.size());
+
+        TarantoolBatchResult<Integer> batchResult = result.get();
+        assertEquals(Arrays.asList(0, 2, 3, 4, 5, 6, 7, 8, 9), batchResult);
+        assertEquals(1, batchResult.getErrors().size());
+        assertTrue(batchResult.getErrors().get(0).getMessage().contains("position 1"));
+        assertEquals("Failed", batchResult.getErrors().get(0).getCause().getMessage());
+    }
+
+    @Test
+    public void testChunkErrorPositions() throws Exception {
+        Iterator<List<Integer>> chunks = BatchOperationExecutor.chunks(IntStream.range(0, 7).iterator(), 3);
+        TarantoolBatchResult<Integer> result = new BatchOperationExecutor<List<Integer>, Integer>(
+                chunks, 10, List::size, chunk -> {
+                    if (chunk.contains(6)) {
+                        throw new IllegalStateException("Failed chunk");
+                    }
+                    // the second tuple in the chunk fails
+                    List<Throwable> errors = Collections.singletonList(
+                            new TarantoolBatchItemException(1, new RuntimeException("Duplicate key")));
+                    return CompletableFuture.completedFuture(
+                            new TarantoolBatchResult<>(Arrays.asList(chunk.get(0), chunk.get(2)), errors));
+                }).execute().get();
+
+        assertEquals(Arrays.asList(0, 2, 3, 5), result);
+        assertEquals(Arrays.asList(1, 4, 6), result.getErrors().stream()
+                .map(e -> ((TarantoolBatchItemException) e).getPosition())
+                .collect(Collectors.toList()));
+        assertEquals("Batch operation failed at position 4", result.getErrors().get(1).getMessage());
+        assertEquals("Duplicate key", result.getErrors().get(1).getCause().getMessage());
+        assertEquals("Failed chunk", result.getErrors().get(2).getCause().getMessage());
+    }
+
+    @Test
+    public void testSynchronousCompletion() throws Exception {
+        Iterator<Integer> items = IntStream.range(0, 100_000).boxed().iterator();
+        TarantoolBatchResult<Integer> result = new BatchOperationExecutor<Integer, Integer>(
+                items, 10, 1, item -> {
+                    if (item % 2 == 0) {
+                        throw new IllegalStateException("Even item");
+                    }
+                    return CompletableFuture.completedFuture(Collections.singletonList(item));
+                }).execute().get();
+
+        assertEquals(50_000, result.size());
+        assertEquals(50_000, result.getErrors().size());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        TarantoolBatchResult<Integer> result = new BatchOperationExecutor<Integer, Integer>(
+                Collections.emptyIterator(), 10, 1,
+                item -> CompletableFuture.completedFuture(Collections.singletonList(item))).execute().get();
+
+        assertTrue(result.isEmpty());
+        assertFalse(result.hasErrors());
+    }
+
+    @Test
+    public void testChunks() {
+        Iterator<List<Integer>> chunks = BatchOperationExecutor.chunks(IntStream.range(0, 7).iterator(), 3);
+        List<List<Integer>> result = new ArrayList<>();
+        chunks.forEachRemaining(result::add);
+
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Collections.singletonList(6)),
+                result);
+        assertEquals(IntStream.range(0, 7).boxed().collect(Collectors.toList()),
+                result.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,102 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagedSelectIteratorTest {
+
+    private static final List<ArrayValue> TUPLES = IntStream.range(0, 10)
+            .mapToObj(i -> ValueFactory.newArray(ValueFactory.newInteger(i)))
+            .collect(Collectors.toList());
+
+    private static CompletableFuture<List<ArrayValue>> loadPage(ArrayValue after, long size) {
+        int start = after == null ? 0 : after.get(0).asIntegerValue().asInt() + 1;
+        int end = (int) Math.min(TUPLES.size(), start + size);
+        return CompletableFuture.completedFuture(new ArrayList<>(TUPLES.subList(start, end)));
+    }
+
+    @Test
+    public void testPages() {
+        List<Long> pageSizes = new ArrayList<>();
+        List<Integer> result = new PagedSelectIterator<>((after, size) -> {
+            pageSizes.add(size);
+            return loadPage(after, size);
+        }, v -> v.get(0).asIntegerValue().asInt(), 3, Long.MAX_VALUE).stream().collect(Collectors.toList());
+
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), result);
+        // the last page is shorter than requested
+        assertEquals(4, pageSizes.size());
+    }
+
+    @Test
+    public void testLimit() {
+        List<Long> pageSizes = new ArrayList<>();
+        List<Integer> result = new PagedSelectIterator<>((after, size) -> {
+            pageSizes.add(size);
+            return loadPage(after, size);
+        }, v -> v.get(0).asIntegerValue().asInt(), 4, 6).stream().collect(Collectors.toList());
+
+        assertEquals(IntStream.range(0, 6).boxed().collect(Collectors.toList()), result);
+        assertEquals(Arrays.asList(4L, 2L), pageSizes);
+    }
+
+    @Test
+    public void testPrefetch() {
+        List<CompletableFuture<List<ArrayValue>>> pending = new ArrayList<>();
+        List<ArrayValue> afterTuples = new ArrayList<>();
+        PagedSelectIterator<ArrayValue> iterator = new PagedSelectIterator<>((after, size) -> {
+            CompletableFuture<List<ArrayValue>> future = new CompletableFuture<>();
+            afterTuples.add(after);
+            pending.add(future);
+            return future;
+        }, v -> v, 5, Long.MAX_VALUE);
+
+        assertEquals(1, pending.size());
+        assertNull(afterTuples.get(0));
+        pending.get(0).complete(TUPLES.subList(0, 5));
+
+        // the next page is requested before the first tuple of the current one is consumed
+        assertTrue(iterator.hasNext());
+        assertEquals(2, pending.size());
+        assertEquals(TUPLES.get(4), afterTuples.get(1));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(TUPLES.get(i), iterator.next());
+        }
+        assertEquals(2, pending.size());
+
+        pending.get(1).complete(TUPLES.subList(5, 7));
+        assertTrue(iterator.hasNext());
+        assertEquals(TUPLES.get(5), iterator.next());
+        assertEquals(TUPLES.get(6), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(2, pending.size());
+    }
+
+    @Test
+    public void testError() {
+        PagedSelectIterator<ArrayValue> iterator = new PagedSelectIterator<>((after, size) -> {
+            CompletableFuture<List<ArrayValue>> future = new CompletableFuture<>();
+            future.completeExceptionally(new RuntimeException("Failed"));
+            return future;
+        }, v -> v, 5, Long.MAX_VALUE);
+
+        TarantoolClientException e = assertThrows(TarantoolClientException.class, iterator::hasNext);
+        assertEquals("Failed", e.getCause().getMessage());
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,132 @@
+package io.tarantool.driver.api.space;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolBatchLoaderTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    // returns the doubled keys, the negative keys are missing
+    private CompletableFuture<List<Integer>> load(List<Integer> keys) {
+        batches.add(keys);
+        return CompletableFuture.completedFuture(
+                keys.stream().map(key -> key < 0 ? null : key * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testFullBatch() {
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder()
+                .withMaxBatchSize(3)
+                .withMaxDelay(60_000)
+                .build();
+        try (TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(this::load, options)) {
+            CompletableFuture<Integer> first = loader.load(1);
+            CompletableFuture<Integer> duplicate = loader.load(1);
+            CompletableFuture<Integer> missing = loader.load(-1);
+            assertFalse(first.isDone());
+
+            CompletableFuture<Integer> last = loader.load(3);
+            assertEquals(Collections.singletonList(Arrays.asList(1, -1, 3)), batches);
+            assertEquals(2, first.join());
+            assertEquals(2, duplicate.join());
+            assertNull(missing.join());
+            assertEquals(6, last.join());
+        }
+    }
+
+    @Test
+    public void testDelayedBatch() {
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder()
+                .withMaxBatchSize(100)
+                .withMaxDelay(10)
+                .build();
+        try (TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(this::load, options)) {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(loader.load(i));
+            }
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i * 2, results.get(i).join());
+            }
+            assertEquals(1, batches.size());
+
+            loader.load(10).join();
+            assertEquals(2, batches.size());
+        }
+    }
+
+    @Test
+    public void testDispatch() {
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder()
+                .withMaxDelay(60_000)
+                .build();
+        try (TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(this::load, options)) {
+            CompletableFuture<Integer> result = loader.load(1);
+            loader.dispatch();
+            assertEquals(2, result.join());
+            loader.dispatch();
+            assertEquals(1, batches.size());
+        }
+    }
+
+    @Test
+    public void testClose() {
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder()
+                .withMaxDelay(60_000)
+                .build();
+        TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(this::load, options);
+        CompletableFuture<Integer> result = loader.load(1);
+        loader.close();
+        assertEquals(2, result.join());
+        assertThrows(IllegalStateException.class, () -> loader.load(2));
+
+        // the batch timer is shared, so it keeps working for the other loaders
+        TarantoolBatchLoaderOptions delayed = TarantoolBatchLoaderOptions.builder()
+                .withMaxDelay(10)
+                .build();
+        try (TarantoolBatchLoader<Integer, Integer> other = new TarantoolBatchLoader<>(this::load, delayed)) {
+            assertEquals(6, other.load(3).join());
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder()
+                .withMaxBatchSize(2)
+                .withMaxDelay(60_000)
+                .build();
+        CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("Failed"));
+        try (TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(keys -> failed, options)) {
+            CompletableFuture<Integer> first = loader.load(1);
+            CompletableFuture<Integer> second = loader.load(2);
+            assertTrue(first.isCompletedExceptionally());
+            assertTrue(second.isCompletedExceptionally());
+        }
+
+        try (TarantoolBatchLoader<Integer, Integer> loader = new TarantoolBatchLoader<>(
+                keys -> CompletableFuture.completedFuture(Collections.singletonList(1)), options)) {
+            CompletableFuture<Integer> first = loader.load(1);
+            CompletableFuture<Integer> second = loader.load(2);
+            assertTrue(first.isCompletedExceptionally());
+            assertTrue(second.isCompletedExceptionally());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.tarantool.driver.api.space;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolNearCacheTest {
+
+    private static final int SPACE_ID = 512;
+
+    private static ArrayValue key(int value) {
+        return ValueFactory.newArray(ValueFactory.newInteger(value));
+    }
+
+    private static ArrayValue tuples(int value) {
+        return ValueFactory.newArray(
+                ValueFactory.newArray(ValueFactory.newInteger(value), ValueFactory.newString("a")));
+    }
+
+    private static void put(TarantoolNearCache cache, int value) {
+        cache.put(SPACE_ID, key(value), tuples(value), cache.getVersion(SPACE_ID, key(value)));
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        TarantoolNearCache cache = new TarantoolNearCache(TarantoolNearCacheConfig.builder().build());
+
+        assertNull(cache.get(SPACE_ID, key(1)));
+        ArrayValue tuples = tuples(1);
+        cache.put(SPACE_ID, key(1), tuples, cache.getVersion(SPACE_ID, key(1)));
+        assertSame(tuples, cache.get(SPACE_ID, key(1)));
+        assertNull(cache.get(SPACE_ID + 1, key(1)));
+
+        TarantoolNearCacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        // a single segment for the deterministic eviction order
+        TarantoolNearCache cache = new TarantoolNearCache(
+                TarantoolNearCacheConfig.builder().withMaxEntries(1).build());
+        put(cache, 1);
+        put(cache, 2);
+        assertNull(cache.get(SPACE_ID, key(1)));
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+
+        TarantoolNearCache boundedByWeight = new TarantoolNearCache(
+                TarantoolNearCacheConfig.builder().withMaxEntries(100).withMaxWeight(16 * 16).build());
+        for (int i = 0; i < 100; i++) {
+            put(boundedByWeight, i);
+        }
+        TarantoolNearCacheStatistics statistics = boundedByWeight.getStatistics();
+        assertEquals(100, statistics.getSize() + statistics.getEvictionCount());
+        assertTrue(statistics.getWeight() <= 16 * 16);
+
+        // the segment bounds add up to the configured bound
+        TarantoolNearCache segmented = new TarantoolNearCache(
+                TarantoolNearCacheConfig.builder().withMaxEntries(20).build());
+        for (int i = 0; i < 1000; i++) {
+            put(segmented, i);
+        }
+        assertEquals(20, segmented.getStatistics().getSize());
+    }
+
+    @Test
+    public void testExpiration() {
+        AtomicLong time = new AtomicLong();
+        TarantoolNearCache cache = new TarantoolNearCache(
+                TarantoolNearCacheConfig.builder().withExpireAfterWrite(100).build(), time::get);
+        put(cache, 1);
+
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertEquals(tuples(1), cache.get(SPACE_ID, key(1)));
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.get(SPACE_ID, key(1)));
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void testInvalidation() {
+        TarantoolNearCache cache = new TarantoolNearCache(TarantoolNearCacheConfig.builder().build());
+        put(cache, 1);
+        put(cache, 2);
+        cache.put(SPACE_ID + 1, key(1), tuples(1), cache.getVersion(SPACE_ID + 1, key(1)));
+
+        cache.invalidate(SPACE_ID, key(1));
+        assertNull(cache.get(SPACE_ID, key(1)));
+        assertEquals(tuples(2), cache.get(SPACE_ID, key(2)));
+
+        cache.invalidateSpace(SPACE_ID);
+        assertNull(cache.get(SPACE_ID, key(2)));
+        assertEquals(tuples(1), cache.get(SPACE_ID + 1, key(1)));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getStatistics().getSize());
+        assertEquals(3, cache.getStatistics().getInvalidationCount());
+    }
+
+    @Test
+    public void testStaleResultIsNotStored() {
+        TarantoolNearCache cache = new TarantoolNearCache(TarantoolNearCacheConfig.builder().build());
+
+        // the lookup is started, then the key is written and invalidated before the lookup result is received
+        long version = cache.getVersion(SPACE_ID, key(1));
+        cache.invalidate(SPACE_ID, key(1));
+        cache.put(SPACE_ID, key(1), tuples(1), version);
+
+        assertNull(cache.get(SPACE_ID, key(1)));
+    }
+}
@@ -0,0 +1,52 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.metadata.TestMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolSpaceOperationsCacheTest {
+
+    @Test
+    public void testSpaceIsReused() {
+        TestMetadata metadata = new TestMetadata();
+        AtomicInteger created = new AtomicInteger();
+        TarantoolSpaceOperationsCache<TarantoolSpace> cache = new TarantoolSpaceOperationsCache<>(meta -> {
+            created.incrementAndGet();
+            return new TarantoolSpace(new TarantoolClientConfig(), null, meta, metadata);
+        });
+
+        TarantoolSpace space = cache.get(metadata.getTestSpaceMetadata());
+        assertSame(space, cache.get(metadata.getTestSpaceMetadata()));
+        assertEquals(1, created.get());
+
+        cache.invalidate(metadata.getTestSpaceMetadata().getSpaceId());
+        assertNotSame(space, cache.get(metadata.getTestSpaceMetadata()));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void testSpaceIsReplacedOnMetadataChange() {
+        TestMetadata metadata = new TestMetadata();
+        TarantoolSpaceOperationsCache<TarantoolSpace> cache = new TarantoolSpaceOperationsCache<>(
+                meta -> new TarantoolSpace(new TarantoolClientConfig(), null, meta, metadata));
+
+        TarantoolSpace space = cache.get(metadata.getTestSpaceMetadata());
+
+        // the refreshed metadata contains new instances for the same spaces
+        TarantoolSpaceMetadata refreshedMetadata = new TestMetadata().getTestSpaceMetadata();
+
+        TarantoolSpace refreshedSpace = cache.get(refreshedMetadata);
+        assertNotSame(space, refreshedSpace);
+        assertSame(refreshedSpace, cache.get(refreshedMetadata));
+    }
+}
@@ -0,0 +1,88 @@
+package io.tarantool.driver.api.space;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.exceptions.TarantoolServerException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.metadata.TarantoolMetadata;
+import io.tarantool.driver.metadata.TestMetadataConnection;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolSpaceSchemaVersionTest {
+
+    // IPROTO_SPACE_ID request body key
+    private static final Value IPROTO_SPACE_ID = ValueFactory.newInteger(0x10);
+    // IPROTO error response code for ER_WRONG_SCHEMA_VERSION
+    private static final long ER_WRONG_SCHEMA_VERSION = 0x8000 | 109;
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final TarantoolSchemaVersionHolder schemaVersionHolder = new TarantoolSchemaVersionHolder();
+    private final TestMetadataConnection connection = new TestMetadataConnection(schemaVersionHolder);
+    private final TarantoolClientConfig config = TarantoolClientConfig.builder().build();
+    private final TarantoolMetadata metadata =
+            new TarantoolMetadata(config, connection.toConnectionManager(), schemaVersionHolder);
+
+    @Test
+    public void testRequestRebuiltAfterSchemaChange() throws InterruptedException {
+        CompletableFuture<Void> refresh = metadata.refresh();
+        connection.completeAll(5);
+        refresh.join();
+        TarantoolSpace space = new TarantoolSpace(config, connection.toConnectionManager(),
+                metadata.getSpaceByName("test").get(), metadata);
+
+        CompletableFuture<TarantoolResult<TarantoolTuple>> result = space.select(
+                Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, Collections.singletonList(1)));
+        TarantoolRequest request = connection.getPendingRequest(0);
+        assertEquals(512, getSpaceId(request));
+        assertEquals(5, request.getHeader().getSchemaVersion());
+
+        // the space is recreated with another ID, the error response carries the new schema version
+        connection.recreateSpace(513);
+        schemaVersionHolder.updateSchemaVersion(6);
+        awaitCondition(() -> connection.pendingCount() == 3);
+        connection.fail(0, new TarantoolServerException(ER_WRONG_SCHEMA_VERSION, "Wrong schema version"));
+        // the retry joins the refresh started on the schema version change
+        assertEquals(2, connection.pendingCount());
+        connection.completeAll(6);
+
+        awaitCondition(() -> connection.pendingCount() == 1);
+        TarantoolRequest retried = connection.getPendingRequest(0);
+        assertEquals(513, getSpaceId(retried));
+        assertEquals(6, retried.getHeader().getSchemaVersion());
+        assertNotEquals(request.getHeader().getSync(), retried.getHeader().getSync());
+
+        connection.complete(0, 6, ValueFactory.newArray(ValueFactory.newArray(ValueFactory.newInteger(1))));
+        assertEquals(1, result.join().size());
+    }
+
+    private int getSpaceId(TarantoolRequest request) {
+        return request.getBody().toMessagePackValue(mapper).asMapValue().map()
+                .get(IPROTO_SPACE_ID).asIntegerValue().asInt();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
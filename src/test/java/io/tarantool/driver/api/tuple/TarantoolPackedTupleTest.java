@@ -0,0 +1,144 @@
+package io.tarantool.driver.api.tuple;
+
+import io.tarantool.driver.exceptions.TarantoolNullFieldException;
+import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.TarantoolPackedTupleValueConverter;
+import io.tarantool.driver.metadata.TestMetadata;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessageIntegerOverflowException;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolPackedTupleTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    public void testFieldAccess() {
+        char[] longString = new char[70000];
+        Arrays.fill(longString, 'x');
+        UUID uuid = UUID.randomUUID();
+        ArrayValue value = ValueFactory.newArray(
+                ValueFactory.newString("abc"),
+                ValueFactory.newInteger(-5),
+                ValueFactory.newInteger(-100500),
+                ValueFactory.newInteger(Long.MIN_VALUE),
+                ValueFactory.newInteger(new BigInteger("18446744073709551615")),
+                ValueFactory.newFloat(12.5D),
+                ValueFactory.newBoolean(true),
+                ValueFactory.newNil(),
+                ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newArray(ValueFactory.newString("a"))),
+                ValueFactory.newMap(ValueFactory.newString("key"), ValueFactory.newArray(ValueFactory.newNil())),
+                ValueFactory.newBinary(new byte[300]),
+                mapper.toValue(new BigDecimal("1.25")),
+                mapper.toValue(uuid),
+                ValueFactory.newString(new String(longString)),
+                ValueFactory.newInteger(200)
+        );
+        TarantoolPackedTuple tuple = new TarantoolPackedTuple(pack(value), mapper);
+        TarantoolTuple expected = new TarantoolTupleImpl(value, mapper);
+
+        assertEquals(value.size(), tuple.size());
+        for (int i = 0; i < value.size(); i++) {
+            assertEquals(expected.getField(i).get().toMessagePackValue(mapper),
+                    tuple.getField(i).get().toMessagePackValue(mapper));
+        }
+        assertEquals("abc", tuple.getString(0));
+        assertEquals(-5, tuple.getIntegerValue(1));
+        assertEquals(-100500L, tuple.getLongValue(2));
+        assertEquals(Long.MIN_VALUE, tuple.getLongValue(3));
+        assertThrows(MessageIntegerOverflowException.class, () -> tuple.getLongValue(4));
+        assertEquals(18446744073709551615D, tuple.getDoubleValue(4));
+        assertEquals(12.5D, tuple.getDoubleValue(5));
+        assertEquals(12.5F, tuple.getFloatValue(5));
+        assertTrue(tuple.getBooleanValue(6));
+        assertTrue(tuple.isNull(7));
+        assertNull(tuple.getString(7));
+        assertThrows(TarantoolNullFieldException.class, () -> tuple.getLongValue(7));
+        assertEquals(uuid, tuple.getUUID(12));
+        assertEquals(200, tuple.getIntegerValue(14));
+        assertEquals(200D, tuple.getDoubleValue(14));
+        assertThrows(MessageTypeCastException.class, () -> tuple.getLongValue(0));
+        assertThrows(MessageTypeCastException.class, () -> tuple.getBooleanValue(1));
+        assertTrue(tuple.isNull(15));
+        assertFalse(tuple.getField(15).isPresent());
+        assertThrows(TarantoolNullFieldException.class, () -> tuple.getIntegerValue(15));
+
+        assertEquals(value, tuple.toMessagePackValue(mapper));
+        assertTrue(tuple.isPacked());
+    }
+
+    @Test
+    public void testFieldNames() {
+        ArrayValue value = ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newInteger(1),
+                ValueFactory.newFloat(2.5D), ValueFactory.newNil());
+        TarantoolPackedTuple tuple = new TarantoolPackedTuple(pack(value), mapper,
+                new TestMetadata().getTestSpaceMetadata());
+
+        assertEquals("a", tuple.getString("first"));
+        assertEquals(1L, tuple.getLongValue("second"));
+        assertEquals(2.5D, tuple.getDoubleValue("third"));
+        assertTrue(tuple.isNull("fourth"));
+        assertFalse(tuple.getField("unknown").isPresent());
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () -> tuple.getLongValue("unknown"));
+        assertEquals("Field 'fourth' is null or absent in the tuple",
+                assertThrows(TarantoolNullFieldException.class, () -> tuple.getIntegerValue("fourth")).getMessage());
+    }
+
+    @Test
+    public void testModification() {
+        ArrayValue value = ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newInteger(1));
+        TarantoolPackedTuple tuple = new TarantoolPackedTuple(pack(value), mapper,
+                new TestMetadata().getTestSpaceMetadata());
+
+        tuple.putObject("fourth", 4);
+        assertFalse(tuple.isPacked());
+        assertEquals(4, tuple.size());
+        assertEquals(1, tuple.getIntegerValue(1));
+        assertTrue(tuple.isNull(2));
+        assertEquals(4, tuple.getIntegerValue("fourth"));
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newInteger(1),
+                ValueFactory.newNil(), ValueFactory.newInteger(4)), tuple.toMessagePackValue(mapper));
+    }
+
+    @Test
+    public void testValueConverter() {
+        ArrayValue value = ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newInteger(1));
+        TarantoolTuple tuple = new TarantoolPackedTupleValueConverter(mapper, null).fromValue(value);
+
+        assertEquals(2, tuple.size());
+        assertEquals(1L, tuple.getLongValue(1));
+        assertArrayEquals(pack(value), pack(tuple.toMessagePackValue(mapper)));
+    }
+
+    private static byte[] pack(Value value) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(value);
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
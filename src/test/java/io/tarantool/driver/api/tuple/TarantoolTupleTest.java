@@ -1,5 +1,6 @@
 package io.tarantool.driver.api.tuple;
 
+import io.tarantool.driver.exceptions.TarantoolNullFieldException;
 import io.tarantool.driver.exceptions.TarantoolSpaceFieldNotFoundException;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
@@ -8,6 +9,9 @@ import io.tarantool.driver.metadata.TarantoolFieldMetadata;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
 import io.tarantool.driver.metadata.TestMetadata;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessageIntegerOverflowException;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ImmutableArrayValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
@@ -15,6 +19,7 @@ import org.msgpack.value.impl.ImmutableBooleanValueImpl;
 import org.msgpack.value.impl.ImmutableDoubleValueImpl;
 import org.msgpack.value.impl.ImmutableLongValueImpl;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -148,4 +153,58 @@ public class TarantoolTupleTest {
         assertEquals("lol", resultList.get(0));
         assertEquals(nestedMap, resultList.get(1));
     }
+
+    @Test
+    void primitiveAccessors() {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolSpaceMetadata spaceMetadata = new TestMetadata().getTestSpaceMetadata();
+        ImmutableArrayValue values = ValueFactory.newArray(ValueFactory.newString("a"),
+                ValueFactory.newInteger(1234567890123L), ValueFactory.newFloat(12.5D), ValueFactory.newNil());
+
+        TarantoolTuple tuple = new TarantoolTupleImpl(values, mapper, spaceMetadata);
+
+        assertEquals(1234567890123L, tuple.getLongValue(1));
+        assertEquals(1234567890123L, tuple.getLongValue("second"));
+        assertEquals(1234567890123D, tuple.getDoubleValue("second"));
+        assertEquals(12.5D, tuple.getDoubleValue(2));
+        assertEquals(12.5F, tuple.getFloatValue("third"));
+        assertThrows(MessageIntegerOverflowException.class, () -> tuple.getIntegerValue(1));
+        assertFalse(tuple.isNull("second"));
+        assertTrue(tuple.isNull("fourth"));
+        assertTrue(tuple.isNull(10));
+        assertEquals("Field 'fourth' is null or absent in the tuple",
+                assertThrows(TarantoolNullFieldException.class, () -> tuple.getLongValue("fourth")).getMessage());
+        assertEquals("Field with position 10 is null or absent in the tuple",
+                assertThrows(TarantoolNullFieldException.class, () -> tuple.getIntegerValue(10)).getMessage());
+        assertThrows(TarantoolSpaceFieldNotFoundException.class, () -> tuple.getLongValue("unknown"));
+
+        tuple.putObject(3, 42);
+        assertEquals(42, tuple.getIntegerValue("fourth"));
+
+        TarantoolTuple objectTuple = new TarantoolTupleImpl(Arrays.asList(true, 7L, null), mapper);
+        assertTrue(objectTuple.getBooleanValue(0));
+        assertEquals(7, objectTuple.getIntegerValue(1));
+        assertEquals(7D, objectTuple.getDoubleValue(1));
+        assertTrue(objectTuple.isNull(2));
+        assertThrows(TarantoolNullFieldException.class, () -> objectTuple.getBooleanValue(2));
+    }
+
+    @Test
+    void toMessagePack() throws IOException {
+        MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTuple tuple = new TarantoolTupleImpl(
+                Arrays.asList("a", 1234567890123L, 12.5D, null, Arrays.asList(1, "b")), mapper);
+        tuple.setField(5, new TarantoolFieldImpl(ValueFactory.newBoolean(true)));
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        tuple.toMessagePack(packer, mapper);
+        byte[] data = packer.toByteArray();
+        assertEquals(tuple.toMessagePackValue(mapper), MessagePack.newDefaultUnpacker(data).unpackValue());
+
+        // the packed tuple is written as is
+        TarantoolTuple packedTuple = new TarantoolPackedTuple(data, mapper);
+        packer.clear();
+        packedTuple.toMessagePack(packer, mapper);
+        assertArrayEquals(data, packer.toByteArray());
+    }
 }
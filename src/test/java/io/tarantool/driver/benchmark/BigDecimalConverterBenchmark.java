@@ -0,0 +1,57 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.mappers.DefaultBigDecimalConverter;
+import org.msgpack.value.ExtensionValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of {@link BigDecimal} values to and from the Tarantool decimal extension type.
+ * Run with {@code mvn -P benchmark verify -Dbenchmark.include=BigDecimalConverterBenchmark}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigDecimalConverterBenchmark {
+
+    @Param({"1234567", "-1234.5678", "1111111111111111111111111", "-12345678901234567890.123456789"})
+    private String number;
+
+    private DefaultBigDecimalConverter converter;
+    private BigDecimal value;
+    private ExtensionValue packed;
+
+    @Setup
+    public void setup() {
+        converter = new DefaultBigDecimalConverter();
+        value = new BigDecimal(number);
+        packed = converter.toValue(value);
+    }
+
+    @Benchmark
+    public ExtensionValue toValue() {
+        return converter.toValue(value);
+    }
+
+    @Benchmark
+    public BigDecimal fromValue() {
+        return converter.fromValue(packed);
+    }
+}
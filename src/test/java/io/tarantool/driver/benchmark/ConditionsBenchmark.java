@@ -0,0 +1,65 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.metadata.TestMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of {@link Conditions} into index queries, which is performed for each select request.
+ * Run with {@code mvn -P benchmark verify -Dbenchmark.include=ConditionsBenchmark}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConditionsBenchmark {
+
+    private TestMetadata metadata;
+    private TarantoolSpaceMetadata spaceMetadata;
+    private Conditions byIndexId;
+    private Conditions byIndexName;
+    private Conditions byFields;
+
+    @Setup
+    public void setup() {
+        metadata = new TestMetadata();
+        metadata.refresh().join();
+        spaceMetadata = metadata.getTestSpaceMetadata();
+        byIndexId = Conditions.indexEquals(2, Arrays.asList(1, 2));
+        byIndexName = Conditions.indexEquals("asecondary1", Arrays.asList(1, 2));
+        byFields = Conditions.equals("second", 1).andEquals("fourth", 2);
+    }
+
+    @Benchmark
+    public TarantoolIndexQuery indexQueryByIndexId() {
+        return byIndexId.toIndexQuery(metadata, spaceMetadata);
+    }
+
+    @Benchmark
+    public TarantoolIndexQuery indexQueryByIndexName() {
+        return byIndexName.toIndexQuery(metadata, spaceMetadata);
+    }
+
+    @Benchmark
+    public TarantoolIndexQuery indexQueryByFields() {
+        return byFields.toIndexQuery(metadata, spaceMetadata);
+    }
+}
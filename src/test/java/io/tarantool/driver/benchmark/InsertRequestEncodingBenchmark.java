@@ -0,0 +1,75 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolDecoderException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolInsertRequest;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding of an insert request through the intermediate MessagePack {@code Value} tree and directly into
+ * the packer. Run with
+ * {@code mvn -P benchmark verify -Dbenchmark.include="InsertRequestEncodingBenchmark -prof gc"}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertRequestEncodingBenchmark {
+
+    private MessagePackMapper mapper;
+    private MessageBufferPacker packer;
+    private TarantoolRequest request;
+
+    @Setup
+    public void setup() throws TarantoolProtocolException {
+        mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        packer = MessagePack.newDefaultBufferPacker();
+        TarantoolTuple tuple = new TarantoolTupleImpl(Arrays.asList(12345L, "name", 100.5D, true,
+                UUID.randomUUID(), new BigDecimal("12345.678"), Arrays.asList(1, 2, 3), null), mapper);
+        request = new TarantoolInsertRequest.Builder()
+                .withSpaceId(512)
+                .withTuple(tuple)
+                .build(mapper);
+    }
+
+    @Benchmark
+    public byte[] valueTree() throws IOException {
+        packer.clear();
+        packer.packValue(request.getHeader().toMessagePackValue(mapper));
+        packer.packValue(request.getBody().toMessagePackValue(mapper));
+        return packer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] direct() throws TarantoolDecoderException {
+        packer.clear();
+        request.toMessagePack(packer, mapper);
+        return packer.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.IntegerValue;
+import org.msgpack.value.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of typical tuples between Java objects and MessagePack values with the default mapper.
+ * Run with {@code mvn -P benchmark verify -Dbenchmark.include=MessagePackMapperBenchmark}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagePackMapperBenchmark {
+
+    private DefaultMessagePackMapper mapper;
+    private List<Object> tuple;
+    private ArrayValue tupleValue;
+    private IntegerValue integerValue;
+
+    @Setup
+    public void setup() {
+        mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        tuple = Arrays.asList(
+                "a1b2c3", 1234, 100500L, 12.5D, true,
+                UUID.fromString("84b56906-aeed-11ea-b3de-0242ac130004"),
+                Arrays.asList("nested", 1, 2));
+        tupleValue = mapper.toValue(tuple);
+        integerValue = mapper.toValue(100500L);
+    }
+
+    @Benchmark
+    public Value tupleToValue() {
+        return mapper.toValue(tuple);
+    }
+
+    @Benchmark
+    public List<Object> tupleFromValue() {
+        return mapper.fromValue(tupleValue);
+    }
+
+    @Benchmark
+    public Value stringToValue() {
+        return mapper.toValue("a1b2c3");
+    }
+
+    @Benchmark
+    public Long longFromValueWithTargetClass() {
+        return mapper.fromValue(integerValue, Long.class);
+    }
+}
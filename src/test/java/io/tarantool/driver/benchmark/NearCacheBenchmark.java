@@ -0,0 +1,136 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.CachingTarantoolSpace;
+import io.tarantool.driver.api.space.TarantoolNearCache;
+import io.tarantool.driver.api.space.TarantoolNearCacheConfig;
+import io.tarantool.driver.api.space.TarantoolSpace;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.TarantoolConnection;
+import io.tarantool.driver.core.TarantoolConnectionFailureListener;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.metadata.TestMetadata;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the primary key lookups served from the near cache with the uncached lookups. The responses are served
+ * by a stub connection which optionally waits for the specified time, simulating the network round trip. Run with
+ * {@code mvn -P benchmark verify -Dbenchmark.include=NearCacheBenchmark}.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearCacheBenchmark {
+
+    @Param({"0", "100000"})
+    private long roundTripNanos;
+
+    private TarantoolSpace space;
+    private CachingTarantoolSpace cachingSpace;
+    private Conditions conditions;
+
+    @Setup
+    public void setup() {
+        TarantoolClientConfig config = new TarantoolClientConfig();
+        TestMetadata metadata = new TestMetadata();
+        metadata.refresh().join();
+        ArrayValue response = ValueFactory.newArray(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newInteger(1),
+                ValueFactory.newInteger(2), ValueFactory.newInteger(3)));
+        StubConnection connection = new StubConnection(response, roundTripNanos);
+        TarantoolConnectionManager connectionManager = new TarantoolConnectionManager() {
+            @Override
+            public TarantoolConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        space = new TarantoolSpace(config, connectionManager, metadata.getTestSpaceMetadata(), metadata);
+        cachingSpace = new CachingTarantoolSpace(space, metadata.getTestSpaceMetadata(), metadata,
+                config.getMessagePackMapper(), new TarantoolNearCache(TarantoolNearCacheConfig.builder().build()));
+        conditions = Conditions.indexEquals("primary", Collections.singletonList("a"));
+    }
+
+    @Benchmark
+    public TarantoolResult<TarantoolTuple> selectUncached() {
+        return space.select(conditions).join();
+    }
+
+    @Benchmark
+    public TarantoolResult<TarantoolTuple> selectCached() {
+        return cachingSpace.select(conditions).join();
+    }
+
+    private static final class StubConnection implements TarantoolConnection {
+        private final ArrayValue response;
+        private final long roundTripNanos;
+        private final TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+
+        private StubConnection(ArrayValue response, long roundTripNanos) {
+            this.response = response;
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public TarantoolConnectionStatistics getStatistics() {
+            return statistics;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+            return CompletableFuture.completedFuture(resultMapper.fromValue(response));
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
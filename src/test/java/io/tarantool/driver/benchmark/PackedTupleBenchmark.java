@@ -0,0 +1,75 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.tuple.TarantoolPackedTuple;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading two fields of a wide tuple with {@link TarantoolTupleImpl} and {@link TarantoolPackedTuple}.
+ * Both variants start from the tuple bytes. Run with
+ * {@code mvn -P benchmark verify -Dbenchmark.include=PackedTupleBenchmark} and the GC profiler to see
+ * the allocation rate difference
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedTupleBenchmark {
+
+    private static final int FIELDS = 30;
+
+    private MessagePackMapper mapper;
+    private byte[] data;
+
+    @Setup
+    public void setup() throws IOException {
+        mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        Value[] fields = new Value[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i] = i % 3 == 0 ? ValueFactory.newString("field value " + i) :
+                    i % 3 == 1 ? ValueFactory.newInteger(100500L * i) : ValueFactory.newFloat(i / 3D);
+        }
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packValue(ValueFactory.newArray(fields));
+            data = packer.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public double readTwoFieldsImpl() throws IOException {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data)) {
+            TarantoolTuple tuple = new TarantoolTupleImpl(unpacker.unpackValue().asArrayValue(), mapper);
+            return tuple.getLongValue(4) + tuple.getDoubleValue(20);
+        }
+    }
+
+    @Benchmark
+    public double readTwoFieldsPacked() {
+        TarantoolTuple tuple = new TarantoolPackedTuple(data, mapper);
+        return tuple.getLongValue(4) + tuple.getDoubleValue(20);
+    }
+}
@@ -0,0 +1,172 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.ObjectConverter;
+import io.tarantool.driver.mappers.PojoTupleConverter;
+import io.tarantool.driver.mappers.ValueConverter;
+import io.tarantool.driver.metadata.TestMetadata;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the tuple to object conversion by the runtime-bound {@link PojoTupleConverter} with a hand-written
+ * converter and with a naive reflection-based one.
+ * Run with {@code mvn -P benchmark verify -Dbenchmark.include=PojoMappingBenchmark}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PojoMappingBenchmark {
+
+    private PojoTupleConverter<Pojo> autoConverter;
+    private HandWrittenConverter handWrittenConverter;
+    private ReflectionConverter reflectionConverter;
+    private ArrayValue tuple;
+    private Pojo pojo;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        TestMetadata metadata = new TestMetadata();
+        autoConverter = new PojoTupleConverter<>(
+                DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper(),
+                Pojo.class, metadata.getTestSpaceMetadata());
+        handWrittenConverter = new HandWrittenConverter();
+        reflectionConverter = new ReflectionConverter();
+        tuple = ValueFactory.newArray(ValueFactory.newString("a1b2c3"), ValueFactory.newInteger(100500L),
+                ValueFactory.newFloat(12.5D), ValueFactory.newInteger(42));
+        pojo = handWrittenConverter.fromValue(tuple);
+    }
+
+    @Benchmark
+    public Pojo fromValueHandWritten() {
+        return handWrittenConverter.fromValue(tuple);
+    }
+
+    @Benchmark
+    public Pojo fromValueAuto() {
+        return autoConverter.fromValue(tuple);
+    }
+
+    @Benchmark
+    public Pojo fromValueReflection() {
+        return reflectionConverter.fromValue(tuple);
+    }
+
+    @Benchmark
+    public ArrayValue toValueHandWritten() {
+        return handWrittenConverter.toValue(pojo);
+    }
+
+    @Benchmark
+    public ArrayValue toValueAuto() {
+        return autoConverter.toValue(pojo);
+    }
+
+    public static class Pojo {
+        private String first;
+        private long second;
+        private double third;
+        private int fourth;
+
+        public String getFirst() {
+            return first;
+        }
+
+        public void setFirst(String first) {
+            this.first = first;
+        }
+
+        public long getSecond() {
+            return second;
+        }
+
+        public void setSecond(long second) {
+            this.second = second;
+        }
+
+        public double getThird() {
+            return third;
+        }
+
+        public void setThird(double third) {
+            this.third = third;
+        }
+
+        public int getFourth() {
+            return fourth;
+        }
+
+        public void setFourth(int fourth) {
+            this.fourth = fourth;
+        }
+    }
+
+    private static final class HandWrittenConverter
+            implements ValueConverter<ArrayValue, Pojo>, ObjectConverter<Pojo, ArrayValue> {
+
+        @Override
+        public Pojo fromValue(ArrayValue value) {
+            Pojo pojo = new Pojo();
+            pojo.setFirst(value.get(0).asStringValue().asString());
+            pojo.setSecond(value.get(1).asIntegerValue().asLong());
+            pojo.setThird(value.get(2).asNumberValue().toDouble());
+            pojo.setFourth(value.get(3).asIntegerValue().asInt());
+            return pojo;
+        }
+
+        @Override
+        public ArrayValue toValue(Pojo object) {
+            return ValueFactory.newArray(new Value[]{
+                    ValueFactory.newString(object.getFirst()),
+                    ValueFactory.newInteger(object.getSecond()),
+                    ValueFactory.newFloat(object.getThird()),
+                    ValueFactory.newInteger(object.getFourth())}, true);
+        }
+    }
+
+    private static final class ReflectionConverter implements ValueConverter<ArrayValue, Pojo> {
+        private final Field[] fields;
+
+        private ReflectionConverter() throws NoSuchFieldException {
+            fields = new Field[]{
+                    Pojo.class.getDeclaredField("first"), Pojo.class.getDeclaredField("second"),
+                    Pojo.class.getDeclaredField("third"), Pojo.class.getDeclaredField("fourth")};
+            for (Field field : fields) {
+                field.setAccessible(true);
+            }
+        }
+
+        @Override
+        public Pojo fromValue(ArrayValue value) {
+            try {
+                Pojo pojo = Pojo.class.getDeclaredConstructor().newInstance();
+                fields[0].set(pojo, value.get(0).asStringValue().asString());
+                fields[1].set(pojo, value.get(1).asIntegerValue().asLong());
+                fields[2].set(pojo, value.get(2).asNumberValue().toDouble());
+                fields[3].set(pojo, value.get(3).asIntegerValue().asInt());
+                return pojo;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
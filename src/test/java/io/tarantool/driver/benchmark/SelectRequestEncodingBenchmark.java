@@ -0,0 +1,85 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.exceptions.TarantoolDecoderException;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestTemplate;
+import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of creating and encoding a select request with {@link TarantoolSelectRequest.Builder} and with
+ * a pre-encoded {@link TarantoolRequestTemplate}. Run with
+ * {@code mvn -P benchmark verify -Dbenchmark.include="SelectRequestEncodingBenchmark -prof gc"}
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectRequestEncodingBenchmark {
+
+    private MessagePackMapper mapper;
+    private MessageBufferPacker packer;
+    private TarantoolRequestTemplate template;
+    private List<?> keyValues;
+
+    @Setup
+    public void setup() throws TarantoolProtocolException {
+        mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        packer = MessagePack.newDefaultBufferPacker();
+        template = new TarantoolSelectRequest.Builder()
+                .withSpaceId(512)
+                .withIndexId(1)
+                .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                .withLimit(100)
+                .withOffset(0)
+                .buildTemplate(mapper);
+        keyValues = Arrays.asList(12345L, "key");
+    }
+
+    @Benchmark
+    public byte[] builder() throws TarantoolProtocolException {
+        TarantoolSelectRequest request = new TarantoolSelectRequest.Builder()
+                .withSpaceId(512)
+                .withIndexId(1)
+                .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                .withKeyValues(keyValues)
+                .withLimit(100)
+                .withOffset(0)
+                .build(mapper);
+        return encode(request);
+    }
+
+    @Benchmark
+    public byte[] template() throws TarantoolProtocolException {
+        return encode(template.newRequest(keyValues, mapper));
+    }
+
+    private byte[] encode(TarantoolRequest request) throws TarantoolDecoderException {
+        packer.clear();
+        request.toMessagePack(packer, mapper);
+        return packer.toByteArray();
+    }
+}
@@ -0,0 +1,127 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpace;
+import io.tarantool.driver.api.space.TarantoolSpaceOperationsCache;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.core.TarantoolConnection;
+import io.tarantool.driver.core.TarantoolConnectionFailureListener;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.metadata.TestMetadata;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the select requests made through a new space handle for each request with the requests made through
+ * a cached space handle. The responses are served by a stub connection, so only the client side costs are measured.
+ * Run with {@code mvn -P benchmark verify -Dbenchmark.include="SpaceHandleBenchmark -prof gc"} to see the allocation
+ * rate per request.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaceHandleBenchmark {
+
+    private TarantoolClientConfig config;
+    private TestMetadata metadata;
+    private TarantoolConnectionManager connectionManager;
+    private TarantoolSpaceOperationsCache<TarantoolSpace> spaceCache;
+    private Conditions conditions;
+
+    @Setup
+    public void setup() {
+        config = new TarantoolClientConfig();
+        metadata = new TestMetadata();
+        metadata.refresh().join();
+        ArrayValue response = ValueFactory.newArray(ValueFactory.newArray(
+                ValueFactory.newString("a"), ValueFactory.newInteger(1),
+                ValueFactory.newInteger(2), ValueFactory.newInteger(3)));
+        StubConnection connection = new StubConnection(response);
+        connectionManager = new TarantoolConnectionManager() {
+            @Override
+            public TarantoolConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        spaceCache = new TarantoolSpaceOperationsCache<>(
+                meta -> new TarantoolSpace(config, connectionManager, meta, metadata));
+        conditions = Conditions.indexEquals("primary", Collections.singletonList("a"));
+    }
+
+    @Benchmark
+    public TarantoolResult<TarantoolTuple> selectWithNewSpace() {
+        TarantoolSpace space = new TarantoolSpace(config, connectionManager, metadata.getTestSpaceMetadata(), metadata);
+        return space.select(conditions).join();
+    }
+
+    @Benchmark
+    public TarantoolResult<TarantoolTuple> selectWithCachedSpace() {
+        return spaceCache.get(metadata.getTestSpaceMetadata()).select(conditions).join();
+    }
+
+    private static final class StubConnection implements TarantoolConnection {
+        private final ArrayValue response;
+        private final TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+
+        private StubConnection(ArrayValue response) {
+            this.response = response;
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public TarantoolConnectionStatistics getStatistics() {
+            return statistics;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            return CompletableFuture.completedFuture(resultMapper.fromValue(response));
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.EncoderException;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import io.tarantool.driver.protocol.Packable;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import io.tarantool.driver.protocol.requests.TarantoolInsertRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MessagePackFrameEncoderTest {
+
+    private static final int MINIMAL_HEADER_SIZE = 5;
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private TarantoolRequest insertRequest(Object... values) throws TarantoolProtocolException {
+        return new TarantoolInsertRequest.Builder()
+                .withSpaceId(512)
+                .withTuple(new TarantoolTupleImpl(Arrays.asList(values), mapper))
+                .build(mapper);
+    }
+
+    private void assertFrame(TarantoolRequest request, ByteBuf frame) throws IOException {
+        assertEquals((byte) 0xce, frame.readByte());
+        int size = frame.readInt();
+        assertEquals(frame.readableBytes(), size);
+        byte[] data = new byte[frame.readableBytes()];
+        frame.readBytes(data);
+        frame.release();
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(data);
+        assertEquals(request.getHeader().toMessagePackValue(mapper), unpacker.unpackValue());
+        assertEquals(request.getBody().toMessagePackValue(mapper), unpacker.unpackValue());
+        assertFalse(unpacker.hasNext());
+    }
+
+    @Test
+    public void testEncode() throws TarantoolProtocolException, IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        TarantoolRequest first = insertRequest(1, "a", Collections.singletonMap("key", 1.5D));
+        TarantoolRequest second = insertRequest(2, null, new byte[10000]);
+
+        channel.writeOutbound(first, second);
+
+        assertFrame(first, channel.readOutbound());
+        assertFrame(second, channel.readOutbound());
+    }
+
+    @Test
+    public void testTupleChangedAfterBuild() throws TarantoolProtocolException, IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        TarantoolTupleImpl tuple = new TarantoolTupleImpl(Arrays.asList(1, "a"), mapper);
+        TarantoolRequest request = new TarantoolInsertRequest.Builder()
+                .withSpaceId(512)
+                .withTuple(tuple)
+                .build(mapper);
+        TarantoolRequest expected = insertRequest(1, "a");
+
+        tuple.putObject(1, "b");
+        channel.writeOutbound(request);
+
+        ByteBuf frame = channel.readOutbound();
+        frame.skipBytes(MINIMAL_HEADER_SIZE);
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame));
+        frame.release();
+        unpacker.unpackValue();
+        assertEquals(expected.getBody().toMessagePackValue(mapper), unpacker.unpackValue());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(TarantoolProtocolException.class, () -> new TarantoolCallRequest.Builder()
+                .withFunctionName("test")
+                .withArguments(Arrays.asList("a", new Object()))
+                .build(mapper));
+    }
+
+    @Test
+    public void testEncodeAfterFailure() throws TarantoolProtocolException, IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        TarantoolRequest invalid = new TarantoolRequest(TarantoolRequestType.IPROTO_CALL, new Packable() {
+            @Override
+            public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+                packer.packMapHeader(1);
+                throw new IOException("Failed");
+            }
+
+            @Override
+            public Value toMessagePackValue(MessagePackObjectMapper mapper) {
+                return ValueFactory.emptyMap();
+            }
+        });
+        TarantoolRequest valid = insertRequest(1, "a");
+
+        assertThrows(EncoderException.class, () -> channel.writeOutbound(invalid));
+        channel.writeOutbound(valid);
+
+        assertFrame(valid, channel.readOutbound());
+    }
+}
@@ -0,0 +1,176 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolIteratorType;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolSelectRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestCoalescerTest {
+
+    private static final ArrayValue RESPONSE = ValueFactory.newArray(
+            ValueFactory.newArray(ValueFactory.newString("a"), ValueFactory.newInteger(1)));
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final StubConnection connection = new StubConnection();
+    private final TarantoolConnectionManager connectionManager = new TarantoolConnectionManager() {
+        @Override
+        public TarantoolConnection getConnection() {
+            return connection;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private TarantoolRequest selectRequest(Object key) throws TarantoolProtocolException {
+        return new TarantoolSelectRequest.Builder()
+                .withSpaceId(512)
+                .withIndexId(0)
+                .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                .withKeyValues(Collections.singletonList(key))
+                .withLimit(1)
+                .withOffset(0)
+                .build(mapper);
+    }
+
+    @Test
+    public void testSharedResult() throws TarantoolProtocolException {
+        TarantoolRequestCoalescer coalescer =
+                new TarantoolRequestCoalescer(mapper, TarantoolRequestCoalescer.ResultSharing.SHARED);
+
+        CompletableFuture<List<Object>> first = coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        CompletableFuture<List<Object>> second = coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        CompletableFuture<List<Object>> other = coalescer.sendRequest(connectionManager, selectRequest("b"), mapper);
+        assertEquals(2, connection.pending.size());
+        assertEquals(2, coalescer.getInFlightCount());
+
+        connection.completeAll();
+        assertSame(first.join(), second.join());
+        assertEquals(1, other.join().size());
+        assertEquals(0, coalescer.getInFlightCount());
+
+        // the completed request is not reused
+        coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        assertEquals(1, connection.pending.size());
+    }
+
+    @Test
+    public void testCopiedResult() throws TarantoolProtocolException {
+        TarantoolRequestCoalescer coalescer =
+                new TarantoolRequestCoalescer(mapper, TarantoolRequestCoalescer.ResultSharing.COPIED);
+        MessagePackMapper otherMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+        CompletableFuture<List<Object>> first = coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        CompletableFuture<List<Object>> second =
+                coalescer.sendRequest(connectionManager, selectRequest("a"), otherMapper);
+        assertEquals(1, connection.pending.size());
+
+        connection.completeAll();
+        assertNotSame(first.join(), second.join());
+        assertEquals(first.join(), second.join());
+    }
+
+    @Test
+    public void testRawValueMapperConverters() throws TarantoolProtocolException {
+        TarantoolRequestCoalescer coalescer =
+                new TarantoolRequestCoalescer(mapper, TarantoolRequestCoalescer.ResultSharing.COPIED);
+        coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        MessagePackValueMapper rawValueMapper = connection.pending.get(0).resultMapper;
+
+        assertSame(RESPONSE, rawValueMapper.fromValue(RESPONSE, ArrayValue.class));
+        rawValueMapper.registerValueConverter(ArrayValue.class, Integer.class, ArrayValue::size);
+        assertTrue(rawValueMapper.getValueConverter(ArrayValue.class, Integer.class).isPresent());
+        assertEquals(1, rawValueMapper.<ArrayValue, Integer>fromValue(RESPONSE, Integer.class));
+        // the raw response is still passed to the coalesced requests
+        assertSame(RESPONSE, rawValueMapper.fromValue(RESPONSE));
+    }
+
+    @Test
+    public void testFailure() throws TarantoolProtocolException {
+        TarantoolRequestCoalescer coalescer =
+                new TarantoolRequestCoalescer(mapper, TarantoolRequestCoalescer.ResultSharing.COPIED);
+
+        CompletableFuture<List<Object>> first = coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        CompletableFuture<List<Object>> second = coalescer.sendRequest(connectionManager, selectRequest("a"), mapper);
+        connection.pending.get(0).future.completeExceptionally(new RuntimeException("Failed"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    private static final class PendingRequest {
+        private final CompletableFuture<Object> future;
+        private final MessagePackValueMapper resultMapper;
+
+        private PendingRequest(CompletableFuture<Object> future, MessagePackValueMapper resultMapper) {
+            this.future = future;
+            this.resultMapper = resultMapper;
+        }
+    }
+
+    private static final class StubConnection implements TarantoolConnection {
+        private final List<PendingRequest> pending = new ArrayList<>();
+        private final TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+
+        private void completeAll() {
+            List<PendingRequest> requests = new ArrayList<>(pending);
+            pending.clear();
+            for (PendingRequest request : requests) {
+                request.future.complete(request.resultMapper.fromValue(RESPONSE));
+            }
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public TarantoolConnectionStatistics getStatistics() {
+            return statistics;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            pending.add(new PendingRequest(future, resultMapper));
+            return (CompletableFuture<T>) future;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolPingHandlerTest {
+
+    private final RequestFutureManager futureManager = new RequestFutureManager(new TarantoolClientConfig());
+
+    private EmbeddedChannel createChannel(CompletableFuture<Channel> connectionFuture,
+                                          TarantoolConnectionStatistics statistics) {
+        return new EmbeddedChannel(new TarantoolPingHandler(
+                futureManager, connectionFuture, statistics, 10000, 2));
+    }
+
+    private TarantoolRequest ping(EmbeddedChannel channel) {
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        return channel.readOutbound();
+    }
+
+    @Test
+    public void testNoPingBeforeAuthentication() {
+        EmbeddedChannel channel = createChannel(new CompletableFuture<>(), new TarantoolConnectionStatistics());
+
+        assertNull(ping(channel));
+    }
+
+    @Test
+    public void testNoPingWhileReading() {
+        CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
+        EmbeddedChannel channel = createChannel(connectionFuture, new TarantoolConnectionStatistics());
+        connectionFuture.complete(channel);
+
+        // the writes to a dead peer may succeed, so only the reads are taken into account
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.WRITER_IDLE_STATE_EVENT);
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        assertNull(channel.readOutbound());
+        assertEquals(TarantoolRequestType.IPROTO_PING.getCode(), ping(channel).getHeader().getCode());
+    }
+
+    @Test
+    public void testRoundTripTime() {
+        TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+        CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
+        EmbeddedChannel channel = createChannel(connectionFuture, statistics);
+        connectionFuture.complete(channel);
+
+        TarantoolRequest request = ping(channel);
+        assertEquals(TarantoolRequestType.IPROTO_PING.getCode(), request.getHeader().getCode());
+        // the next ping is not sent until the previous one is completed
+        assertNull(ping(channel));
+
+        futureManager.getRequest(request.getHeader().getSync()).getFuture().complete(null);
+
+        assertTrue(statistics.getLastRoundTripTime(TimeUnit.NANOSECONDS) >= 0);
+        assertEquals(statistics.getLastRoundTripTime(TimeUnit.NANOSECONDS),
+                statistics.getAverageRoundTripTime(TimeUnit.NANOSECONDS));
+        assertEquals(0, statistics.getMissedPings());
+    }
+
+    @Test
+    public void testCloseAfterMissedPings() {
+        TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+        CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
+        EmbeddedChannel channel = createChannel(connectionFuture, statistics);
+        connectionFuture.complete(channel);
+
+        TarantoolRequest request = ping(channel);
+        futureManager.getRequest(request.getHeader().getSync()).getFuture()
+                .completeExceptionally(new TimeoutException());
+        assertEquals(1, statistics.getMissedPings());
+        assertTrue(channel.isOpen());
+
+        request = ping(channel);
+        futureManager.getRequest(request.getHeader().getSync()).getFuture()
+                .completeExceptionally(new TimeoutException());
+        assertEquals(2, statistics.getMissedPings());
+        assertFalse(channel.isOpen());
+    }
+}
@@ -4,6 +4,8 @@ import io.tarantool.driver.ClusterTarantoolClient;
 import io.tarantool.driver.TarantoolClientConfig;
 import io.tarantool.driver.TarantoolClusterAddressProvider;
 import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolMapCallOptions;
+import io.tarantool.driver.api.TarantoolMapCallResult;
 import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
 import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
 import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -127,4 +130,29 @@ public class ClusterDiscoveryIT extends SharedCartridgeContainer {
         assertNotNull(client.getVersion(), "Version must not be null");
         assertTrue(client.getVersion().toString().contains("Tarantool"), "Version must contain Tarantool");
     }
+
+    @Test
+    public void mapCallWithBinaryClusterDiscovery() throws Exception {
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+                .withCredentials(new SimpleTarantoolCredentials(container.getUsername(), container.getPassword()))
+                .withConnectTimeout(1000 * 5)
+                .withReadTimeout(1000 * 5)
+                .withRequestTimeout(1000 * 5)
+                .build();
+
+        ClusterTarantoolClient client = new ClusterTarantoolClient(
+                config,
+                new TestWrappedClusterAddressProvider(getBinaryProvider(), container),
+                TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory.INSTANCE);
+
+        Set<Object> results = new HashSet<>();
+        TarantoolMapCallResult<Set<Object>> result = client.mapCall("tostring", Collections.singletonList(1),
+                results, (set, nodeResult) -> {
+                    set.addAll(nodeResult);
+                    return set;
+                }, TarantoolMapCallOptions.builder().withNodeTimeout(1000 * 3).build()).get();
+
+        assertTrue(result.isComplete());
+        assertEquals(Collections.singleton("1"), result.getValue());
+    }
 }
@@ -0,0 +1,205 @@
+package io.tarantool.driver.integration;
+
+import io.tarantool.driver.ClusterTarantoolClient;
+import io.tarantool.driver.ProxyTarantoolClient;
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolClusterAddressProvider;
+import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.auth.SimpleTarantoolCredentials;
+import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.cluster.BinaryClusterDiscoveryEndpoint;
+import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
+import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
+import io.tarantool.driver.cluster.TestWrappedClusterAddressProvider;
+import io.tarantool.driver.core.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.metadata.TarantoolIndexMetadata;
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.sharding.VshardRouter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class ProxyTarantoolClientDirectRoutingIT extends SharedCartridgeContainer {
+
+    private static final String TEST_SPACE_NAME = "test__profile";
+    private static final int DEFAULT_TIMEOUT = 5 * 1000;
+    private static final MessagePackMapper mapper =
+            DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    private static ClusterTarantoolClient clusterClient;
+    private static ProxyTarantoolClient client;
+    private static TestVshardRouter router;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        startCluster();
+        TarantoolCredentials credentials =
+                new SimpleTarantoolCredentials(container.getUsername(), container.getPassword());
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+                .withCredentials(credentials)
+                .withConnectTimeout(DEFAULT_TIMEOUT)
+                .withReadTimeout(DEFAULT_TIMEOUT)
+                .withRequestTimeout(DEFAULT_TIMEOUT)
+                .build();
+
+        clusterClient = new ClusterTarantoolClient(
+                config, getClusterAddressProvider(credentials), RoundRobinStrategyFactory.INSTANCE);
+        router = new TestVshardRouter(clusterClient);
+        client = new ProxyTarantoolClient(clusterClient, router);
+        router.refresh().get();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        client.close();
+    }
+
+    private static TarantoolClusterAddressProvider getClusterAddressProvider(TarantoolCredentials credentials) {
+        BinaryClusterDiscoveryEndpoint endpoint = new BinaryClusterDiscoveryEndpoint.Builder()
+                .withCredentials(credentials)
+                .withEntryFunction("get_routers")
+                .withServerAddress(new TarantoolServerAddress(container.getRouterHost(), container.getRouterPort()))
+                .build();
+
+        TarantoolClusterDiscoveryConfig clusterDiscoveryConfig = new TarantoolClusterDiscoveryConfig.Builder()
+                .withEndpoint(endpoint)
+                .withReadTimeout(DEFAULT_TIMEOUT)
+                .withConnectTimeout(DEFAULT_TIMEOUT)
+                .withDelay(1)
+                .build();
+
+        return new TestWrappedClusterAddressProvider(
+                new BinaryDiscoveryClusterAddressProvider(clusterDiscoveryConfig),
+                container);
+    }
+
+    @Test
+    public void testOperationsOnStorage() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations profileSpace = client.space(TEST_SPACE_NAME);
+        TarantoolTuple tuple = newTuple(5_000, "Storage", 30);
+        int bucketId = getBucketId(tuple);
+        TarantoolServerAddress master = getMasterAddress(bucketId);
+
+        TarantoolResult<TarantoolTuple> inserted = profileSpace.insert(tuple).get();
+        assertEquals(1, inserted.size());
+        assertEquals(bucketId, inserted.get(0).getInteger(1));
+        assertTrue(router.connectedStorages.contains(master));
+
+        // the tuple is visible through the router
+        TarantoolResult<TarantoolTuple> selected = profileSpace.select(primaryKey(5_000)).get();
+        assertEquals(1, selected.size());
+        assertEquals("Storage", selected.get(0).getString(2));
+
+        TarantoolResult<TarantoolTuple> deleted = profileSpace.delete(primaryKey(5_000)).get();
+        assertEquals(1, deleted.size());
+        assertEquals(0, profileSpace.select(primaryKey(5_000)).get().size());
+    }
+
+    @Test
+    public void testOperationsAfterBucketMove() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations profileSpace = client.space(TEST_SPACE_NAME);
+        TarantoolTuple tuple = newTuple(5_001, "Moved", 40);
+        int bucketId = getBucketId(tuple);
+        TarantoolServerAddress oldMaster = getMasterAddress(bucketId);
+        profileSpace.insert(tuple).get();
+
+        List<?> moved = clusterClient.call("vshard_move_bucket", Collections.singletonList(bucketId)).get();
+        assertNotNull(moved.get(0), () -> "Failed to move bucket: " + moved);
+
+        // the routing table is stale, the storage rejects the bucket and the operation goes through the router
+        assertEquals(oldMaster, getMasterAddress(bucketId));
+        TarantoolResult<TarantoolTuple> replaced = profileSpace.replace(newTuple(5_001, "Moved", 41)).get();
+        assertEquals(1, replaced.size());
+        assertEquals(41, replaced.get(0).getInteger(3));
+
+        // the routing table is refreshed after the sharding error
+        TarantoolServerAddress newMaster = awaitMasterChange(bucketId, oldMaster);
+        TarantoolResult<TarantoolTuple> deleted = profileSpace.delete(primaryKey(5_001)).get();
+        assertEquals(1, deleted.size());
+        assertEquals(41, deleted.get(0).getInteger(3));
+        assertTrue(router.connectedStorages.contains(newMaster));
+        assertEquals(0, profileSpace.select(primaryKey(5_001)).get().size());
+    }
+
+    private static TarantoolTuple newTuple(int id, String fio, int age) {
+        return new TarantoolTupleImpl(Arrays.asList(id, null, fio, age, 100), mapper);
+    }
+
+    private static Conditions primaryKey(int id) {
+        return Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, Collections.singletonList(id));
+    }
+
+    private static int getBucketId(TarantoolTuple tuple) {
+        TarantoolSpaceMetadata spaceMetadata = client.metadata().getSpaceByName(TEST_SPACE_NAME).get();
+        TarantoolIndexMetadata primaryIndex =
+                client.metadata().getIndexById(TEST_SPACE_NAME, TarantoolIndexQuery.PRIMARY).get();
+        Optional<Integer> bucketId = router.getBucketId(spaceMetadata, primaryIndex, tuple);
+        assertTrue(bucketId.isPresent());
+        return bucketId.get();
+    }
+
+    private static TarantoolServerAddress getMasterAddress(int bucketId) {
+        Optional<TarantoolServerAddress> master = router.getRoutingTable()
+                .flatMap(table -> table.getMasterAddress(bucketId));
+        assertTrue(master.isPresent());
+        return master.get();
+    }
+
+    private static TarantoolServerAddress awaitMasterChange(int bucketId, TarantoolServerAddress oldMaster)
+            throws ExecutionException, InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            router.refresh().get();
+            TarantoolServerAddress master = getMasterAddress(bucketId);
+            if (!master.equals(oldMaster)) {
+                return master;
+            }
+            Thread.sleep(100);
+        }
+        TarantoolServerAddress master = getMasterAddress(bucketId);
+        assertNotEquals(oldMaster, master);
+        return master;
+    }
+
+    /*
+     * The storages advertise the addresses inside the container, so the ports are mapped like for the routers
+     */
+    private static final class TestVshardRouter extends VshardRouter {
+        private final Set<TarantoolServerAddress> connectedStorages = ConcurrentHashMap.newKeySet();
+
+        private TestVshardRouter(TarantoolClient client) {
+            super(client, "vshard_get_routing_table", "vshard.storage.call");
+        }
+
+        @Override
+        protected TarantoolClient connect(TarantoolServerAddress address) {
+            connectedStorages.add(address);
+            return super.connect(
+                    new TarantoolServerAddress(address.getHost(), container.getMappedPort(address.getPort())));
+        }
+    }
+}
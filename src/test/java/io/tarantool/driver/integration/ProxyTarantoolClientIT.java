@@ -5,9 +5,12 @@ import io.tarantool.driver.ProxyTarantoolClient;
 import io.tarantool.driver.TarantoolClientConfig;
 import io.tarantool.driver.TarantoolClusterAddressProvider;
 import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolIndexQuery;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolBatchLoader;
+import io.tarantool.driver.api.space.TarantoolBatchLoaderOptions;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
@@ -18,6 +21,7 @@ import io.tarantool.driver.cluster.BinaryDiscoveryClusterAddressProvider;
 import io.tarantool.driver.cluster.TarantoolClusterDiscoveryConfig;
 import io.tarantool.driver.cluster.TestWrappedClusterAddressProvider;
 import io.tarantool.driver.core.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
+import io.tarantool.driver.exceptions.TarantoolBatchItemException;
 import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.metadata.TarantoolIndexMetadata;
 import io.tarantool.driver.metadata.TarantoolIndexType;
@@ -28,15 +32,18 @@ import io.tarantool.driver.protocol.operations.TupleOperations;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -277,4 +284,76 @@ public class ProxyTarantoolClientIT extends SharedCartridgeContainer {
         assertEquals(35, upsertResult.get(0).getInteger(3));
         assertEquals(7, upsertResult.get(0).getInteger(4));
     }
+
+    @Test
+    public void clusterBatchLoaderTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations profileSpace = client.space(TEST_SPACE_NAME);
+
+        for (int i = 0; i < 5; i++) {
+            List<Object> values = Arrays.asList(2_000_000 + i, null, "FIO", 50 + i, 100 + i);
+            profileSpace.insert(new TarantoolTupleImpl(values, mapperFactory.defaultComplexTypesMapper())).get();
+        }
+
+        TarantoolBatchLoaderOptions options = TarantoolBatchLoaderOptions.builder().withMaxBatchSize(6).build();
+        try (TarantoolBatchLoader<List<Object>, TarantoolTuple> loader =
+                     TarantoolBatchLoader.forSpace(profileSpace, options)) {
+            List<CompletableFuture<TarantoolTuple>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(loader.load(Collections.singletonList(2_000_000 + i)));
+            }
+            for (int i = 0; i < 5; i++) {
+                assertEquals(2_000_000 + i, results.get(i).get().getInteger(0));
+                assertEquals(50 + i, results.get(i).get().getInteger(3));
+            }
+            assertNull(results.get(5).get());
+        }
+    }
+
+    @Test
+    public void clusterInsertReplaceManyTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations profileSpace = client.space(TEST_SPACE_NAME);
+        profileSpace.insert(new TarantoolTupleImpl(Arrays.asList(4_000_003, null, "FIO", 50, 100),
+                mapperFactory.defaultComplexTypesMapper())).get();
+
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<Object> values = Arrays.asList(4_000_000 + i, null, "FIO", 60 + i, 100 + i);
+            tuples.add(new TarantoolTupleImpl(values, mapperFactory.defaultComplexTypesMapper()));
+        }
+
+        // the tuple at position 3 already exists
+        TarantoolBatchResult<TarantoolTuple> inserted = profileSpace.insertMany(tuples).get();
+        assertEquals(4, inserted.size());
+        assertEquals(1, inserted.getErrors().size());
+        assertTrue(inserted.getErrors().get(0) instanceof TarantoolBatchItemException);
+        assertEquals(3, ((TarantoolBatchItemException) inserted.getErrors().get(0)).getPosition());
+        assertEquals(50, profileSpace.select(Conditions.indexEquals(
+                TarantoolIndexQuery.PRIMARY, Collections.singletonList(4_000_003))).get().get(0).getInteger(3));
+
+        TarantoolBatchResult<TarantoolTuple> replaced = profileSpace.replaceMany(tuples).get();
+        assertEquals(5, replaced.size());
+        assertFalse(replaced.hasErrors());
+        assertEquals(63, profileSpace.select(Conditions.indexEquals(
+                TarantoolIndexQuery.PRIMARY, Collections.singletonList(4_000_003))).get().get(0).getInteger(3));
+    }
+
+    @Test
+    public void clusterAggregateTest() throws ExecutionException, InterruptedException {
+        TarantoolSpaceOperations profileSpace = client.space(TEST_SPACE_NAME);
+
+        for (int i = 0; i < 5; i++) {
+            List<Object> values = Arrays.asList(3_000_000 + i, null, "FIO", 50 + i, 100 + i);
+            profileSpace.insert(new TarantoolTupleImpl(values, mapperFactory.defaultComplexTypesMapper())).get();
+        }
+
+        Conditions conditions = Conditions.greaterOrEquals("profile_id", 3_000_000);
+        assertEquals(5, profileSpace.count(conditions).get());
+        assertEquals(50 + 51 + 52 + 53 + 54, profileSpace.sum("age", conditions).get().longValue());
+
+        TarantoolResult<TarantoolTuple> allTuples = profileSpace.select(Conditions.any()).get();
+        assertEquals(allTuples.size(), profileSpace.count(Conditions.any()).get());
+        assertEquals(allTuples.get(0).getInteger(0), profileSpace.min("profile_id").get().getInteger(0));
+        assertEquals(allTuples.get(allTuples.size() - 1).getInteger(0),
+                profileSpace.max("profile_id").get().getInteger(0));
+    }
 }
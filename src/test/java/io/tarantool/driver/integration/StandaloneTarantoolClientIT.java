@@ -7,6 +7,7 @@ import io.tarantool.driver.TarantoolClientConfig;
 import io.tarantool.driver.TarantoolServerAddress;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolIndexQuery;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolSelectOptions;
@@ -22,10 +23,13 @@ import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.TarantoolCallResultMapper;
 import io.tarantool.driver.mappers.TarantoolCallResultMapperFactory;
 import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.space.TarantoolPreparedSelect;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.protocol.operations.TupleOperations;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.TarantoolContainer;
@@ -42,6 +46,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -119,6 +125,31 @@ public class StandaloneTarantoolClientIT {
         }
     }
 
+    @Test
+    public void connectAndCheckLazyMetadata() throws Exception {
+        TarantoolCredentials credentials = new SimpleTarantoolCredentials(
+                tarantoolContainer.getUsername(), tarantoolContainer.getPassword());
+
+        TarantoolServerAddress serverAddress = new TarantoolServerAddress(
+                tarantoolContainer.getHost(), tarantoolContainer.getPort());
+
+        TarantoolClientConfig config = new TarantoolClientConfig.Builder()
+                .withCredentials(credentials)
+                .withLazyMetadataLoading("_space")
+                .build();
+
+        try (TarantoolClient client = new StandaloneTarantoolClient(config, serverAddress)) {
+            Optional<TarantoolSpaceMetadata> spaceMetadata = client.metadata().getSpaceByName(TEST_SPACE_NAME);
+            assertTrue(spaceMetadata.isPresent(), String.format("Failed to get '%s' metadata", TEST_SPACE_NAME));
+            assertTrue(client.metadata().getIndexById(TEST_SPACE_NAME, 0).isPresent());
+            assertEquals(spaceMetadata.get(),
+                    client.metadata().getSpaceById(spaceMetadata.get().getSpaceId()).orElse(null));
+            assertFalse(client.metadata().getSpaceByName("non_existent_space").isPresent());
+
+            assertDoesNotThrow(() -> client.space(TEST_SPACE_NAME).select(Conditions.any()).get());
+        }
+    }
+
     private CompletableFuture<List<Object>> connectAndEval(String command) throws Exception {
         TarantoolCredentials credentials = new SimpleTarantoolCredentials(
                 tarantoolContainer.getUsername(), tarantoolContainer.getPassword());
@@ -188,6 +219,153 @@ public class StandaloneTarantoolClientIT {
         assertEquals(1984, newTuple.getInteger(4));
     }
 
+    @Test
+    public void selectWithFields() throws Exception {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        Conditions conditions = Conditions.indexEquals("primary", Collections.singletonList(1))
+                .withFields("author", "id");
+
+        TarantoolResult<TarantoolTuple> selectResult = testSpace.select(conditions).get();
+        assertEquals(1, selectResult.size());
+
+        TarantoolTuple tuple = selectResult.get(0);
+        assertEquals(2, tuple.size());
+        assertEquals("Miguel de Cervantes", tuple.getString(0));
+        assertEquals(1, tuple.getInteger(1));
+        assertEquals(1, tuple.getInteger("id"));
+    }
+
+    @Test
+    public void aggregateRequests() throws Exception {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        TarantoolResult<TarantoolTuple> allTuples = testSpace.select(Conditions.any()).get();
+
+        assertEquals(allTuples.size(), testSpace.count(Conditions.any()).get());
+        assertEquals(1, testSpace.count(Conditions.indexEquals("primary", Collections.singletonList(1))).get());
+        assertEquals(allTuples.get(0).getInteger(0), testSpace.min("primary").get().getInteger(0));
+        assertEquals(allTuples.get(allTuples.size() - 1).getInteger(0),
+                testSpace.max("primary").get().getInteger(0));
+
+        long yearSum = allTuples.stream()
+                .map(tuple -> tuple.getInteger(4))
+                .filter(year -> year != null)
+                .mapToLong(Integer::longValue)
+                .sum();
+        assertEquals(yearSum, testSpace.sum("year", Conditions.any()).get().longValue());
+    }
+
+    @Test
+    public void preparedSelectRequests() throws Exception {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        TarantoolPreparedSelect<TarantoolTuple> select =
+                testSpace.prepareSelect(Conditions.indexEquals("primary", Collections.emptyList()));
+
+        TarantoolResult<TarantoolTuple> selectResult = select.select(Collections.singletonList(1)).get();
+        assertEquals(1, selectResult.size());
+        assertEquals("Don Quixote", selectResult.get(0).getString(2));
+
+        selectResult = select.select(Collections.singletonList(3)).get();
+        assertEquals(1, selectResult.size());
+        assertEquals(3, selectResult.get(0).getInteger(0));
+
+        selectResult = select.select(Collections.singletonList(100500)).get();
+        assertEquals(0, selectResult.size());
+    }
+
+    @Test
+    public void batchRequests() throws Exception {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (int i = 300; i < 400; i++) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(i, "a" + i, "Book " + i, "Author " + i, 2000), mapper));
+        }
+        // duplicate key
+        tuples.add(tuples.get(10));
+
+        TarantoolBatchResult<TarantoolTuple> insertResult = testSpace.insertMany(tuples).get();
+        assertEquals(100, insertResult.size());
+        assertEquals(300, insertResult.get(0).getInteger(0));
+        assertEquals(399, insertResult.get(99).getInteger(0));
+        assertEquals(1, insertResult.getErrors().size());
+        assertTrue(insertResult.getErrors().get(0).getMessage().contains("position 100"));
+
+        TarantoolBatchResult<TarantoolTuple> replaceResult = testSpace.replaceMany(tuples.subList(0, 10)).get();
+        assertEquals(10, replaceResult.size());
+        assertFalse(replaceResult.hasErrors());
+
+        List<Conditions> conditions = new ArrayList<>();
+        for (int i = 300; i < 400; i++) {
+            conditions.add(Conditions.indexEquals("primary", Collections.singletonList(i)));
+        }
+        TarantoolBatchResult<TarantoolTuple> deleteResult = testSpace.deleteMany(conditions).get();
+        assertEquals(100, deleteResult.size());
+        assertFalse(deleteResult.hasErrors());
+        assertEquals(0, testSpace.select(Conditions.indexGreaterOrEquals("primary", Collections.singletonList(300))
+                .withLimit(100)).get().stream().filter(t -> t.getInteger(0) < 400).count());
+    }
+
+    @Test
+    public void streamRequest() throws Exception {
+        TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+
+        List<TarantoolTuple> tuples = new ArrayList<>();
+        for (int i = 500; i < 530; i++) {
+            tuples.add(new TarantoolTupleImpl(Arrays.asList(i, "a" + i, "Book " + i, "Author " + i, 2000), mapper));
+        }
+        assertFalse(testSpace.insertMany(tuples).get().hasErrors());
+
+        List<Integer> ids = testSpace.stream(
+                Conditions.indexGreaterOrEquals("primary", Collections.singletonList(500)).withLimit(30), 7)
+                .map(t -> t.getInteger(0))
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(500, 530).boxed().collect(Collectors.toList()), ids);
+
+        List<Integer> reversed = testSpace.stream(
+                Conditions.indexLessThan("primary", Collections.singletonList(530)).withLimit(10), 3)
+                .map(t -> t.getInteger(0))
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(520, 530).map(i -> 1049 - i).boxed().collect(Collectors.toList()), reversed);
+
+        CompletableFuture<List<Integer>> published = new CompletableFuture<>();
+        testSpace.publish(Conditions.indexGreaterOrEquals("primary", Collections.singletonList(500)).withLimit(30), 7)
+                .subscribe(new Subscriber<TarantoolTuple>() {
+                    private final List<Integer> values = new ArrayList<>();
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(TarantoolTuple tuple) {
+                        values.add(tuple.getInteger(0));
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        published.completeExceptionally(error);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        published.complete(values);
+                    }
+                });
+        assertEquals(ids, published.get());
+
+        List<Conditions> conditions = new ArrayList<>();
+        for (int i = 500; i < 530; i++) {
+            conditions.add(Conditions.indexEquals("primary", Collections.singletonList(i)));
+        }
+        assertFalse(testSpace.deleteMany(conditions).get().hasErrors());
+    }
+
     @Test
     public void replaceRequest() throws Exception {
         TarantoolSpaceOperations testSpace = client.space(TEST_SPACE_NAME);
@@ -65,6 +65,53 @@ class DefaultBigDecimalConverterTest {
         assertEquals(new BigDecimal("1111111111111111111111111"), converter.fromValue(value));
     }
 
+    @Test
+    void scaledValues() {
+        DefaultBigDecimalConverter converter = new DefaultBigDecimalConverter();
+        // decimal.new('12.34') packed by Tarantool: scale 2, digits 1234, plus sign
+        ExtensionValue value = ValueFactory.newExtension((byte) 0x01, new byte[]{0x02, 0x01, 0x23, 0x4C});
+        assertEquals(new BigDecimal("12.34"), converter.fromValue(value));
+        assertArrayEquals(value.getData(), converter.toValue(new BigDecimal("12.34")).getData());
+        // decimal.new('-0.005'): scale 3, digit 5, minus sign
+        value = ValueFactory.newExtension((byte) 0x01, new byte[]{0x03, 0x5D});
+        assertEquals(new BigDecimal("-0.005"), converter.fromValue(value));
+        assertArrayEquals(value.getData(), converter.toValue(new BigDecimal("-0.005")).getData());
+        // negative scale beyond the fixint range is packed as int8
+        value = ValueFactory.newExtension((byte) 0x01, new byte[]{(byte) 0xD0, (byte) 0xDB, 0x1C});
+        assertEquals(new BigDecimal("1E+37"), converter.fromValue(value));
+        assertArrayEquals(value.getData(), converter.toValue(new BigDecimal("1E+37")).getData());
+    }
+
+    @Test
+    void roundTrip() {
+        DefaultBigDecimalConverter converter = new DefaultBigDecimalConverter();
+        String[] numbers = {
+                "0", "0.00", "-7", "10", "-1234.5678", "999999999999999999", "-1000000000000000000",
+                String.valueOf(Long.MAX_VALUE), String.valueOf(Long.MIN_VALUE), "123456789012345678901234567890",
+                "-12345678901234567890.123456789", "99999999999999999999999999999999999999",
+                "0.00000000000000000000000000000000000001", "1000000000000000000000000000000000000",
+        };
+        for (String number : numbers) {
+            BigDecimal decimal = new BigDecimal(number);
+            assertEquals(decimal, converter.fromValue(converter.toValue(decimal)), number);
+        }
+    }
+
+    @Test
+    void invalidData() {
+        DefaultBigDecimalConverter converter = new DefaultBigDecimalConverter();
+        assertThrows(MessagePackValueMapperException.class,
+                () -> converter.fromValue(ValueFactory.newExtension((byte) 0x01, new byte[]{0x00})));
+        assertThrows(MessagePackValueMapperException.class,
+                () -> converter.fromValue(ValueFactory.newExtension((byte) 0x01, new byte[]{0x00, 0x1A, 0x1C})));
+        assertThrows(MessagePackValueMapperException.class,
+                () -> converter.fromValue(ValueFactory.newExtension((byte) 0x01, new byte[]{0x00, 0x11})));
+        assertThrows(MessagePackValueMapperException.class,
+                () -> converter.fromValue(ValueFactory.newExtension((byte) 0x01, new byte[]{0x27, 0x1C})));
+        assertThrows(MessagePackValueMapperException.class,
+                () -> converter.toValue(new BigDecimal("1E-39")));
+    }
+
     @Test
     void canConvertValue() {
         DefaultBigDecimalConverter converter = new DefaultBigDecimalConverter();
@@ -2,11 +2,15 @@ package io.tarantool.driver.mappers;
 
 import io.tarantool.driver.CustomTuple;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
+import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -143,4 +147,48 @@ class DefaultMessagePackMapperTest {
         assertEquals(testValue, mapper.toValue(testTuple).asMapValue().map());
     }
 
+    @Test
+    void registerConverterAfterLookup() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
+        DefaultMessagePackMapper copy = new DefaultMessagePackMapper.Builder(mapper).build();
+        assertEquals(ValueFactory.newString("hello"), copy.toValue("hello"));
+        assertEquals("hello", copy.fromValue(ValueFactory.newString("hello"), String.class));
+
+        // the converters registered later for the same types are used only if the earlier ones cannot convert
+        copy.registerObjectConverter(String.class, StringValue.class, new ObjectConverter<String, StringValue>() {
+            @Override
+            public StringValue toValue(String object) {
+                return ValueFactory.newString(object.toUpperCase());
+            }
+
+            @Override
+            public boolean canConvertObject(String object) {
+                return true;
+            }
+        });
+        assertEquals(ValueFactory.newString("hello"), copy.toValue("hello"));
+
+        // the converter registered for the interface is found after the converters for the class
+        copy.registerObjectConverter(CharSequence.class, StringValue.class, v -> ValueFactory.newString("sequence"));
+        assertEquals(ValueFactory.newString("sequence"), copy.toValue(new StringBuilder("hello")));
+
+        // the original mapper is not affected by the registrations in the copy
+        assertThrows(MessagePackObjectMapperException.class, () -> mapper.toValue(new StringBuilder("hello")));
+    }
+
+    @Test
+    void toMessagePack() throws IOException {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("key", Arrays.asList(1, 2L, null));
+        nested.put("decimal", new BigDecimal("-12.345"));
+        List<Object> values = Arrays.asList(true, 111, 4_000_000_000_000L, 1.5F, 100.500D, "hello",
+                new byte[]{1, 2, 3, 4}, UUID.randomUUID(), new BigDecimal("100500"), nested, null);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        mapper.toMessagePack(values, packer);
+        Value result = MessagePack.newDefaultUnpacker(packer.toByteArray()).unpackValue();
+
+        assertEquals(mapper.toValue(values), result);
+    }
 }
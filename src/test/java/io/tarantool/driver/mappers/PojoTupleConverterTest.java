@@ -0,0 +1,185 @@
+package io.tarantool.driver.mappers;
+
+import io.tarantool.driver.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.metadata.TestMetadata;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class PojoTupleConverterTest {
+
+    private final TarantoolSpaceMetadata spaceMetadata = new TestMetadata().getTestSpaceMetadata();
+
+    @Test
+    public void testAutoPojoMapping() {
+        DefaultMessagePackMapper mapper =
+                new DefaultMessagePackMapper.Builder(
+                        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withAutoPojoMapping(Record.class, spaceMetadata)
+                .build();
+
+        Record record = new Record();
+        record.setFirst("abc");
+        record.setSecond(100500L);
+        record.third = 12.5D;
+        record.fourth = 4;
+        record.ignored = "ignored";
+
+        ArrayValue value = mapper.toValue(record);
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("abc"), ValueFactory.newInteger(100500L),
+                ValueFactory.newFloat(12.5D), ValueFactory.newInteger(4)), value);
+
+        Record result = mapper.fromValue(value, Record.class);
+        assertEquals("abc", result.getFirst());
+        assertEquals(100500L, result.getSecond());
+        assertEquals(12.5D, result.third);
+        assertEquals(4, result.fourth);
+        assertNull(result.ignored);
+
+        // other converters for arrays are not affected
+        List<Object> list = mapper.fromValue(value, List.class);
+        assertEquals(4, list.size());
+        assertEquals("abc", list.get(0));
+    }
+
+    @Test
+    public void testAutoPojoMappingWithLazyMetadata() {
+        AtomicReference<TarantoolSpaceMetadata> loadedMetadata = new AtomicReference<>();
+        AtomicInteger requests = new AtomicInteger();
+        DefaultMessagePackMapper mapper =
+                new DefaultMessagePackMapper.Builder(
+                        DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper())
+                .withAutoPojoMapping(Record.class, () -> {
+                    requests.incrementAndGet();
+                    return loadedMetadata.get();
+                })
+                .build();
+        assertEquals(0, requests.get());
+
+        ArrayValue value = ValueFactory.newArray(ValueFactory.newString("abc"), ValueFactory.newInteger(2));
+        // the metadata is not loaded yet
+        assertThrows(MessagePackValueMapperException.class, () -> mapper.fromValue(value, Record.class));
+
+        loadedMetadata.set(spaceMetadata);
+        assertEquals("abc", mapper.<ArrayValue, Record>fromValue(value, Record.class).getFirst());
+        assertEquals(2, mapper.<ArrayValue, Record>fromValue(value, Record.class).getSecond());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testNilAndMissingFields() {
+        PojoTupleConverter<Record> converter = new PojoTupleConverter<>(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper(), Record.class, spaceMetadata);
+
+        Record result = converter.fromValue(ValueFactory.newArray(ValueFactory.newNil(), ValueFactory.newInteger(2)));
+        assertNull(result.getFirst());
+        assertEquals(2, result.getSecond());
+        assertNull(result.third);
+        assertEquals(0, result.fourth);
+
+        ArrayValue value = converter.toValue(result);
+        assertTrue(value.get(0).isNilValue());
+        assertTrue(value.get(2).isNilValue());
+    }
+
+    @Test
+    public void testUnpack() throws IOException {
+        PojoTupleConverter<Record> converter = new PojoTupleConverter<>(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper(), Record.class, spaceMetadata);
+
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(ValueFactory.newString("abc"), ValueFactory.newInteger(1),
+                ValueFactory.newInteger(3), ValueFactory.newNil(), ValueFactory.newString("extra")));
+        packer.packInt(42);
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+        Record result = converter.unpack(unpacker);
+        assertEquals("abc", result.getFirst());
+        assertEquals(1, result.getSecond());
+        assertEquals(3D, result.third);
+        assertEquals(0, result.fourth);
+        assertEquals(42, unpacker.unpackInt());
+    }
+
+    @Test
+    public void testNonPublicClass() {
+        PojoTupleConverter<PrivateRecord> converter = new PojoTupleConverter<>(
+                DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper(),
+                PrivateRecord.class, spaceMetadata);
+
+        PrivateRecord result = converter.fromValue(
+                ValueFactory.newArray(ValueFactory.newString("abc"), ValueFactory.newInteger(1)));
+        assertEquals("abc", result.first);
+        assertEquals(1, result.second);
+        assertEquals(ValueFactory.newArray(ValueFactory.newString("abc"), ValueFactory.newInteger(1)),
+                converter.toValue(result));
+    }
+
+    @Test
+    public void testInvalidClasses() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new PojoTupleConverter<>(mapper, NoDefaultConstructor.class, spaceMetadata));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PojoTupleConverter<>(mapper, NoMatchingFields.class, spaceMetadata));
+    }
+
+    public static class Record {
+        private String first;
+        private long second;
+        public Double third;
+        int fourth;
+        String ignored;
+
+        public String getFirst() {
+            return first;
+        }
+
+        public void setFirst(String first) {
+            this.first = first;
+        }
+
+        public long getSecond() {
+            return second;
+        }
+
+        public Record setSecond(long second) {
+            this.second = second;
+            return this;
+        }
+    }
+
+    private static class PrivateRecord {
+        private String first;
+        private Integer second;
+    }
+
+    public static class NoDefaultConstructor {
+        String first;
+
+        public NoDefaultConstructor(String first) {
+            this.first = first;
+        }
+    }
+
+    public static class NoMatchingFields {
+        String name;
+    }
+}
@@ -1,19 +1,25 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.api.TarantoolBatchResult;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.exceptions.TarantoolBatchItemException;
 import io.tarantool.driver.exceptions.TarantoolFunctionCallException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TarantoolCallResultMapperTest {
 
@@ -98,4 +104,45 @@ public class TarantoolCallResultMapperTest {
         assertEquals(5678, result.get(1).getInteger(1));
         assertEquals(nestedList2, result.get(1).getList(2));
     }
+
+    @Test
+    void testBatchResponse() {
+        TarantoolCallResultMapper<TarantoolTuple> batchMapper = new TarantoolBatchCallResultMapperFactory(defaultMapper)
+                .withDefaultTupleValueConverter(null);
+
+        Map<Value, Value> rows = new HashMap<>();
+        rows.put(ValueFactory.newString("metadata"), ValueFactory.emptyArray());
+        rows.put(ValueFactory.newString("rows"), ValueFactory.newArray(tupleOne.toMessagePackValue(defaultMapper)));
+        Map<Value, Value> error = new HashMap<>();
+        error.put(ValueFactory.newString("str"), ValueFactory.newString("Duplicate key exists"));
+        ArrayValue partialResult = ValueFactory.newArray(
+                ValueFactory.newMap(rows), ValueFactory.newArray(ValueFactory.newMap(error)));
+
+        TarantoolResult<TarantoolTuple> result = batchMapper.fromValue(partialResult);
+        assertEquals(1, result.size());
+        assertEquals("abc", result.get(0).getString(0));
+        assertTrue(result instanceof TarantoolBatchResult);
+        List<Throwable> errors = ((TarantoolBatchResult<TarantoolTuple>) result).getErrors();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).toString().contains("Duplicate key exists"));
+
+        ArrayValue failedResult = ValueFactory.newArray(
+                ValueFactory.newNil(), ValueFactory.newArray(ValueFactory.newMap(error)));
+        result = batchMapper.fromValue(failedResult);
+        assertEquals(0, result.size());
+        assertEquals(1, ((TarantoolBatchResult<TarantoolTuple>) result).getErrors().size());
+
+        // the position of the failed tuple is reported starting from 1
+        error.put(ValueFactory.newString("position"), ValueFactory.newInteger(2));
+        result = batchMapper.fromValue(ValueFactory.newArray(
+                ValueFactory.newMap(rows), ValueFactory.newArray(ValueFactory.newMap(error))));
+        Throwable itemError = ((TarantoolBatchResult<TarantoolTuple>) result).getErrors().get(0);
+        assertTrue(itemError instanceof TarantoolBatchItemException);
+        assertEquals(1, ((TarantoolBatchItemException) itemError).getPosition());
+        assertTrue(itemError.getCause().toString().contains("Duplicate key exists"));
+
+        ArrayValue resultWithError = ValueFactory.newArray(
+                ValueFactory.newNil(), ValueFactory.newString("Error message from server"));
+        assertThrows(TarantoolFunctionCallException.class, () -> batchMapper.fromValue(resultWithError));
+    }
 }
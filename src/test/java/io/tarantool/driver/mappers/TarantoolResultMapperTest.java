@@ -15,6 +15,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TarantoolResultMapperTest {
@@ -39,6 +41,26 @@ class TarantoolResultMapperTest {
         assertEquals(nestedList2, result.get(1).getList(2));
     }
 
+    @Test
+    void testMapperCachedPerConverter() {
+        TarantoolSimpleResultMapperFactory mapperFactory = new TarantoolSimpleResultMapperFactory();
+        ValueConverter<ArrayValue, CustomTuple> firstConverter = v -> new CustomTuple(1, "first");
+        ValueConverter<ArrayValue, CustomTuple> secondConverter = v -> new CustomTuple(2, "second");
+
+        TarantoolSimpleResultMapper<CustomTuple> firstMapper =
+                mapperFactory.withConverter(CustomTuple.class, firstConverter);
+        assertSame(firstMapper, mapperFactory.withConverter(CustomTuple.class, firstConverter));
+
+        TarantoolSimpleResultMapper<CustomTuple> secondMapper =
+                mapperFactory.withConverter(CustomTuple.class, secondConverter);
+        assertNotSame(firstMapper, secondMapper);
+        TarantoolResult<CustomTuple> result = secondMapper.fromValue(ValueFactory.newArray(ValueFactory.newArray()));
+        assertEquals("second", result.get(0).getName());
+
+        TarantoolSimpleResultMapper<TarantoolTuple> tupleMapper = mapperFactory.withDefaultTupleValueConverter(null);
+        assertSame(tupleMapper, mapperFactory.withDefaultTupleValueConverter(null));
+    }
+
     @Test
     void testWithCustomTuple() {
         MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
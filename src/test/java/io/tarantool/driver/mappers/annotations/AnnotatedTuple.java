@@ -0,0 +1,50 @@
+package io.tarantool.driver.mappers.annotations;
+
+import java.util.List;
+
+/**
+ * @author Alexey Kuzin
+ */
+@Tuple
+public class AnnotatedTuple {
+
+    @Field(position = 0)
+    long id;
+
+    @Field(position = 1)
+    private String name;
+
+    @Field(position = 2)
+    Integer rating;
+
+    @Field(position = 3)
+    double balance;
+
+    @Field(position = 4)
+    private boolean active;
+
+    @Field(position = 5)
+    byte[] payload;
+
+    // position 6 is not mapped
+    @Field(position = 7)
+    List<String> tags;
+
+    String notMapped;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
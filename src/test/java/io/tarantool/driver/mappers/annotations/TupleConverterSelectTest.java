@@ -0,0 +1,119 @@
+package io.tarantool.driver.mappers.annotations;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolIndexQuery;
+import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.conditions.Conditions;
+import io.tarantool.driver.api.space.TarantoolSpace;
+import io.tarantool.driver.codecs.MessagePackFrameDecoder;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolConnection;
+import io.tarantool.driver.core.TarantoolConnectionImpl;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.handlers.TarantoolResponseHandler;
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.TarantoolPositionalResultMapper;
+import io.tarantool.driver.metadata.TarantoolMetadata;
+import io.tarantool.driver.metadata.TestMetadataConnection;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TupleConverterSelectTest {
+
+    @Test
+    public void testSelectWithGeneratedConverter() throws IOException {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        AnnotatedTupleTupleConverter.register(mapper);
+        TarantoolClientConfig config = TarantoolClientConfig.builder().withMessagePackMapper(mapper).build();
+
+        TarantoolSchemaVersionHolder schemaVersionHolder = new TarantoolSchemaVersionHolder();
+        TestMetadataConnection metadataConnection = new TestMetadataConnection(schemaVersionHolder);
+        TarantoolMetadata metadata =
+                new TarantoolMetadata(config, metadataConnection.toConnectionManager(), schemaVersionHolder);
+        CompletableFuture<Void> refresh = metadata.refresh();
+        metadataConnection.completeAll(5);
+        refresh.join();
+
+        RequestFutureManager futureManager = new RequestFutureManager(config);
+        EmbeddedChannel channel = new EmbeddedChannel(
+                new MessagePackFrameDecoder(), new TarantoolResponseHandler(futureManager, schemaVersionHolder));
+        TarantoolConnection connection = new TarantoolConnectionImpl(futureManager, new TarantoolVersionHolder(),
+                schemaVersionHolder, new TarantoolConnectionStatistics(), channel);
+        TarantoolSpace space = new TarantoolSpace(config, connectionManager(connection),
+                metadata.getSpaceByName("test").get(), metadata);
+
+        try {
+            CompletableFuture<TarantoolResult<AnnotatedTuple>> result = space.select(
+                    Conditions.indexEquals(TarantoolIndexQuery.PRIMARY, Collections.singletonList(42)),
+                    AnnotatedTuple.class);
+            TarantoolRequest request = channel.readOutbound();
+            assertTrue(futureManager.getRequest(request.getHeader().getSync()).getMapper()
+                    instanceof TarantoolPositionalResultMapper);
+
+            channel.writeInbound(okResponse(request.getHeader().getSync(), 5));
+
+            assertEquals(1, result.join().size());
+            AnnotatedTuple tuple = result.join().get(0);
+            assertEquals(42, tuple.id);
+            assertEquals("Jane", tuple.getName());
+            assertEquals(7, tuple.rating);
+            assertEquals(3.25D, tuple.balance);
+            assertTrue(tuple.isActive());
+            assertNull(tuple.payload);
+            assertEquals(Collections.singletonList("c"), tuple.tags);
+        } finally {
+            futureManager.close();
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private static ByteBuf okResponse(long sync, long schemaVersion) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(3)
+                .packInt(0x00).packInt(0)
+                .packInt(0x01).packLong(sync)
+                .packInt(0x05).packLong(schemaVersion);
+        packer.packMapHeader(1).packInt(0x30).packArrayHeader(1);
+        packer.packArrayHeader(8)
+                .packLong(42).packString("Jane").packInt(7).packDouble(3.25D).packBoolean(true).packNil().packNil()
+                .packArrayHeader(1).packString("c");
+        byte[] frame = packer.toByteArray();
+
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte(0xce).writeInt(frame.length).writeBytes(frame);
+        return buffer;
+    }
+
+    private static TarantoolConnectionManager connectionManager(TarantoolConnection connection) {
+        return new TarantoolConnectionManager() {
+            @Override
+            public TarantoolConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
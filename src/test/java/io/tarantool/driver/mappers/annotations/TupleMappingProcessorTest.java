@@ -0,0 +1,160 @@
+package io.tarantool.driver.mappers.annotations;
+
+import io.tarantool.driver.mappers.DefaultMessagePackMapper;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TupleMappingProcessorTest {
+
+    @Test
+    public void testGeneratedConverter() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        AnnotatedTupleTupleConverter.register(mapper);
+
+        AnnotatedTuple tuple = new AnnotatedTuple();
+        tuple.id = 1234567890123L;
+        tuple.setName("Jane");
+        tuple.balance = 10.5D;
+        tuple.setActive(true);
+        tuple.payload = new byte[]{1, 2, 3};
+        tuple.tags = Arrays.asList("a", "b");
+
+        ArrayValue value = mapper.toValue(tuple);
+        assertEquals(8, value.size());
+        assertTrue(value.get(2).isNilValue());
+        assertTrue(value.get(6).isNilValue());
+
+        AnnotatedTuple result = mapper.fromValue(value, AnnotatedTuple.class);
+        assertTupleEquals(tuple, result);
+        assertNull(result.rating);
+    }
+
+    @Test
+    public void testConvertFromShortTupleAndIntegerNumbers() {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        AnnotatedTupleTupleConverter converter = AnnotatedTupleTupleConverter.register(mapper);
+
+        ArrayValue value = ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("John"),
+                ValueFactory.newInteger(5), ValueFactory.newInteger(100));
+
+        AnnotatedTuple result = converter.fromValue(value);
+        assertEquals(1, result.id);
+        assertEquals("John", result.getName());
+        assertEquals(5, result.rating);
+        assertEquals(100D, result.balance);
+        assertFalse(result.isActive());
+        assertNull(result.tags);
+    }
+
+    @Test
+    public void testUnpack() throws IOException {
+        DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        AnnotatedTupleTupleConverter converter = AnnotatedTupleTupleConverter.register(mapper);
+
+        AnnotatedTuple tuple = new AnnotatedTuple();
+        tuple.id = 42;
+        tuple.setName("Jane");
+        tuple.rating = 7;
+        tuple.balance = 3.25D;
+        tuple.tags = Collections.singletonList("c");
+
+        // the extra fields are skipped
+        ArrayValue value = ValueFactory.newArray(Arrays.asList(
+                converter.toValue(tuple).get(0), converter.toValue(tuple).get(1), converter.toValue(tuple).get(2),
+                ValueFactory.newInteger(3), ValueFactory.newNil(), ValueFactory.newNil(),
+                ValueFactory.newMap(ValueFactory.newString("k"), ValueFactory.newString("v")),
+                converter.toValue(tuple).get(7), ValueFactory.newString("extra")));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+        packer.packString("next");
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+
+        AnnotatedTuple result = converter.unpack(unpacker);
+        assertEquals(42, result.id);
+        assertEquals("Jane", result.getName());
+        assertEquals(7, result.rating);
+        assertEquals(3D, result.balance);
+        assertNull(result.payload);
+        assertEquals(tuple.tags, result.tags);
+        assertEquals("next", unpacker.unpackString());
+    }
+
+    @Test
+    public void testInvalidTupleClass() {
+        String source = "package test;\n" +
+                "import io.tarantool.driver.mappers.annotations.Field;\n" +
+                "import io.tarantool.driver.mappers.annotations.Tuple;\n" +
+                "@Tuple\n" +
+                "public class InvalidTuple {\n" +
+                "    @Field(position = 0) long id;\n" +
+                "    @Field(position = 0) String name;\n" +
+                "    @Field(position = 1) private String email;\n" +
+                "    @Field(position = 2) final int rating = 0;\n" +
+                "}\n";
+
+        List<String> errors = compile("test.InvalidTuple", source);
+
+        assertEquals(Arrays.asList(
+                "Field id is already mapped to position 0",
+                "Private @Field must have non-private getter and setter",
+                "@Field must not be static or final"), errors);
+    }
+
+    private static List<String> compile(String className, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        String classpath = Tuple.class.getProtectionDomain().getCodeSource().getLocation().getPath();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                Arrays.asList("-proc:only", "-classpath", classpath), null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new TupleMappingProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertTupleEquals(AnnotatedTuple expected, AnnotatedTuple actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.rating, actual.rating);
+        assertEquals(expected.balance, actual.balance);
+        assertEquals(expected.isActive(), actual.isActive());
+        assertArrayEquals(expected.payload, actual.payload);
+        assertEquals(expected.tags, actual.tags);
+    }
+}
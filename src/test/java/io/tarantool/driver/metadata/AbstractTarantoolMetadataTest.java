@@ -0,0 +1,75 @@
+package io.tarantool.driver.metadata;
+
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AbstractTarantoolMetadataTest {
+
+    private static class DelayedMetadata extends AbstractTarantoolMetadata {
+        private final AtomicInteger populateCount = new AtomicInteger();
+        private CompletableFuture<Void> populateFuture;
+
+        @Override
+        protected CompletableFuture<Void> populateMetadata() {
+            populateCount.incrementAndGet();
+            populateFuture = new CompletableFuture<>();
+            return populateFuture;
+        }
+    }
+
+    @Test
+    public void testSingleRefreshInProgress() {
+        DelayedMetadata metadata = new DelayedMetadata();
+
+        CompletableFuture<Void> first = metadata.refresh();
+        CompletableFuture<Void> second = metadata.refresh();
+        assertSame(first, second);
+        assertEquals(1, metadata.populateCount.get());
+
+        metadata.populateFuture.complete(null);
+        assertTrue(first.isDone());
+
+        CompletableFuture<Void> third = metadata.refresh();
+        assertNotSame(first, third);
+        assertEquals(2, metadata.populateCount.get());
+    }
+
+    @Test
+    public void testFailedRefresh() {
+        DelayedMetadata metadata = new DelayedMetadata();
+
+        CompletableFuture<Void> first = metadata.refresh();
+        metadata.populateFuture.completeExceptionally(new RuntimeException("Test"));
+        assertTrue(first.isCompletedExceptionally());
+
+        CompletableFuture<Void> second = metadata.refresh();
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testSchemaVersionHolder() {
+        TarantoolSchemaVersionHolder holder = new TarantoolSchemaVersionHolder();
+        List<Long> versions = new ArrayList<>();
+        holder.addSchemaVersionChangeListener(versions::add);
+
+        holder.updateSchemaVersion(10);
+        holder.updateSchemaVersion(10);
+        holder.updateSchemaVersion(9);
+        holder.updateSchemaVersion(12);
+
+        assertEquals(12, holder.getSchemaVersion());
+        assertEquals(2, versions.size());
+        assertEquals(10L, versions.get(0));
+        assertEquals(12L, versions.get(1));
+    }
+}
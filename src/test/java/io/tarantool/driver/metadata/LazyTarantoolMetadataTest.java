@@ -0,0 +1,77 @@
+package io.tarantool.driver.metadata;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.Future;
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static io.tarantool.driver.metadata.TarantoolMetadataSchemaVersionTest.awaitCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class LazyTarantoolMetadataTest {
+
+    private final TarantoolSchemaVersionHolder schemaVersionHolder = new TarantoolSchemaVersionHolder();
+    private final TestMetadataConnection connection = new TestMetadataConnection(schemaVersionHolder);
+    private final LazyTarantoolMetadata metadata = new LazyTarantoolMetadata(
+            TarantoolClientConfig.builder().withLazyMetadataLoading().build(),
+            connection.toConnectionManager(), schemaVersionHolder);
+
+    @BeforeEach
+    public void setUp() {
+        // no spaces to prefetch
+        metadata.refresh().join();
+    }
+
+    @Test
+    public void testMissingSpaceCached() throws InterruptedException {
+        CompletableFuture<Optional<TarantoolSpaceMetadata>> space =
+                CompletableFuture.supplyAsync(() -> metadata.getSpaceByName("test"));
+        awaitCondition(() -> connection.pendingCount() == 1);
+        connection.completeAll(5, false);
+        assertFalse(space.join().isPresent());
+
+        assertFalse(metadata.getSpaceByName("test").isPresent());
+        assertEquals(0, connection.pendingCount());
+
+        // the space may have been created in the newer schema
+        schemaVersionHolder.updateSchemaVersion(6);
+        space = CompletableFuture.supplyAsync(() -> metadata.getSpaceByName("test"));
+        awaitCondition(() -> connection.pendingCount() == 1);
+        connection.completeAll(6);
+        awaitCondition(() -> connection.pendingCount() == 1);
+        connection.completeAll(6);
+        assertTrue(space.join().isPresent());
+        assertTrue(metadata.getIndexById(512, 0).isPresent());
+    }
+
+    @Test
+    public void testNoWaitingInEventLoop() throws InterruptedException {
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            Future<Optional<TarantoolSpaceMetadata>> space =
+                    eventLoop.submit(() -> metadata.getSpaceByName("test")).await();
+            assertTrue(space.cause() instanceof TarantoolClientException);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+
+        // the space is loaded in the background
+        assertEquals(1, connection.pendingCount());
+        connection.completeAll(5);
+        awaitCondition(() -> connection.pendingCount() == 1);
+        connection.completeAll(5);
+        awaitCondition(() -> metadata.getSpaceByName("test").isPresent());
+    }
+}
@@ -0,0 +1,102 @@
+package io.tarantool.driver.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolMetadataLookupTableTest {
+
+    @Test
+    public void testLookupByIds() {
+        TestMetadata metadata = new TestMetadata();
+        metadata.refresh().join();
+        TarantoolMetadataLookupTable table =
+                new TarantoolMetadataLookupTable(metadata.spaceMetadataById, metadata.indexMetadataBySpaceId);
+
+        assertSame(metadata.getTestSpaceMetadata(), table.getSpace(512));
+        assertNull(table.getSpace(513));
+        assertNull(table.getSpace(-1));
+        assertSame(metadata.getTestPrimaryIndexMetadata(), table.getIndex(512, 0));
+        assertSame(metadata.getTestIndexMetadata1(), table.getIndex(512, 4));
+        assertNull(table.getIndex(512, 5));
+        assertNull(table.getIndex(513, 0));
+    }
+
+    @Test
+    public void testLookupBySparseSpaceId() {
+        TarantoolSpaceMetadata space = new TarantoolSpaceMetadata();
+        space.setSpaceId(TarantoolMetadataLookupTable.MAX_DENSE_SPACE_ID + 100);
+        space.setSpaceName("sparse");
+        TarantoolIndexMetadata index = new TarantoolIndexMetadata();
+        index.setSpaceId(space.getSpaceId());
+        index.setIndexId(0);
+        index.setIndexName("primary");
+        index.setIndexParts(Collections.singletonList(new TarantoolIndexPartMetadata(0, "unsigned")));
+
+        Map<Integer, TarantoolSpaceMetadata> spaces = new HashMap<>();
+        spaces.put(space.getSpaceId(), space);
+        Map<String, TarantoolIndexMetadata> indexes = new HashMap<>();
+        indexes.put(index.getIndexName(), index);
+        Map<Integer, Map<String, TarantoolIndexMetadata>> indexesBySpace = new HashMap<>();
+        indexesBySpace.put(space.getSpaceId(), indexes);
+
+        TarantoolMetadataLookupTable table = new TarantoolMetadataLookupTable(spaces, indexesBySpace);
+
+        assertSame(space, table.getSpace(space.getSpaceId()));
+        assertSame(index, table.getIndex(space.getSpaceId(), 0));
+        assertNull(table.getSpace(1));
+    }
+
+    @Test
+    public void testFindIndexByFields() {
+        TestMetadata metadata = new TestMetadata();
+        metadata.refresh().join();
+        TarantoolMetadataLookupTable table =
+                new TarantoolMetadataLookupTable(metadata.spaceMetadataById, metadata.indexMetadataBySpaceId);
+
+        BitSet fields = new BitSet();
+        fields.set(1);
+        // the index with the least number of parts is selected
+        assertSame(metadata.getTestIndexMetadata1(), table.findIndexByFields(512, fields));
+
+        fields.set(3);
+        assertSame(metadata.getTestIndexMetadata3(), table.findIndexByFields(512, fields));
+
+        fields.set(2);
+        assertSame(metadata.getTestIndexMetadata4(), table.findIndexByFields(512, fields));
+
+        fields.set(0);
+        assertNull(table.findIndexByFields(512, fields));
+        assertNull(table.findIndexByFields(513, fields));
+    }
+
+    @Test
+    public void testIndexFieldPositions() {
+        TestMetadata metadata = new TestMetadata();
+        TarantoolIndexMetadata index = metadata.getTestIndexMetadata3();
+
+        BitSet fields = new BitSet();
+        fields.set(3);
+        assertTrue(index.containsFields(fields));
+        fields.set(2);
+        assertFalse(index.containsFields(fields));
+
+        assertEquals(0, index.getIndexPartPosition(1));
+        assertEquals(1, index.getIndexPartPosition(3));
+        assertEquals(-1, index.getIndexPartPosition(2));
+        assertEquals(-1, index.getIndexPartPosition(100));
+        assertFalse(index.getIndexPartPositionByFieldPosition(0).isPresent());
+    }
+}
@@ -0,0 +1,90 @@
+package io.tarantool.driver.metadata;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolMetadataSchemaVersionTest {
+
+    private final TarantoolSchemaVersionHolder schemaVersionHolder = new TarantoolSchemaVersionHolder();
+    private final TestMetadataConnection connection = new TestMetadataConnection(schemaVersionHolder);
+    private final TarantoolConnectionManager connectionManager = connection.toConnectionManager();
+
+    @Test
+    public void testSchemaVersionOfSelectResponses() {
+        TarantoolMetadata metadata =
+                new TarantoolMetadata(TarantoolClientConfig.builder().build(), connectionManager, schemaVersionHolder);
+
+        CompletableFuture<Void> refresh = metadata.refresh();
+        // a newer version is received in a response to another request
+        schemaVersionHolder.updateSchemaVersion(10);
+        connection.completeAll(5);
+        refresh.join();
+
+        assertEquals(5, metadata.getSchemaVersion());
+        assertTrue(metadata.getSpaceByName("test").isPresent());
+    }
+
+    @Test
+    public void testRefreshRepeatedForNewerSchemaVersion() throws InterruptedException {
+        TarantoolMetadata metadata =
+                new TarantoolMetadata(TarantoolClientConfig.builder().build(), connectionManager, schemaVersionHolder);
+        CompletableFuture<Void> refresh = metadata.refresh();
+        connection.completeAll(5);
+        refresh.join();
+
+        // the notification arrives while the refresh is loading the older schema
+        refresh = metadata.refresh();
+        schemaVersionHolder.updateSchemaVersion(7);
+        connection.completeAll(6);
+        refresh.join();
+        assertEquals(6, metadata.getSchemaVersion());
+
+        awaitCondition(() -> connection.pendingCount() == 2);
+        connection.completeAll(7);
+        awaitCondition(() -> metadata.getSchemaVersion() == 7);
+    }
+
+    @Test
+    public void testSnapshotValidatedOnce(@TempDir Path directory) {
+        new TarantoolMetadataSnapshot("test-cluster", 5,
+                Collections.singletonList(TestMetadataConnection.SPACE_TUPLE),
+                Collections.singletonList(TestMetadataConnection.INDEX_TUPLE))
+                .writeTo(directory.resolve("tarantool-metadata-test-cluster.msgpack"));
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+                .withMetadataSnapshot(directory, "test-cluster")
+                .build();
+        TarantoolMetadata metadata = new TarantoolMetadata(config, connectionManager, schemaVersionHolder);
+
+        CompletableFuture<Void> refresh = metadata.refresh();
+        assertTrue(connection.getPendingRequest(0) instanceof TarantoolPingRequest);
+        connection.completeAll(5);
+        refresh.join();
+        assertEquals(5, metadata.getSchemaVersion());
+
+        // the next refreshes always fetch the metadata
+        metadata.refresh();
+        assertEquals(2, connection.pendingCount());
+    }
+
+    static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
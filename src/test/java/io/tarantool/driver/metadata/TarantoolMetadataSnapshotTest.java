@@ -0,0 +1,93 @@
+package io.tarantool.driver.metadata;
+
+import io.tarantool.driver.TarantoolClientConfig;
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.ValueFactory;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TarantoolMetadataSnapshotTest {
+
+    private static final ArrayValue SPACE_TUPLE = ValueFactory.newArray(
+            ValueFactory.newInteger(512),
+            ValueFactory.newInteger(1),
+            ValueFactory.newString("test"),
+            ValueFactory.newString("memtx"),
+            ValueFactory.newInteger(0),
+            ValueFactory.emptyMap(),
+            ValueFactory.newArray(
+                    ValueFactory.newMap(
+                            ValueFactory.newString("name"), ValueFactory.newString("id"),
+                            ValueFactory.newString("type"), ValueFactory.newString("unsigned")),
+                    ValueFactory.newMap(
+                            ValueFactory.newString("name"), ValueFactory.newString("value"),
+                            ValueFactory.newString("type"), ValueFactory.newString("string"))));
+
+    private static final ArrayValue INDEX_TUPLE = ValueFactory.newArray(
+            ValueFactory.newInteger(512),
+            ValueFactory.newInteger(0),
+            ValueFactory.newString("primary"),
+            ValueFactory.newString("tree"),
+            ValueFactory.newMap(ValueFactory.newString("unique"), ValueFactory.newBoolean(true)),
+            ValueFactory.newArray(ValueFactory.newArray(
+                    ValueFactory.newInteger(0), ValueFactory.newString("unsigned"))));
+
+    @Test
+    public void testWriteAndRead(@TempDir Path directory) {
+        Path file = directory.resolve("snapshot.msgpack");
+        assertFalse(TarantoolMetadataSnapshot.readFrom(file).isPresent());
+
+        new TarantoolMetadataSnapshot("test-cluster", 42,
+                Collections.singletonList(SPACE_TUPLE), Collections.singletonList(INDEX_TUPLE)).writeTo(file);
+
+        Optional<TarantoolMetadataSnapshot> snapshot = TarantoolMetadataSnapshot.readFrom(file);
+        assertTrue(snapshot.isPresent());
+        assertEquals("test-cluster", snapshot.get().getClusterName());
+        assertEquals(42, snapshot.get().getSchemaVersion());
+        assertEquals(Collections.singletonList(SPACE_TUPLE), snapshot.get().getSpaces());
+        assertEquals(Collections.singletonList(INDEX_TUPLE), snapshot.get().getIndexes());
+    }
+
+    @Test
+    public void testMetadataLoadedFromSnapshot(@TempDir Path directory) {
+        new TarantoolMetadataSnapshot("test-cluster", 42,
+                Collections.singletonList(SPACE_TUPLE), Collections.singletonList(INDEX_TUPLE))
+                .writeTo(directory.resolve("tarantool-metadata-test-cluster.msgpack"));
+
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+                .withMetadataSnapshot(directory, "test-cluster")
+                .build();
+        // the metadata must be available without connecting to the server
+        TarantoolMetadata metadata = new TarantoolMetadata(config, null, new TarantoolSchemaVersionHolder());
+
+        assertEquals(42, metadata.getSchemaVersion());
+        Optional<TarantoolSpaceMetadata> spaceMetadata = metadata.getSpaceByName("test");
+        assertTrue(spaceMetadata.isPresent());
+        assertEquals(512, spaceMetadata.get().getSpaceId());
+        assertTrue(metadata.getIndexById(512, 0).isPresent());
+        assertTrue(metadata.getIndexByName("test", "primary").get().isPrimary());
+    }
+
+    @Test
+    public void testSnapshotForOtherCluster(@TempDir Path directory) {
+        new TarantoolMetadataSnapshot("other-cluster", 42,
+                Collections.singletonList(SPACE_TUPLE), Collections.singletonList(INDEX_TUPLE))
+                .writeTo(directory.resolve("tarantool-metadata-test-cluster.msgpack"));
+
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+                .withMetadataSnapshot(directory, "test-cluster")
+                .build();
+        TarantoolMetadata metadata = new TarantoolMetadata(config, null, new TarantoolSchemaVersionHolder());
+
+        assertEquals(0, metadata.getSchemaVersion());
+    }
+}
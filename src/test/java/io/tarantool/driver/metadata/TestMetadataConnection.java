@@ -0,0 +1,187 @@
+package io.tarantool.driver.metadata;
+
+import io.tarantool.driver.TarantoolSchemaVersionHolder;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.core.TarantoolConnection;
+import io.tarantool.driver.core.TarantoolConnectionFailureListener;
+import io.tarantool.driver.core.TarantoolConnectionManager;
+import io.tarantool.driver.core.TarantoolConnectionStatistics;
+import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Connection which keeps the requests to the system spaces until they are completed by the test. The selects from
+ * _vspace return the "test" space and the selects from _vindex return its primary index.
+ *
+ * @author Alexey Kuzin
+ */
+public class TestMetadataConnection implements TarantoolConnection {
+
+    private static final int IPROTO_SPACE_ID = 0x10;
+    static final ArrayValue SPACE_TUPLE = ValueFactory.newArray(
+            ValueFactory.newInteger(512),
+            ValueFactory.newInteger(1),
+            ValueFactory.newString("test"),
+            ValueFactory.newString("memtx"),
+            ValueFactory.newInteger(0),
+            ValueFactory.emptyMap(),
+            ValueFactory.newArray(ValueFactory.newMap(
+                    ValueFactory.newString("name"), ValueFactory.newString("id"),
+                    ValueFactory.newString("type"), ValueFactory.newString("unsigned"))));
+    static final ArrayValue INDEX_TUPLE = ValueFactory.newArray(
+            ValueFactory.newInteger(512),
+            ValueFactory.newInteger(0),
+            ValueFactory.newString("primary"),
+            ValueFactory.newString("tree"),
+            ValueFactory.newMap(ValueFactory.newString("unique"), ValueFactory.newBoolean(true)),
+            ValueFactory.newArray(ValueFactory.newArray(
+                    ValueFactory.newInteger(0), ValueFactory.newString("unsigned"))));
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final List<PendingRequest> pending = new ArrayList<>();
+    private final TarantoolSchemaVersionHolder schemaVersionHolder;
+    private final TarantoolConnectionStatistics statistics = new TarantoolConnectionStatistics();
+    private volatile ArrayValue spaceTuple = SPACE_TUPLE;
+    private volatile ArrayValue indexTuple = INDEX_TUPLE;
+
+    public TestMetadataConnection(TarantoolSchemaVersionHolder schemaVersionHolder) {
+        this.schemaVersionHolder = schemaVersionHolder;
+    }
+
+    public TarantoolConnectionManager toConnectionManager() {
+        TarantoolConnection connection = this;
+        return new TarantoolConnectionManager() {
+            @Override
+            public TarantoolConnection getConnection() {
+                return connection;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    public synchronized TarantoolRequest getPendingRequest(int index) {
+        return pending.get(index).request;
+    }
+
+    /**
+     * Recreate the "test" space with another ID, the next selects from the system spaces return the new metadata
+     * @param spaceId new space ID
+     */
+    public void recreateSpace(int spaceId) {
+        spaceTuple = withSpaceId(SPACE_TUPLE, spaceId);
+        indexTuple = withSpaceId(INDEX_TUPLE, spaceId);
+    }
+
+    private static ArrayValue withSpaceId(ArrayValue tuple, int spaceId) {
+        List<Value> values = new ArrayList<>(tuple.list());
+        values.set(0, ValueFactory.newInteger(spaceId));
+        return ValueFactory.newArray(values);
+    }
+
+    public void complete(int index, long schemaVersion, Value result) {
+        PendingRequest request;
+        synchronized (this) {
+            request = pending.remove(index);
+        }
+        schemaVersionHolder.updateSchemaVersion(schemaVersion);
+        request.request.setResponseSchemaVersion(schemaVersion);
+        request.future.complete(request.resultMapper.fromValue(result));
+    }
+
+    public void fail(int index, Throwable error) {
+        PendingRequest request;
+        synchronized (this) {
+            request = pending.remove(index);
+        }
+        request.future.completeExceptionally(error);
+    }
+
+    public void completeAll(long schemaVersion) {
+        completeAll(schemaVersion, true);
+    }
+
+    // the responses are processed like in the response handler
+    public void completeAll(long schemaVersion, boolean spaceExists) {
+        List<PendingRequest> requests;
+        synchronized (this) {
+            requests = new ArrayList<>(pending);
+            pending.clear();
+        }
+        for (PendingRequest request : requests) {
+            schemaVersionHolder.updateSchemaVersion(schemaVersion);
+            request.request.setResponseSchemaVersion(schemaVersion);
+            if (request.request instanceof TarantoolPingRequest) {
+                request.future.complete(null);
+                continue;
+            }
+            Value spaceId = request.request.getBody().toMessagePackValue(mapper).asMapValue().map()
+                    .get(ValueFactory.newInteger(IPROTO_SPACE_ID));
+            ArrayValue tuple = spaceId.asIntegerValue().asInt() == TarantoolMetadata.VSPACE_SPACE_ID ?
+                    spaceTuple : indexTuple;
+            ArrayValue result = spaceExists ? ValueFactory.newArray(tuple) : ValueFactory.emptyArray();
+            request.future.complete(request.resultMapper.fromValue(result));
+        }
+    }
+
+    @Override
+    public TarantoolVersion getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return true;
+    }
+
+    @Override
+    public TarantoolConnectionStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T> CompletableFuture<T> sendRequest(TarantoolRequest request,
+                                                             MessagePackValueMapper resultMapper) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        pending.add(new PendingRequest(request, future, resultMapper));
+        return (CompletableFuture<T>) future;
+    }
+
+    @Override
+    public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static final class PendingRequest {
+        private final TarantoolRequest request;
+        private final CompletableFuture<Object> future;
+        private final MessagePackValueMapper resultMapper;
+
+        private PendingRequest(TarantoolRequest request, CompletableFuture<Object> future,
+                               MessagePackValueMapper resultMapper) {
+            this.request = request;
+            this.future = future;
+            this.resultMapper = resultMapper;
+        }
+    }
+}
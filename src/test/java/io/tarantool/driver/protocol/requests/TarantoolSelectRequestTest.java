@@ -5,11 +5,14 @@ import io.tarantool.driver.mappers.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.protocol.TarantoolIteratorType;
 import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
 import io.tarantool.driver.protocol.TarantoolRequestFieldType;
+import io.tarantool.driver.protocol.TarantoolRequestTemplate;
 import org.junit.jupiter.api.Test;
 import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
@@ -17,11 +20,15 @@ import org.msgpack.value.ValueFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Alexey Kuzin
@@ -46,6 +53,48 @@ public class TarantoolSelectRequestTest {
         assertArrayEquals(buildSelectRequest(expected, request.getHeader().getSync()), selectRequestToBytes(request));
     }
 
+    @Test
+    public void testTemplate() throws TarantoolProtocolException, IOException {
+        TarantoolRequestTemplate template = new TarantoolSelectRequest.Builder()
+                .withSpaceId(512)
+                .withIndexId(0)
+                .withOffset(0)
+                .withLimit(0xff_ff_ff_ffL)
+                .withIteratorType(TarantoolIteratorType.ITER_ALL)
+                .buildTemplate(mapper);
+
+        for (int i = 0; i < 2; i++) {
+            TarantoolRequest request = template.newRequest(Arrays.asList(null, i), mapper);
+            List<Value> expected = Arrays.asList(ValueFactory.newNil(), ValueFactory.newInteger(i));
+            byte[] expectedBytes = buildSelectRequest(expected, request.getHeader().getSync());
+
+            request.toMessagePack(packer, mapper);
+            byte[] actualBytes = ((MessageBufferPacker) packer).toByteArray();
+            packer.clear();
+
+            MessageUnpacker expectedUnpacker = MessagePack.newDefaultUnpacker(expectedBytes);
+            MessageUnpacker actualUnpacker = MessagePack.newDefaultUnpacker(actualBytes);
+            assertEquals(expectedUnpacker.unpackValue(), actualUnpacker.unpackValue());
+            Value body = actualUnpacker.unpackValue();
+            assertEquals(expectedUnpacker.unpackValue(), body);
+            assertEquals(body, request.getBody().toMessagePackValue(mapper));
+            assertFalse(actualUnpacker.hasNext());
+        }
+    }
+
+    @Test
+    public void testTemplateWithKeyValues() {
+        TarantoolSelectRequest.Builder builder = new TarantoolSelectRequest.Builder()
+                .withSpaceId(512)
+                .withIndexId(0)
+                .withOffset(0)
+                .withLimit(10)
+                .withIteratorType(TarantoolIteratorType.ITER_EQ)
+                .withKeyValues(Collections.singletonList(1));
+
+        assertThrows(TarantoolProtocolException.class, () -> builder.buildTemplate(mapper));
+    }
+
     private byte[] selectRequestToBytes(TarantoolSelectRequest request) throws TarantoolDecoderException {
         try {
             request.toMessagePack(packer, mapper);
@@ -0,0 +1,54 @@
+package io.tarantool.driver.sharding;
+
+import io.tarantool.driver.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VshardRoutingTableTest {
+
+    @Test
+    public void testFromResult() {
+        Map<String, Object> replicasets = new HashMap<>();
+        replicasets.put("rs1", "localhost:3302");
+        replicasets.put("rs2", "localhost:3304");
+        Map<String, Object> info = new HashMap<>();
+        info.put("bucket_count", 4);
+        info.put("replicasets", replicasets);
+        info.put("buckets", Arrays.asList("rs1", "rs1", "rs2", null));
+        info.put("sharding_keys", Collections.singletonMap("test_space", Collections.singletonList("name")));
+
+        VshardRoutingTable table = VshardRoutingTable.fromResult(Collections.singletonList(info));
+
+        assertEquals(4, table.getBucketCount());
+        assertEquals(Optional.of(new TarantoolServerAddress("localhost", 3302)), table.getMasterAddress(1));
+        assertEquals(Optional.of(new TarantoolServerAddress("localhost", 3304)), table.getMasterAddress(3));
+        assertFalse(table.getMasterAddress(4).isPresent());
+        assertFalse(table.getMasterAddress(5).isPresent());
+        assertEquals(Optional.of(Collections.singletonList("name")), table.getShardingKey("test_space"));
+        assertFalse(table.getShardingKey("other_space").isPresent());
+
+        // sparse bucket tables are returned as maps
+        info.put("buckets", Collections.singletonMap(2, "rs2"));
+        table = VshardRoutingTable.fromResult(Collections.singletonList(info));
+        assertEquals(Optional.of(new TarantoolServerAddress("localhost", 3304)), table.getMasterAddress(2));
+        assertFalse(table.getMasterAddress(1).isPresent());
+    }
+
+    @Test
+    public void testInvalidResult() {
+        assertThrows(TarantoolClientException.class,
+                () -> VshardRoutingTable.fromResult(Collections.singletonList("invalid")));
+        assertThrows(TarantoolClientException.class,
+                () -> VshardRoutingTable.fromResult(Collections.singletonList(Collections.emptyMap())));
+    }
+}
@@ -0,0 +1,63 @@
+package io.tarantool.driver.sharding;
+
+import org.junit.jupiter.api.Test;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VshardStrCrc32Test {
+
+    private static final int BUCKET_COUNT = 30000;
+
+    @Test
+    public void testCrc32() {
+        // digest.crc32('123456789') and digest.crc32('abc')
+        assertEquals(486108540L, VshardStrCrc32.crc32("123456789".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(3384066120L, VshardStrCrc32.crc32("abc".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testBucketId() {
+        // vshard.router.bucket_id_strcrc32(1) and vshard.router.bucket_id_strcrc32(true)
+        assertEquals(Optional.of(12477), bucketId(ValueFactory.newInteger(1)));
+        assertEquals(Optional.of(25683), bucketId(ValueFactory.newBoolean(true)));
+
+        // the numbers are converted to strings like in Lua
+        assertEquals(bucketId(ValueFactory.newString("1")), bucketId(ValueFactory.newInteger(1)));
+        assertEquals(bucketId(ValueFactory.newString("1")), bucketId(ValueFactory.newFloat(1.0)));
+        assertEquals(bucketId(ValueFactory.newString("9007199254740992ULL")),
+                bucketId(ValueFactory.newInteger(1L << 53)));
+        assertEquals(bucketId(ValueFactory.newString("-9007199254740992LL")),
+                bucketId(ValueFactory.newInteger(-(1L << 53))));
+
+        // the key parts are concatenated
+        List<Value> key = Arrays.asList(ValueFactory.newString("a"), ValueFactory.newInteger(12));
+        assertEquals(bucketId(ValueFactory.newString("a12")), VshardStrCrc32.bucketId(key, BUCKET_COUNT));
+
+        for (int i = 0; i < 1000; i++) {
+            int bucketId = bucketId(ValueFactory.newInteger(i)).get();
+            assertTrue(bucketId >= 1 && bucketId <= BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    public void testUnsupportedKeyParts() {
+        assertFalse(bucketId(ValueFactory.newFloat(1.5)).isPresent());
+        assertFalse(bucketId(ValueFactory.newInteger(100_000_000_000_000L)).isPresent());
+        assertFalse(bucketId(ValueFactory.newNil()).isPresent());
+        assertFalse(bucketId(ValueFactory.newArray(ValueFactory.newInteger(1))).isPresent());
+    }
+
+    private static Optional<Integer> bucketId(Value keyPart) {
+        return VshardStrCrc32.bucketId(Collections.singletonList(keyPart), BUCKET_COUNT);
+    }
+}
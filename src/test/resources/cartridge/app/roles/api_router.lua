@@ -1,6 +1,7 @@
 local cartridge = require('cartridge')
 local vshard = require('vshard')
 local crud = require('crud')
+local key_def = require('key_def')
 
 -- CRUD functions wrappers
 local function crud_get(space_name, key, opts)
@@ -31,6 +32,125 @@ local function crud_select(space_name, user_conditions, opts)
     return crud.select(space_name, user_conditions, opts)
 end
 
+-- returns one row per key in the keys order, an empty row for a missing tuple
+local function crud_get_many(space_name, keys, opts)
+    local metadata
+    local rows = {}
+    for i, key in ipairs(keys) do
+        local result, err = crud.get(space_name, key, opts)
+        if err ~= nil then
+            return nil, err
+        end
+        metadata = metadata or result.metadata
+        rows[i] = result.rows[1] or {}
+    end
+    return {metadata = metadata, rows = rows}
+end
+
+-- processes the tuples one by one, returns the processed rows and the errors with the indexes of the failed tuples
+local function crud_many(operation, space_name, tuples, opts)
+    local metadata
+    local rows = {}
+    local errors = {}
+    for i, tuple in ipairs(tuples) do
+        local result, err = operation(space_name, tuple, opts)
+        if err ~= nil then
+            if type(err) == 'table' then
+                err = {str = err.str or tostring(err.err), class_name = err.class_name, stack = err.stack}
+            else
+                err = {str = tostring(err)}
+            end
+            err.position = i
+            table.insert(errors, err)
+        else
+            metadata = metadata or result.metadata
+            table.insert(rows, result.rows[1])
+        end
+    end
+    if #errors == 0 then
+        errors = nil
+    end
+    if metadata == nil then
+        return nil, errors
+    end
+    return {metadata = metadata, rows = rows}, errors
+end
+
+local function crud_insert_many(space_name, tuples, opts)
+    return crud_many(crud.insert, space_name, tuples, opts)
+end
+
+local function crud_replace_many(space_name, tuples, opts)
+    return crud_many(crud.replace, space_name, tuples, opts)
+end
+
+-- aggregate functions, the tuples are collected from the storages on the router
+local function crud_count(space_name, user_conditions, opts)
+    local count = 0
+    for _ in crud.pairs(space_name, user_conditions, {timeout = opts.timeout}) do
+        count = count + 1
+    end
+    return count
+end
+
+local function crud_sum(space_name, field_name, user_conditions, opts)
+    local replicaset = select(2, next(vshard.router.routeall()))
+    local field_number
+    local field_type
+    for i, field in ipairs(replicaset.master.conn.space[space_name]._format) do
+        if field.name == field_name then
+            field_number = i
+            field_type = field.type
+        end
+    end
+    if field_number == nil then
+        return nil, string.format("Field '%s' not found in space %s", field_name, space_name)
+    end
+
+    local sum = 0
+    if field_type == 'unsigned' or field_type == 'integer' then
+        sum = 0LL
+    elseif field_type == 'decimal' then
+        sum = require('decimal').new(0)
+    end
+    for _, tuple in crud.pairs(space_name, user_conditions, {timeout = opts.timeout}) do
+        if tuple[field_number] ~= nil then
+            sum = sum + tuple[field_number]
+        end
+    end
+    return sum
+end
+
+local function index_edge(space_name, index_name, is_max, opts)
+    local edge
+    local edge_key_def
+    for _, replicaset in pairs(vshard.router.routeall()) do
+        local tuple, err = replicaset:callrw('index_edge_on_storage', {space_name, index_name, is_max},
+            {timeout = opts.timeout})
+        if err ~= nil then
+            return nil, err
+        end
+        if tuple ~= nil then
+            if edge_key_def == nil then
+                edge_key_def = key_def.new(replicaset.master.conn.space[space_name].index[index_name].parts)
+            end
+            local order = edge ~= nil and edge_key_def:compare(tuple, edge) or 0
+            if edge == nil or (is_max and order > 0) or (not is_max and order < 0) then
+                edge = tuple
+            end
+        end
+    end
+    return edge and {edge} or {}
+end
+
+local function crud_min(space_name, index_name, opts)
+    return index_edge(space_name, index_name, false, opts)
+end
+
+local function crud_max(space_name, index_name, opts)
+    return index_edge(space_name, index_name, true, opts)
+end
+
 -- function to get cluster schema
 local function crud_get_schema()
     local replicaset = select(2, next(vshard.router.routeall()))
@@ -68,6 +188,40 @@ local function crud_get_schema()
     return uniq_spaces
 end
 
+-- function to get the cluster routing table for routing the requests directly to the storages
+local function vshard_get_routing_table()
+    local replicasets = {}
+    for uuid, replicaset in pairs(vshard.router.routeall()) do
+        local uri = replicaset.master.uri
+        replicasets[uuid] = uri:match('@(.+)$') or uri
+    end
+
+    local buckets = {}
+    for bucket_id, bucket in pairs(vshard.router.buckets_info()) do
+        buckets[bucket_id] = bucket.uuid
+    end
+
+    return {
+        bucket_count = vshard.router.bucket_count(),
+        replicasets = replicasets,
+        buckets = buckets,
+    }
+end
+
+-- moves the bucket to another replica set, used for testing the routing table refresh
+local function vshard_move_bucket(bucket_id)
+    local source = vshard.router.route(bucket_id)
+    for uuid in pairs(vshard.router.routeall()) do
+        if uuid ~= source.uuid then
+            local ok, err = source:callrw('vshard.storage.bucket_send', {bucket_id, uuid})
+            if not ok then
+                return nil, err
+            end
+            return uuid
+        end
+    end
+    return nil, 'No other replica set found'
+end
 
 local function init(opts)
     if opts.is_master then
@@ -80,8 +234,17 @@ local function init(opts)
     rawset(_G, 'crud_update', crud_update)
     rawset(_G, 'crud_upsert', crud_upsert)
     rawset(_G, 'crud_select', crud_select)
+    rawset(_G, 'crud_get_many', crud_get_many)
+    rawset(_G, 'crud_insert_many', crud_insert_many)
+    rawset(_G, 'crud_replace_many', crud_replace_many)
+    rawset(_G, 'crud_count', crud_count)
+    rawset(_G, 'crud_sum', crud_sum)
+    rawset(_G, 'crud_min', crud_min)
+    rawset(_G, 'crud_max', crud_max)
 
     rawset(_G, 'crud_get_schema', crud_get_schema)
+    rawset(_G, 'vshard_get_routing_table', vshard_get_routing_table)
+    rawset(_G, 'vshard_move_bucket', vshard_move_bucket)
 
     return true
 end
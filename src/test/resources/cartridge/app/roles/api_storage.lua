@@ -50,10 +50,21 @@ local function init_space()
     test_space:create_index('bucket_id', { parts = { 'bucket_id' }, unique = false, if_not_exists = true, })
 end
 
+-- returns the tuple with the minimal or maximal key in the index for the aggregates on the router
+local function index_edge_on_storage(space_name, index_name, is_max)
+    local index = box.space[space_name].index[index_name]
+    if is_max then
+        return index:max()
+    end
+    return index:min()
+end
+
 local function init(opts)
     -- initialize crud
     crud.init()
 
+    rawset(_G, 'index_edge_on_storage', index_edge_on_storage)
+
     if opts.is_master then
         init_space()
     end